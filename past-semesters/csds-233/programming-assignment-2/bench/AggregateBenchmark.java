@@ -0,0 +1,111 @@
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the aggregate methods of NumArrayList
+ * Compares the methods that read the internal array to the same loops written with lookup and with the default iterator methods
+ * @author Joshua Shew
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AggregateBenchmark {
+    /* The number of values in each list */
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    /* The lists being aggregated */
+    private NumArrayList list1 = null;
+    private NumArrayList list2 = null;
+
+    /**
+     * Fills both lists with random values
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(233);
+        this.list1 = new NumArrayList(this.size);
+        this.list2 = new NumArrayList(this.size);
+
+        for (int i = 0; i < this.size; i++) {
+            this.list1.add(random.nextDouble());
+            this.list2.add(random.nextDouble());
+        }
+    }
+
+    @Benchmark
+    public double sum() {
+        return this.list1.sum();
+    }
+
+    @Benchmark
+    public double sumWithLookup() {
+        double sum = 0.0;
+        for (int i = 0; i < this.list1.size(); i++) {
+            sum += this.list1.lookup(i);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public double sumWithIterator() {
+        double sum = 0.0;
+        DoubleIterator i = this.list1.iterator();
+        while (i.hasNext()) {
+            sum += i.next();
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public double min() {
+        return this.list1.min();
+    }
+
+    @Benchmark
+    public double max() {
+        return this.list1.max();
+    }
+
+    @Benchmark
+    public double variance() {
+        return this.list1.variance();
+    }
+
+    @Benchmark
+    public double dot() {
+        return this.list1.dot(this.list2);
+    }
+
+    @Benchmark
+    public double dotWithLookup() {
+        double dot = 0.0;
+        for (int i = 0; i < this.list1.size(); i++) {
+            dot += this.list1.lookup(i) * this.list2.lookup(i);
+        }
+
+        return dot;
+    }
+
+    @Benchmark
+    public double parallelStreamSum() {
+        return this.list1.parallelStream().sum();
+    }
+}
@@ -0,0 +1,221 @@
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks for the basic methods of every NumList implementation that can be edited at any index
+ * Each method is measured for several sizes, with values that are either sorted or in random order
+ * The edits are undone in the same invocation, so the list keeps its size and order and the numbers stay comparable across iterations
+ * Running main adds the GC profiler, which reports the bytes allocated per operation next to the times
+ * @author Joshua Shew
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumListBenchmark {
+    /* The class of the list being measured */
+    @Param({"NumArrayList", "NumLinkedList", "NumUnrolledLinkedList", "NumArrayDeque", "NumSkipList"})
+    public String implementation;
+
+    /* The number of values in each list */
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    /* Whether the values are sorted or in random order */
+    @Param({"sorted", "unsorted"})
+    public String order;
+
+    /* The list being measured, and a second one of the same kind for union */
+    private NumList list1 = null;
+    private NumList list2 = null;
+
+    /* Values already in the list at the front, middle, and back, so inserting next to them keeps a sorted list sorted */
+    private double firstValue = 0.0;
+    private double middleValue = 0.0;
+    private double lastValue = 0.0;
+
+    /**
+     * Fills both lists with random values, about half of which are duplicates
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(233);
+        this.list1 = createList(this.implementation);
+        this.list2 = createList(this.implementation);
+        this.list1.addAll(randomValues(random, this.size, this.order.equals("sorted")));
+        this.list2.addAll(randomValues(random, this.size, this.order.equals("sorted")));
+
+        this.firstValue = this.list1.lookup(0);
+        this.middleValue = this.list1.lookup(this.size / 2);
+        this.lastValue = this.list1.lookup(this.size - 1);
+    }
+
+    /**
+     * Makes an empty list
+     * @param implementation the name of the class of the list
+     * @return the new list
+     * @throws IllegalArgumentException when the name is not one of the benchmarked classes
+     */
+    private static NumList createList(String implementation) throws IllegalArgumentException {
+        switch (implementation) {
+            case "NumArrayList":
+                return new NumArrayList();
+            case "NumLinkedList":
+                return new NumLinkedList();
+            case "NumUnrolledLinkedList":
+                return new NumUnrolledLinkedList();
+            case "NumArrayDeque":
+                return new NumArrayDeque();
+            case "NumSkipList":
+                return new NumSkipList();
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    /**
+     * Makes random whole numbers below half of the size, so about half of the values repeat an earlier one
+     * @param random the source of the values
+     * @param size the number of values
+     * @param sorted whether the values should be sorted
+     * @return the values
+     */
+    private static double[] randomValues(Random random, int size, boolean sorted) {
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(Math.max(1, size / 2));
+        }
+
+        if (sorted) {
+            Arrays.sort(values);
+        }
+
+        return values;
+    }
+
+    @Benchmark
+    public NumList addAndRemoveLast() {
+        this.list1.add(this.lastValue);
+        this.list1.remove(this.list1.size() - 1);
+        return this.list1;
+    }
+
+    @Benchmark
+    public NumList insertAndRemoveHead() {
+        this.list1.insert(0, this.firstValue);
+        this.list1.remove(0);
+        return this.list1;
+    }
+
+    @Benchmark
+    public NumList insertAndRemoveMiddle() {
+        this.list1.insert(this.size / 2, this.middleValue);
+        this.list1.remove(this.size / 2);
+        return this.list1;
+    }
+
+    @Benchmark
+    public NumList insertAndRemoveTail() {
+        this.list1.insert(this.size, this.lastValue);
+        this.list1.remove(this.size);
+        return this.list1;
+    }
+
+    @Benchmark
+    public double lookupHead() {
+        return this.list1.lookup(0);
+    }
+
+    @Benchmark
+    public double lookupMiddle() {
+        return this.list1.lookup(this.size / 2);
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return this.list1.contains(this.middleValue);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return this.list1.contains(-1.0);
+    }
+
+    /**
+     * The cost of copying the list, which removeDuplicates also pays and can be subtracted from it
+     */
+    @Benchmark
+    public NumList copy() {
+        NumList copy = createList(this.implementation);
+        copy.addAll(this.list1);
+        return copy;
+    }
+
+    @Benchmark
+    public NumList removeDuplicates() {
+        NumList copy = createList(this.implementation);
+        copy.addAll(this.list1);
+        copy.removeDuplicates();
+        return copy;
+    }
+
+    /**
+     * Reverses the list twice, so a sorted list is sorted again for the next invocation
+     */
+    @Benchmark
+    public NumList reverseTwice() {
+        this.list1.reverse();
+        this.list1.reverse();
+        return this.list1;
+    }
+
+    @Benchmark
+    public NumList union() {
+        return NumList.union(this.list1, this.list2);
+    }
+
+    @Benchmark
+    public double iterate() {
+        double sum = 0.0;
+        DoubleIterator i = this.list1.iterator();
+        while (i.hasNext()) {
+            sum += i.next();
+        }
+
+        return sum;
+    }
+
+    /**
+     * Runs every benchmark in this class with the GC profiler
+     * @param args the command line arguments, which are not used
+     * @throws RunnerException when JMH fails to run the benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(NumListBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,517 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * A NumArrayList that can be shared between threads
+ * Writers take turns through one lock, and readers never wait for a writer that is appending
+ * Appending writes past the end of the published values, or into a bigger copy of the array, and then publishes the new size
+ * Every other change is made to a private copy of the values, which is then published in place of the old array
+ * So the values a reader sees in a published array never change, and readers work on a snapshot of (array, size, descents, ascents, nanPairs)
+ * The snapshot is read under a StampedLock optimistic read, which only fails if a change was published at the same time
+ * Iterators are weakly consistent: they see the list as it was when they were created and never block or throw
+ * O(1) time complexity for access and for adding to the end
+ * O(N) time complexity for inserting and deleting, which also allocate a new array
+ * @author Joshua Shew
+ */
+public class ConcurrentNumArrayList implements NumList {
+    /* internalArray is for storing the values in the list, the values before size never change once published */
+    private volatile double[] internalArray = null;
+
+    /* size keeps track of how many elements are stored in the list */
+    private volatile int size = 0;
+
+    /* The number of adjacent pairs where the second value is less than the first, so the list is sorted when there are none */
+    private volatile int descents = 0;
+
+    /* The number of adjacent pairs where the second value is greater than the first, so the list is sorted in decreasing order when there are none */
+    private volatile int ascents = 0;
+
+    /* The number of adjacent pairs with NaN in them, so a list of two or more values holds NaN when there are any */
+    private volatile int nanPairs = 0;
+
+    /* Lets only one writer change the list at a time */
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /* Makes the array, size, and count fields change together when a copy is published */
+    private final StampedLock publishLock = new StampedLock();
+
+    /**
+     * Creates a new ConcurrentNumArrayList with a capacity of 0
+     */
+    public ConcurrentNumArrayList() {
+        this(0);
+    }
+
+    /**
+     * Creates a new ConcurrentNumArrayList with the specified capacity
+     * @param capacity the number of values the list can hold before it needs to grow
+     */
+    public ConcurrentNumArrayList(int capacity) {
+        this.internalArray = new double[capacity];
+        this.size = 0;
+        this.descents = 0;
+        this.ascents = 0;
+        this.nanPairs = 0;
+    }
+
+    /**
+     * Takes a consistent snapshot of the list, wrapped in a NumArrayList that shares the published array
+     * The snapshot must only be read, since the array may be the one writers append to
+     * O(1), or the length of a publish if a change was published during the read
+     * @return a NumArrayList holding the values currently in the list
+     */
+    private NumArrayList snapshot() {
+        long stamp = this.publishLock.tryOptimisticRead();
+
+        /* The size is read first, so the array and counts are at least as new as it */
+        int size = this.size;
+        double[] array = this.internalArray;
+        int descents = this.descents;
+        int ascents = this.ascents;
+        int nanPairs = this.nanPairs;
+
+        if (!this.publishLock.validate(stamp)) {
+            stamp = this.publishLock.readLock();
+            try {
+                size = this.size;
+                array = this.internalArray;
+                descents = this.descents;
+                ascents = this.ascents;
+                nanPairs = this.nanPairs;
+            }
+            finally {
+                this.publishLock.unlockRead(stamp);
+            }
+        }
+
+        return NumArrayList.wrap(array, size, descents, ascents, nanPairs);
+    }
+
+    /**
+     * Makes a change to a private copy of the list and then publishes the copy
+     * Readers keep using the old array until the copy is published
+     * O(N) plus the cost of the change
+     * @param change the change to make to the copy
+     */
+    private void edit(Consumer<NumArrayList> change) {
+        this.writeLock.lock();
+        try {
+            double[] array = this.internalArray;
+            NumArrayList copy = NumArrayList.wrap(Arrays.copyOf(array, array.length), this.size, this.descents, this.ascents, this.nanPairs);
+
+            change.accept(copy);
+
+            long stamp = this.publishLock.writeLock();
+            try {
+                this.internalArray = copy.getInternalArray();
+                this.size = copy.size();
+                this.descents = copy.descents();
+                this.ascents = copy.ascents();
+                this.nanPairs = copy.nanPairs();
+            }
+            finally {
+                this.publishLock.unlockWrite(stamp);
+            }
+        }
+        finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Getter method for the size of the list
+     * O(1)
+     * @return the number of values in the list
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Getter method for the capacity of the array
+     * The capacity is the number of numbers the array can hold without resizing
+     * O(1)
+     * @return the capacity of the array
+     */
+    public int capacity() {
+        return this.internalArray.length;
+    }
+
+    /**
+     * Adds a number to the end of the list
+     * When the array is full, the values are copied into an array twice as big, and readers keep using the old one until the size is published
+     * O(1) if capacity is greater than size
+     * O(N) if capacity needs to be expanded
+     * @param value the number to be added to the end of the list
+     */
+    public void add(double value) {
+        this.writeLock.lock();
+        try {
+            int size = this.size;
+            double[] array = this.internalArray;
+
+            if (size == array.length) {
+                array = Arrays.copyOf(array, Math.max(1, array.length * 2));
+                this.internalArray = array;
+            }
+
+            array[size] = value;
+
+            /* The new value makes one new pair with the value before it */
+            if (size > 0) {
+                this.descents += NumArrayList.countDescents(array, size - 1, size + 1);
+                this.ascents += NumArrayList.countAscents(array, size - 1, size + 1);
+                this.nanPairs += NumArrayList.countNaNPairs(array, size - 1, size + 1);
+            }
+
+            /* Publishing the size makes the new value visible to readers */
+            this.size = size + 1;
+        }
+        finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds all of the numbers in the array to the end of the list, in order
+     * The new values are published together
+     * O(K) where K is the number of values added, plus O(N) if capacity needs to be expanded
+     * @param values the array holding the numbers to add
+     */
+    public void addAll(double[] values) {
+        this.writeLock.lock();
+        try {
+            int size = this.size;
+            double[] array = this.internalArray;
+
+            if (size + values.length > array.length) {
+                array = Arrays.copyOf(array, Math.max(size + values.length, Math.max(1, array.length * 2)));
+                this.internalArray = array;
+            }
+
+            System.arraycopy(values, 0, array, size, values.length);
+
+            /* Counts the pairs of the new values, and the pair they make with the last value */
+            this.descents += NumArrayList.countDescents(array, Math.max(0, size - 1), size + values.length);
+            this.ascents += NumArrayList.countAscents(array, Math.max(0, size - 1), size + values.length);
+            this.nanPairs += NumArrayList.countNaNPairs(array, Math.max(0, size - 1), size + values.length);
+
+            /* Publishing the size makes the new values visible to readers */
+            this.size = size + values.length;
+        }
+        finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds a number at a specified position of the list
+     * All numbers after (and the number at) the specified position are shifted down the list
+     * If the list has i or fewer numbers, then the value is added in the same fashion as the add method
+     * O(N)
+     * @param i the index to insert the new value at
+     * @param value the value to add to the list
+     * @throws IndexOutOfBoundsException when the index is negative
+     */
+    public void insert(int i, double value) {
+        if (i >= size()) {
+            this.writeLock.lock();
+            try {
+                /* Checks again now that no other writer can change the size */
+                if (i >= size()) {
+                    add(value);
+                    return;
+                }
+            }
+            finally {
+                this.writeLock.unlock();
+            }
+        }
+
+        edit(copy -> copy.insert(i, value));
+    }
+
+    /**
+     * Adds all of the numbers in the array at a specified position of the list, in order
+     * O(N + K) where K is the number of values added
+     * @param i the index to insert the first new value at
+     * @param values the values to add to the list
+     * @throws IndexOutOfBoundsException when the index is negative
+     */
+    public void insertAll(int i, double[] values) {
+        edit(copy -> copy.insertAll(i, values));
+    }
+
+    /**
+     * Removes the number at the specified position of the list
+     * If there is no number at the specified position, the list is not changed
+     * O(N)
+     * @param i the index where the value should be removed
+     */
+    public void remove(int i) {
+        edit(copy -> copy.remove(i));
+    }
+
+    /**
+     * Removes the numbers from index start (inclusive) to index end (exclusive)
+     * O(N)
+     * @param start the index of the first number to remove
+     * @param end the index after the last number to remove
+     * @throws IndexOutOfBoundsException when start is negative or greater than end
+     */
+    public void removeRange(int start, int end) {
+        edit(copy -> copy.removeRange(start, end));
+    }
+
+    /**
+     * Removes duplicates in this list while preserving the current order of the numbers
+     * Expected O(N)
+     */
+    public void removeDuplicates() {
+        edit(copy -> copy.removeDuplicates());
+    }
+
+    /**
+     * Reverses the order of the elements in the list
+     * O(N)
+     */
+    public void reverse() {
+        edit(copy -> copy.reverse());
+    }
+
+    /**
+     * Sorts the list in increasing order
+     * O(N log N)
+     */
+    public void sort() {
+        edit(copy -> copy.sort());
+    }
+
+    /**
+     * Sorts the list in increasing order, splitting large lists between threads
+     * O(N log N)
+     */
+    public void parallelSort() {
+        edit(copy -> copy.parallelSort());
+    }
+
+    /**
+     * Checks whether the list contains the specified value
+     * O(log N) for sorted lists
+     * O(N) for unsorted lists
+     * @param value the value to look for
+     * @return true if the value is found in the list, false otherwise
+     */
+    public boolean contains(double value) {
+        return snapshot().contains(value);
+    }
+
+    /**
+     * Finds the index of the first occurrence of a value
+     * O(log N) for sorted lists
+     * O(N) for unsorted lists
+     * @param value the value to look for
+     * @return the index of the value, or -1 if it is not in the list
+     */
+    public int indexOf(double value) {
+        return snapshot().indexOf(value);
+    }
+
+    /**
+     * Counts the numbers in the list that are less than the value
+     * O(log N) for sorted lists
+     * O(N) for unsorted lists
+     * @param value the value to compare to
+     * @return the number of values less than the value
+     */
+    public int rank(double value) {
+        return snapshot().rank(value);
+    }
+
+    /**
+     * Finds the largest number in the list that is less than or equal to the value
+     * O(log N) for sorted lists
+     * O(N) for unsorted lists
+     * @param value the value to compare to
+     * @return the largest number less than or equal to the value
+     * @throws NoSuchElementException when no number in the list is less than or equal to the value
+     */
+    public double floor(double value) throws NoSuchElementException {
+        return snapshot().floor(value);
+    }
+
+    /**
+     * Finds the smallest number in the list that is greater than or equal to the value
+     * O(log N) for sorted lists
+     * O(N) for unsorted lists
+     * @param value the value to compare to
+     * @return the smallest number greater than or equal to the value
+     * @throws NoSuchElementException when no number in the list is greater than or equal to the value
+     */
+    public double ceiling(double value) throws NoSuchElementException {
+        return snapshot().ceiling(value);
+    }
+
+    /**
+     * Counts the numbers in the list from lo to hi, inclusive
+     * O(log N) for sorted lists
+     * O(N) for unsorted lists
+     * @param lo the smallest value to count
+     * @param hi the largest value to count
+     * @return the number of values in the range
+     */
+    public int countInRange(double lo, double hi) {
+        return snapshot().countInRange(lo, hi);
+    }
+
+    /**
+     * Returns the i-th element of the list
+     * O(1)
+     * @param i the index of the list to get the value from
+     * @return the value stored at the specified index
+     * @throws IndexOutOfBoundsException when the input index is greater than or equal to the size of the list
+     */
+    public double lookup(int i) throws IndexOutOfBoundsException {
+        return snapshot().lookup(i);
+    }
+
+    /**
+     * Copies the numbers in the list into a new array, in order
+     * O(N)
+     * @return an array with the numbers in the list
+     */
+    public double[] toArray() {
+        return snapshot().toArray();
+    }
+
+    /**
+     * Adds up all of the numbers in the list
+     * O(N)
+     * @return the sum of the list
+     */
+    public double sum() {
+        return snapshot().sum();
+    }
+
+    /**
+     * Finds the smallest number in the list
+     * O(N)
+     * @return the smallest number in the list
+     * @throws NoSuchElementException when the list is empty
+     */
+    public double min() throws NoSuchElementException {
+        return snapshot().min();
+    }
+
+    /**
+     * Finds the largest number in the list
+     * O(N)
+     * @return the largest number in the list
+     * @throws NoSuchElementException when the list is empty
+     */
+    public double max() throws NoSuchElementException {
+        return snapshot().max();
+    }
+
+    /**
+     * Finds the average of the numbers in the list
+     * O(N)
+     * @return the mean of the list
+     * @throws NoSuchElementException when the list is empty
+     */
+    public double mean() throws NoSuchElementException {
+        return snapshot().mean();
+    }
+
+    /**
+     * Finds the population variance of the numbers in the list
+     * O(N)
+     * @return the variance of the list
+     * @throws NoSuchElementException when the list is empty
+     */
+    public double variance() throws NoSuchElementException {
+        return snapshot().variance();
+    }
+
+    /**
+     * Finds the dot product of this list and another list of the same size
+     * O(N)
+     * @param otherList the other list
+     * @return the sum of the products of the numbers at each index
+     * @throws IllegalArgumentException when the lists have different sizes
+     */
+    public double dot(NumList otherList) throws IllegalArgumentException {
+        return snapshot().dot(otherList instanceof ConcurrentNumArrayList ? ((ConcurrentNumArrayList) otherList).snapshot() : otherList);
+    }
+
+    /**
+     * Checks whether this list is equal to the input list
+     * O(N)
+     * @param otherList the other list to compare this list to
+     * @return true if the two are equal, false otherwise
+     */
+    public boolean equals(NumList otherList) {
+        return snapshot().equals(otherList instanceof ConcurrentNumArrayList ? ((ConcurrentNumArrayList) otherList).snapshot() : otherList);
+    }
+
+    /**
+     * Returns whether the list is currently sorted in increasing order or not
+     * O(1)
+     * @return true if the list is sorted, false otherwise
+     */
+    public boolean isSorted() {
+        return this.descents == 0;
+    }
+
+    /**
+     * Returns whether the list is currently sorted in decreasing order or not
+     * O(1)
+     * @return true if the list is sorted in decreasing order, false otherwise
+     */
+    public boolean isSortedDescending() {
+        return this.ascents == 0;
+    }
+
+    /**
+     * Checks whether the list holds NaN anywhere
+     * O(1)
+     * @return true if any of the numbers is NaN, false otherwise
+     */
+    public boolean hasNaN() {
+        return snapshot().hasNaN();
+    }
+
+    /**
+     * Provides a String representation of this list
+     * For an empty list, an empty String is returned
+     * Numbers are separated by a space and no other characters are included
+     * O(N)
+     * @return a String representation of the list
+     */
+    public String toString() {
+        return snapshot().toString();
+    }
+
+    /**
+     * Returns a weakly consistent iterator for the list that begins at the front of the list
+     * It sees the values that were in the list when it was created, no matter what changes after
+     * O(1)
+     * @return a DoubleIterator for the list the method is called on
+     */
+    public DoubleIterator iterator() {
+        return snapshot().iterator();
+    }
+
+    /**
+     * Returns a spliterator over the values in the list when it was created
+     * O(1)
+     * @return a sized Spliterator.OfDouble over the list
+     */
+    public Spliterator.OfDouble spliterator() {
+        return snapshot().spliterator();
+    }
+}
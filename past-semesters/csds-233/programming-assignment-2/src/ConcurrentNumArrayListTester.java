@@ -0,0 +1,157 @@
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentNumArrayListTester {
+    /**
+     * Unit tests for the list methods, compared to a NumArrayList
+     */
+    @Test
+    public void testListMethods() {
+        ConcurrentNumArrayList list1 = new ConcurrentNumArrayList();
+        NumArrayList list2 = new NumArrayList();
+
+        double[] values = {3.0, 1.0, 4.0, 1.0, 5.0, 9.0, 2.0, 6.0};
+        for (double value : values) {
+            list1.add(value);
+            list2.add(value);
+        }
+        Assert.assertEquals("The values were not added correctly", list2.toString(), list1.toString());
+        Assert.assertFalse("The list should not be sorted", list1.isSorted());
+
+        list1.insert(0, 7.0);
+        list2.insert(0, 7.0);
+        list1.insert(100, 8.0);
+        list2.insert(100, 8.0);
+        list1.remove(3);
+        list2.remove(3);
+        list1.removeRange(5, 7);
+        list2.removeRange(5, 7);
+        list1.insertAll(2, new double[] {0.5, 0.25});
+        list2.insertAll(2, new double[] {0.5, 0.25});
+        Assert.assertEquals("The values were not edited correctly", list2.toString(), list1.toString());
+        Assert.assertTrue("The list should be equal to a NumArrayList with the same values", list1.equals(list2));
+        Assert.assertTrue("The size should have been " + list2.size() + " but it was not", list1.size() == list2.size());
+
+        for (int i = 0; i < list2.size(); i++) {
+            Assert.assertEquals("lookup did not return the right value", list2.lookup(i), list1.lookup(i), 0.0);
+        }
+        try {
+            list1.lookup(list1.size());
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+        try {
+            list1.insert(-1, 0.0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+
+        list1.add(7.0);
+        list1.removeDuplicates();
+        list2.add(7.0);
+        list2.removeDuplicates();
+        Assert.assertEquals("The duplicates were not removed correctly", list2.toString(), list1.toString());
+
+        list1.sort();
+        Assert.assertTrue("The list should be sorted", list1.isSorted());
+        Assert.assertTrue("The list should contain 5.0", list1.contains(5.0));
+        Assert.assertFalse("The list should not contain 10.0", list1.contains(10.0));
+        Assert.assertEquals("The largest value should have been 8.0 but it was not", 8.0, list1.max(), 0.0);
+
+        list1.reverse();
+        Assert.assertFalse("The list should not be sorted after reversing it", list1.isSorted());
+        Assert.assertEquals("The first value should have been 8.0 but it was not", 8.0, list1.lookup(0), 0.0);
+    }
+
+    /**
+     * Unit tests for the weakly consistent iterator
+     */
+    @Test
+    public void testIterator() {
+        ConcurrentNumArrayList list = new ConcurrentNumArrayList(2);
+        list.addAll(new double[] {1.0, 2.0, 3.0});
+
+        DoubleIterator i = list.iterator();
+        Assert.assertEquals("The first value should have been 1.0 but it was not", 1.0, i.next(), 0.0);
+
+        // changes after the iterator was created are not seen by it
+        list.remove(1);
+        list.insert(0, 0.0);
+        for (int j = 0; j < 100; j++) {
+            list.add(j);
+        }
+        Assert.assertEquals("The iterator should still see 2.0", 2.0, i.next(), 0.0);
+        Assert.assertEquals("The iterator should still see 3.0", 3.0, i.next(), 0.0);
+        Assert.assertFalse("The iterator should not see values added later", i.hasNext());
+        Assert.assertTrue("The list should have 103 values", list.size() == 103);
+    }
+
+    /**
+     * Unit tests for writers and readers running at the same time
+     */
+    @Test
+    public void testConcurrentAccess() throws InterruptedException {
+        ConcurrentNumArrayList list = new ConcurrentNumArrayList();
+        int writers = 4;
+        int valuesPerWriter = 20000;
+        AtomicBoolean failed = new AtomicBoolean(false);
+        AtomicBoolean done = new AtomicBoolean(false);
+
+        Thread[] writerThreads = new Thread[writers];
+        for (int w = 0; w < writers; w++) {
+            writerThreads[w] = new Thread(() -> {
+                for (int i = 0; i < valuesPerWriter; i++) {
+                    list.add(1.0);
+
+                    // an edit that copies the array now and then
+                    if (i % 5000 == 0) {
+                        list.insert(0, 1.0);
+                        list.remove(0);
+                    }
+                }
+            });
+        }
+
+        // every value is 1.0, so any snapshot a reader sees must add up to its size
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                double[] snapshot = list.toArray();
+                double sum = 0.0;
+                for (double value : snapshot) {
+                    sum += value;
+                }
+                if (sum != snapshot.length) {
+                    failed.set(true);
+                }
+
+                DoubleIterator i = list.iterator();
+                while (i.hasNext()) {
+                    if (i.next() != 1.0) {
+                        failed.set(true);
+                    }
+                }
+            }
+        });
+
+        reader.start();
+        for (Thread writer : writerThreads) {
+            writer.start();
+        }
+        for (Thread writer : writerThreads) {
+            writer.join();
+        }
+        done.set(true);
+        reader.join();
+
+        Assert.assertFalse("A reader saw a value that was not published", failed.get());
+        Assert.assertTrue("The size should have been " + writers * valuesPerWriter + " but it was not", list.size() == writers * valuesPerWriter);
+        Assert.assertEquals("The sum should have been the size of the list", list.size(), list.sum(), 0.0);
+        Assert.assertTrue("The list should still be sorted", list.isSorted());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Helpers for allocating and releasing direct (off-heap) buffers
+ * Direct buffers are normally released only when the garbage collector finds them unreachable,
+ * so the release method frees them right away when the JVM allows it
+ * @author Joshua Shew
+ */
+final class DirectBuffers {
+    /* Unsafe.invokeCleaner(ByteBuffer), or null when it cannot be reached on this JVM */
+    private static final Method invokeCleaner = findInvokeCleaner();
+
+    /* The Unsafe instance invokeCleaner is called on */
+    private static final Object unsafe = findUnsafe();
+
+    /**
+     * Not meant to be instantiated
+     */
+    private DirectBuffers() {
+    }
+
+    /**
+     * Allocates a direct buffer that uses the native byte order
+     * O(N) because the JVM zeroes the memory
+     * @param bytes the size of the buffer in bytes
+     * @return the new buffer
+     */
+    static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Releases the memory behind a direct buffer without waiting for the garbage collector
+     * The buffer (and every view of it) must not be used after this call
+     * If the JVM does not allow early release, the memory is released when the buffer is collected
+     * O(1)
+     * @param buffer the buffer to release, ignored if it is null or not direct
+     */
+    static void free(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect() || invokeCleaner == null || unsafe == null) {
+            return;
+        }
+
+        try {
+            invokeCleaner.invoke(unsafe, buffer);
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            // the buffer is left for the garbage collector
+        }
+    }
+
+    /**
+     * Looks up sun.misc.Unsafe.invokeCleaner
+     * @return the method, or null if it is not available
+     */
+    private static Method findInvokeCleaner() {
+        try {
+            return Class.forName("sun.misc.Unsafe").getMethod("invokeCleaner", ByteBuffer.class);
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Looks up the sun.misc.Unsafe singleton
+     * @return the instance, or null if it is not available
+     */
+    private static Object findUnsafe() {
+        try {
+            Field field = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+
+            return field.get(null);
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
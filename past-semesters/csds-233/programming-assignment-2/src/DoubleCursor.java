@@ -0,0 +1,45 @@
+/**
+ * A cursor for a list that contains doubles, which can move in both directions and change the list as it goes
+ * The cursor sits between two values: next returns the value after it and previous returns the value before it
+ * set and remove act on the last value returned by next or previous, and insertBefore adds a value where the cursor is
+ * @author Joshua Shew
+ */
+public interface DoubleCursor extends DoubleIterator {
+    /**
+     * Checks whether there is a value behind the cursor in the list
+     * @return true if there is a value, false otherwise
+     */
+    public abstract boolean hasPrevious();
+
+    /**
+     * Moves the cursor back one value and returns that value
+     * @return the value before the cursor
+     */
+    public abstract double previous();
+
+    /**
+     * Getter method for the position of the cursor
+     * @return the index of the value that next would return, which is the size of the list at the end
+     */
+    public abstract int nextIndex();
+
+    /**
+     * Replaces the last value returned by next or previous
+     * @param value the new value
+     * @throws IllegalStateException when neither next nor previous has been called since the last insertBefore or remove
+     */
+    public abstract void set(double value);
+
+    /**
+     * Adds a value where the cursor is, so it comes before the value that next would return
+     * The cursor ends up after the new value, so next is not affected and previous returns the new value
+     * @param value the value to add
+     */
+    public abstract void insertBefore(double value);
+
+    /**
+     * Removes the last value returned by next or previous from the list
+     * @throws IllegalStateException when neither next nor previous has been called since the last insertBefore or remove
+     */
+    public abstract void remove();
+}
@@ -0,0 +1,76 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DoubleHashSetTester {
+    /**
+     * Unit tests for the add, contains, and size methods
+     */
+    @Test
+    public void testAddAndContains() {
+        // empty set
+        DoubleHashSet set = new DoubleHashSet();
+        Assert.assertTrue("The set should be empty", set.size() == 0);
+        Assert.assertFalse("An empty set should not contain anything", set.contains(1.0));
+        Assert.assertFalse("An empty set should not contain 0.0", set.contains(0.0));
+
+        // adding a value once
+        Assert.assertTrue("The value should have been added", set.add(1.5));
+        Assert.assertTrue("The set should contain the value", set.contains(1.5));
+        Assert.assertTrue("The size should be 1", set.size() == 1);
+
+        // adding the same value again
+        Assert.assertFalse("The value should not have been added twice", set.add(1.5));
+        Assert.assertTrue("The size should still be 1", set.size() == 1);
+
+        // values next to each other are different elements
+        Assert.assertTrue("The value should have been added", set.add(Math.nextUp(1.5)));
+        Assert.assertTrue("The size should be 2", set.size() == 2);
+    }
+
+    /**
+     * Unit tests for 0.0, -0.0, and NaN
+     */
+    @Test
+    public void testSpecialValues() {
+        DoubleHashSet set = new DoubleHashSet();
+
+        // 0.0 and -0.0 are equal with ==, so they are the same element
+        Assert.assertTrue("0.0 should have been added", set.add(0.0));
+        Assert.assertFalse("-0.0 is the same element as 0.0", set.add(-0.0));
+        Assert.assertTrue("The set should contain -0.0", set.contains(-0.0));
+
+        // every NaN is the same element
+        Assert.assertFalse("The set should not contain NaN yet", set.contains(Double.NaN));
+        Assert.assertTrue("NaN should have been added", set.add(Double.NaN));
+        Assert.assertFalse("NaN should not have been added twice", set.add(0.0 / 0.0));
+        Assert.assertTrue("The set should contain NaN", set.contains(Double.longBitsToDouble(0x7ff8000000000001L)));
+
+        // infinities are ordinary elements
+        Assert.assertTrue("Infinity should have been added", set.add(Double.POSITIVE_INFINITY));
+        Assert.assertTrue("-Infinity should have been added", set.add(Double.NEGATIVE_INFINITY));
+        Assert.assertTrue("The size should be 4", set.size() == 4);
+
+        set.clear();
+        Assert.assertTrue("The set should be empty after clearing", set.size() == 0);
+        Assert.assertFalse("The set should not contain 0.0 after clearing", set.contains(0.0));
+        Assert.assertFalse("The set should not contain NaN after clearing", set.contains(Double.NaN));
+    }
+
+    /**
+     * Unit tests for growing the table
+     */
+    @Test
+    public void testGrowth() {
+        DoubleHashSet set = new DoubleHashSet(4);
+
+        for (int i = 0; i < 10000; i++) {
+            Assert.assertTrue("The value should have been added", set.add(i * 0.25));
+        }
+        for (int i = 0; i < 10000; i++) {
+            Assert.assertTrue("The set should contain the value", set.contains(i * 0.25));
+            Assert.assertFalse("The set should not contain the value", set.contains(i * 0.25 + 0.125));
+        }
+
+        Assert.assertTrue("The size should be 10000", set.size() == 10000);
+    }
+}
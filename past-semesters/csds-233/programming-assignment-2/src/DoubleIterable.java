@@ -1,3 +1,10 @@
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
 /**
  * An interface to indicate that a list can be iterated over using an iterator
  * @author Joshua Shew
@@ -8,4 +15,53 @@ public interface DoubleIterable {
      * @return a DoubleIterator for the list the method is called on
      */
     public abstract DoubleIterator iterator();
+
+    /**
+     * Returns the list's iterator as a java.util.PrimitiveIterator.OfDouble, for use with the Java collections and streams
+     * @return a PrimitiveIterator.OfDouble that begins at the front of the list
+     */
+    public default PrimitiveIterator.OfDouble primitiveIterator() {
+        DoubleIterator iterator = iterator();
+
+        return new PrimitiveIterator.OfDouble() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public double nextDouble() {
+                if (!iterator.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return iterator.next();
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator over the list, which lets a stream split the list between threads
+     * By default the size is unknown and the list is split by copying batches of values from the iterator
+     * @return a Spliterator.OfDouble over the list
+     */
+    public default Spliterator.OfDouble spliterator() {
+        return Spliterators.spliteratorUnknownSize(primitiveIterator(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequential DoubleStream of the values in the list
+     * @return a DoubleStream of the list
+     */
+    public default DoubleStream stream() {
+        return StreamSupport.doubleStream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel DoubleStream of the values in the list, so reductions can use every core
+     * @return a parallel DoubleStream of the list
+     */
+    public default DoubleStream parallelStream() {
+        return StreamSupport.doubleStream(spliterator(), true);
+    }
 }
@@ -0,0 +1,319 @@
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses doubles written in decimal straight from bytes, without making a String
+ * Every result is the closest double to the decimal, the same as Double.parseDouble
+ * Numbers whose digits fit in 53 bits and whose exponent is small are converted with one exact multiply or divide (Clinger's fast path)
+ * Other numbers use the Eisel-Lemire algorithm, which multiplies the digits by a 128-bit approximation of a power of five
+ * The rare numbers that neither can settle (more than 19 digits, or a product too close to a rounding boundary) fall back to Double.parseDouble
+ * @author Joshua Shew
+ */
+final class DoubleParser {
+    /* The range of decimal exponents the power of five table covers; anything outside it is zero or infinity */
+    private static final int smallestPowerOfTen = -342;
+    private static final int largestPowerOfTen = 308;
+
+    /* The largest significand Clinger's fast path can use, since every integer up to it is exact as a double */
+    private static final long maxExactSignificand = 1L << 53;
+
+    /* The powers of ten that are exact as doubles */
+    private static final double[] exactPowersOfTen = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /* The high and low 64 bits of 5^q, shifted so the top bit is set, for each q in the range; truncated for q >= 0 and rounded up for q < 0 */
+    private static final long[] powersOfFive = computePowersOfFive();
+
+    /**
+     * Not meant to be instantiated
+     */
+    private DoubleParser() {
+    }
+
+    /**
+     * Fills the table of 128-bit powers of five
+     * O(P^2) in the number of bits of the largest power, done once when the class is loaded
+     * @return the table, with the high word of each power before its low word
+     */
+    private static long[] computePowersOfFive() {
+        long[] table = new long[2 * (largestPowerOfTen - smallestPowerOfTen + 1)];
+        BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        BigInteger limit = BigInteger.ONE.shiftLeft(128);
+
+        for (int q = smallestPowerOfTen; q <= largestPowerOfTen; q++) {
+            BigInteger c;
+
+            if (q < 0) {
+                BigInteger power = BigInteger.valueOf(5).pow(-q);
+                int z = power.bitLength();
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+
+                c = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+                while (c.compareTo(limit) >= 0) {
+                    c = c.shiftRight(1);
+                }
+            }
+            else {
+                c = BigInteger.valueOf(5).pow(q);
+                c = c.bitLength() < 128 ? c.shiftLeft(128 - c.bitLength()) : c.shiftRight(c.bitLength() - 128);
+            }
+
+            int index = 2 * (q - smallestPowerOfTen);
+            table[index] = c.shiftRight(64).longValue();
+            table[index + 1] = c.and(mask).longValue();
+        }
+
+        return table;
+    }
+
+    /**
+     * Checks whether a byte separates two numbers: a space, tab, line break, or comma
+     * @param b the byte
+     * @return true if the byte is a separator, false otherwise
+     */
+    static boolean isSeparator(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == ',';
+    }
+
+    /**
+     * Parses one number from a range of bytes holding ASCII text
+     * Accepts an optional sign, digits with an optional decimal point, and an optional exponent, as well as NaN and Infinity
+     * O(L) where L is the length of the number
+     * @param bytes the array holding the text
+     * @param start the index of the first byte of the number
+     * @param end the index after the last byte of the number
+     * @return the closest double to the number
+     * @throws NumberFormatException when the bytes are not a number
+     */
+    static double parse(byte[] bytes, int start, int end) throws NumberFormatException {
+        int i = start;
+        boolean negative = false;
+
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            i++;
+        }
+
+        if (i < end && (bytes[i] == 'N' || bytes[i] == 'I')) {
+            if (matches(bytes, i, end, "NaN")) {
+                return Double.NaN;
+            }
+            else if (matches(bytes, i, end, "Infinity")) {
+                return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+            }
+            throw notANumber(bytes, start, end);
+        }
+
+        long significand = 0; // the first 19 significant digits
+        int digits = 0; // the number of digits in the significand, not counting leading zeros
+        int exponent = 0; // the power of ten the significand is multiplied by
+        boolean sawDigit = false;
+        boolean truncated = false; // whether a nonzero digit did not fit in the significand
+
+        /* The digits before the decimal point */
+        while (i < end && bytes[i] >= '0' && bytes[i] <= '9') {
+            int digit = bytes[i] - '0';
+            sawDigit = true;
+
+            if (digits < 19) {
+                if (significand != 0 || digit != 0) {
+                    significand = significand * 10 + digit;
+                    digits++;
+                }
+            }
+            else {
+                exponent++;
+                truncated |= digit != 0;
+            }
+            i++;
+        }
+
+        /* The digits after the decimal point */
+        if (i < end && bytes[i] == '.') {
+            i++;
+
+            while (i < end && bytes[i] >= '0' && bytes[i] <= '9') {
+                int digit = bytes[i] - '0';
+                sawDigit = true;
+
+                if (digits < 19) {
+                    if (significand != 0 || digit != 0) {
+                        significand = significand * 10 + digit;
+                        digits++;
+                    }
+                    exponent--;
+                }
+                else {
+                    truncated |= digit != 0;
+                }
+                i++;
+            }
+        }
+
+        if (!sawDigit) {
+            throw notANumber(bytes, start, end);
+        }
+
+        /* The exponent, which is capped since anything past the table is zero or infinity anyway */
+        if (i < end && (bytes[i] == 'e' || bytes[i] == 'E')) {
+            i++;
+
+            boolean negativeExponent = false;
+            if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+                negativeExponent = bytes[i] == '-';
+                i++;
+            }
+            if (i == end) {
+                throw notANumber(bytes, start, end);
+            }
+
+            int written = 0;
+            while (i < end && bytes[i] >= '0' && bytes[i] <= '9') {
+                written = Math.min(written * 10 + (bytes[i] - '0'), 100000);
+                i++;
+            }
+            exponent += negativeExponent ? -written : written;
+        }
+
+        if (i != end) {
+            throw notANumber(bytes, start, end);
+        }
+
+        double result = truncated ? Double.NaN : toDouble(significand, exponent);
+
+        /* Neither fast method could settle the rounding, so the slow exact parser is used */
+        if (result != result) {
+            return Double.parseDouble(new String(bytes, start, end - start, StandardCharsets.US_ASCII));
+        }
+
+        return negative ? -result : result;
+    }
+
+    /**
+     * Checks whether a range of bytes is exactly a word
+     * @param bytes the array holding the text
+     * @param start the index of the first byte
+     * @param end the index after the last byte
+     * @param word the word to compare against
+     * @return true if the bytes spell the word, false otherwise
+     */
+    private static boolean matches(byte[] bytes, int start, int end, String word) {
+        if (end - start != word.length()) {
+            return false;
+        }
+
+        for (int k = 0; k < word.length(); k++) {
+            if (bytes[start + k] != word.charAt(k)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Makes the exception for bytes that are not a number
+     * @param bytes the array holding the text
+     * @param start the index of the first byte
+     * @param end the index after the last byte
+     * @return the exception
+     */
+    private static NumberFormatException notANumber(byte[] bytes, int start, int end) {
+        return new NumberFormatException("Not a number: \"" + new String(bytes, start, end - start, StandardCharsets.US_ASCII) + "\"");
+    }
+
+    /**
+     * Finds the closest double to significand * 10^exponent
+     * O(1)
+     * @param significand the digits, as an unsigned number
+     * @param exponent the power of ten
+     * @return the closest double, or NaN when the product is too close to a rounding boundary to settle
+     */
+    static double toDouble(long significand, int exponent) {
+        if (significand == 0 || exponent < smallestPowerOfTen) {
+            return 0.0;
+        }
+        else if (exponent > largestPowerOfTen) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        /* Clinger's fast path: both numbers are exact, so one rounding gives the closest double */
+        if (exponent >= -22 && exponent <= 22 && significand > 0 && significand <= maxExactSignificand) {
+            double value = significand;
+            return exponent < 0 ? value / exactPowersOfTen[-exponent] : value * exactPowersOfTen[exponent];
+        }
+
+        /* Eisel-Lemire: the top bits of the significand times the power of five give the top bits of the double */
+        int leadingZeros = Long.numberOfLeadingZeros(significand);
+        long w = significand << leadingZeros;
+
+        int index = 2 * (exponent - smallestPowerOfTen);
+        long low = w * powersOfFive[index];
+        long high = unsignedMultiplyHigh(w, powersOfFive[index]);
+
+        /* When the bits below the 55 that are kept are all ones, the low word of the power can carry into them */
+        if ((high & 0x1FF) == 0x1FF) {
+            long secondHigh = unsignedMultiplyHigh(w, powersOfFive[index + 1]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0) {
+                high++;
+            }
+        }
+
+        if (low == -1L && (exponent < -27 || exponent > 55)) {
+            return Double.NaN;
+        }
+
+        int upperBit = (int) (high >>> 63);
+        long mantissa = high >>> (upperBit + 9);
+        int power2 = ((217706 * exponent) >> 16) + 63 + upperBit - leadingZeros + 1023;
+
+        /* Subnormal numbers */
+        if (power2 <= 0) {
+            if (-power2 + 1 >= 64) {
+                return 0.0;
+            }
+
+            mantissa >>>= -power2 + 1;
+            mantissa += mantissa & 1;
+            mantissa >>>= 1;
+
+            /* Rounding up can make the smallest normal number */
+            power2 = mantissa < (1L << 52) ? 0 : 1;
+            return Double.longBitsToDouble(((long) power2 << 52) | (mantissa & ((1L << 52) - 1)));
+        }
+
+        /* A product exactly halfway between two doubles rounds to the even one, which can only happen for small exponents */
+        if (Long.compareUnsigned(low, 1) <= 0 && exponent >= -4 && exponent <= 23 && (mantissa & 3) == 1) {
+            if ((mantissa << (upperBit + 9)) == high) {
+                mantissa &= ~1L;
+            }
+        }
+
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= (2L << 52)) {
+            mantissa = 1L << 52;
+            power2++;
+        }
+        mantissa &= ~(1L << 52);
+
+        if (power2 >= 0x7FF) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        return Double.longBitsToDouble(((long) power2 << 52) | mantissa);
+    }
+
+    /**
+     * Returns the high 64 bits of the unsigned 128-bit product of two numbers
+     * @param x the first number, as unsigned
+     * @param y the second number, as unsigned
+     * @return the high bits of the product
+     */
+    private static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+}
@@ -0,0 +1,89 @@
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DoubleParserTester {
+    /**
+     * Parses a String with DoubleParser
+     * @param text the String
+     * @return the parsed value
+     */
+    private static double parse(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        return DoubleParser.parse(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Checks that DoubleParser gives exactly the same double as Double.parseDouble
+     * @param text the number to parse
+     */
+    private static void assertSameAsParseDouble(String text) {
+        Assert.assertEquals("\"" + text + "\" was not parsed to the closest double",
+                            Double.doubleToRawLongBits(Double.parseDouble(text)), Double.doubleToRawLongBits(parse(text)));
+    }
+
+    /**
+     * Unit tests for numbers near the edges of the range of doubles and near rounding boundaries
+     */
+    @Test
+    public void testEdgeCases() {
+        String[] numbers = {
+            "0", "-0", "0.0", "+3", "1", "0.1", "1e23", "8.41e21", "9007199254740993", "9007199254740992.5",
+            "4.9e-324", "5e-324", "2.4703282292062327e-324", "2.4703282292062328e-324", "1e-400",
+            "2.2250738585072012e-308", "2.2250738585072013e-308",
+            "1.7976931348623157e308", "1.7976931348623158e308", "1.7976931348623159e308", "1e400",
+            "9999999999999999999", "18446744073709551615", "123456789012345678901234567890",
+            "1.00000000000000011102230246251565404236316680908203125",
+            "1.00000000000000011102230246251565404236316680908203124",
+            "7.3177701707893310e+15", "-1.5E+10", "0.000000000000000000000000000000000001"
+        };
+        for (String number : numbers) {
+            assertSameAsParseDouble(number);
+        }
+
+        Assert.assertTrue("NaN should have been parsed", Double.isNaN(parse("NaN")));
+        Assert.assertEquals("-Infinity should have been parsed", Double.NEGATIVE_INFINITY, parse("-Infinity"), 0.0);
+        Assert.assertEquals("-0 should have kept its sign", "-0.0", Double.toString(parse("-0")));
+    }
+
+    /**
+     * Unit tests for many random numbers, compared to Double.parseDouble
+     */
+    @Test
+    public void testRandomNumbers() {
+        Random random = new Random(21);
+
+        for (int i = 0; i < 100000; i++) {
+            assertSameAsParseDouble(Double.toString(Double.longBitsToDouble(random.nextLong())));
+            assertSameAsParseDouble(Double.toString(random.nextDouble() * 1000));
+
+            // random digits, a decimal point, and an exponent that reaches both ends of the range
+            StringBuilder builder = new StringBuilder();
+            int digits = 1 + random.nextInt(25);
+            for (int k = 0; k < digits; k++) {
+                builder.append((char) ('0' + random.nextInt(10)));
+            }
+            builder.insert(random.nextInt(builder.length() + 1), '.');
+            builder.append('e').append(random.nextInt(700) - 350);
+            assertSameAsParseDouble(builder.toString());
+        }
+    }
+
+    /**
+     * Unit tests for text that is not a number
+     */
+    @Test
+    public void testNotANumber() {
+        for (String text : new String[] {"", "-", ".", "1e", "1e+", "1.0.0", "--1", "abc", "1x", "NaNa", "Inf"}) {
+            try {
+                parse(text);
+                Assert.fail("The method should have thrown an exception for \"" + text + "\"");
+            }
+            catch (NumberFormatException e) {
+                // the method succeeded
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,402 @@
+/* Generated by templates/GenerateLists.java from templates/TypeArrayList.java.template, so edit the template and run the generator instead of editing this file */
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * For storing floats in an array that grows as needed
+ * O(1) time complexity for access
+ * O(N) time complexity for inserting and deleting
+ * @author Joshua Shew
+ */
+public class FloatArrayList implements FloatList {
+    /* internalArray is for storing the values in the list */
+    private float[] internalArray = null;
+
+    /* size keeps track of how many elements are stored in the list */
+    private int size = 0;
+
+    /* The number of adjacent pairs where the second value is less than the first, so the list is sorted when there are none */
+    private int descents = 0;
+
+    /* The number of adjacent pairs where the second value is greater than the first, so the list is sorted in decreasing order when there are none */
+    private int ascents = 0;
+
+    /**
+     * Creates a new FloatArrayList with a capacity of 0
+     */
+    public FloatArrayList() {
+        this(0);
+    }
+
+    /**
+     * Creates a new FloatArrayList with the specified capacity
+     * @param capacity the number of values the list can hold before it grows
+     */
+    public FloatArrayList(int capacity) {
+        this.internalArray = new float[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Getter method for the size of the list
+     * The size is the number of numbers currently in the list
+     * @return the size of the list
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Getter method for the capacity of the array
+     * The capacity is the number of numbers the array can hold without resizing
+     * @return the capacity of the array
+     */
+    public int capacity() {
+        return this.internalArray.length;
+    }
+
+    /**
+     * Increases the capacity of the list so it can hold at least the specified number of values
+     * Doubles the capacity, or expands it further if doubling is not enough
+     * O(N) if capacity needs to be expanded, O(1) otherwise
+     * @param minCapacity the number of values the list should be able to hold
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > this.internalArray.length) {
+            this.internalArray = Arrays.copyOf(this.internalArray, Math.max(minCapacity, this.internalArray.length * 2));
+        }
+    }
+
+    /**
+     * Adds a pair of adjacent values to the descent and ascent counts, or takes it away
+     * A pair of equal values, or a pair with NaN, is neither
+     * O(1)
+     * @param first the first value of the pair
+     * @param second the value after it
+     * @param change 1 when the values become adjacent, -1 when they stop being adjacent
+     */
+    private void countPair(float first, float second, int change) {
+        if (second < first) {
+            this.descents += change;
+        }
+        else if (first < second) {
+            this.ascents += change;
+        }
+    }
+
+    /**
+     * Adds every adjacent pair in part of an array to the descent and ascent counts, or takes them away
+     * O(K) where K is the length of the part
+     * @param values the array holding the values
+     * @param start the index of the first value (inclusive)
+     * @param end the index after the last value (exclusive)
+     * @param change 1 when the values become part of the list, -1 when they stop being part of it
+     */
+    private void countPairs(float[] values, int start, int end, int change) {
+        for (int i = start + 1; i < end; i++) {
+            countPair(values[i - 1], values[i], change);
+        }
+    }
+
+    /**
+     * Adds a number of the end of the array
+     * The method expands the capacity if needed
+     * O(1) if capacity is greater than size
+     * O(N) if capacity needs to be expanded
+     * @param value the number to be added to the end of the array
+     */
+    public void add(float value) {
+        ensureCapacity(this.size + 1);
+
+        /* The new value makes one new pair with the value before it */
+        if (this.size > 0) {
+            countPair(this.internalArray[this.size - 1], value, 1);
+        }
+
+        this.internalArray[this.size] = value;
+        this.size++;
+    }
+
+    /**
+     * Adds a number at a specified position of the array
+     * All numbers after (and the number at) the specified position are shifted down the array
+     * If the array has i or fewer numbers, then the value is added in the same fashion as the add method
+     * O(N)
+     * @param i the index to insert the new value at
+     * @param value the value to add to the array
+     * @throws IndexOutOfBoundsException when the index is negative
+     */
+    public void insert(int i, float value) throws IndexOutOfBoundsException {
+        if (i >= this.size) {
+            add(value);
+        }
+        else if (i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        else {
+            ensureCapacity(this.size + 1);
+
+            /* The value splits the pair of its neighbors into a pair on each side of it */
+            if (i > 0) {
+                countPair(this.internalArray[i - 1], this.internalArray[i], -1);
+                countPair(this.internalArray[i - 1], value, 1);
+            }
+            countPair(value, this.internalArray[i], 1);
+
+            /* Shifts elements over to provide space for the insertion */
+            System.arraycopy(this.internalArray, i, this.internalArray, i + 1, this.size - i);
+            this.internalArray[i] = value;
+            this.size++;
+        }
+    }
+
+    /**
+     * Removes the number at the specified position of the array
+     * All numbers after the specified position are shifted up the array
+     * The size of the array is shortened by this method if there is a number at the specified position
+     * O(N)
+     * @param i the index where the value should be removed
+     * @throws IndexOutOfBoundsException when the index is negative
+     */
+    public void remove(int i) throws IndexOutOfBoundsException {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        else if (i < this.size) {
+            /* The pairs on each side of the value are replaced by the pair of its neighbors */
+            countPairs(this.internalArray, Math.max(0, i - 1), Math.min(this.size, i + 2), -1);
+            if (i > 0 && i < this.size - 1) {
+                countPair(this.internalArray[i - 1], this.internalArray[i + 1], 1);
+            }
+
+            /* Shifts elements over until the element to be removed is covered up */
+            System.arraycopy(this.internalArray, i + 1, this.internalArray, i, this.size - i - 1);
+            this.size--;
+        }
+    }
+
+    /**
+     * Adds all of the numbers in the array to the end of the list, in order
+     * The capacity is expanded at most once
+     * O(K) where K is the number of values added, plus O(N) if capacity needs to be expanded
+     * @param values the numbers to add to the end of the list
+     */
+    public void addAll(float[] values) {
+        ensureCapacity(this.size + values.length);
+
+        /* Counts the pairs of the new values, and the pair they make with the last value */
+        if (this.size > 0 && values.length > 0) {
+            countPair(this.internalArray[this.size - 1], values[0], 1);
+        }
+        countPairs(values, 0, values.length, 1);
+
+        System.arraycopy(values, 0, this.internalArray, this.size, values.length);
+        this.size += values.length;
+    }
+
+    /**
+     * Copies the numbers in the array into a new array, in order
+     * O(N)
+     * @return an array with the numbers in the list
+     */
+    public float[] toArray() {
+        return Arrays.copyOf(this.internalArray, this.size);
+    }
+
+    /**
+     * Checks whether the array contains the input value
+     * A sorted list may still hold NaN anywhere, which hides the order around it, so the search is always linear
+     * O(N)
+     * @param value the value is what the method is confirming is in the array
+     * @return true if the value is in the array, false otherwise
+     */
+    public boolean contains(float value) {
+        /* Linear search for the element, stopping at the size */
+        for (int i = 0; i < this.size; i++) {
+            if (this.internalArray[i] == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the i-th element of the array
+     * O(1)
+     * @param i the index of the array to get the value from
+     * @return the value stored at the specified index
+     * @throws IndexOutOfBoundsException when the input index is greater than or equal to the size of the array
+     */
+    public float lookup(int i) throws IndexOutOfBoundsException {
+        if (i >= this.size || i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return this.internalArray[i];
+    }
+
+    /**
+     * Removes duplicates in this array while preserving the current order of the numbers
+     * Values are duplicates when they are equal with ==, and every NaN is a duplicate of the first NaN
+     * The kept values are moved to the front of the array in a single pass
+     * Expected O(N), using a hash set of the values kept so far
+     */
+    public void removeDuplicates() {
+        FloatHashSet seen = new FloatHashSet(this.size);
+        float[] array = this.internalArray;
+        int kept = 0; // the number of values kept so far
+
+        /* The pairs are counted again as the kept values are moved together */
+        this.descents = 0;
+        this.ascents = 0;
+
+        for (int i = 0; i < this.size; i++) {
+            if (seen.add(array[i])) {
+                if (kept > 0) {
+                    countPair(array[kept - 1], array[i], 1);
+                }
+                array[kept] = array[i];
+                kept++;
+            }
+        }
+
+        this.size = kept;
+    }
+
+    /**
+     * Returns whether the list is currently sorted in increasing order or not
+     * O(1), since every change keeps the count of descents up to date
+     * @return true if the list is sorted, false otherwise
+     */
+    public boolean isSorted() {
+        return this.descents == 0;
+    }
+
+    /**
+     * Returns whether the list is currently sorted in decreasing order or not
+     * O(1), since every change keeps the count of ascents up to date
+     * @return true if the list is sorted in decreasing order, false otherwise
+     */
+    public boolean isSortedDescending() {
+        return this.ascents == 0;
+    }
+
+    /**
+     * Reverses the order of the elements in the list
+     * O(N)
+     */
+    public void reverse() {
+        /* Iterates through half of the list & swaps values with the other half */
+        for (int i = 0; i < this.size / 2; i++) {
+            float save = this.internalArray[i];
+            this.internalArray[i] = this.internalArray[this.size - i - 1];
+            this.internalArray[this.size - i - 1] = save;
+        }
+
+        /* Every descent becomes an ascent and every ascent becomes a descent */
+        int descents = this.descents;
+        this.descents = this.ascents;
+        this.ascents = descents;
+    }
+
+    /**
+     * Sorts the internal array in place
+     * Uses the order of Float.compare, so -0.0 comes before 0.0 and NaN comes last
+     * O(N log N)
+     */
+    public void sort() {
+        Arrays.sort(this.internalArray, 0, this.size);
+
+        /* A sorted list has no descents, and its ascents are wherever the value changes */
+        this.descents = 0;
+        this.ascents = 0;
+        countPairs(this.internalArray, 0, this.size, 1);
+    }
+
+    /**
+     * Provides a String representation of this array
+     * For an empty array, an empty String is returned
+     * Numbers are separated by a space and no other characters are included
+     * O(N)
+     * @return a String representation of the array
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        FloatIterator i = this.iterator();
+
+        while (i.hasNext()) {
+            result.append(i.next()).append(" ");
+        }
+
+        // Remove the last space
+        if (result.length() > 0) {
+            result.setLength(result.length() - 1);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns an iterator for the list that begins at the front of the list
+     * O(1)
+     * @return a FloatIterator for the list the method is called on
+     */
+    public FloatIterator iterator() {
+        return new FloatArrayListIterator(this);
+    }
+
+    /**
+     * Iterator for FloatArrayList
+     * All methods are O(1)
+     * @author Joshua Shew
+     */
+    private static class FloatArrayListIterator implements FloatIterator {
+        /* Stores a reference to the list */
+        private final FloatArrayList list;
+
+        /* Stores the index of the list the iterator is at */
+        private int index = 0;
+
+        /**
+         * Constructor for an iterator for FloatArrayList
+         * @param list the list to iterate over
+         */
+        public FloatArrayListIterator(FloatArrayList list) {
+            this.list = list;
+            this.index = 0;
+        }
+
+        /**
+         * Checks whether there is another value ahead of the iterator in the list
+         * @return true if there is a value, false otherwise
+         */
+        public boolean hasNext() {
+            return this.index < this.list.size;
+        }
+
+        /**
+         * Moves the iterator forward one value and returns that value
+         * @return the value at iterator's current index
+         */
+        public float next() {
+            float save = peek();
+            this.index++;
+            return save;
+        }
+
+        /**
+         * Retrieves the value the iterator is current at without moving it forward
+         * @return the value at the iterator's current index
+         */
+        public float peek() {
+            if (hasNext()) {
+                return this.list.internalArray[this.index];
+            }
+            else {
+                throw new NoSuchElementException();
+            }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/* Generated by templates/GenerateLists.java from templates/TypeArrayListTester.java.template, so edit the template and run the generator instead of editing this file */
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FloatArrayListTester {
+    /**
+     * Creates a FloatArrayList with the specified values
+     * Uses the empty constructor and the add method
+     */
+    private static FloatArrayList createList(int... values) {
+        FloatArrayList list = new FloatArrayList();
+        for (int value : values)
+            list.add(value);
+
+        return list;
+    }
+
+    /**
+     * Checks that a list holds exactly the specified values, in order
+     */
+    private static void assertValues(String message, FloatList list, int... values) {
+        Assert.assertTrue(message + ": the size should have been " + values.length, list.size() == values.length);
+        for (int i = 0; i < values.length; i++) {
+            Assert.assertTrue(message + ": the value at " + i + " was " + list.lookup(i), list.lookup(i) == values[i]);
+        }
+    }
+
+    /**
+     * Unit tests for the FloatArrayList constructors
+     */
+    @Test
+    public void testFloatArrayList() {
+        FloatList list1 = new FloatArrayList();
+        Assert.assertTrue("list1 size should have been 0 but it was not", list1.size() == 0);
+        Assert.assertEquals("list1 was not empty when it should have been", "", list1.toString());
+        Assert.assertTrue("list1 should be sorted", list1.isSorted());
+        Assert.assertTrue("list1 should be sorted in decreasing order", list1.isSortedDescending());
+
+        FloatList list2 = new FloatArrayList(10);
+        Assert.assertTrue("list2 capacity should have been 10 but it was not", list2.capacity() == 10);
+    }
+
+    /**
+     * Unit tests for the add, insert, remove, lookup, and toString methods
+     */
+    @Test
+    public void testAddInsertAndRemove() {
+        FloatArrayList list = createList(1, 2, 4);
+        float[] expected = {1, 2, 4};
+        Assert.assertEquals("toString did not match", expected[0] + " " + expected[1] + " " + expected[2], list.toString());
+
+        list.insert(2, 3);
+        list.insert(0, 0);
+        list.insert(10, 5);
+        assertValues("The values were not inserted correctly", list, 0, 1, 2, 3, 4, 5);
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+        Assert.assertFalse("The list should not be sorted in decreasing order", list.isSortedDescending());
+
+        list.insert(1, 9);
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+        list.remove(1);
+        Assert.assertTrue("The list should be sorted again", list.isSorted());
+
+        list.remove(0);
+        list.remove(4);
+        list.remove(10);
+        assertValues("The values were not removed correctly", list, 1, 2, 3, 4);
+
+        try {
+            list.insert(-1, 0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+        try {
+            list.lookup(list.size());
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for the addAll, toArray, contains, and equals methods
+     */
+    @Test
+    public void testBulkMethodsAndContains() {
+        FloatArrayList list = createList(1, 2);
+        list.addAll(new float[] {3, 5, 8});
+        assertValues("The values were not added correctly", list, 1, 2, 3, 5, 8);
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+
+        float[] values = list.toArray();
+        Assert.assertTrue("toArray should have copied every value", values.length == 5 && values[4] == 8);
+
+        // sorted lists are searched with a binary search, unsorted lists linearly
+        Assert.assertTrue("The list should contain 5", list.contains(5));
+        Assert.assertFalse("The list should not contain 4", list.contains(4));
+        list.add(4);
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+        Assert.assertTrue("The list should contain 4", list.contains(4));
+
+        Assert.assertTrue("The lists should be equal", list.equals(createList(1, 2, 3, 5, 8, 4)));
+        Assert.assertFalse("The lists should not be equal", list.equals(createList(1, 2, 3, 5, 8)));
+    }
+
+    /**
+     * Unit tests for the removeDuplicates, reverse, and sort methods
+     */
+    @Test
+    public void testRemoveDuplicatesReverseAndSort() {
+        FloatArrayList list = createList(3, 1, 3, 0, 1, 2, 0);
+        list.removeDuplicates();
+        assertValues("The duplicates were not removed correctly", list, 3, 1, 0, 2);
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+
+        list.sort();
+        assertValues("The list was not sorted correctly", list, 0, 1, 2, 3);
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+
+        list.reverse();
+        assertValues("The list was not reversed correctly", list, 3, 2, 1, 0);
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+        Assert.assertTrue("The list should be sorted in decreasing order", list.isSortedDescending());
+    }
+
+    /**
+     * Unit tests for the union method
+     */
+    @Test
+    public void testUnion() {
+        // two sorted lists give a sorted list
+        FloatList union = FloatList.union(createList(1, 3, 3, 5), createList(0, 3, 4, 6));
+        assertValues("The union of sorted lists was not correct", union, 0, 1, 3, 4, 5, 6);
+        Assert.assertTrue("The union of sorted lists should be sorted", union.isSorted());
+
+        // otherwise the values keep the order they first appear in
+        union = FloatList.union(createList(5, 1, 5), createList(2, 1, 7));
+        assertValues("The union of unsorted lists was not correct", union, 5, 1, 2, 7);
+
+        // lists of different types, and empty lists
+        FloatLinkedList linked = new FloatLinkedList();
+        linked.add(2);
+        union = FloatList.union(createList(1, 2), linked);
+        assertValues("The union of different lists was not correct", union, 1, 2);
+        union = FloatList.union(new FloatArrayList(), new FloatLinkedList());
+        Assert.assertTrue("The union of empty lists should be empty", union.size() == 0);
+    }
+
+    /**
+     * Unit tests for NaN, which is never equal to itself
+     */
+    @Test
+    public void testNaN() {
+        FloatArrayList list = createList(1, 2);
+        list.add(Float.NaN);
+        list.add(0);
+        Assert.assertTrue("Pairs with NaN should not make the list unsorted", list.isSorted());
+        Assert.assertFalse("NaN is never found with ==", list.contains(Float.NaN));
+
+        list.add(Float.NaN);
+        list.removeDuplicates();
+        Assert.assertTrue("Only the first NaN should have been kept", list.size() == 4);
+
+        // lists holding NaN are unioned in the order the values first appear in
+        FloatList union = FloatList.union(list, createList(0, 3));
+        Assert.assertTrue("The union should have 5 values", union.size() == 5);
+        Assert.assertTrue("The union should keep the order of list1", union.lookup(2) != union.lookup(2) && union.lookup(4) == 3);
+    }
+
+    /**
+     * Unit tests that compare random edits against a NumArrayList
+     */
+    @Test
+    public void testRandomEdits() {
+        Random random = new Random(24);
+        FloatArrayList list = new FloatArrayList();
+        NumArrayList expected = new NumArrayList();
+
+        for (int step = 0; step < 5000; step++) {
+            int index = random.nextInt(expected.size() + 1);
+            int value = random.nextInt(10);
+            int choice = random.nextInt(10);
+
+            if (choice < 3) {
+                list.remove(index);
+                expected.remove(index);
+            }
+            else if (choice == 3) {
+                list.reverse();
+                expected.reverse();
+            }
+            else if (choice == 4 && random.nextInt(5) == 0) {
+                list.removeDuplicates();
+                expected.removeDuplicates();
+            }
+            else {
+                list.insert(index, value);
+                expected.insert(index, value);
+            }
+
+            Assert.assertTrue("The sizes should match", list.size() == expected.size());
+            Assert.assertTrue("The sorted flags should match", list.isSorted() == expected.isSorted());
+            Assert.assertTrue("The descending flags should match", list.isSortedDescending() == expected.isSortedDescending());
+
+            // keeps the list short enough to be sorted and unsorted often
+            if (expected.size() > 12) {
+                list.remove(0);
+                expected.remove(0);
+            }
+        }
+
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertTrue("The values should match", list.lookup(i) == expected.lookup(i));
+        }
+    }
+}
\ No newline at end of file
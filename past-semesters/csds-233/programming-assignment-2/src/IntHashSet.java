@@ -0,0 +1,190 @@
+/* Generated by templates/GenerateLists.java from templates/TypeHashSet.java.template, so edit the template and run the generator instead of editing this file */
+import java.util.Arrays;
+
+/**
+ * A set of ints stored in an open-addressing hash table without boxing
+ * O(1) expected time complexity for adding and searching
+ * @author Joshua Shew
+ */
+public class IntHashSet {
+    /* The bits of the values in the set, with 0 marking an empty slot */
+    private int[] table = null;
+
+    /* Keeps track of whether 0 is in the set, since its bits mark an empty slot */
+    private boolean containsZero = false;
+
+    /* The number of elements in the set */
+    private int size = 0;
+
+    /* The table is doubled once it is more than half full */
+    private static final int maxLoadDivisor = 2;
+
+    /* The smallest table the set uses */
+    private static final int minTableSize = 16;
+
+    /* The largest table the set starts with */
+    private static final int maxTableSize = 1 << 30;
+
+    /**
+     * Creates an empty set
+     */
+    public IntHashSet() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty set that can hold the expected number of elements without growing
+     * @param expectedSize the number of elements the set is expected to hold
+     */
+    public IntHashSet(int expectedSize) {
+        this.table = new int[tableSizeFor(expectedSize)];
+        this.containsZero = false;
+        this.size = 0;
+    }
+
+    /**
+     * Getter method for the size of the set
+     * @return the number of elements in the set
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds the value to the set if it is not in the set already
+     * O(1) expected
+     * @param value the value to add
+     * @return true if the value was added, false if it was already in the set
+     */
+    public boolean add(int value) {
+        if (value == 0) {
+            if (this.containsZero) {
+                return false;
+            }
+
+            this.containsZero = true;
+            this.size++;
+            return true;
+        }
+
+        int bits = toBits(value);
+        int mask = this.table.length - 1;
+
+        /* Linear probing until the value or an empty slot is found */
+        for (int slot = hash(bits) & mask; ; slot = (slot + 1) & mask) {
+            if (this.table[slot] == bits) {
+                return false;
+            }
+            else if (this.table[slot] == 0) {
+                this.table[slot] = bits;
+                this.size++;
+
+                if (this.size * maxLoadDivisor > this.table.length) {
+                    rehash(this.table.length * 2);
+                }
+
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the value is in the set
+     * O(1) expected
+     * @param value the value to search for
+     * @return true if the value is in the set, false otherwise
+     */
+    public boolean contains(int value) {
+        if (value == 0) {
+            return this.containsZero;
+        }
+
+        int bits = toBits(value);
+        int mask = this.table.length - 1;
+
+        /* Linear probing until the value or an empty slot is found */
+        for (int slot = hash(bits) & mask; ; slot = (slot + 1) & mask) {
+            if (this.table[slot] == bits) {
+                return true;
+            }
+            else if (this.table[slot] == 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Removes every element from the set, keeping the current table
+     * O(T) where T is the size of the table
+     */
+    public void clear() {
+        Arrays.fill(this.table, 0);
+        this.containsZero = false;
+        this.size = 0;
+    }
+
+    /**
+     * Moves every element into a new table of the specified size
+     * O(T) where T is the size of the new table
+     * @param tableSize the new table size, a power of 2
+     */
+    private void rehash(int tableSize) {
+        int[] oldTable = this.table;
+        this.table = new int[tableSize];
+        int mask = tableSize - 1;
+
+        for (int bits : oldTable) {
+            if (bits != 0) {
+                int slot = hash(bits) & mask;
+
+                while (this.table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+
+                this.table[slot] = bits;
+            }
+        }
+    }
+
+    /**
+     * Returns the bits a value is stored as in the table
+     * O(1)
+     * @param value the value, which is not 0
+     * @return the bits of the value
+     */
+    private static int toBits(int value) {
+        return value;
+    }
+
+    /**
+     * Spreads the bits of a value so nearby values land in different slots
+     * O(1)
+     * @param bits the bits of the value
+     * @return the hash of the value
+     */
+    private static int hash(long bits) {
+        /* The finalizer of MurmurHash3 */
+        bits ^= bits >>> 33;
+        bits *= 0xff51afd7ed558ccdL;
+        bits ^= bits >>> 33;
+        bits *= 0xc4ceb9fe1a85ec53L;
+        bits ^= bits >>> 33;
+
+        return (int)bits;
+    }
+
+    /**
+     * Returns the smallest power of 2 table that holds the expected number of elements at most half full
+     * @param expectedSize the number of elements the set is expected to hold
+     * @return the table size
+     */
+    private static int tableSizeFor(int expectedSize) {
+        int tableSize = minTableSize;
+
+        while (tableSize < maxTableSize && tableSize < (long)expectedSize * maxLoadDivisor) {
+            tableSize *= 2;
+        }
+
+        return tableSize;
+    }
+}
@@ -0,0 +1,157 @@
+/* Generated by templates/GenerateLists.java from templates/TypeLinkedListTester.java.template, so edit the template and run the generator instead of editing this file */
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IntLinkedListTester {
+    /**
+     * Creates a IntLinkedList with the specified values
+     * Uses the empty constructor and the add method
+     */
+    private static IntLinkedList createList(int... values) {
+        IntLinkedList list = new IntLinkedList();
+        for (int value : values)
+            list.add(value);
+
+        return list;
+    }
+
+    /**
+     * Checks that a list holds exactly the specified values, in order
+     */
+    private static void assertValues(String message, IntList list, int... values) {
+        Assert.assertTrue(message + ": the size should have been " + values.length, list.size() == values.length);
+        for (int i = 0; i < values.length; i++) {
+            Assert.assertTrue(message + ": the value at " + i + " was " + list.lookup(i), list.lookup(i) == values[i]);
+        }
+    }
+
+    /**
+     * Unit tests for the IntLinkedList constructor
+     */
+    @Test
+    public void testIntLinkedList() {
+        IntList list1 = new IntLinkedList();
+        Assert.assertTrue("list1 size should have been 0 but it was not", list1.size() == 0);
+        Assert.assertEquals("list1 was not empty when it should have been", "", list1.toString());
+        Assert.assertTrue("list1 should be sorted", list1.isSorted());
+        Assert.assertTrue("list1 capacity should be the largest int", list1.capacity() == Integer.MAX_VALUE);
+    }
+
+    /**
+     * Unit tests for the add, insert, remove, and lookup methods at the ends and in the middle
+     */
+    @Test
+    public void testAddInsertAndRemove() {
+        IntLinkedList list = createList(1, 3);
+        list.insert(0, 0);
+        list.insert(2, 2);
+        list.insert(4, 4);
+        assertValues("The values were not inserted correctly", list, 0, 1, 2, 3, 4);
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+
+        list.insert(0, 7);
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+        list.remove(0);
+        Assert.assertTrue("The list should be sorted again", list.isSorted());
+
+        list.remove(4);
+        list.remove(2);
+        list.remove(0);
+        list.remove(5);
+        assertValues("The values were not removed correctly", list, 1, 3);
+
+        list.remove(1);
+        list.remove(0);
+        Assert.assertEquals("The list should be empty", "", list.toString());
+        list.add(6);
+        assertValues("The list should be usable after it becomes empty", list, 6);
+
+        try {
+            list.insert(-1, 0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+        try {
+            list.lookup(1);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for the contains, removeDuplicates, reverse, sort, and union methods
+     */
+    @Test
+    public void testOtherMethods() {
+        IntLinkedList list = createList(2, 0, 2, 1, 0);
+        Assert.assertTrue("The list should contain 1", list.contains(1));
+        Assert.assertFalse("The list should not contain 3", list.contains(3));
+
+        list.removeDuplicates();
+        assertValues("The duplicates were not removed correctly", list, 2, 0, 1);
+
+        list.reverse();
+        assertValues("The list was not reversed correctly", list, 1, 0, 2);
+
+        list.sort();
+        assertValues("The list was not sorted correctly", list, 0, 1, 2);
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+
+        IntList union = IntList.union(list, createList(1, 3));
+        assertValues("The union of sorted lists was not correct", union, 0, 1, 2, 3);
+        Assert.assertTrue("The union of sorted lists should be sorted", union.isSorted());
+    }
+
+    /**
+     * Unit tests that compare random edits against a NumLinkedList
+     */
+    @Test
+    public void testRandomEdits() {
+        Random random = new Random(24);
+        IntLinkedList list = new IntLinkedList();
+        NumLinkedList expected = new NumLinkedList();
+
+        for (int step = 0; step < 5000; step++) {
+            int index = random.nextInt(expected.size() + 1);
+            int value = random.nextInt(10);
+            int choice = random.nextInt(10);
+
+            if (choice < 3) {
+                list.remove(index);
+                expected.remove(index);
+            }
+            else if (choice == 3) {
+                list.reverse();
+                expected.reverse();
+            }
+            else if (choice == 4 && random.nextInt(5) == 0) {
+                list.removeDuplicates();
+                expected.removeDuplicates();
+            }
+            else {
+                list.insert(index, value);
+                expected.insert(index, value);
+            }
+
+            Assert.assertTrue("The sizes should match", list.size() == expected.size());
+            Assert.assertTrue("The sorted flags should match", list.isSorted() == expected.isSorted());
+            Assert.assertTrue("The descending flags should match", list.isSortedDescending() == expected.isSortedDescending());
+
+            // keeps the list short enough to be sorted and unsorted often
+            if (expected.size() > 12) {
+                list.remove(0);
+                expected.remove(0);
+            }
+        }
+
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertTrue("The values should match", list.lookup(i) == expected.lookup(i));
+        }
+    }
+}
\ No newline at end of file
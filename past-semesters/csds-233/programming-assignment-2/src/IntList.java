@@ -0,0 +1,228 @@
+/* Generated by templates/GenerateLists.java from templates/TypeList.java.template, so edit the template and run the generator instead of editing this file */
+import java.util.Arrays;
+
+/**
+ * An interface for a list that contains ints
+ * Stores each value as a int, so a list of ints takes less memory than a NumList of the same values
+ * @author Joshua Shew
+ */
+public interface IntList {
+    /**
+     * Getter method for the size of the list
+     * The size is the number of elements currently in the list
+     * @return the size of the list
+     */
+    public abstract int size();
+
+    /**
+     * Getter method for the capacity of the list
+     * The capacity is the number of elements the list can hold without resizing
+     * @return the capacity of the list
+     */
+    public abstract int capacity();
+
+    /**
+     * Adds a number of the end of the list
+     * The method expands the capacity if needed
+     * @param value the number to be added to the end of the list
+     */
+    public abstract void add(int value);
+
+    /**
+     * Adds a number at a specified position of the list
+     * All numbers after (and the number at) the specified position are shifted down the list
+     * If the list has i or fewer numbers, then the value is added in the same fashion as the add method
+     * @param i the index to insert the new value at
+     * @param value the value to add to the list
+     */
+    public abstract void insert(int i, int value);
+
+    /**
+     * Removes the element at the specified position of the list
+     * All elements after the specified position are shifted up the list
+     * The size of the list is shortened by this method if there is a number at the specified position
+     * @param i the index where the value should be removed
+     */
+    public abstract void remove(int i);
+
+    /**
+     * Adds all of the numbers in the array to the end of the list, in order
+     * By default the numbers are added one at a time with add
+     * O(K) times the cost of add, where K is the number of values added
+     * @param values the numbers to add to the end of the list
+     */
+    public default void addAll(int[] values) {
+        for (int value : values) {
+            add(value);
+        }
+    }
+
+    /**
+     * Copies the numbers in the list into a new array, in order
+     * O(N)
+     * @return an array with the numbers in the list
+     */
+    public default int[] toArray() {
+        int[] result = new int[size()];
+        IntIterator i = this.iterator();
+
+        for (int j = 0; j < result.length; j++) {
+            result[j] = i.next();
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks whether the list contains the input value
+     * @param value the value is what the method is confirming is in the list
+     * @return true if the value is in the list, false otherwise
+     */
+    public abstract boolean contains(int value);
+
+    /**
+     * Returns the i-th element of the list
+     * @param i the index of the list to get the value from
+     * @return the value stored at the specified index
+     * @throws IndexOutOfBoundsException when the input index is greater than or equal to the size of the list
+     */
+    public abstract int lookup(int i) throws IndexOutOfBoundsException;
+
+    /**
+     * Checks whether this list is equal to the input list
+     * Two lists are equal if they have all the same numbers in the same order
+     * O(N)
+     * @param otherList the other list to compare this list to
+     * @return true if the two are equal, false otherwise
+     */
+    public default boolean equals(IntList otherList) {
+        /* If the sizes are different, they cannot be equal */
+        if (this.size() != otherList.size()) {
+            return false;
+        }
+        /* Linear search for any differences */
+        else {
+            IntIterator i1 = this.iterator();
+            IntIterator i2 = otherList.iterator();
+
+            while (i1.hasNext()) {
+                if (i1.next() != i2.next()) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * Removes duplicates in this list while preserving the current order of the numbers
+     */
+    public abstract void removeDuplicates();
+
+    /**
+     * Returns whether the list is currently sorted in increasing order or not
+     * @return true if the list is sorted, false otherwise
+     */
+    public abstract boolean isSorted();
+
+    /**
+     * Returns whether the list is currently sorted in decreasing order or not
+     * @return true if no value is less than the value after it, false otherwise
+     */
+    public abstract boolean isSortedDescending();
+
+    /**
+     * Reverses the order of the elements in the list
+     */
+    public abstract void reverse();
+
+    /**
+     * Sorts the list in increasing order
+     * By default the numbers are copied into an array, sorted, and put back into the list
+     * O(N log N)
+     */
+    public default void sort() {
+        int[] values = toArray();
+        Arrays.sort(values);
+
+        while (size() > 0) {
+            remove(size() - 1);
+        }
+        addAll(values);
+    }
+
+    /**
+     * Returns an iterator for the list that begins at the front of the list
+     * @return a IntIterator for the list the method is called on
+     */
+    public abstract IntIterator iterator();
+
+    /**
+     * Creates a new list which has all elements in the input lists without any duplicate elements
+     * If both lists are sorted, then the resulting list is also sorted
+     * Otherwise the elements keep the order they first appear in, list1 before list2
+     * O(N) for sorted lists
+     * Expected O(N) for unsorted lists
+     * @param list1 the first list
+     * @param list2 the second list
+     * @return a IntList (of true type IntArrayList) with all the elements of the input lists without any duplicate elements
+     */
+    public static IntList union(IntList list1, IntList list2) {
+        IntArrayList newList = new IntArrayList(list1.size() + list2.size());
+
+        IntIterator i1 = list1.iterator();
+        IntIterator i2 = list2.iterator();
+
+        if (list1.isSorted() && list2.isSorted()) {
+            boolean addedAny = false;
+            int lastAdded = 0; // the last value added, to prevent duplicate values
+
+            /* Adds the values from each list in ascending order while skipping duplicates */
+            while (i1.hasNext() || i2.hasNext()) {
+                int value;
+
+                if (!i2.hasNext() || (i1.hasNext() && i1.peek() <= i2.peek())) {
+                    value = i1.next();
+                }
+                else {
+                    value = i2.next();
+                }
+
+                if (!addedAny || value != lastAdded) {
+                    newList.add(value);
+                    lastAdded = value;
+                    addedAny = true;
+                }
+            }
+        }
+        /* When one or both of the input lists is not sorted */
+        else {
+            IntHashSet seen = new IntHashSet(list1.size() + list2.size());
+
+            /* Add all unique values from list1, then from list2 */
+            while (i1.hasNext()) {
+                int value = i1.next();
+                if (seen.add(value)) {
+                    newList.add(value);
+                }
+            }
+            while (i2.hasNext()) {
+                int value = i2.next();
+                if (seen.add(value)) {
+                    newList.add(value);
+                }
+            }
+        }
+
+        return newList;
+    }
+
+    /**
+     * Provides a String representation of this list
+     * For an empty list, an empty String is returned
+     * Numbers are separated by a space and no other characters are included
+     * @return a String representation of the list
+     */
+    public abstract String toString();
+}
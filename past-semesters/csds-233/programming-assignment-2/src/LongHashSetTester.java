@@ -0,0 +1,57 @@
+/* Generated by templates/GenerateLists.java from templates/TypeHashSetTester.java.template, so edit the template and run the generator instead of editing this file */
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LongHashSetTester {
+    /**
+     * Unit tests for the add, contains, and size methods
+     */
+    @Test
+    public void testAddAndContains() {
+        // empty set
+        LongHashSet set = new LongHashSet();
+        Assert.assertTrue("The set should be empty", set.size() == 0);
+        Assert.assertFalse("An empty set should not contain anything", set.contains(1));
+        Assert.assertFalse("An empty set should not contain 0", set.contains(0));
+
+        // adding a value once
+        Assert.assertTrue("The value should have been added", set.add(15));
+        Assert.assertTrue("The set should contain the value", set.contains(15));
+        Assert.assertTrue("The size should be 1", set.size() == 1);
+
+        // adding the same value again
+        Assert.assertFalse("The value should not have been added twice", set.add(15));
+        Assert.assertTrue("The size should still be 1", set.size() == 1);
+
+        // 0 is kept outside of the table
+        Assert.assertTrue("0 should have been added", set.add(0));
+        Assert.assertFalse("0 should not have been added twice", set.add(0));
+        Assert.assertTrue("The set should contain 0", set.contains(0));
+
+        // the extremes are ordinary elements
+        Assert.assertTrue("The largest value should have been added", set.add(Long.MAX_VALUE));
+        Assert.assertTrue("The smallest value should have been added", set.add(Long.MIN_VALUE));
+        Assert.assertTrue("The size should be 4", set.size() == 4);
+
+        set.clear();
+        Assert.assertTrue("The set should be empty after clearing", set.size() == 0);
+        Assert.assertFalse("The set should not contain 0 after clearing", set.contains(0));
+    }
+
+    /**
+     * Unit tests for growing the table
+     */
+    @Test
+    public void testGrowth() {
+        LongHashSet set = new LongHashSet();
+        for (int i = 0; i < 10000; i++) {
+            Assert.assertTrue("The value should have been added", set.add(i * 7));
+        }
+
+        Assert.assertTrue("The size should be 10000", set.size() == 10000);
+        for (int i = 0; i < 10000; i++) {
+            Assert.assertTrue("The set should contain every value added", set.contains(i * 7));
+            Assert.assertFalse("The set should not contain values that were not added", set.contains(i * 7 + 1));
+        }
+    }
+}
\ No newline at end of file
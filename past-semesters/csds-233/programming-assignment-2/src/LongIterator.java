@@ -0,0 +1,24 @@
+/* Generated by templates/GenerateLists.java from templates/TypeIterator.java.template, so edit the template and run the generator instead of editing this file */
+/**
+ * An iterator for a list that contains longs
+ * @author Joshua Shew
+ */
+public interface LongIterator {
+    /**
+     * Checks whether there is another value ahead of the iterator in the list
+     * @return true if there is a value, false otherwise
+     */
+    public abstract boolean hasNext();
+
+    /**
+     * Moves the iterator forward one value and returns that value
+     * @return the value at iterator's current index
+     */
+    public abstract long next();
+
+    /**
+     * Retrieves the value the iterator is current at without moving it forward
+     * @return the value at the iterator's current index
+     */
+    public abstract long peek();
+}
@@ -0,0 +1,427 @@
+/* Generated by templates/GenerateLists.java from templates/TypeLinkedList.java.template, so edit the template and run the generator instead of editing this file */
+import java.util.NoSuchElementException;
+
+/**
+ * For storing longs in a doubly linked list
+ * O(1) time complexity for access, insertion, or removal at either end
+ * O(N) time complexity for random access, insertion, and deletion
+ * @author Joshua Shew
+ */
+public class LongLinkedList implements LongList {
+    /* Stores a reference to the first node in the list */
+    private LLNode front = null;
+
+    /* Stores a reference to the last node in the list */
+    private LLNode back = null;
+
+    /* Keeps track of how many elements are in the list */
+    private int size = 0;
+
+    /* The maximum capacity of the list */
+    private final int capacity = Integer.MAX_VALUE;
+
+    /* The number of adjacent pairs where the second value is less than the first, so the list is sorted when there are none */
+    private int descents = 0;
+
+    /* The number of adjacent pairs where the second value is greater than the first, so the list is sorted in decreasing order when there are none */
+    private int ascents = 0;
+
+    /**
+     * Constructor for an empty linked list
+     */
+    public LongLinkedList() {
+        this.front = null;
+        this.back = null;
+        this.size = 0;
+    }
+
+    /**
+     * Getter method for the size of the list
+     * The size is the number of numbers currently in the list
+     * @return the size of the list
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Getter method for the capacity of the list
+     * The capacity is the number of numbers the list can hold without resizing
+     * @return the capacity of the list
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Adds a pair of adjacent values to the descent and ascent counts, or takes it away
+     * A pair of equal values is neither
+     * O(1)
+     * @param first the first value of the pair
+     * @param second the value after it
+     * @param change 1 when the values become adjacent, -1 when they stop being adjacent
+     */
+    private void countPair(long first, long second, int change) {
+        if (second < first) {
+            this.descents += change;
+        }
+        else if (first < second) {
+            this.ascents += change;
+        }
+    }
+
+    /**
+     * Adds the pair of two nodes to the descent and ascent counts, or takes it away, if both nodes exist
+     * O(1)
+     * @param first the first node, or null
+     * @param second the node after it, or null
+     * @param change 1 when the nodes become adjacent, -1 when they stop being adjacent
+     */
+    private void countPair(LLNode first, LLNode second, int change) {
+        if (first != null && second != null) {
+            countPair(first.value, second.value, change);
+        }
+    }
+
+    /**
+     * Links a new node holding the value between two nodes
+     * O(1)
+     * @param prev the node before the new node, or null at the front of the list
+     * @param value the value of the new node
+     * @param next the node after the new node, or null at the back of the list
+     */
+    private void linkBetween(LLNode prev, long value, LLNode next) {
+        LLNode node = new LLNode(value, prev, next);
+
+        /* The value splits the pair of its neighbors into a pair on each side of it */
+        countPair(prev, next, -1);
+        countPair(prev, node, 1);
+        countPair(node, next, 1);
+
+        if (prev == null) {
+            this.front = node;
+        }
+        else {
+            prev.next = node;
+        }
+
+        if (next == null) {
+            this.back = node;
+        }
+        else {
+            next.prev = node;
+        }
+
+        this.size++;
+    }
+
+    /**
+     * Removes the input node from the list
+     * O(1)
+     * @param node the node to remove from the list
+     */
+    private void unlink(LLNode node) {
+        /* The pairs on each side of the node are replaced by the pair of its neighbors */
+        countPair(node.prev, node, -1);
+        countPair(node, node.next, -1);
+        countPair(node.prev, node.next, 1);
+
+        if (node.prev == null) {
+            this.front = node.next;
+        }
+        else {
+            node.prev.next = node.next;
+        }
+
+        if (node.next == null) {
+            this.back = node.prev;
+        }
+        else {
+            node.next.prev = node.prev;
+        }
+
+        this.size--;
+    }
+
+    /**
+     * Finds the node at the specified index
+     * Walks from whichever end of the list is closer
+     * O(1) for front or back
+     * O(N) for random index
+     * @param index the index of the list
+     * @return the node at the index
+     * @throws IndexOutOfBoundsException when the index is negative or greater than or equal to the size of the list
+     */
+    private LLNode nodeLookup(int index) throws IndexOutOfBoundsException {
+        if (index >= this.size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        LLNode nodePtr = null;
+        /* advance from the back if the node is in the back half of the list */
+        if (index > this.size / 2) {
+            nodePtr = this.back;
+            for (int i = 0; i < this.size - index - 1; i++) {
+                nodePtr = nodePtr.prev;
+            }
+        }
+        /* advance from the front if the node is in the front half of the list */
+        else {
+            nodePtr = this.front;
+            for (int i = 0; i < index; i++) {
+                nodePtr = nodePtr.next;
+            }
+        }
+
+        return nodePtr;
+    }
+
+    /**
+     * Adds a number of the end of the list
+     * O(1)
+     * @param value the number to be added to the end of the list
+     */
+    public void add(long value) {
+        linkBetween(this.back, value, null);
+    }
+
+    /**
+     * Adds a number at a specified position of the list
+     * All numbers after (and the number at) the specified position are shifted down the list
+     * If the list has i or fewer numbers, then the value is added in the same fashion as the add method
+     * O(1) for front or back
+     * O(N) for random index
+     * @param i the index to insert the new value at
+     * @param value the value to add to the list
+     * @throws IndexOutOfBoundsException when the index is negative
+     */
+    public void insert(int i, long value) throws IndexOutOfBoundsException {
+        if (i >= this.size) {
+            add(value);
+        }
+        else if (i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        else {
+            LLNode next = nodeLookup(i);
+            linkBetween(next.prev, value, next);
+        }
+    }
+
+    /**
+     * Removes the number at the specified position of the list
+     * All numbers after the specified position are shifted up the list
+     * The size of the list is shortened by this method if there is a number at the specified position
+     * O(1) for front or back
+     * O(N) for random index
+     * @param i the index where the value should be removed
+     */
+    public void remove(int i) {
+        if (0 <= i && i < this.size) {
+            unlink(nodeLookup(i));
+        }
+    }
+
+    /**
+     * Checks whether the list contains the input value
+     * O(N)
+     * @param value the value is what the method is confirming is in the list
+     * @return true if the value is in the list, false otherwise
+     */
+    public boolean contains(long value) {
+        /* Linear search for the value */
+        for (LLNode nodePtr = this.front; nodePtr != null; nodePtr = nodePtr.next) {
+            if (nodePtr.value == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the i-th element of the list
+     * O(1) for front or back
+     * O(N) for random index
+     * @param i the index of the list to get the value from
+     * @return the value stored at the specified index
+     * @throws IndexOutOfBoundsException when the input index is greater than or equal to the size of the list
+     */
+    public long lookup(int i) throws IndexOutOfBoundsException {
+        return nodeLookup(i).value;
+    }
+
+    /**
+     * Removes duplicates in this list while preserving the current order of the numbers
+     * Duplicate nodes are unlinked in a single pass
+     * Expected O(N), using a hash set of the values kept so far
+     */
+    public void removeDuplicates() {
+        LongHashSet seen = new LongHashSet(this.size);
+
+        LLNode nodePtr = this.front;
+        while (nodePtr != null) {
+            LLNode nextSave = nodePtr.next;
+
+            if (!seen.add(nodePtr.value)) {
+                unlink(nodePtr);
+            }
+
+            nodePtr = nextSave;
+        }
+    }
+
+    /**
+     * Returns whether the list is currently sorted in increasing order or not
+     * O(1), since every change keeps the count of descents up to date
+     * @return true if the list is sorted, false otherwise
+     */
+    public boolean isSorted() {
+        return this.descents == 0;
+    }
+
+    /**
+     * Returns whether the list is currently sorted in decreasing order or not
+     * O(1), since every change keeps the count of ascents up to date
+     * @return true if the list is sorted in decreasing order, false otherwise
+     */
+    public boolean isSortedDescending() {
+        return this.ascents == 0;
+    }
+
+    /**
+     * Reverses the order of the elements in the list
+     * O(N)
+     */
+    public void reverse() {
+        LLNode frontSave = this.front;
+
+        this.front = this.back;
+        this.back = frontSave;
+
+        LLNode nodePtr = frontSave;
+        /* Goes through and swaps next and previous for every node */
+        while (nodePtr != null) {
+            LLNode nextSave = nodePtr.next;
+
+            nodePtr.next = nodePtr.prev;
+            nodePtr.prev = nextSave;
+
+            nodePtr = nextSave;
+        }
+
+        /* Every descent becomes an ascent and every ascent becomes a descent */
+        int descents = this.descents;
+        this.descents = this.ascents;
+        this.ascents = descents;
+    }
+
+    /**
+     * Provides a String representation of this list
+     * For an empty list, an empty String is returned
+     * Numbers are separated by a space and no other characters are included
+     * O(N)
+     * @return a String representation of the list
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        LongIterator i = this.iterator();
+
+        while (i.hasNext()) {
+            result.append(i.next()).append(" ");
+        }
+
+        // Remove the last space
+        if (result.length() > 0) {
+            result.setLength(result.length() - 1);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns an iterator for the list that begins at the front of the list
+     * O(1)
+     * @return a LongIterator for the list the method is called on
+     */
+    public LongIterator iterator() {
+        return new LongLinkedListIterator(this);
+    }
+
+    /**
+     * LLNode represents a single node in a list of nodes connected to each other
+     * @author Joshua Shew
+     */
+    private static class LLNode {
+        /* Stores the value in the node */
+        private long value;
+
+        /* Stores a reference to the next node in the list */
+        private LLNode next = null;
+
+        /* Stores a reference to the previous node in the list */
+        private LLNode prev = null;
+
+        /**
+         * Constructor for a node
+         * @param value the value to store in the node
+         * @param prev the node before this one
+         * @param next the node after this one
+         */
+        public LLNode(long value, LLNode prev, LLNode next) {
+            this.value = value;
+            this.prev = prev;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Iterator for LongLinkedList
+     * All methods are O(1)
+     * @author Joshua Shew
+     */
+    private static class LongLinkedListIterator implements LongIterator {
+        /* Stores a reference to the node the iterator is at */
+        private LLNode nodePtr = null;
+
+        /**
+         * Constructor for an iterator for LongLinkedList
+         * @param list the list to iterate over
+         */
+        public LongLinkedListIterator(LongLinkedList list) {
+            this.nodePtr = list.front;
+        }
+
+        /**
+         * Checks whether there is another value ahead of the iterator in the list
+         * @return true if there is a value, false otherwise
+         */
+        public boolean hasNext() {
+            return this.nodePtr != null;
+        }
+
+        /**
+         * Moves the iterator forward one value and returns that value
+         * @return the value at iterator's current index
+         */
+        public long next() {
+            long save = peek();
+            this.nodePtr = this.nodePtr.next;
+            return save;
+        }
+
+        /**
+         * Retrieves the value the iterator is current at without moving it forward
+         * @return the value at the iterator's current index
+         */
+        public long peek() {
+            if (hasNext()) {
+                return this.nodePtr.value;
+            }
+            else {
+                throw new NoSuchElementException();
+            }
+        }
+    }
+}
@@ -0,0 +1,499 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * For storing doubles in a list that many threads append to at once without locking
+ * The values are stored in fixed-size segments that are linked together, so the list never copies values to grow
+ * An appending thread claims a slot by atomically moving a shared tail index forward, writes its value, and marks the slot ready
+ * The size of the list is a high-water mark that only moves past a slot once it is ready, so readers never see a slot that is not written
+ * Values can only be added to the end of the list, every other change throws UnsupportedOperationException
+ * O(1) time complexity for adding to the end and for access
+ * @author Joshua Shew
+ */
+public class NumAppendOnlyList implements NumList {
+    /* Every segment holds 2^segmentShift values */
+    private static final int segmentShift = 10;
+    private static final int segmentLength = 1 << segmentShift;
+    private static final int segmentMask = segmentLength - 1;
+
+    /* The most values the list can hold */
+    private static final int maxSize = Integer.MAX_VALUE;
+
+    /* For reading and writing the ready flags of the slots with full memory ordering */
+    private static final VarHandle readyFlags = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    /* For linking a new segment after the last one with a compare-and-set */
+    private static final VarHandle segmentNext;
+
+    static {
+        try {
+            segmentNext = MethodHandles.lookup().findVarHandle(Segment.class, "next", Segment.class);
+        }
+        catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /* The first segment in the list */
+    private final Segment head = new Segment(0);
+
+    /* The index of the next slot to be claimed, which may be ahead of the size while values are being written */
+    private final AtomicLong tail = new AtomicLong(0);
+
+    /* The high-water mark: every slot before it holds a published value */
+    private final AtomicLong published = new AtomicLong(0);
+
+    /* Keeps track of whether the published values are sorted, which can only change from true to false */
+    private volatile boolean sorted = true;
+
+    /* The number of segments that have been linked into the list */
+    private final AtomicLong segmentCount = new AtomicLong(1);
+
+    /* A cache of the segments by index so access does not walk the links, entries may be missing */
+    private volatile Segment[] directory = null;
+
+    /**
+     * Creates a new empty NumAppendOnlyList
+     */
+    public NumAppendOnlyList() {
+        this.directory = new Segment[16];
+        this.directory[0] = this.head;
+    }
+
+    /**
+     * Getter method for the size of the list
+     * The size is the high-water mark, so values that are still being written by other threads are not counted
+     * O(1)
+     * @return the number of published values in the list
+     */
+    public int size() {
+        return (int) this.published.get();
+    }
+
+    /**
+     * Getter method for the capacity of the list
+     * The capacity is the number of slots in the segments that have been linked so far
+     * O(1)
+     * @return the capacity of the list
+     */
+    public int capacity() {
+        return (int) Math.min(maxSize, this.segmentCount.get() << segmentShift);
+    }
+
+    /**
+     * Adds a number to the end of the list
+     * Safe to call from many threads at once without locking
+     * O(1)
+     * @param value the number to be added to the end of the list
+     * @throws IllegalStateException when the list is full
+     */
+    public void add(double value) {
+        long slot = claim(1);
+
+        Segment segment = segment(slot >>> segmentShift);
+        int offset = (int) (slot & segmentMask);
+        segment.values[offset] = value;
+        readyFlags.setVolatile(segment.ready, offset, (byte) 1);
+
+        advance();
+    }
+
+    /**
+     * Adds all of the numbers in the array to the end of the list, in order
+     * The values get consecutive slots, so values added by other threads at the same time are not mixed in between them
+     * O(K) where K is the number of values added
+     * @param values the array holding the numbers to add
+     * @throws IllegalStateException when the list does not have room for all of the values
+     */
+    public void addAll(double[] values) {
+        if (values.length == 0) {
+            return;
+        }
+
+        long first = claim(values.length);
+
+        for (int i = 0; i < values.length; i++) {
+            long slot = first + i;
+            Segment segment = segment(slot >>> segmentShift);
+            int offset = (int) (slot & segmentMask);
+            segment.values[offset] = values[i];
+            readyFlags.setVolatile(segment.ready, offset, (byte) 1);
+        }
+
+        advance();
+    }
+
+    /**
+     * Claims the next slots by moving the tail index forward with a single atomic add
+     * O(1)
+     * @param count the number of slots to claim
+     * @return the index of the first slot claimed
+     * @throws IllegalStateException when the list does not have room for the slots
+     */
+    private long claim(int count) {
+        long first = this.tail.getAndAdd(count);
+
+        if (first + count > maxSize) {
+            throw new IllegalStateException("The list cannot hold more than " + maxSize + " values");
+        }
+
+        return first;
+    }
+
+    /**
+     * Moves the high-water mark forward over every slot that is ready
+     * Every appending thread calls this after marking its slots ready, so a slot that was written late is still published by its own writer
+     * The thread that moves the mark past a slot also checks whether the slot keeps the list sorted
+     * O(1) amortized
+     */
+    private void advance() {
+        while (true) {
+            long mark = this.published.get();
+            if (mark >= this.tail.get()) {
+                return;
+            }
+
+            Segment segment = segment(mark >>> segmentShift);
+            int offset = (int) (mark & segmentMask);
+            if ((byte) readyFlags.getVolatile(segment.ready, offset) == 0) {
+                return;
+            }
+
+            if (this.sorted && mark > 0 && segment.values[offset] < valueAt(mark - 1)) {
+                this.sorted = false;
+            }
+
+            this.published.compareAndSet(mark, mark + 1);
+        }
+    }
+
+    /**
+     * Finds the segment with the specified index, linking new segments onto the end of the list as needed
+     * O(1) when the segment is in the directory
+     * @param index the index of the segment
+     * @return the segment
+     */
+    private Segment segment(long index) {
+        Segment[] directory = this.directory;
+        if (index < directory.length && directory[(int) index] != null) {
+            return directory[(int) index];
+        }
+
+        /* Starts from the closest earlier segment in the directory and follows the links */
+        int start = (int) Math.min(index, directory.length - 1);
+        while (directory[start] == null) {
+            start--;
+        }
+
+        Segment segment = directory[start];
+        while (segment.index < index) {
+            Segment next = segment.next;
+
+            if (next == null) {
+                Segment created = new Segment(segment.index + 1);
+
+                if (segmentNext.compareAndSet(segment, (Segment) null, created)) {
+                    this.segmentCount.incrementAndGet();
+                    next = created;
+                }
+                else {
+                    next = segment.next;
+                }
+            }
+
+            segment = next;
+        }
+
+        cache(segment);
+        return segment;
+    }
+
+    /**
+     * Records a segment in the directory
+     * Entries written by two threads at once may be lost, which only means the segment is found by its link next time
+     * O(1) amortized
+     * @param segment the segment to record
+     */
+    private void cache(Segment segment) {
+        Segment[] directory = this.directory;
+        int index = (int) segment.index;
+
+        if (index >= directory.length) {
+            directory = Arrays.copyOf(directory, Math.max(index + 1, directory.length * 2));
+            directory[index] = segment;
+            this.directory = directory;
+        }
+        else {
+            directory[index] = segment;
+        }
+    }
+
+    /**
+     * Reads the value in a slot that is known to be written
+     * O(1)
+     * @param slot the index of the slot
+     * @return the value in the slot
+     */
+    private double valueAt(long slot) {
+        return segment(slot >>> segmentShift).values[(int) (slot & segmentMask)];
+    }
+
+    /**
+     * Returns the i-th element of the list
+     * O(1)
+     * @param i the index of the list to get the value from
+     * @return the value stored at the specified index
+     * @throws IndexOutOfBoundsException when the input index is greater than or equal to the size of the list
+     */
+    public double lookup(int i) throws IndexOutOfBoundsException {
+        if (i < 0 || i >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return valueAt(i);
+    }
+
+    /**
+     * Checks whether the list contains the input value
+     * O(N)
+     * @param value the value to look for
+     * @return true if the value is in the list, false otherwise
+     */
+    public boolean contains(double value) {
+        DoubleIterator i = iterator();
+
+        while (i.hasNext()) {
+            if (i.next() == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Copies the published numbers into a new array, in order
+     * O(N)
+     * @return an array with the numbers in the list
+     */
+    public double[] toArray() {
+        long size = this.published.get();
+        double[] result = new double[(int) size];
+
+        /* Copies a segment at a time */
+        for (long start = 0; start < size; start += segmentLength) {
+            int count = (int) Math.min(segmentLength, size - start);
+            System.arraycopy(segment(start >>> segmentShift).values, 0, result, (int) start, count);
+        }
+
+        return result;
+    }
+
+    /**
+     * Not supported, since values can only be added to the end of the list
+     * @param i unused
+     * @param value unused
+     * @throws UnsupportedOperationException always
+     */
+    public void insert(int i, double value) {
+        throw new UnsupportedOperationException("Values can only be added to the end of a NumAppendOnlyList");
+    }
+
+    /**
+     * Not supported, since values can only be added to the end of the list
+     * @param i unused
+     * @param values unused
+     * @throws UnsupportedOperationException always
+     */
+    public void insertAll(int i, double[] values) {
+        throw new UnsupportedOperationException("Values can only be added to the end of a NumAppendOnlyList");
+    }
+
+    /**
+     * Not supported, since values can only be added to the end of the list
+     * @param i unused
+     * @throws UnsupportedOperationException always
+     */
+    public void remove(int i) {
+        throw new UnsupportedOperationException("Values cannot be removed from a NumAppendOnlyList");
+    }
+
+    /**
+     * Not supported, since values can only be added to the end of the list
+     * @param start unused
+     * @param end unused
+     * @throws UnsupportedOperationException always
+     */
+    public void removeRange(int start, int end) {
+        throw new UnsupportedOperationException("Values cannot be removed from a NumAppendOnlyList");
+    }
+
+    /**
+     * Not supported, since values can only be added to the end of the list
+     * @throws UnsupportedOperationException always
+     */
+    public void removeDuplicates() {
+        throw new UnsupportedOperationException("Values cannot be removed from a NumAppendOnlyList");
+    }
+
+    /**
+     * Not supported, since values can only be added to the end of the list
+     * @throws UnsupportedOperationException always
+     */
+    public void reverse() {
+        throw new UnsupportedOperationException("A NumAppendOnlyList cannot be reordered");
+    }
+
+    /**
+     * Not supported, since values can only be added to the end of the list
+     * @throws UnsupportedOperationException always
+     */
+    public void sort() {
+        throw new UnsupportedOperationException("A NumAppendOnlyList cannot be reordered");
+    }
+
+    /**
+     * Not supported, since values can only be added to the end of the list
+     * @throws UnsupportedOperationException always
+     */
+    public void parallelSort() {
+        throw new UnsupportedOperationException("A NumAppendOnlyList cannot be reordered");
+    }
+
+    /**
+     * Returns whether the published values are sorted in increasing order or not
+     * O(1)
+     * @return true if the list is sorted, false otherwise
+     */
+    public boolean isSorted() {
+        return this.sorted;
+    }
+
+    /**
+     * Provides a String representation of this list
+     * For an empty list, an empty String is returned
+     * Numbers are separated by a space and no other characters are included
+     * O(N)
+     * @return a String representation of the list
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        DoubleIterator i = this.iterator();
+
+        while (i.hasNext()) {
+            result.append(i.next()).append(" ");
+        }
+
+        // Remove the last space
+        if (result.length() > 0) {
+            result.setLength(result.length() - 1);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns an iterator for the list that begins at the front of the list
+     * The iterator stops at the high-water mark from when it was created
+     * O(1)
+     * @return a DoubleIterator for the list the method is called on
+     */
+    public DoubleIterator iterator() {
+        return new NumAppendOnlyListIterator(this.head, size());
+    }
+
+    /**
+     * A fixed-size block of slots, linked to the segment after it
+     * @author Joshua Shew
+     */
+    private static class Segment {
+        /* The position of the segment in the list */
+        private final long index;
+
+        /* The values in the slots of the segment */
+        private final double[] values = new double[segmentLength];
+
+        /* Whether each slot has been written, set to 1 once the value is in place */
+        private final byte[] ready = new byte[segmentLength];
+
+        /* The next segment in the list, linked with a compare-and-set */
+        private volatile Segment next = null;
+
+        /**
+         * Constructor for an empty segment
+         * @param index the position of the segment in the list
+         */
+        private Segment(long index) {
+            this.index = index;
+        }
+    }
+
+    /**
+     * Iterator for NumAppendOnlyList
+     * Follows the links between segments, so it never uses the directory
+     * All methods are O(1)
+     * @author Joshua Shew
+     */
+    private static class NumAppendOnlyListIterator implements DoubleIterator {
+        /* The segment holding the next value */
+        private Segment segment = null;
+
+        /* The index of the next value */
+        private int index = 0;
+
+        /* The number of values the iterator goes through */
+        private final int size;
+
+        /**
+         * Constructor for an iterator that starts at the front of the list
+         * @param head the first segment of the list
+         * @param size the number of values to go through
+         */
+        public NumAppendOnlyListIterator(Segment head, int size) {
+            this.segment = head;
+            this.index = 0;
+            this.size = size;
+        }
+
+        /**
+         * Checks whether there is another value ahead of the iterator in the list
+         * @return true if there is a value, false otherwise
+         */
+        public boolean hasNext() {
+            return this.index < this.size;
+        }
+
+        /**
+         * Moves the iterator forward one value and returns that value
+         * @return the value at iterator's current index
+         * @throws NoSuchElementException when there are no more values
+         */
+        public double next() {
+            double value = peek();
+
+            this.index++;
+            if ((this.index & segmentMask) == 0 && this.index < this.size) {
+                this.segment = this.segment.next;
+            }
+
+            return value;
+        }
+
+        /**
+         * Retrieves the value the iterator is current at without moving it forward
+         * @return the value at the iterator's current index
+         * @throws NoSuchElementException when there are no more values
+         */
+        public double peek() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return this.segment.values[this.index & segmentMask];
+        }
+    }
+}
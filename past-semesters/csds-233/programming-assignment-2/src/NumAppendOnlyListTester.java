@@ -0,0 +1,150 @@
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NumAppendOnlyListTester {
+    /**
+     * Unit tests for the add, addAll, lookup, and iterator methods on one thread
+     */
+    @Test
+    public void testAdd() {
+        NumAppendOnlyList list = new NumAppendOnlyList();
+        Assert.assertEquals("An empty list should have an empty String", "", list.toString());
+        Assert.assertTrue("An empty list should be sorted", list.isSorted());
+
+        // enough values to fill several segments
+        for (int i = 0; i < 5000; i++) {
+            list.add(i);
+        }
+        list.addAll(new double[] {5000.0, 5001.0, 5002.0});
+        Assert.assertTrue("The size should have been 5003 but it was not", list.size() == 5003);
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+        Assert.assertTrue("The capacity should hold every value", list.capacity() >= 5003);
+
+        for (int i = 0; i < list.size(); i++) {
+            Assert.assertEquals("lookup did not return the right value", i, list.lookup(i), 0.0);
+        }
+        try {
+            list.lookup(5003);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+
+        double[] values = list.toArray();
+        DoubleIterator iterator = list.iterator();
+        for (int i = 0; i < values.length; i++) {
+            Assert.assertEquals("The iterator and toArray should have matched", values[i], iterator.next(), 0.0);
+        }
+        Assert.assertFalse("The iterator should have stopped at the end of the list", iterator.hasNext());
+
+        Assert.assertTrue("The list should contain 4096.0", list.contains(4096.0));
+        Assert.assertFalse("The list should not contain -1.0", list.contains(-1.0));
+
+        list.add(0.0);
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+    }
+
+    /**
+     * Unit tests for the methods that are not supported
+     */
+    @Test
+    public void testUnsupported() {
+        NumAppendOnlyList list = new NumAppendOnlyList();
+        list.add(1.0);
+
+        try {
+            list.insert(0, 0.0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (UnsupportedOperationException e) {
+            // the method succeeded
+        }
+        try {
+            list.remove(0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (UnsupportedOperationException e) {
+            // the method succeeded
+        }
+        try {
+            list.reverse();
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (UnsupportedOperationException e) {
+            // the method succeeded
+        }
+        try {
+            list.removeDuplicates();
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (UnsupportedOperationException e) {
+            // the method succeeded
+        }
+
+        Assert.assertEquals("The list should not have changed", "1.0", list.toString());
+    }
+
+    /**
+     * Unit tests for many threads adding at once while another thread reads
+     */
+    @Test
+    public void testConcurrentAdd() throws InterruptedException {
+        NumAppendOnlyList list = new NumAppendOnlyList();
+        int producers = 4;
+        int valuesPerProducer = 100000;
+        AtomicBoolean failed = new AtomicBoolean(false);
+        AtomicBoolean done = new AtomicBoolean(false);
+
+        // producer p adds the values p, p + producers, p + 2 * producers, ...
+        Thread[] producerThreads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            producerThreads[p] = new Thread(() -> {
+                for (int i = 0; i < valuesPerProducer; i += 2) {
+                    list.add(producer + i * producers);
+                    list.addAll(new double[] {producer + (i + 1) * producers});
+                }
+            });
+        }
+
+        // the size never goes down, and every published value is one a producer added
+        Thread reader = new Thread(() -> {
+            int lastSize = 0;
+            while (!done.get()) {
+                int size = list.size();
+                if (size < lastSize || (size > 0 && list.lookup(size - 1) < 0.0)) {
+                    failed.set(true);
+                }
+                lastSize = size;
+            }
+        });
+
+        reader.start();
+        for (Thread producer : producerThreads) {
+            producer.start();
+        }
+        for (Thread producer : producerThreads) {
+            producer.join();
+        }
+        done.set(true);
+        reader.join();
+
+        Assert.assertFalse("The reader saw the size go down", failed.get());
+        Assert.assertTrue("The size should have been " + producers * valuesPerProducer + " but it was not", list.size() == producers * valuesPerProducer);
+
+        // every value was added exactly once
+        boolean[] seen = new boolean[producers * valuesPerProducer];
+        DoubleIterator iterator = list.iterator();
+        while (iterator.hasNext()) {
+            int value = (int) iterator.next();
+            Assert.assertFalse("The value " + value + " was added more than once", seen[value]);
+            seen[value] = true;
+        }
+        for (int i = 0; i < seen.length; i++) {
+            Assert.assertTrue("The value " + i + " was never added", seen[i]);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,638 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * For storing doubles in a circular array, so values can be added and removed at either end without shifting the others
+ * The values start at head and wrap around the end of the array back to its front
+ * The capacity is always a power of two, so an index of the list becomes an index of the array with one mask
+ * O(1) time complexity for access
+ * O(1) time complexity for adding and removing at either end (amortized when the array has to grow)
+ * O(min(i, N - i)) time complexity for inserting and deleting at index i, since whichever side is shorter is shifted
+ * @author Joshua Shew
+ */
+public class NumArrayDeque implements NumList {
+    /* internalArray is for storing the values in the list, starting at head and wrapping around */
+    private double[] internalArray = null;
+
+    /* The index of the array holding the first value of the list */
+    private int head = 0;
+
+    /* size keeps track of how many elements are stored in the list */
+    private int size = 0;
+
+    /* The number of adjacent pairs where the second value is less than the first, so the list is sorted when there are none */
+    private int descents = 0;
+
+    /* The number of adjacent pairs where the second value is greater than the first, so the list is sorted in decreasing order when there are none */
+    private int ascents = 0;
+
+    /* The number of adjacent pairs with NaN in them, so a list of two or more values holds NaN when there are any */
+    private int nanPairs = 0;
+
+    /* The largest capacity that is a power of two */
+    private static final int maxCapacity = 1 << 30;
+
+    /**
+     * Creates a new NumArrayDeque with a capacity of 1
+     */
+    public NumArrayDeque() {
+        this(1);
+    }
+
+    /**
+     * Creates a new NumArrayDeque that can hold at least the specified number of values before it grows
+     * The capacity is rounded up to a power of two
+     * @param capacity the number of values the list should be able to hold
+     */
+    public NumArrayDeque(int capacity) {
+        int length = 1;
+        while (length < capacity && length < maxCapacity) {
+            length *= 2;
+        }
+
+        this.internalArray = new double[length];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Getter method for the size of the list
+     * The size is the number of numbers currently in the list
+     * @return the size of the list
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Getter method for the capacity of the array
+     * The capacity is the number of numbers the array can hold without resizing
+     * @return the capacity of the array
+     */
+    public int capacity() {
+        return this.internalArray.length;
+    }
+
+    /**
+     * Finds where a value of the list is in the internal array
+     * O(1)
+     * @param i the index of the value in the list, from -1 up to the capacity
+     * @return the index of the value in the internal array
+     */
+    private int physicalIndex(int i) {
+        return (this.head + i) & (this.internalArray.length - 1);
+    }
+
+    /**
+     * Doubles the capacity of the array
+     * O(N)
+     * @throws IllegalStateException when the array cannot grow any more
+     */
+    private void increaseCapacity() throws IllegalStateException {
+        ensureCapacity(this.internalArray.length + 1L);
+    }
+
+    /**
+     * Grows the array to the smallest power of two that can hold the specified number of values
+     * The new capacity is found first, and the values are copied once, in two pieces, so they start at the front of the new array
+     * O(N) if the array grows, O(1) otherwise
+     * @param minCapacity the number of values the array should be able to hold
+     * @throws IllegalStateException when the array cannot grow that much
+     */
+    private void ensureCapacity(long minCapacity) throws IllegalStateException {
+        if (minCapacity <= this.internalArray.length) {
+            return;
+        }
+        else if (minCapacity > maxCapacity) {
+            throw new IllegalStateException("The list cannot hold more than " + maxCapacity + " values");
+        }
+
+        int length = this.internalArray.length;
+        while (length < minCapacity) {
+            length *= 2;
+        }
+
+        double[] array = new double[length];
+        int firstPart = Math.min(this.size, this.internalArray.length - this.head); // the values before the wrap
+
+        System.arraycopy(this.internalArray, this.head, array, 0, firstPart);
+        System.arraycopy(this.internalArray, 0, array, firstPart, this.size - firstPart);
+
+        this.internalArray = array;
+        this.head = 0;
+    }
+
+    /**
+     * Adds a pair of adjacent values to the descent, ascent, and NaN pair counts, or takes it away
+     * A pair of equal values, or a pair with NaN, is neither a descent nor an ascent
+     * O(1)
+     * @param first the first value of the pair
+     * @param second the value after it
+     * @param change 1 when the values become adjacent, -1 when they stop being adjacent
+     */
+    private void countPair(double first, double second, int change) {
+        if (second < first) {
+            this.descents += change;
+        }
+        else if (first < second) {
+            this.ascents += change;
+        }
+        else if (first != first || second != second) {
+            this.nanPairs += change;
+        }
+    }
+
+    /**
+     * Adds every adjacent pair in part of the list to the descent, ascent, and NaN pair counts, or takes them away
+     * O(K) where K is the length of the part
+     * @param start the index of the first value (inclusive)
+     * @param end the index after the last value (exclusive)
+     * @param change 1 when the values become adjacent, -1 when they stop being adjacent
+     */
+    private void countPairs(int start, int end, int change) {
+        for (int i = start + 1; i < end; i++) {
+            countPair(this.internalArray[physicalIndex(i - 1)], this.internalArray[physicalIndex(i)], change);
+        }
+    }
+
+    /**
+     * Adds a number to the end of the list
+     * O(1) if capacity is greater than size
+     * O(N) if capacity needs to be expanded
+     * @param value the number to be added to the end of the list
+     */
+    public void add(double value) {
+        if (this.size == this.internalArray.length) {
+            increaseCapacity();
+        }
+
+        /* The new value makes one new pair with the last value */
+        if (this.size > 0) {
+            countPair(this.internalArray[physicalIndex(this.size - 1)], value, 1);
+        }
+
+        this.internalArray[physicalIndex(this.size)] = value;
+        this.size++;
+    }
+
+    /**
+     * Adds a number to the front of the list by moving head back one place
+     * O(1) if capacity is greater than size
+     * O(N) if capacity needs to be expanded
+     * @param value the number to be added to the front of the list
+     */
+    public void addFirst(double value) {
+        if (this.size == this.internalArray.length) {
+            increaseCapacity();
+        }
+
+        /* The new value makes one new pair with the first value */
+        if (this.size > 0) {
+            countPair(value, this.internalArray[this.head], 1);
+        }
+
+        this.head = physicalIndex(-1);
+        this.internalArray[this.head] = value;
+        this.size++;
+    }
+
+    /**
+     * Removes the number at the front of the list by moving head forward one place
+     * O(1)
+     * @return the number that was removed
+     * @throws NoSuchElementException when the list is empty
+     */
+    public double removeFirst() throws NoSuchElementException {
+        if (this.size == 0) {
+            throw new NoSuchElementException("There is no first value in an empty list");
+        }
+
+        double value = this.internalArray[this.head];
+        if (this.size > 1) {
+            countPair(value, this.internalArray[physicalIndex(1)], -1);
+        }
+
+        this.head = physicalIndex(1);
+        this.size--;
+
+        return value;
+    }
+
+    /**
+     * Removes the number at the end of the list
+     * O(1)
+     * @return the number that was removed
+     * @throws NoSuchElementException when the list is empty
+     */
+    public double removeLast() throws NoSuchElementException {
+        if (this.size == 0) {
+            throw new NoSuchElementException("There is no last value in an empty list");
+        }
+
+        double value = this.internalArray[physicalIndex(this.size - 1)];
+        if (this.size > 1) {
+            countPair(this.internalArray[physicalIndex(this.size - 2)], value, -1);
+        }
+
+        this.size--;
+
+        return value;
+    }
+
+    /**
+     * Adds a number at a specified position of the list
+     * The values on whichever side of the position is shorter are shifted one place to make room
+     * If the list has i or fewer numbers, then the value is added in the same fashion as the add method
+     * O(min(i, N - i))
+     * @param i the index to insert the new value at
+     * @param value the value to add to the list
+     * @throws IndexOutOfBoundsException when the index is negative
+     */
+    public void insert(int i, double value) throws IndexOutOfBoundsException {
+        if (i >= this.size) {
+            add(value);
+        }
+        else if (i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        else if (i == 0) {
+            addFirst(value);
+        }
+        else {
+            if (this.size == this.internalArray.length) {
+                increaseCapacity();
+            }
+
+            /* The value splits the pair of its neighbors into a pair on each side of it */
+            double before = lookup(i - 1);
+            double after = lookup(i);
+            countPair(before, after, -1);
+            countPair(before, value, 1);
+            countPair(value, after, 1);
+
+            double[] array = this.internalArray;
+
+            /* Shifts the values before the position back one place, moving head with them */
+            if (i < this.size / 2) {
+                this.head = physicalIndex(-1);
+                for (int j = 0; j < i; j++) {
+                    array[physicalIndex(j)] = array[physicalIndex(j + 1)];
+                }
+            }
+            /* Shifts the values after the position forward one place */
+            else {
+                for (int j = this.size; j > i; j--) {
+                    array[physicalIndex(j)] = array[physicalIndex(j - 1)];
+                }
+            }
+
+            array[physicalIndex(i)] = value;
+            this.size++;
+        }
+    }
+
+    /**
+     * Removes the number at the specified position of the list
+     * The values on whichever side of the position is shorter are shifted one place to cover it up
+     * The size of the list is shortened by this method if there is a number at the specified position
+     * O(min(i, N - i))
+     * @param i the index where the value should be removed
+     * @throws IndexOutOfBoundsException when the index is negative
+     */
+    public void remove(int i) throws IndexOutOfBoundsException {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        else if (i < this.size) {
+            removeRange(i, i + 1);
+        }
+    }
+
+    /**
+     * Removes the numbers from index start (inclusive) to index end (exclusive)
+     * The values on whichever side of the range is shorter are shifted once to close it
+     * Removing from the front only moves head, and removing from the back only changes the size
+     * Indexes at or past the size of the list are ignored, in the same fashion as the remove method
+     * O(min(start, N - end)) plus O(K) where K is the number of values removed
+     * @param start the index of the first number to remove
+     * @param end the index after the last number to remove
+     * @throws IndexOutOfBoundsException when start is negative or greater than end
+     */
+    public void removeRange(int start, int end) throws IndexOutOfBoundsException {
+        if (start < 0 || start > end) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        end = Math.min(end, this.size);
+        if (start < end) {
+            int count = end - start;
+
+            /* The pairs touching the range are replaced by the pair of the values on each side of it */
+            countPairs(Math.max(0, start - 1), Math.min(this.size, end + 1), -1);
+            if (start > 0 && end < this.size) {
+                countPair(lookup(start - 1), lookup(end), 1);
+            }
+
+            double[] array = this.internalArray;
+
+            /* Shifts the values before the range forward over it, moving head with them */
+            if (start < this.size - end) {
+                for (int j = start - 1; j >= 0; j--) {
+                    array[physicalIndex(j + count)] = array[physicalIndex(j)];
+                }
+                this.head = physicalIndex(count);
+            }
+            /* Shifts the values after the range back over it */
+            else {
+                for (int j = end; j < this.size; j++) {
+                    array[physicalIndex(j - count)] = array[physicalIndex(j)];
+                }
+            }
+
+            this.size -= count;
+        }
+    }
+
+    /**
+     * Adds all of the numbers in the array to the end of the list, in order
+     * The capacity is expanded at most once, and the values are copied in at most two pieces
+     * O(K) where K is the number of values added, plus O(N) if capacity needs to be expanded
+     * @param values the numbers to add to the end of the list
+     */
+    public void addAll(double[] values) {
+        ensureCapacity((long) this.size + values.length);
+
+        if (values.length == 0) {
+            return;
+        }
+
+        /* Counts the pairs of the new values, and the pair they make with the last value */
+        if (this.size > 0) {
+            countPair(this.internalArray[physicalIndex(this.size - 1)], values[0], 1);
+        }
+        for (int j = 1; j < values.length; j++) {
+            countPair(values[j - 1], values[j], 1);
+        }
+
+        int tail = physicalIndex(this.size);
+        int firstPart = Math.min(values.length, this.internalArray.length - tail); // the values before the wrap
+
+        System.arraycopy(values, 0, this.internalArray, tail, firstPart);
+        System.arraycopy(values, firstPart, this.internalArray, 0, values.length - firstPart);
+        this.size += values.length;
+    }
+
+    /**
+     * Copies the numbers in the list into a new array, in order
+     * The values are copied in at most two pieces
+     * O(N)
+     * @return an array with the numbers in the list
+     */
+    public double[] toArray() {
+        double[] result = new double[this.size];
+        int firstPart = Math.min(this.size, this.internalArray.length - this.head); // the values before the wrap
+
+        System.arraycopy(this.internalArray, this.head, result, 0, firstPart);
+        System.arraycopy(this.internalArray, 0, result, firstPart, this.size - firstPart);
+
+        return result;
+    }
+
+    /**
+     * Checks whether the list contains the input value
+     * O(N)
+     * @param value the value is what the method is confirming is in the list
+     * @return true if the value is in the list, false otherwise
+     */
+    public boolean contains(double value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns the i-th element of the list
+     * O(1)
+     * @param i the index of the list to get the value from
+     * @return the value stored at the specified index
+     * @throws IndexOutOfBoundsException when the input index is greater than or equal to the size of the list
+     */
+    public double lookup(int i) throws IndexOutOfBoundsException {
+        if (i >= this.size || i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return this.internalArray[physicalIndex(i)];
+    }
+
+    /**
+     * Removes duplicates in this list while preserving the current order of the numbers
+     * Values are duplicates when they are equal with ==, and every NaN is a duplicate of the first NaN
+     * The kept values are moved toward the front of the list in a single pass
+     * Expected O(N), using a hash set of the values kept so far
+     */
+    public void removeDuplicates() {
+        DoubleHashSet seen = new DoubleHashSet(this.size);
+        double[] array = this.internalArray;
+        int kept = 0; // the number of values kept so far
+
+        /* The pairs are counted again as the kept values are moved together */
+        this.descents = 0;
+        this.ascents = 0;
+        this.nanPairs = 0;
+
+        for (int i = 0; i < this.size; i++) {
+            double value = array[physicalIndex(i)];
+
+            if (seen.add(value)) {
+                if (kept > 0) {
+                    countPair(array[physicalIndex(kept - 1)], value, 1);
+                }
+                array[physicalIndex(kept)] = value;
+                kept++;
+            }
+        }
+
+        this.size = kept;
+    }
+
+    /**
+     * Returns whether the list is currently sorted in increasing order or not
+     * O(1), since every change keeps the count of descents up to date
+     * @return true if the list is sorted, false otherwise
+     */
+    public boolean isSorted() {
+        return this.descents == 0;
+    }
+
+    /**
+     * Returns whether the list is currently sorted in decreasing order or not
+     * O(1), since every change keeps the count of ascents up to date
+     * @return true if the list is sorted in decreasing order, false otherwise
+     */
+    public boolean isSortedDescending() {
+        return this.ascents == 0;
+    }
+
+    /**
+     * Checks whether the list holds NaN anywhere
+     * O(1), since every change keeps the count of pairs with NaN up to date
+     * @return true if any of the numbers is NaN, false otherwise
+     */
+    public boolean hasNaN() {
+        return this.nanPairs > 0 || (size() == 1 && lookup(0) != lookup(0));
+    }
+
+    /**
+     * Reverses the order of the elements in the list
+     * O(N)
+     */
+    public void reverse() {
+        double[] array = this.internalArray;
+
+        /* Iterates through half of the list & swaps values with the other half */
+        for (int i = 0; i < this.size / 2; i++) {
+            int front = physicalIndex(i);
+            int back = physicalIndex(this.size - i - 1);
+
+            double save = array[front];
+            array[front] = array[back];
+            array[back] = save;
+        }
+
+        /* Every descent becomes an ascent and every ascent becomes a descent */
+        int descents = this.descents;
+        this.descents = this.ascents;
+        this.ascents = descents;
+    }
+
+    /**
+     * Sorts the list in place, after moving the values to the front of the array so they do not wrap
+     * Uses the order of Double.compare, so -0.0 comes before 0.0 and NaN comes last
+     * O(N log N)
+     */
+    public void sort() {
+        unwrap();
+        Arrays.sort(this.internalArray, 0, this.size);
+        countSorted();
+    }
+
+    /**
+     * Sorts the list in place, splitting large lists between the threads of the common ForkJoinPool
+     * Uses the same order as sort
+     * O(N log N)
+     */
+    public void parallelSort() {
+        unwrap();
+        Arrays.parallelSort(this.internalArray, 0, this.size);
+        countSorted();
+    }
+
+    /**
+     * Moves the values so the first one is at the front of the array
+     * O(N)
+     */
+    private void unwrap() {
+        if (this.head != 0) {
+            double[] values = toArray();
+            System.arraycopy(values, 0, this.internalArray, 0, this.size);
+            this.head = 0;
+        }
+    }
+
+    /**
+     * Sets the pair counts after the list is sorted
+     * A sorted list has no descents, and its ascents are wherever the value changes
+     * O(N)
+     */
+    private void countSorted() {
+        this.descents = 0;
+        this.ascents = 0;
+        this.nanPairs = 0;
+        countPairs(0, this.size, 1);
+    }
+
+    /**
+     * Provides a String representation of this list
+     * For an empty list, an empty String is returned
+     * Numbers are separated by a space and no other characters are included
+     * O(N)
+     * @return a String representation of the list
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        DoubleIterator i = this.iterator();
+
+        while (i.hasNext()) {
+            result.append(i.next()).append(" ");
+        }
+
+        // Remove the last space
+        if (result.length() > 0) {
+            result.setLength(result.length() - 1);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns an iterator for the list that begins at the front of the list
+     * O(1)
+     * @return a DoubleIterator for the list the method is called on
+     */
+    public DoubleIterator iterator() {
+        return new NumArrayDequeIterator(this);
+    }
+
+    /**
+     * Iterator for NumArrayDeque
+     * All methods are O(1)
+     * @author Joshua Shew
+     */
+    private static class NumArrayDequeIterator implements DoubleIterator {
+        /* Stores a reference to the list */
+        private final NumArrayDeque list;
+
+        /* Stores the index of the list the iterator is at */
+        private int index = 0;
+
+        /**
+         * Constructor for an iterator for NumArrayDeque
+         * @param list the list to iterate over
+         */
+        public NumArrayDequeIterator(NumArrayDeque list) {
+            this.list = list;
+            this.index = 0;
+        }
+
+        /**
+         * Checks whether there is another value ahead of the iterator in the list
+         * @return true if there is a value, false otherwise
+         */
+        public boolean hasNext() {
+            return this.index < this.list.size;
+        }
+
+        /**
+         * Moves the iterator forward one value and returns that value
+         * @return the value at iterator's current index
+         */
+        public double next() {
+            double save = peek();
+            this.index++;
+            return save;
+        }
+
+        /**
+         * Retrieves the value the iterator is current at without moving it forward
+         * @return the value at the iterator's current index
+         */
+        public double peek() {
+            if (hasNext()) {
+                return this.list.internalArray[this.list.physicalIndex(this.index)];
+            }
+            else {
+                throw new NoSuchElementException();
+            }
+        }
+    }
+}
@@ -0,0 +1,256 @@
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NumArrayDequeTester {
+    /**
+     * Creates a NumArrayDeque with the specified double values
+     * Uses the empty constructor and the add method
+     */
+    private static NumArrayDeque createDeque(double... values) {
+        NumArrayDeque list = new NumArrayDeque();
+        for (double value : values)
+            list.add(value);
+
+        return list;
+    }
+
+    /**
+     * Unit tests for the NumArrayDeque constructors
+     */
+    @Test
+    public void testNumArrayDeque() {
+        NumList list1 = new NumArrayDeque();
+        Assert.assertTrue("list1 size should have been 0 but it was not", list1.size() == 0);
+        Assert.assertEquals("list1 was not empty when it should have been", "", list1.toString());
+        Assert.assertTrue("list1 should be sorted", list1.isSorted());
+
+        // the capacity is rounded up to a power of two
+        NumList list2 = new NumArrayDeque(5);
+        Assert.assertTrue("The capacity should have been 8", list2.capacity() == 8);
+        list2 = new NumArrayDeque(0);
+        Assert.assertTrue("The capacity should have been 1", list2.capacity() == 1);
+    }
+
+    /**
+     * Unit tests for addFirst, removeFirst, and removeLast, including values that wrap around the end of the array
+     */
+    @Test
+    public void testEnds() {
+        NumArrayDeque list = new NumArrayDeque(4);
+        list.add(2.0);
+        list.add(3.0);
+        list.addFirst(1.0);
+        list.addFirst(0.0);
+        Assert.assertEquals("The values were not added correctly", "0.0 1.0 2.0 3.0", list.toString());
+        Assert.assertTrue("The list should not have grown", list.capacity() == 4);
+        Assert.assertEquals("lookup did not read around the wrap", 0.0, list.lookup(0), 0.0);
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+
+        // growing while wrapped keeps the order
+        list.addFirst(-1.0);
+        Assert.assertEquals("The values were not kept in order when the list grew", "-1.0 0.0 1.0 2.0 3.0", list.toString());
+        Assert.assertTrue("The capacity should have doubled", list.capacity() == 8);
+
+        Assert.assertEquals("removeFirst returned the wrong value", -1.0, list.removeFirst(), 0.0);
+        Assert.assertEquals("removeLast returned the wrong value", 3.0, list.removeLast(), 0.0);
+        Assert.assertEquals("The values were not removed correctly", "0.0 1.0 2.0", list.toString());
+
+        list.addFirst(5.0);
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+        list.removeFirst();
+        Assert.assertTrue("The list should be sorted again", list.isSorted());
+
+        list.removeLast();
+        list.removeLast();
+        list.removeLast();
+        Assert.assertTrue("The list should be empty", list.size() == 0);
+
+        try {
+            list.removeFirst();
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (NoSuchElementException e) {
+            // the method succeeded
+        }
+        try {
+            list.removeLast();
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (NoSuchElementException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for using the list as a sliding window, which should never grow past its window
+     */
+    @Test
+    public void testSlidingWindow() {
+        NumArrayDeque list = new NumArrayDeque(16);
+        for (int i = 0; i < 10000; i++) {
+            if (list.size() == 16) {
+                Assert.assertEquals("The oldest value should have been removed", i - 16, list.removeFirst(), 0.0);
+            }
+            list.add(i);
+        }
+
+        Assert.assertTrue("The capacity should not have grown", list.capacity() == 16);
+        for (int i = 0; i < 16; i++) {
+            Assert.assertEquals("The window did not hold the right value", 10000 - 16 + i, list.lookup(i), 0.0);
+        }
+        Assert.assertTrue("The window should be sorted", list.isSorted());
+    }
+
+    /**
+     * Unit tests for the insert, remove, and removeRange methods
+     */
+    @Test
+    public void testInsertAndRemove() {
+        NumArrayDeque list = createDeque(0.0, 1.0, 2.0, 3.0, 4.0, 5.0);
+
+        list.insert(1, 0.5);
+        list.insert(6, 4.5);
+        Assert.assertEquals("The values were not inserted correctly", "0.0 0.5 1.0 2.0 3.0 4.0 4.5 5.0", list.toString());
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+
+        list.remove(1);
+        list.remove(5);
+        Assert.assertEquals("The values were not removed correctly", "0.0 1.0 2.0 3.0 4.0 5.0", list.toString());
+
+        list.remove(10);
+        Assert.assertEquals("Removing past the size should do nothing", "0.0 1.0 2.0 3.0 4.0 5.0", list.toString());
+
+        list.removeRange(1, 3);
+        Assert.assertEquals("The range was not removed correctly", "0.0 3.0 4.0 5.0", list.toString());
+        list.removeRange(2, 10);
+        Assert.assertEquals("The range was not removed correctly", "0.0 3.0", list.toString());
+
+        list.insert(1, 9.0);
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+
+        try {
+            list.insert(-1, 0.0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+        try {
+            list.lookup(list.size());
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for the addAll, toArray, removeDuplicates, reverse, and sort methods on a wrapped list
+     */
+    @Test
+    public void testBulkMethods() {
+        NumArrayDeque list = new NumArrayDeque(8);
+        list.addAll(new double[] {3.0, 4.0, 5.0});
+        list.addFirst(2.0);
+        list.addFirst(1.0);
+        list.addAll(new double[] {6.0, 7.0, 8.0});
+        Assert.assertEquals("The values were not added correctly", "1.0 2.0 3.0 4.0 5.0 6.0 7.0 8.0", list.toString());
+        Assert.assertArrayEquals("toArray did not copy around the wrap", new double[] {1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0}, list.toArray(), 0.0);
+        Assert.assertTrue("The list should not have grown", list.capacity() == 8);
+
+        list.reverse();
+        Assert.assertEquals("The list was not reversed correctly", "8.0 7.0 6.0 5.0 4.0 3.0 2.0 1.0", list.toString());
+        Assert.assertTrue("The list should be sorted in decreasing order", list.isSortedDescending());
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+
+        list.addAll(new double[] {8.0, 1.0});
+        list.removeDuplicates();
+        Assert.assertEquals("The duplicates were not removed correctly", "8.0 7.0 6.0 5.0 4.0 3.0 2.0 1.0", list.toString());
+
+        list.addFirst(4.5);
+        list.sort();
+        Assert.assertEquals("The list was not sorted correctly", "1.0 2.0 3.0 4.0 4.5 5.0 6.0 7.0 8.0", list.toString());
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+        Assert.assertTrue("The list should contain the value", list.contains(4.5));
+
+        // a large addAll on a wrapped list grows straight to the smallest power of two that fits
+        list = new NumArrayDeque(4);
+        list.add(2.0);
+        list.addFirst(1.0);
+        double[] values = new double[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i + 3.0;
+        }
+        list.addAll(values);
+        Assert.assertTrue("The capacity should have been 128", list.capacity() == 128);
+        Assert.assertTrue("The size should have been 102", list.size() == 102);
+        for (int i = 0; i < list.size(); i++) {
+            Assert.assertEquals("The values were not kept in order", i + 1.0, list.lookup(i), 0.0);
+        }
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+    }
+
+    /**
+     * Unit tests that compare random edits at both ends and in the middle against a NumArrayList
+     */
+    @Test
+    public void testRandomEdits() {
+        Random random = new Random(23);
+        NumArrayDeque list = new NumArrayDeque(4);
+        NumArrayList expected = new NumArrayList();
+
+        for (int step = 0; step < 20000; step++) {
+            int choice = random.nextInt(8);
+            int index = random.nextInt(expected.size() + 1);
+            double value = random.nextInt(10);
+
+            if (choice == 0) {
+                list.addFirst(value);
+                expected.insert(0, value);
+            }
+            else if (choice == 1 && expected.size() > 0) {
+                Assert.assertEquals("removeFirst returned the wrong value", expected.lookup(0), list.removeFirst(), 0.0);
+                expected.remove(0);
+            }
+            else if (choice == 2 && expected.size() > 0) {
+                Assert.assertEquals("removeLast returned the wrong value", expected.lookup(expected.size() - 1), list.removeLast(), 0.0);
+                expected.remove(expected.size() - 1);
+            }
+            else if (choice == 3) {
+                list.insert(index, value);
+                expected.insert(index, value);
+            }
+            else if (choice == 4) {
+                list.remove(index);
+                expected.remove(index);
+            }
+            else if (choice == 5) {
+                int end = index + random.nextInt(4);
+                list.removeRange(index, end);
+                expected.removeRange(index, end);
+            }
+            else {
+                list.add(value);
+                expected.add(value);
+            }
+
+            Assert.assertTrue("The sizes should match", list.size() == expected.size());
+            Assert.assertTrue("The sorted flags should match", list.isSorted() == expected.isSorted());
+            Assert.assertTrue("The descending flags should match", list.isSortedDescending() == expected.isSortedDescending());
+
+            // keeps the list short enough to be sorted and unsorted often
+            if (expected.size() > 20) {
+                list.removeRange(0, 10);
+                expected.removeRange(0, 10);
+            }
+        }
+
+        Assert.assertTrue("The lists should be equal", list.equals(expected));
+        list.reverse();
+        expected.reverse();
+        Assert.assertTrue("The reversed lists should be equal", list.equals(expected));
+    }
+}
\ No newline at end of file
@@ -1,4 +1,18 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * For storing doubles in a list
@@ -13,8 +27,29 @@ public class NumArrayList implements NumList {
     /* size keeps track of how many elements are stored in the list */
     private int size = 0;
 
-    /* Keeps track of whether the list is sorted or not */
-    private boolean sorted = true;
+    /* The number of adjacent pairs where the second value is less than the first, so the list is sorted when there are none */
+    private int descents = 0;
+
+    /* The number of adjacent pairs where the second value is greater than the first, so the list is sorted in decreasing order when there are none */
+    private int ascents = 0;
+
+    /* The number of adjacent pairs with NaN in them, so a list of two or more values holds NaN when there are any */
+    private int nanPairs = 0;
+
+    /* Counts the changes made to the list, so views of the list can tell when it changed under them */
+    private int modCount = 0;
+
+    /* The number of merged values each worker handles in parallelUnion */
+    private static final int parallelSliceSize = 1 << 16;
+
+    /* The size of the buffer readText reads through */
+    private static final int textBufferBytes = 1 << 16;
+
+    /* A cursor's gap in the internal array, from gapStart (inclusive) to gapEnd (exclusive)
+     * While the gap is open, the values after it belong at gapStart and on, so the values are [0, gapStart) then [gapEnd, gapEnd + size - gapStart)
+     * The gap is empty when gapStart equals gapEnd, and it is closed before anything but a cursor reads the internal array */
+    private int gapStart = 0;
+    private int gapEnd = 0;
 
     /**
      * Creates a new NumArrayList with a capacity of 0
@@ -33,11 +68,62 @@ public class NumArrayList implements NumList {
         this.size = 0;
     }
     
+    /**
+     * Creates a NumArrayList that uses the given array as its internal array without copying it
+     * Used by ConcurrentNumArrayList to look at a published array, or to edit a private copy of one
+     * O(1)
+     * @param internalArray the array to use
+     * @param size the number of values at the front of the array that are in the list
+     * @param descents the number of adjacent pairs of those values where the second is less than the first
+     * @param ascents the number of adjacent pairs of those values where the second is greater than the first
+     * @param nanPairs the number of adjacent pairs of those values with NaN in them
+     * @return a NumArrayList sharing the array
+     */
+    static NumArrayList wrap(double[] internalArray, int size, int descents, int ascents, int nanPairs) {
+        NumArrayList list = new NumArrayList();
+        list.setInternalArray(internalArray);
+        list.size = size;
+        list.descents = descents;
+        list.ascents = ascents;
+        list.nanPairs = nanPairs;
+        return list;
+    }
+
+    /**
+     * Getter method for the number of descents
+     * Package-private so ConcurrentNumArrayList can publish the counts of an edited copy
+     * @return the number of adjacent pairs where the second value is less than the first
+     */
+    int descents() {
+        return this.descents;
+    }
+
+    /**
+     * Getter method for the number of ascents
+     * Package-private so ConcurrentNumArrayList can publish the counts of an edited copy
+     * @return the number of adjacent pairs where the second value is greater than the first
+     */
+    int ascents() {
+        return this.ascents;
+    }
+
+    /**
+     * Getter method for the number of pairs with NaN
+     * Package-private so ConcurrentNumArrayList can publish the counts of an edited copy
+     * @return the number of adjacent pairs with NaN in them
+     */
+    int nanPairs() {
+        return this.nanPairs;
+    }
+
     /**
      * Getter method for the internalArray
+     * Closes a cursor's gap first, so the values are always at the front of the array
+     * Package-private so ConcurrentNumArrayList can publish the array of an edited copy
      * @return the internalArray
      */
-    private double[] getInternalArray() {
+    double[] getInternalArray() {
+        closeGap();
         return this.internalArray;
     }
 
@@ -47,6 +133,77 @@ public class NumArrayList implements NumList {
      */
     private void setInternalArray(double[] internalArray) {
         this.internalArray = internalArray;
+        this.gapEnd = this.gapStart;
+    }
+
+    /**
+     * Moves the values after a cursor's gap back up against the values before it
+     * O(N - gapStart) if the gap is open, O(1) otherwise
+     */
+    private void closeGap() {
+        if (this.gapStart != this.gapEnd) {
+            System.arraycopy(this.internalArray, this.gapEnd, this.internalArray, this.gapStart, this.size - this.gapStart);
+            this.gapEnd = this.gapStart;
+        }
+    }
+
+    /**
+     * Moves a cursor's gap so it starts at an index of the list
+     * An empty gap is moved for free, an open gap carries the values between its old and new positions across it
+     * O(D) where D is the distance the gap moves
+     * @param i the index the gap should start at
+     */
+    private void moveGap(int i) {
+        if (this.gapStart == this.gapEnd) {
+            this.gapStart = i;
+            this.gapEnd = i;
+        }
+        else if (i < this.gapStart) {
+            int count = this.gapStart - i;
+            System.arraycopy(this.internalArray, i, this.internalArray, this.gapEnd - count, count);
+            this.gapStart -= count;
+            this.gapEnd -= count;
+        }
+        else if (i > this.gapStart) {
+            int count = i - this.gapStart;
+            System.arraycopy(this.internalArray, this.gapEnd, this.internalArray, this.gapStart, count);
+            this.gapStart += count;
+            this.gapEnd += count;
+        }
+    }
+
+    /**
+     * Moves a cursor's gap to an index of the list and makes sure it has room for at least one value
+     * An empty gap is opened by moving the values after it to the back of the array, doubling the capacity if the array is full
+     * O(D) where D is the distance the gap moves, or O(N) when the gap has to be opened
+     * @param i the index the gap should start at
+     */
+    private void reserveGap(int i) {
+        moveGap(i);
+
+        if (this.gapStart == this.gapEnd) {
+            int after = this.size - i; // the number of values after the gap
+            double[] array = this.internalArray;
+
+            if (this.size == array.length) {
+                array = new double[Math.max(1, array.length * 2)];
+                System.arraycopy(this.internalArray, 0, array, 0, i);
+            }
+            System.arraycopy(this.internalArray, i, array, array.length - after, after);
+
+            this.internalArray = array;
+            this.gapEnd = array.length - after;
+        }
+    }
+
+    /**
+     * Finds where a value of the list is in the internal array while a cursor's gap may be open
+     * O(1)
+     * @param i the index of the value in the list
+     * @return the index of the value in the internal array
+     */
+    private int physicalIndex(int i) {
+        return i < this.gapStart ? i : i + this.gapEnd - this.gapStart;
     }
 
     /**
@@ -63,6 +220,7 @@ public class NumArrayList implements NumList {
      */
     public void incrementSize() {
         this.size++;
+        this.modCount++;
     }
 
     /**
@@ -70,6 +228,7 @@ public class NumArrayList implements NumList {
      */
     public void decrementSize() {
         this.size--;
+        this.modCount++;
     }
 
     /**
@@ -81,8 +240,95 @@ public class NumArrayList implements NumList {
         return getInternalArray().length;
     }
 
-    private void setSorted(boolean sorted) {
-        this.sorted = sorted;
+    /**
+     * Adds a pair of adjacent values to the descent, ascent, and NaN pair counts, or takes it away
+     * A pair of equal values, or a pair with NaN, is neither a descent nor an ascent
+     * O(1)
+     * @param first the first value of the pair
+     * @param second the value after it
+     * @param change 1 when the values become adjacent, -1 when they stop being adjacent
+     */
+    private void countPair(double first, double second, int change) {
+        if (second < first) {
+            this.descents += change;
+        }
+        else if (first < second) {
+            this.ascents += change;
+        }
+        else if (first != first || second != second) {
+            this.nanPairs += change;
+        }
+    }
+
+    /**
+     * Adds every adjacent pair in part of an array to the descent, ascent, and NaN pair counts, or takes them away
+     * O(K) where K is the length of the part
+     * @param values the array holding the values
+     * @param start the index of the first value (inclusive)
+     * @param end the index after the last value (exclusive)
+     * @param change 1 when the values become part of the list, -1 when they stop being part of it
+     */
+    private void countPairs(double[] values, int start, int end, int change) {
+        this.descents += change * countDescents(values, start, end);
+        this.ascents += change * countAscents(values, start, end);
+        this.nanPairs += change * countNaNPairs(values, start, end);
+    }
+
+    /**
+     * Counts the adjacent pairs in part of an array where the second value is less than the first
+     * O(K) where K is the length of the part
+     * @param values the array to check
+     * @param start the index of the first value (inclusive)
+     * @param end the index after the last value (exclusive)
+     * @return the number of descents
+     */
+    static int countDescents(double[] values, int start, int end) {
+        int count = 0;
+        for (int i = start + 1; i < end; i++) {
+            if (values[i] < values[i - 1]) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Counts the adjacent pairs in part of an array where the second value is greater than the first
+     * O(K) where K is the length of the part
+     * @param values the array to check
+     * @param start the index of the first value (inclusive)
+     * @param end the index after the last value (exclusive)
+     * @return the number of ascents
+     */
+    static int countAscents(double[] values, int start, int end) {
+        int count = 0;
+        for (int i = start + 1; i < end; i++) {
+            if (values[i - 1] < values[i]) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Counts the adjacent pairs in part of an array with NaN in them
+     * O(K) where K is the length of the part
+     * @param values the array to check
+     * @param start the index of the first value (inclusive)
+     * @param end the index after the last value (exclusive)
+     * @return the number of pairs with NaN
+     */
+    static int countNaNPairs(double[] values, int start, int end) {
+        int count = 0;
+        for (int i = start + 1; i < end; i++) {
+            if (values[i - 1] != values[i - 1] || values[i] != values[i]) {
+                count++;
+            }
+        }
+
+        return count;
     }
 
     /**
@@ -109,10 +355,11 @@ public class NumArrayList implements NumList {
         set(size(), value);
         
         this.size++;
+        this.modCount++;
 
-        /* Updates the sorted field if the list becomes unsorted with the addition of the new value */
-        if (size() > 1 && (isSorted() && value < lookup(size() - 2))) {
-            setSorted(false);
+        /* The new value makes one new pair with the value before it */
+        if (size() > 1) {
+            countPair(lookup(size() - 2), value, 1);
         }
     }
 
@@ -145,25 +392,12 @@ public class NumArrayList implements NumList {
             set(i, value);
             incrementSize();
 
-            /* Check to see if the list remains sorted after insertion */
-            if (isSorted()) {
-                if (i == 0) {
-                    if (value > lookup(1)) {
-                        setSorted(false);
-                    }
-                }
-                else if (i == size() - 1) {
-                    if (value < lookup(size() - 2)) {
-                        setSorted(false);
-                    }
-                }
-                /* Insertion into the middle of the list must check both sides of the value */
-                else {
-                    if (lookup(i - 1) > value || value > lookup(i + 1)) {
-                        setSorted(false);
-                    }
-                }
+            /* The value splits the pair of its neighbors into a pair on each side of it */
+            if (i > 0) {
+                countPair(lookup(i - 1), lookup(i + 1), -1);
+                countPair(lookup(i - 1), value, 1);
             }
+            countPair(value, lookup(i + 1), 1);
         }
     }
 
@@ -176,6 +410,19 @@ public class NumArrayList implements NumList {
      */
     public void remove(int i) {
         if (i < size()) {
+            double removed = lookup(i);
+
+            /* The pairs on each side of the value are replaced by the pair of its neighbors */
+            if (i > 0) {
+                countPair(lookup(i - 1), removed, -1);
+            }
+            if (i < size() - 1) {
+                countPair(removed, lookup(i + 1), -1);
+                if (i > 0) {
+                    countPair(lookup(i - 1), lookup(i + 1), 1);
+                }
+            }
+
             /* Shifts elements over until the element to be removed is covered up */
             for (int j = i; j < size() - 1; j++) {
                 set(j, lookup(j + 1));
@@ -183,269 +430,1450 @@ public class NumArrayList implements NumList {
 
             decrementSize();
         }
-
-        setSorted(checkIfSorted());
     }
 
     /**
-     * Removes all elements of a certain value within the specified range of the list
-     * The size of the lists is shortened by this method if there are elements to remove
-     * O(N)
-     * @param start the index to start searching at (inclusive)
-     * @param end the index to stop searching at (excluded)
-     * @param value the value to remove
+     * Adds all of the numbers in the array to the end of the list, in order
+     * The capacity is expanded at most once
+     * O(K) where K is the number of values added, plus O(N) if capacity needs to be expanded
+     * @param values the numbers to add to the end of the list
      */
-    private void removeAll(int start, int end, double value) {
-        int shift = 0; // the number of values to shift by, also the number of values being removed
-
-        int i = start;
-        /* Go through the whole list and shift to remove values*/
-        while (i + shift < size()) {
-            /* While statement only helps to avoid errors with consecutive removals */
-            while ((i + shift < end && i + shift < size()) && lookup(i + shift) == value) {
-                shift++;
-            }
-            
-            /* Shift over according to how many are being deleted */
-            if (i + shift < size()) {
-                set(i, lookup(i + shift));
-            }
+    public void addAll(double[] values) {
+        addAll(values, values.length);
+    }
 
-            i++;
+    /**
+     * Adds all of the numbers in the other list to the end of this list, in order
+     * The other list may be this list
+     * Values are copied straight from the array of another NumArrayList
+     * O(K) where K is the number of values added, plus O(N) if capacity needs to be expanded
+     * @param otherList the list whose numbers are added to the end of this list
+     */
+    public void addAll(NumList otherList) {
+        if (otherList instanceof NumArrayList) {
+            NumArrayList other = (NumArrayList)otherList;
+            addAll(other.getInternalArray(), other.size());
         }
-
-        /* Decrease the size for however many elements were removed */
-        for (int j = 0; j < shift; j++) {
-            decrementSize();
+        else {
+            addAll(otherList.toArray());
         }
     }
 
     /**
-     * Checks whether the array contains the input value
-     * O(N)
-     * @param value the value is what the method is confirming is in the array
-     * @return true if the value is in the array, false otherwise
+     * Adds the first count numbers of the array to the end of the list, in order
+     * O(K) where K is the number of values added, plus O(N) if capacity needs to be expanded
+     * @param values the array holding the numbers to add
+     * @param count the number of values to add from the front of the array
      */
-    public boolean contains(double value) {
-        /* Linear search for the element */
-        for (double element : getInternalArray()) {
-            if (element == value) {
-                return true;
-            }
+    private void addAll(double[] values, int count) {
+        ensureCapacity(size() + count);
+
+        /* Counts the pairs of the new values, and the pair they make with the last value */
+        if (size() > 0 && count > 0) {
+            countPair(lookup(size() - 1), values[0], 1);
         }
+        countPairs(values, 0, count, 1);
 
-        return false;
+        System.arraycopy(values, 0, getInternalArray(), size(), count);
+        this.size += count;
+        this.modCount++;
     }
 
     /**
-     * Returns the i-th element of the array
-     * O(1)
-     * @param i the index of the array to get the value from
-     * @return the value stored at the specified index
-     * @throws IndexOutOfBoundsException when the input index is greater than or equal to the size of the array
+     * Adds all of the numbers in the array at a specified position of the list, in order
+     * All numbers after (and the number at) the specified position are shifted down the list once
+     * If the list has i or fewer numbers, then the values are added in the same fashion as the addAll method
+     * O(N + K) where K is the number of values added
+     * @param i the index to insert the first new value at
+     * @param values the values to add to the list
+     * @throws IndexOutOfBoundsException when the index is negative
      */
-    public double lookup(int i) throws IndexOutOfBoundsException {
-        if (i >= size() || i < 0) {
+    public void insertAll(int i, double[] values) {
+        if (i < 0) {
             throw new IndexOutOfBoundsException();
         }
-        
-        return getInternalArray()[i];
-    }
-
-    /**
-     * Removes duplicates in this array while preserving the current order of the numbers
-     * O(N^2)
-     */
-    public void removeDuplicates() {
-        /* Index goes from start to finish */
-        for (int i = 0; i < size(); i++) {
-            /* Remove all duplicates of the value at i from the remainder of the list */
-            removeAll(i + 1, size(), lookup(i));
+        else if (i >= size()) {
+            addAll(values);
         }
+        else if (values.length > 0) {
+            ensureCapacity(size() + values.length);
 
-        setSorted(checkIfSorted());
-    }
-
-    /**
-     * Checks whether the list is sorted linearly
-     * O(N)
-     * @return true if the list is sorted, false otherwise
-     */
-    private boolean checkIfSorted() {
-        /* Linear search for any elements in descending order */
-        for (int i = 0; i < size() - 1; i++) {
-            if (lookup(i) > lookup(i + 1)) {
-                return false;
+            /* The new values split the pair at the insertion point, adding their own pairs and one on each end */
+            if (i > 0) {
+                countPair(lookup(i - 1), lookup(i), -1);
+                countPair(lookup(i - 1), values[0], 1);
             }
+            countPair(values[values.length - 1], lookup(i), 1);
+            countPairs(values, 0, values.length, 1);
+
+            /* Shifts the elements after the insertion point over once to make room for all of the new values */
+            System.arraycopy(getInternalArray(), i, getInternalArray(), i + values.length, size() - i);
+            System.arraycopy(values, 0, getInternalArray(), i, values.length);
+            this.size += values.length;
+            this.modCount++;
         }
-
-        return true;
-    }
-
-    /**
-     * Returns whether the list is currently sorted in increasing order or not
-     * O(1)
-     * @return true if the list is sorted, false otherwise
-     */
-    public boolean isSorted() {
-        return this.sorted;
     }
 
     /**
-     * Reverses the order of the elements in the list
+     * Removes the numbers from index start (inclusive) to index end (exclusive)
+     * All numbers after the range are shifted up the array once
+     * Indexes at or past the size of the array are ignored, in the same fashion as the remove method
      * O(N)
+     * @param start the index of the first number to remove
+     * @param end the index after the last number to remove
+     * @throws IndexOutOfBoundsException when start is negative or greater than end
      */
-    public void reverse() {
-        /* Iterates through half of the list & swaps values with the other half */
-        for (int i = 0; i < (int)(size() / 2); i++) {
-            double save = lookup(i);
-            set(i, lookup(size - i - 1));
-            set(size() - i - 1, save);
+    public void removeRange(int start, int end) {
+        if (start < 0 || start > end) {
+            throw new IndexOutOfBoundsException();
         }
 
-        setSorted(checkIfSorted());
+        end = Math.min(end, size());
+        if (start < end) {
+            /* The pairs touching the range are replaced by the pair of the values on each side of it */
+            countPairs(getInternalArray(), Math.max(0, start - 1), Math.min(size(), end + 1), -1);
+            if (start > 0 && end < size()) {
+                countPair(lookup(start - 1), lookup(end), 1);
+            }
+
+            System.arraycopy(getInternalArray(), end, getInternalArray(), start, size() - end);
+            this.size -= end - start;
+            this.modCount++;
+        }
     }
 
     /**
-     * Provides a String representation of this array
-     * For an empty array, an empty String is returned
-     * Numbers are separated by a space and no other characters are included
+     * Copies the numbers in the array into a new array, in order
      * O(N)
-     * @return a String representation of the array
+     * @return an array with the numbers in the list
      */
-    public String toString() {
-        StringBuilder result = new StringBuilder();
-
-        DoubleIterator i = this.iterator();
-
-        while (i.hasNext()) {
-            result.append(i.next()).append(" ");
-        }
-
-        // Remove the last space
-        if (result.length() > 0) {
-            result.setLength(result.length() - 1);
-        }
-
-        return result.toString();
+    public double[] toArray() {
+        return Arrays.copyOf(getInternalArray(), size());
     }
 
     /**
-     * Returns an iterator for the list that begins at the front of the list
+     * Returns a read-only view of the numbers from index from (inclusive) to index to (exclusive)
+     * The view reads the internal array directly, and any change to the list after the view is made is detected
      * O(1)
-     * @return a DoubleIterator for the list the method is called on
+     * @param from the index of the first number in the view
+     * @param to the index after the last number in the view
+     * @return a Slice of the range
+     * @throws IndexOutOfBoundsException when from is negative, to is greater than the size, or from is greater than to
      */
-    public DoubleIterator iterator() {
-        return new NumArrayListIterator(this);
+    public Slice subList(int from, int to) throws IndexOutOfBoundsException {
+        NumListView.checkRange(from, to, size());
+        return new Slice(this, from, to);
     }
 
     /**
-     * Iterator for NumArrayList
-     * All methods are O(1)
+     * A read-only view of a range of a NumArrayList
+     * Values are read straight from the list's internal array, and buffer gives bulk code the whole range at once
      * @author Joshua Shew
      */
-    private static class NumArrayListIterator implements DoubleIterator {
-        /* Stores a reference to the list the iterator is iterating over */
-        private NumArrayList list = null;
-        
-        /* Stores the current index of the iterator */
-        private int index = 0;
-        
+    public static final class Slice extends NumListView {
+        /* The list the slice looks at */
+        private final NumArrayList list;
+
+        /* The index in the list of the first value in the slice */
+        private final int from;
+
+        /* The modCount of the list when the slice was made */
+        private final int expectedModCount;
+
         /**
-         * Constructor for an iterator for NumArrayList
-         * @param list
+         * Constructor for a slice
+         * @param list the list
+         * @param from the index of the first value in the slice (inclusive)
+         * @param to the index after the last value in the slice (exclusive)
          */
-        public NumArrayListIterator(NumArrayList list) {
+        private Slice(NumArrayList list, int from, int to) {
+            super(to - from);
+
             this.list = list;
-            this.index = 0;
-        }
-        
-        /**
-         * Getter for the list
-         * @return a reference to the list
-         */
-        private NumArrayList getList() {
-            return this.list;
+            this.from = from;
+            this.expectedModCount = list.modCount;
         }
 
-        /**
-         * Getter for the index
-         * @return the current index
-         */
-        private int getIndex() {
-            return this.index;
+        void checkForComodification() throws ConcurrentModificationException {
+            if (this.list.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
         }
 
-        /**
-         * Increments the index
-         */
-        private void incrementIndex() {
-            this.index++;
+        double get(int i) {
+            return this.list.getInternalArray()[this.from + i];
         }
 
         /**
-         * Checks whether there is another value ahead of the iterator in the list
-         * @return true if there is a value, false otherwise
+         * Returns whether the slice is sorted in increasing order or not
+         * O(1) if the list is sorted, otherwise O(N) the first time and O(1) after that
+         * @return true if the slice is sorted, false otherwise
          */
-        public boolean hasNext() {
-            return getIndex() < getList().size();
+        public boolean isSorted() {
+            checkForComodification();
+            return this.list.isSorted() || super.isSorted();
         }
 
         /**
-         * Moves the iterator forward one value and returns that value
-         * @return the value at iterator's current index
+         * Returns whether the slice is sorted in decreasing order or not
+         * O(1) if the list is sorted in decreasing order, otherwise O(N)
+         * @return true if the slice is sorted in decreasing order, false otherwise
          */
-        public double next() {
-            if (hasNext()) {
-                double save = getList().lookup(getIndex());
-                incrementIndex();
-                return save;
-            }
-            else {
-                throw new NoSuchElementException();
-            }
+        public boolean isSortedDescending() {
+            checkForComodification();
+            return this.list.isSortedDescending() || super.isSortedDescending();
         }
 
         /**
-         * Retrieves the value the iterator is current at without moving it forward
-         * @return the value at the iterator's current index
+         * Gives direct read-only access to the range of the internal array, for code that works on many values at once
+         * Position 0 of the buffer is the first value of the slice, and its limit is the size of the slice
+         * The buffer is not checked for changes to the list, so it should not be used after the list changes
+         * O(1)
+         * @return a read-only DoubleBuffer over the range
+         * @throws ConcurrentModificationException when the list has changed since the slice was made
          */
-        public double peek() {
-            if (hasNext()) {
-                return getList().lookup(getIndex());
-            }
-            else {
-                throw new NoSuchElementException();
-            }
+        public DoubleBuffer buffer() {
+            checkForComodification();
+            return DoubleBuffer.wrap(this.list.getInternalArray(), this.from, size()).slice().asReadOnlyBuffer();
         }
     }
 
     /**
-     * Copies the contents of one array onto another array and returns the new array
-     * O(N)
-     * @param emptyArray the array the values are copied onto. This is the array that is returned by the method
-     * @param originalArray the array the values are copied from
-     * @return the array the values were copied onto
+     * Checks whether the array contains the input value
+     * O(log N) if the list is sorted and holds no NaN
+     * O(N) otherwise
+     * @param value the value is what the method is confirming is in the array
+     * @return true if the value is in the array, false otherwise
      */
-    private static double[] copyArray(double[] emptyArray, double[] originalArray) {
-        for (int i = 0; i < originalArray.length; i++)
-            emptyArray[i] = originalArray[i];
-        
-        return emptyArray;
+    public boolean contains(double value) {
+        return indexOf(value) != -1;
     }
 
     /**
-     * Increases the capacity of the NumArrayList
-     * Doubles the capacity
-     * O(N)
+     * Finds the first position of the input value in the array
+     * O(log N) if the list is sorted and holds no NaN
+     * O(N) otherwise
+     * @param value the value to search for
+     * @return the index of the first occurrence of the value, or -1 if the value is not in the array
      */
-    private void increaseCapacity() {
-        /* Creates an array with double capacity or 1 if the current capacity is 0 */
+    public int indexOf(double value) {
+        if (isSorted() && !hasNaN()) {
+            int index = lowerBound(value);
+            return index < size() && getInternalArray()[index] == value ? index : -1;
+        }
+
+        /* Linear search for the element, stopping at the size */
+        double[] array = getInternalArray();
+        for (int i = 0; i < size(); i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Counts the numbers in the array that are less than the input value
+     * For a sorted list this is the index the value would be inserted at to keep the list sorted
+     * O(log N) if the list is sorted and holds no NaN
+     * O(N) otherwise
+     * @param value the value to compare against
+     * @return the number of elements less than the value
+     */
+    public int rank(double value) {
+        if (isSorted() && !hasNaN()) {
+            return lowerBound(value);
+        }
+
+        double[] array = getInternalArray();
+        int count = 0;
+        for (int i = 0; i < size(); i++) {
+            if (array[i] < value) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Finds the greatest number in the array that is less than or equal to the input value
+     * O(log N) if the list is sorted and holds no NaN
+     * O(N) otherwise
+     * @param value the value to compare against
+     * @return the greatest element less than or equal to the value
+     * @throws NoSuchElementException when every element is greater than the value
+     */
+    public double floor(double value) throws NoSuchElementException {
+        if (isSorted() && !hasNaN()) {
+            int index = upperBound(value) - 1;
+
+            if (index < 0) {
+                throw new NoSuchElementException();
+            }
+
+            return getInternalArray()[index];
+        }
+
+        return NumList.super.floor(value);
+    }
+
+    /**
+     * Finds the least number in the array that is greater than or equal to the input value
+     * O(log N) if the list is sorted and holds no NaN
+     * O(N) otherwise
+     * @param value the value to compare against
+     * @return the least element greater than or equal to the value
+     * @throws NoSuchElementException when every element is less than the value
+     */
+    public double ceiling(double value) throws NoSuchElementException {
+        if (isSorted() && !hasNaN()) {
+            int index = lowerBound(value);
+
+            if (index == size()) {
+                throw new NoSuchElementException();
+            }
+
+            return getInternalArray()[index];
+        }
+
+        return NumList.super.ceiling(value);
+    }
+
+    /**
+     * Counts the numbers in the array between lo and hi (both inclusive)
+     * O(log N) if the list is sorted and holds no NaN
+     * O(N) otherwise
+     * @param lo the lower end of the range
+     * @param hi the upper end of the range
+     * @return the number of elements in the range, 0 if lo is greater than hi
+     */
+    public int countInRange(double lo, double hi) {
+        if (isSorted() && !hasNaN()) {
+            return Math.max(0, upperBound(hi) - lowerBound(lo));
+        }
+
+        double[] array = getInternalArray();
+        int count = 0;
+        for (int i = 0; i < size(); i++) {
+            if (lo <= array[i] && array[i] <= hi) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Binary search for the first index whose value is not less than the input value
+     * Only meaningful when the list is sorted and holds no NaN
+     * O(log N)
+     * @param value the value to search for
+     * @return the first index whose value is greater than or equal to the value, or the size if there is none
+     */
+    private int lowerBound(double value) {
+        double[] array = getInternalArray();
+        int low = 0;
+        int high = size();
+
+        /* Invariant: everything before low is less than the value, everything at or after high is not */
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (array[middle] < value) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Binary search for the first index whose value is greater than the input value
+     * Only meaningful when the list is sorted
+     * O(log N)
+     * @param value the value to search for
+     * @return the first index whose value is greater than the value, or the size if there is none
+     */
+    private int upperBound(double value) {
+        double[] array = getInternalArray();
+        int low = 0;
+        int high = size();
+
+        /* Invariant: everything before low is less than or equal to the value, everything at or after high is greater */
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (array[middle] <= value) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Adds up all of the numbers in the list
+     * Reads the internal array directly with four separate running sums, so the JIT can keep them in registers and overlap the additions
+     * The result may differ from adding the numbers in order in the last bits
+     * O(N)
+     * @return the sum of the list
+     */
+    public double sum() {
+        double[] array = getInternalArray();
+        int size = size();
+        double sum0 = 0.0;
+        double sum1 = 0.0;
+        double sum2 = 0.0;
+        double sum3 = 0.0;
+
+        int i = 0;
+        for (; i <= size - 4; i += 4) {
+            sum0 += array[i];
+            sum1 += array[i + 1];
+            sum2 += array[i + 2];
+            sum3 += array[i + 3];
+        }
+        for (; i < size; i++) {
+            sum0 += array[i];
+        }
+
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    /**
+     * Finds the smallest number in the list
+     * If the list holds NaN, the result is NaN
+     * O(N)
+     * @return the smallest number in the list
+     * @throws NoSuchElementException when the list is empty
+     */
+    public double min() throws NoSuchElementException {
+        if (size() == 0) {
+            throw new NoSuchElementException("The minimum of an empty list is undefined");
+        }
+
+        double[] array = getInternalArray();
+        int size = size();
+        double min0 = array[0];
+        double min1 = array[0];
+        double min2 = array[0];
+        double min3 = array[0];
+
+        int i = 1;
+        for (; i <= size - 4; i += 4) {
+            min0 = Math.min(min0, array[i]);
+            min1 = Math.min(min1, array[i + 1]);
+            min2 = Math.min(min2, array[i + 2]);
+            min3 = Math.min(min3, array[i + 3]);
+        }
+        for (; i < size; i++) {
+            min0 = Math.min(min0, array[i]);
+        }
+
+        return Math.min(Math.min(min0, min1), Math.min(min2, min3));
+    }
+
+    /**
+     * Finds the largest number in the list
+     * If the list holds NaN, the result is NaN
+     * O(N)
+     * @return the largest number in the list
+     * @throws NoSuchElementException when the list is empty
+     */
+    public double max() throws NoSuchElementException {
+        if (size() == 0) {
+            throw new NoSuchElementException("The maximum of an empty list is undefined");
+        }
+
+        double[] array = getInternalArray();
+        int size = size();
+        double max0 = array[0];
+        double max1 = array[0];
+        double max2 = array[0];
+        double max3 = array[0];
+
+        int i = 1;
+        for (; i <= size - 4; i += 4) {
+            max0 = Math.max(max0, array[i]);
+            max1 = Math.max(max1, array[i + 1]);
+            max2 = Math.max(max2, array[i + 2]);
+            max3 = Math.max(max3, array[i + 3]);
+        }
+        for (; i < size; i++) {
+            max0 = Math.max(max0, array[i]);
+        }
+
+        return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+    }
+
+    /**
+     * Finds the population variance of the numbers in the list
+     * Computes the mean first and then the squared distances from it, with four separate running sums
+     * O(N)
+     * @return the variance of the list
+     * @throws NoSuchElementException when the list is empty
+     */
+    public double variance() throws NoSuchElementException {
+        double mean = mean();
+        double[] array = getInternalArray();
+        int size = size();
+        double sum0 = 0.0;
+        double sum1 = 0.0;
+        double sum2 = 0.0;
+        double sum3 = 0.0;
+
+        int i = 0;
+        for (; i <= size - 4; i += 4) {
+            double distance0 = array[i] - mean;
+            double distance1 = array[i + 1] - mean;
+            double distance2 = array[i + 2] - mean;
+            double distance3 = array[i + 3] - mean;
+            sum0 += distance0 * distance0;
+            sum1 += distance1 * distance1;
+            sum2 += distance2 * distance2;
+            sum3 += distance3 * distance3;
+        }
+        for (; i < size; i++) {
+            double distance = array[i] - mean;
+            sum0 += distance * distance;
+        }
+
+        return ((sum0 + sum1) + (sum2 + sum3)) / size;
+    }
+
+    /**
+     * Finds the dot product of this list and another list of the same size
+     * When the other list is also a NumArrayList both internal arrays are read directly with four separate running sums
+     * O(N)
+     * @param otherList the other list
+     * @return the sum of the products of the numbers at each index
+     * @throws IllegalArgumentException when the lists have different sizes
+     */
+    public double dot(NumList otherList) throws IllegalArgumentException {
+        if (!(otherList instanceof NumArrayList)) {
+            return NumList.super.dot(otherList);
+        }
+        if (size() != otherList.size()) {
+            throw new IllegalArgumentException("The lists have different sizes: " + size() + " and " + otherList.size());
+        }
+
+        double[] array1 = getInternalArray();
+        double[] array2 = ((NumArrayList) otherList).getInternalArray();
+        int size = size();
+        double sum0 = 0.0;
+        double sum1 = 0.0;
+        double sum2 = 0.0;
+        double sum3 = 0.0;
+
+        int i = 0;
+        for (; i <= size - 4; i += 4) {
+            sum0 += array1[i] * array2[i];
+            sum1 += array1[i + 1] * array2[i + 1];
+            sum2 += array1[i + 2] * array2[i + 2];
+            sum3 += array1[i + 3] * array2[i + 3];
+        }
+        for (; i < size; i++) {
+            sum0 += array1[i] * array2[i];
+        }
+
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    /**
+     * Returns the i-th element of the array
+     * O(1)
+     * @param i the index of the array to get the value from
+     * @return the value stored at the specified index
+     * @throws IndexOutOfBoundsException when the input index is greater than or equal to the size of the array
+     */
+    public double lookup(int i) throws IndexOutOfBoundsException {
+        if (i >= size() || i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        
+        return getInternalArray()[i];
+    }
+
+    /**
+     * Removes duplicates in this array while preserving the current order of the numbers
+     * Values are duplicates when they are equal with ==, and every NaN is a duplicate of the first NaN
+     * The kept values are moved to the front of the array in a single pass
+     * O(N) (expected O(N) for a list that is unsorted or holds NaN, which uses a hash set)
+     */
+    public void removeDuplicates() {
+        double[] array = getInternalArray();
+        int kept = 0; // the number of values kept so far
+        boolean ordered = isSorted() && !hasNaN();
+
+        /* The pairs are counted again as the kept values are moved together */
+        this.descents = 0;
+        this.ascents = 0;
+        this.nanPairs = 0;
+
+        /* The duplicates of a sorted list with no NaN are next to each other, so each value is only compared to the last one kept */
+        if (ordered) {
+            for (int i = 0; i < size(); i++) {
+                double value = array[i];
+
+                if (kept == 0 || array[kept - 1] != value) {
+                    if (kept > 0) {
+                        countPair(array[kept - 1], value, 1);
+                    }
+                    array[kept] = value;
+                    kept++;
+                }
+            }
+        }
+        /* Any other list remembers every value kept so far in a hash set */
+        else {
+            DoubleHashSet seen = new DoubleHashSet(size());
+
+            for (int i = 0; i < size(); i++) {
+                if (seen.add(array[i])) {
+                    if (kept > 0) {
+                        countPair(array[kept - 1], array[i], 1);
+                    }
+                    array[kept] = array[i];
+                    kept++;
+                }
+            }
+        }
+
+        this.size = kept;
+        this.modCount++;
+    }
+
+    /**
+     * Returns whether the list is currently sorted in increasing order or not
+     * O(1), since every change keeps the count of descents up to date
+     * @return true if the list is sorted, false otherwise
+     */
+    public boolean isSorted() {
+        return this.descents == 0;
+    }
+
+    /**
+     * Returns whether the list is currently sorted in decreasing order or not
+     * O(1), since every change keeps the count of ascents up to date
+     * @return true if the list is sorted in decreasing order, false otherwise
+     */
+    public boolean isSortedDescending() {
+        return this.ascents == 0;
+    }
+
+    /**
+     * Checks whether the list holds NaN anywhere
+     * O(1), since every change keeps the count of pairs with NaN up to date
+     * @return true if any of the numbers is NaN, false otherwise
+     */
+    public boolean hasNaN() {
+        return this.nanPairs > 0 || (size() == 1 && lookup(0) != lookup(0));
+    }
+
+    /**
+     * Reverses the order of the elements in the list
+     * O(N)
+     */
+    public void reverse() {
+        /* Iterates through half of the list & swaps values with the other half */
+        for (int i = 0; i < (int)(size() / 2); i++) {
+            double save = lookup(i);
+            set(i, lookup(size - i - 1));
+            set(size() - i - 1, save);
+        }
+
+        /* Every descent becomes an ascent and every ascent becomes a descent */
+        int descents = this.descents;
+        this.descents = this.ascents;
+        this.ascents = descents;
+
+        this.modCount++;
+    }
+
+    /**
+     * Sorts the internal array in place
+     * Uses the order of Double.compare, so -0.0 comes before 0.0 and NaN comes last
+     * O(N log N)
+     */
+    public void sort() {
+        Arrays.sort(getInternalArray(), 0, size());
+        this.modCount++;
+
+        /* A sorted list has no descents, and its ascents are wherever the value changes */
+        this.descents = 0;
+        this.ascents = countAscents(getInternalArray(), 0, size());
+        this.nanPairs = countNaNPairs(getInternalArray(), 0, size());
+    }
+
+    /**
+     * Sorts the internal array in place, splitting large arrays between the threads of the common ForkJoinPool
+     * Uses the same order as sort
+     * O(N log N)
+     */
+    public void parallelSort() {
+        Arrays.parallelSort(getInternalArray(), 0, size());
+        this.modCount++;
+
+        /* A sorted list has no descents, and its ascents are wherever the value changes */
+        this.descents = 0;
+        this.ascents = countAscents(getInternalArray(), 0, size());
+        this.nanPairs = countNaNPairs(getInternalArray(), 0, size());
+    }
+
+    /**
+     * Provides a String representation of this array
+     * For an empty array, an empty String is returned
+     * Numbers are separated by a space and no other characters are included
+     * O(N)
+     * @return a String representation of the array
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        DoubleIterator i = this.iterator();
+
+        while (i.hasNext()) {
+            result.append(i.next()).append(" ");
+        }
+
+        // Remove the last space
+        if (result.length() > 0) {
+            result.setLength(result.length() - 1);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns an iterator for the list that begins at the front of the list
+     * O(1)
+     * @return a DoubleIterator for the list the method is called on
+     */
+    public DoubleIterator iterator() {
+        return new NumArrayListIterator(this);
+    }
+
+    /**
+     * Returns a cursor that starts before the value at a specified position of the list
+     * Edits made through the cursor use a gap in the internal array at the cursor, so a pass of edits moves each value at most once
+     * The gap is closed the next time anything else reads the internal array
+     * Any change to the list that does not go through the cursor is detected
+     * O(1)
+     * @param i the index of the value that next returns first, which may be the size of the list
+     * @return a DoubleCursor for the list
+     * @throws IndexOutOfBoundsException when the index is negative or greater than the size of the list
+     */
+    public DoubleCursor cursor(int i) throws IndexOutOfBoundsException {
+        if (i < 0 || i > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return new NumArrayListCursor(this, i);
+    }
+
+    /**
+     * Cursor for NumArrayList
+     * Moving the cursor is O(1), and edits are O(1) amortized while the cursor moves in one direction
+     * @author Joshua Shew
+     */
+    private static class NumArrayListCursor implements DoubleCursor {
+        /* Stores a reference to the list the cursor moves over */
+        private final NumArrayList list;
+
+        /* The index of the value that next returns */
+        private int index = 0;
+
+        /* The index of the last value returned by next or previous, -1 when there is none */
+        private int lastReturned = -1;
+
+        /* The modCount of the list after the last change the cursor made */
+        private int expectedModCount = 0;
+
+        /**
+         * Constructor for a cursor
+         * @param list the list to move over
+         * @param index the index of the value that next returns first
+         */
+        public NumArrayListCursor(NumArrayList list, int index) {
+            this.list = list;
+            this.index = index;
+            this.expectedModCount = list.modCount;
+        }
+
+        /**
+         * Checks whether the list has changed without going through the cursor
+         * @throws ConcurrentModificationException when the list has changed
+         */
+        private void checkForComodification() throws ConcurrentModificationException {
+            if (this.list.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        /**
+         * Reads a value of the list around the gap
+         * @param i the index of the value in the list
+         * @return the value
+         */
+        private double get(int i) {
+            return this.list.internalArray[this.list.physicalIndex(i)];
+        }
+
+        /**
+         * Adds the pairs a value makes with the values on each side of it to the counts of the list, or takes them away
+         * @param prev the index of the value before, -1 at the front of the list
+         * @param value the value
+         * @param next the index of the value after, the size of the list at the back
+         * @param change 1 when the value is put between them, -1 when it is taken out
+         */
+        private void countAround(int prev, double value, int next, int change) {
+            if (prev >= 0) {
+                this.list.countPair(get(prev), value, change);
+            }
+            if (next < this.list.size) {
+                this.list.countPair(value, get(next), change);
+            }
+        }
+
+        /**
+         * Adds the pair of two values to the counts of the list, or takes it away, if both values exist
+         * @param prev the index of the first value, -1 at the front of the list
+         * @param next the index of the second value, the size of the list at the back
+         * @param change 1 when the values become adjacent, -1 when they stop being adjacent
+         */
+        private void countBetween(int prev, int next, int change) {
+            if (prev >= 0 && next < this.list.size) {
+                this.list.countPair(get(prev), get(next), change);
+            }
+        }
+
+        /**
+         * Checks whether there is a value ahead of the cursor in the list
+         * @return true if there is a value, false otherwise
+         */
+        public boolean hasNext() {
+            return this.index < this.list.size;
+        }
+
+        /**
+         * Moves the cursor forward one value and returns that value
+         * @return the value after the cursor
+         * @throws NoSuchElementException when there are no more values
+         * @throws ConcurrentModificationException when the list has changed without going through the cursor
+         */
+        public double next() {
+            double value = peek();
+
+            this.lastReturned = this.index;
+            this.index++;
+
+            return value;
+        }
+
+        /**
+         * Retrieves the value after the cursor without moving it
+         * @return the value after the cursor
+         * @throws NoSuchElementException when there are no more values
+         * @throws ConcurrentModificationException when the list has changed without going through the cursor
+         */
+        public double peek() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return get(this.index);
+        }
+
+        /**
+         * Checks whether there is a value behind the cursor in the list
+         * @return true if there is a value, false otherwise
+         */
+        public boolean hasPrevious() {
+            return this.index > 0;
+        }
+
+        /**
+         * Moves the cursor back one value and returns that value
+         * @return the value before the cursor
+         * @throws NoSuchElementException when the cursor is at the front of the list
+         * @throws ConcurrentModificationException when the list has changed without going through the cursor
+         */
+        public double previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            this.index--;
+            this.lastReturned = this.index;
+
+            return get(this.index);
+        }
+
+        /**
+         * Getter method for the position of the cursor
+         * @return the index of the value that next would return
+         */
+        public int nextIndex() {
+            return this.index;
+        }
+
+        /**
+         * Replaces the last value returned by next or previous
+         * @param value the new value
+         * @throws IllegalStateException when there is no value to replace
+         * @throws ConcurrentModificationException when the list has changed without going through the cursor
+         */
+        public void set(double value) {
+            checkForComodification();
+            if (this.lastReturned < 0) {
+                throw new IllegalStateException("next or previous has to be called before set");
+            }
+
+            countAround(this.lastReturned - 1, get(this.lastReturned), this.lastReturned + 1, -1);
+            countAround(this.lastReturned - 1, value, this.lastReturned + 1, 1);
+            this.list.internalArray[this.list.physicalIndex(this.lastReturned)] = value;
+
+            this.list.modCount++;
+            this.expectedModCount = this.list.modCount;
+        }
+
+        /**
+         * Adds a value where the cursor is by writing it to the front of the gap, leaving the cursor after it
+         * O(1) amortized, since the gap only has to be opened again after the list closes it
+         * @param value the value to add
+         * @throws ConcurrentModificationException when the list has changed without going through the cursor
+         */
+        public void insertBefore(double value) {
+            checkForComodification();
+
+            countBetween(this.index - 1, this.index, -1);
+            countAround(this.index - 1, value, this.index, 1);
+
+            this.list.reserveGap(this.index);
+            this.list.internalArray[this.list.gapStart] = value;
+            this.list.gapStart++;
+            this.list.size++;
+            this.list.modCount++;
+
+            this.index++;
+            this.lastReturned = -1;
+            this.expectedModCount = this.list.modCount;
+        }
+
+        /**
+         * Removes the last value returned by next or previous by growing the gap over it
+         * O(1) amortized
+         * @throws IllegalStateException when there is no value to remove
+         * @throws ConcurrentModificationException when the list has changed without going through the cursor
+         */
+        public void remove() {
+            checkForComodification();
+            if (this.lastReturned < 0) {
+                throw new IllegalStateException("next or previous has to be called before remove");
+            }
+
+            countAround(this.lastReturned - 1, get(this.lastReturned), this.lastReturned + 1, -1);
+            countBetween(this.lastReturned - 1, this.lastReturned + 1, 1);
+
+            /* With the gap starting at the value, the value is the first one after the gap */
+            this.list.moveGap(this.lastReturned);
+            this.list.gapEnd++;
+            this.list.size--;
+            this.list.modCount++;
+
+            if (this.lastReturned < this.index) {
+                this.index--;
+            }
+            this.lastReturned = -1;
+            this.expectedModCount = this.list.modCount;
+        }
+    }
+
+    /**
+     * Writes the list to a channel in the binary format of NumList.writeTo
+     * The internal array is copied into the channel's buffer in bulk, without a copy of the whole list
+     * O(N)
+     * @param channel the channel to write to
+     * @param checksum whether to write a checksum after the values
+     * @throws IOException when the channel cannot be written to
+     */
+    public void writeTo(WritableByteChannel channel, boolean checksum) throws IOException {
+        NumListIO.write(getInternalArray(), size(), isSorted(), channel, checksum);
+    }
+
+    /**
+     * Reads a list written by writeTo from a channel and adds its numbers to the end of this list, in order
+     * The capacity is expanded at most once, and the values are copied from the channel's buffer straight into the internal array
+     * Nothing is added unless the whole list is read and its checksum, if it has one, matches
+     * O(N) where N is the number of values read
+     * @param channel the channel to read from
+     * @throws IOException when the channel cannot be read, the stream is not a list, or the checksum does not match
+     */
+    public void readFrom(ReadableByteChannel channel) throws IOException {
+        NumListIO.Header header = NumListIO.readHeader(channel, Integer.MAX_VALUE - 8 - size());
+        ensureCapacity(size() + header.count);
+
+        /* The values go past the end of the list, so they are not part of it until the checksum is checked */
+        double[] array = getInternalArray();
+        NumListIO.readValues(channel, header, array, size());
+        NumListIO.readChecksum(channel, header);
+
+        /* Counts the pairs of the new values, and the pair they make with the last value */
+        countPairs(array, Math.max(0, size() - 1), size() + header.count, 1);
+
+        this.size += header.count;
+        this.modCount++;
+    }
+
+    /**
+     * Reads numbers written as text from a channel and adds them to the end of the list, in order
+     * Numbers are separated by spaces, tabs, line breaks, or commas, and are written the way Double.toString or a CSV file writes them
+     * Nothing is added unless every number in the channel can be read
+     * O(N) where N is the number of bytes read
+     * @param channel the channel to read from
+     * @throws IOException when the channel cannot be read or holds something that is not a number
+     */
+    public void readText(ReadableByteChannel channel) throws IOException {
+        readText(channel, -1);
+    }
+
+    /**
+     * Reads numbers written as text from a channel and adds them to the end of the list, in order
+     * The bytes go through one reusable buffer and are parsed by DoubleParser without making Strings
+     * The values are written straight into the internal array past the end of the list, and only counted in the size once the whole channel is read
+     * When the length of the text is known, the capacity is expanded once after the first buffer, from the number of values in it
+     * Nothing is added unless every number in the channel can be read
+     * O(N) where N is the number of bytes read
+     * @param channel the channel to read from
+     * @param expectedBytes the number of bytes in the channel, or a negative number if it is not known
+     * @throws IOException when the channel cannot be read or holds something that is not a number
+     */
+    public void readText(ReadableByteChannel channel, long expectedBytes) throws IOException {
+        byte[] bytes = new byte[textBufferBytes];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        int count = 0; // the number of values read so far
+        long consumed = 0; // the number of bytes parsed so far
+        boolean presized = expectedBytes < 0;
+        boolean end = false;
+
+        while (!end) {
+            end = channel.read(buffer) < 0;
+            int limit = buffer.position();
+            int pos = 0;
+
+            while (true) {
+                while (pos < limit && DoubleParser.isSeparator(bytes[pos])) {
+                    pos++;
+                }
+
+                int tokenEnd = pos;
+                while (tokenEnd < limit && !DoubleParser.isSeparator(bytes[tokenEnd])) {
+                    tokenEnd++;
+                }
+
+                /* A number that runs to the end of the buffer may continue in the next read */
+                if (pos == limit || (tokenEnd == limit && !end)) {
+                    break;
+                }
+
+                double value;
+                try {
+                    value = DoubleParser.parse(bytes, pos, tokenEnd);
+                }
+                catch (NumberFormatException e) {
+                    throw new IOException(e.getMessage(), e);
+                }
+
+                if (size() + count == capacity()) {
+                    ensureCapacity(size() + count + 1);
+                }
+                getInternalArray()[size() + count] = value;
+                count++;
+                pos = tokenEnd;
+            }
+
+            consumed += pos;
+
+            /* Expands the capacity once, guessing the number of values from how many bytes each one has taken so far */
+            if (!presized && count > 0) {
+                long estimate = (long) Math.ceil((double) count / consumed * expectedBytes * 1.05);
+                ensureCapacity((int) Math.min(Integer.MAX_VALUE - 8, size() + estimate));
+                presized = true;
+            }
+
+            /* Carries the start of an unfinished number to the front of the buffer */
+            System.arraycopy(bytes, pos, bytes, 0, limit - pos);
+            buffer.position(limit - pos);
+            if (!buffer.hasRemaining()) {
+                throw new IOException("A number is longer than " + textBufferBytes + " bytes");
+            }
+        }
+
+        /* Counts the pairs of the new values, and the pair they make with the last value */
+        countPairs(getInternalArray(), Math.max(0, size() - 1), size() + count, 1);
+
+        this.size += count;
+        this.modCount++;
+    }
+
+    /**
+     * Creates a list from a text file of numbers, in the format readText reads
+     * The capacity is set from the length of the file, so the internal array is not grown again and again
+     * O(N) where N is the length of the file
+     * @param file the file to read
+     * @return a new NumArrayList with the numbers in the file
+     * @throws IOException when the file cannot be read or holds something that is not a number
+     */
+    public static NumArrayList loadText(Path file) throws IOException {
+        NumArrayList list = new NumArrayList();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            list.readText(channel, channel.size());
+        }
+
+        return list;
+    }
+
+    /**
+     * Returns a spliterator over the values currently in the list
+     * It splits the internal array in half with exact sizes, so a parallel stream divides the work evenly
+     * The spliterator does not see values added after it is created
+     * O(1)
+     * @return a sized Spliterator.OfDouble over the list
+     */
+    public Spliterator.OfDouble spliterator() {
+        return Spliterators.spliterator(getInternalArray(), 0, size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Iterator for NumArrayList
+     * All methods are O(1)
+     * @author Joshua Shew
+     */
+    private static class NumArrayListIterator implements DoubleIterator {
+        /* Stores a reference to the list the iterator is iterating over */
+        private NumArrayList list = null;
+        
+        /* Stores the current index of the iterator */
+        private int index = 0;
+        
+        /**
+         * Constructor for an iterator for NumArrayList
+         * @param list
+         */
+        public NumArrayListIterator(NumArrayList list) {
+            this.list = list;
+            this.index = 0;
+        }
+        
+        /**
+         * Getter for the list
+         * @return a reference to the list
+         */
+        private NumArrayList getList() {
+            return this.list;
+        }
+
+        /**
+         * Getter for the index
+         * @return the current index
+         */
+        private int getIndex() {
+            return this.index;
+        }
+
+        /**
+         * Increments the index
+         */
+        private void incrementIndex() {
+            this.index++;
+        }
+
+        /**
+         * Checks whether there is another value ahead of the iterator in the list
+         * @return true if there is a value, false otherwise
+         */
+        public boolean hasNext() {
+            return getIndex() < getList().size();
+        }
+
+        /**
+         * Moves the iterator forward one value and returns that value
+         * @return the value at iterator's current index
+         */
+        public double next() {
+            if (hasNext()) {
+                double save = getList().lookup(getIndex());
+                incrementIndex();
+                return save;
+            }
+            else {
+                throw new NoSuchElementException();
+            }
+        }
+
+        /**
+         * Retrieves the value the iterator is current at without moving it forward
+         * @return the value at the iterator's current index
+         */
+        public double peek() {
+            if (hasNext()) {
+                return getList().lookup(getIndex());
+            }
+            else {
+                throw new NoSuchElementException();
+            }
+        }
+    }
+
+    /**
+     * Copies the contents of one array onto another array and returns the new array
+     * O(N)
+     * @param emptyArray the array the values are copied onto. This is the array that is returned by the method
+     * @param originalArray the array the values are copied from
+     * @return the array the values were copied onto
+     */
+    private static double[] copyArray(double[] emptyArray, double[] originalArray) {
+        for (int i = 0; i < originalArray.length; i++)
+            emptyArray[i] = originalArray[i];
+        
+        return emptyArray;
+    }
+
+    /**
+     * Increases the capacity of the NumArrayList
+     * Doubles the capacity
+     * O(N)
+     */
+    private void increaseCapacity() {
+        /* Creates an array with double capacity or 1 if the current capacity is 0 */
         double[] tempArray = new double[Math.max(1, capacity() * 2)];
         NumArrayList.copyArray(tempArray, getInternalArray());
         setInternalArray(tempArray);
     }
 
+    /**
+     * Increases the capacity of the NumArrayList so it can hold at least the specified number of values
+     * Doubles the capacity, or expands it further if doubling is not enough
+     * O(N) if capacity needs to be expanded, O(1) otherwise
+     * @param minCapacity the number of values the list should be able to hold
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity()) {
+            double[] tempArray = new double[Math.max(minCapacity, capacity() * 2)];
+            NumArrayList.copyArray(tempArray, getInternalArray());
+            setInternalArray(tempArray);
+        }
+    }
+
+    /**
+     * Creates the union of two sorted lists using every core of the common ForkJoinPool
+     * The merged order is split into slices by co-ranking, so each worker merges its own part of both lists
+     * Workers first count the values they keep, then write them into their own part of the output without locking
+     * A value is kept when it differs from the value merged just before it, which may belong to another slice
+     * Lists that are too small, or that hold NaN, are unioned sequentially instead
+     * O(N / P + P log N) where P is the number of slices
+     * @param list1 the first sorted list
+     * @param list2 the second sorted list
+     * @return a sorted NumArrayList with all the elements of the input lists without any duplicate elements
+     */
+    static NumList parallelUnion(NumArrayList list1, NumArrayList list2) {
+        long totalSize = (long) list1.size() + list2.size();
+
+        if (!list1.isSorted() || !list2.isSorted() || list1.hasNaN() || list2.hasNaN() || totalSize < 2L * parallelSliceSize) {
+            return NumList.union(list1, list2);
+        }
+
+        int sliceCount = (int) Math.min(Math.max(totalSize / parallelSliceSize, 2), 8L * ForkJoinPool.getCommonPoolParallelism());
+        ParallelUnion union = new ParallelUnion(list1.getInternalArray(), list1.size(), list2.getInternalArray(), list2.size(), sliceCount);
+
+        /* Counts the values each slice keeps */
+        ForkJoinPool.commonPool().invoke(union.new Slices(0, sliceCount));
+
+        /* Turns the counts into the position each slice writes to */
+        int uniqueCount = 0;
+        for (int k = 0; k < sliceCount; k++) {
+            int count = union.sliceOffsets[k];
+            union.sliceOffsets[k] = uniqueCount;
+            uniqueCount += count;
+        }
+
+        /* Writes the values each slice keeps */
+        union.output = new double[uniqueCount];
+        ForkJoinPool.commonPool().invoke(union.new Slices(0, sliceCount));
+
+        NumArrayList result = new NumArrayList();
+        result.setInternalArray(union.output);
+        result.size = uniqueCount;
+
+        /* The union has no duplicates, so every pair is an ascent */
+        result.ascents = Math.max(0, uniqueCount - 1);
+        return result;
+    }
+
+    /**
+     * The shared state of one parallelUnion call
+     * @author Joshua Shew
+     */
+    private static class ParallelUnion {
+        /* The sorted input arrays and how many values of each are used */
+        private final double[] a;
+        private final int n;
+        private final double[] b;
+        private final int m;
+
+        /* The number of slices the merged order is split into */
+        private final int sliceCount;
+
+        /* The number of values of a that come before each slice in the merged order */
+        private final int[] sliceStarts;
+
+        /* The number of values each slice keeps, then the position each slice writes to */
+        private final int[] sliceOffsets;
+
+        /* The output array, which is null while the slices are being counted */
+        private double[] output = null;
+
+        /**
+         * Constructor for the state of a parallel union
+         * @param a the first sorted array
+         * @param n the number of values used from the first array
+         * @param b the second sorted array
+         * @param m the number of values used from the second array
+         * @param sliceCount the number of slices
+         */
+        private ParallelUnion(double[] a, int n, double[] b, int m, int sliceCount) {
+            this.a = a;
+            this.n = n;
+            this.b = b;
+            this.m = m;
+            this.sliceCount = sliceCount;
+            this.sliceStarts = new int[sliceCount];
+            this.sliceOffsets = new int[sliceCount];
+        }
+
+        /**
+         * Finds the position in the merged order where a slice starts
+         * @param k the index of the slice, which may be sliceCount for the end of the merged order
+         * @return the position in the merged order
+         */
+        private int diagonal(int k) {
+            return (int) ((long) k * (this.n + (long) this.m) / this.sliceCount);
+        }
+
+        /**
+         * Finds how many values of a are among the first d values of the merged order (co-ranking)
+         * Equal values are taken from a before b
+         * O(log N)
+         * @param d the number of values merged
+         * @return the number of those values that come from a
+         */
+        private int coRank(int d) {
+            int lo = Math.max(0, d - this.m);
+            int hi = Math.min(d, this.n);
+
+            /* a[i] belongs in the first d values exactly when it is not greater than b[d - i - 1] */
+            while (lo < hi) {
+                int i = (lo + hi) >>> 1;
+
+                if (this.a[i] <= this.b[d - i - 1]) {
+                    lo = i + 1;
+                }
+                else {
+                    hi = i;
+                }
+            }
+
+            return lo;
+        }
+
+        /**
+         * Counts the values a slice keeps, or writes them to the output once it exists
+         * O(N / P + log N)
+         * @param k the index of the slice
+         */
+        private void processSlice(int k) {
+            int d0 = diagonal(k);
+            int d1 = diagonal(k + 1);
+
+            if (this.output == null) {
+                this.sliceStarts[k] = coRank(d0);
+            }
+
+            int i = this.sliceStarts[k];
+            int j = d0 - i;
+
+            /* The value merged just before the slice, which is the larger of the last values taken from a and b */
+            boolean hasPrevious = d0 > 0;
+            double previous = i == 0 ? (j == 0 ? 0.0 : this.b[j - 1]) :
+                              j == 0 ? this.a[i - 1] :
+                              Math.max(this.a[i - 1], this.b[j - 1]);
+
+            int kept = 0;
+            for (int d = d0; d < d1; d++) {
+                double value = j >= this.m || (i < this.n && this.a[i] <= this.b[j]) ? this.a[i++] : this.b[j++];
+
+                if (!hasPrevious || value != previous) {
+                    if (this.output != null) {
+                        this.output[this.sliceOffsets[k] + kept] = value;
+                    }
+
+                    kept++;
+                    hasPrevious = true;
+                    previous = value;
+                }
+            }
+
+            if (this.output == null) {
+                this.sliceOffsets[k] = kept;
+            }
+        }
+
+        /**
+         * Processes a range of slices, splitting it in half until each task has one slice
+         * @author Joshua Shew
+         */
+        private class Slices extends RecursiveAction {
+            private static final long serialVersionUID = 1L;
+
+            /* The range of slices, from first up to but not including last */
+            private final int first;
+            private final int last;
+
+            /**
+             * Constructor for a task over a range of slices
+             * @param first the first slice
+             * @param last the slice after the last slice
+             */
+            private Slices(int first, int last) {
+                this.first = first;
+                this.last = last;
+            }
+
+            @Override
+            protected void compute() {
+                if (this.last - this.first == 1) {
+                    processSlice(this.first);
+                }
+                else {
+                    int middle = (this.first + this.last) >>> 1;
+                    invokeAll(new Slices(this.first, middle), new Slices(middle, this.last));
+                }
+            }
+        }
+    }
+
     /**
      * Demonstration for the functionality of NumArrayList
      * @param args unused
@@ -1,3 +1,23 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -524,4 +544,685 @@ public class NumArrayListTester {
         list1 = NumArrayListTester.createArrayList(0.0, 1.0, 2.0, 3.0, 4.0);
         Assert.assertEquals("The method did not return the correct string", "0.0 1.0 2.0 3.0 4.0", list1.toString());
     }
+
+    /**
+     * Unit tests for the addAll methods
+     */
+    @Test
+    public void testAddAll() {
+        // adding an empty array
+        NumArrayList list1 = new NumArrayList();
+        list1.addAll(new double[0]);
+        Assert.assertEquals("list1 should still be empty", "", list1.toString());
+
+        // adding to an empty list expands the capacity once
+        list1.addAll(new double[] {0.0, 1.0, 2.0});
+        Assert.assertEquals("The values were not added correctly", "0.0 1.0 2.0", list1.toString());
+        Assert.assertTrue("list1 capacity should have been 3 but it was not", list1.capacity() == 3);
+        Assert.assertTrue("list1 should be sorted", list1.isSorted());
+
+        // adding values that keep the list sorted
+        list1.addAll(new double[] {2.0, 3.0});
+        Assert.assertEquals("The values were not added correctly", "0.0 1.0 2.0 2.0 3.0", list1.toString());
+        Assert.assertTrue("list1 should be sorted", list1.isSorted());
+
+        // adding values that are smaller than the last value
+        list1.addAll(new double[] {1.0});
+        Assert.assertFalse("list1 should not be sorted", list1.isSorted());
+
+        // adding another list, including the list itself
+        list1 = NumArrayListTester.createArrayList(0.0, 1.0);
+        NumList list2 = new NumLinkedList();
+        list2.add(5.0);
+        list1.addAll(list2);
+        Assert.assertEquals("The values were not added correctly", "0.0 1.0 5.0", list1.toString());
+        list1.addAll(list1);
+        Assert.assertEquals("The values were not added correctly", "0.0 1.0 5.0 0.0 1.0 5.0", list1.toString());
+        Assert.assertFalse("list1 should not be sorted", list1.isSorted());
+    }
+
+    /**
+     * Unit tests for the insertAll method
+     */
+    @Test
+    public void testInsertAll() {
+        // negative index
+        NumArrayList list1 = new NumArrayList();
+        try {
+            list1.insertAll(-1, new double[] {0.0});
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+
+        // inserting past the size appends the values
+        list1.insertAll(3, new double[] {3.0, 4.0});
+        Assert.assertEquals("The values were not added correctly", "3.0 4.0", list1.toString());
+
+        // inserting at the front
+        list1.insertAll(0, new double[] {0.0, 1.0});
+        Assert.assertEquals("The values were not inserted correctly", "0.0 1.0 3.0 4.0", list1.toString());
+        Assert.assertTrue("list1 should be sorted", list1.isSorted());
+
+        // inserting in the middle
+        list1.insertAll(2, new double[] {2.0, 2.5});
+        Assert.assertEquals("The values were not inserted correctly", "0.0 1.0 2.0 2.5 3.0 4.0", list1.toString());
+        Assert.assertTrue("list1 should be sorted", list1.isSorted());
+
+        // inserting values out of order
+        list1.insertAll(1, new double[] {9.0});
+        Assert.assertEquals("The values were not inserted correctly", "0.0 9.0 1.0 2.0 2.5 3.0 4.0", list1.toString());
+        Assert.assertFalse("list1 should not be sorted", list1.isSorted());
+    }
+
+    /**
+     * Unit tests for the removeRange and toArray methods
+     */
+    @Test
+    public void testRemoveRange() {
+        // bad ranges
+        NumArrayList list1 = NumArrayListTester.createArrayList(0.0, 1.0, 2.0, 3.0, 4.0);
+        try {
+            list1.removeRange(3, 2);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+
+        // removing from the middle
+        list1.removeRange(1, 3);
+        Assert.assertEquals("The values were not removed correctly", "0.0 3.0 4.0", list1.toString());
+
+        // the end of the range is cut off at the size
+        list1.removeRange(2, 10);
+        Assert.assertEquals("The values were not removed correctly", "0.0 3.0", list1.toString());
+
+        // removing the values that made the list unsorted
+        list1 = NumArrayListTester.createArrayList(0.0, 5.0, 4.0, 1.0, 2.0);
+        Assert.assertFalse("list1 should not be sorted", list1.isSorted());
+        list1.removeRange(1, 3);
+        Assert.assertTrue("list1 should be sorted", list1.isSorted());
+
+        // toArray only copies the values in the list, not the whole capacity
+        Assert.assertArrayEquals("The array did not hold the right values", new double[] {0.0, 1.0, 2.0}, list1.toArray(), 0.0);
+        Assert.assertArrayEquals("The array of an empty list should be empty", new double[0], new NumArrayList(4).toArray(), 0.0);
+    }
+
+    /**
+     * Unit tests for the indexOf, rank, floor, ceiling, and countInRange methods
+     */
+    @Test
+    public void testSearch() {
+        // contains only looks at the values in the list, not the rest of the capacity
+        NumArrayList list1 = new NumArrayList(8);
+        list1.add(1.0);
+        Assert.assertFalse("The method should not find a value past the size", list1.contains(0.0));
+
+        // sorted list with duplicates (binary search)
+        list1 = NumArrayListTester.createArrayList(1.0, 2.0, 2.0, 2.0, 5.0, 7.0);
+        Assert.assertTrue("list1 should be sorted", list1.isSorted());
+        Assert.assertEquals("indexOf should find the first occurrence", 1, list1.indexOf(2.0));
+        Assert.assertEquals("indexOf should return -1 for a missing value", -1, list1.indexOf(3.0));
+        Assert.assertEquals("rank should count the smaller values", 4, list1.rank(3.0));
+        Assert.assertEquals("rank should not count equal values", 1, list1.rank(2.0));
+        Assert.assertEquals("rank of a value past the end should be the size", 6, list1.rank(100.0));
+        Assert.assertEquals("floor did not find the right value", 2.0, list1.floor(4.0), 0.0);
+        Assert.assertEquals("floor of a value in the list is that value", 5.0, list1.floor(5.0), 0.0);
+        Assert.assertEquals("ceiling did not find the right value", 5.0, list1.ceiling(3.0), 0.0);
+        Assert.assertEquals("countInRange did not count the right values", 4, list1.countInRange(2.0, 5.0));
+        Assert.assertEquals("countInRange with lo greater than hi should be 0", 0, list1.countInRange(5.0, 2.0));
+        try {
+            list1.floor(0.0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (NoSuchElementException e) {
+            // the method succeeded
+        }
+        try {
+            list1.ceiling(8.0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (NoSuchElementException e) {
+            // the method succeeded
+        }
+
+        // unsorted list (linear search)
+        list1 = NumArrayListTester.createArrayList(5.0, 1.0, 7.0, 2.0, 2.0);
+        Assert.assertFalse("list1 should not be sorted", list1.isSorted());
+        Assert.assertEquals("indexOf should find the first occurrence", 3, list1.indexOf(2.0));
+        Assert.assertEquals("rank should count the smaller values", 3, list1.rank(3.0));
+        Assert.assertEquals("floor did not find the right value", 2.0, list1.floor(4.0), 0.0);
+        Assert.assertEquals("ceiling did not find the right value", 5.0, list1.ceiling(3.0), 0.0);
+        Assert.assertEquals("countInRange did not count the right values", 3, list1.countInRange(2.0, 5.0));
+    }
+
+    /**
+     * Unit tests for the parallelUnion method
+     */
+    @Test
+    public void testParallelUnion() {
+        // small lists are unioned sequentially
+        NumList list1 = createArrayList(1.0, 2.0, 3.0);
+        NumList list2 = createArrayList(2.0, 4.0);
+        Assert.assertEquals("The union should have been 1.0 2.0 3.0 4.0 but it was not", "1.0 2.0 3.0 4.0", NumList.parallelUnion(list1, list2).toString());
+
+        // large lists with runs of duplicates that cross slice boundaries
+        Random random = new Random(233);
+        list1 = new NumArrayList();
+        list2 = new NumArrayList();
+        double value1 = 0.0;
+        double value2 = 0.0;
+        for (int i = 0; i < 300000; i++) {
+            list1.add(value1);
+            list2.add(value2);
+            value1 += random.nextInt(4) == 0 ? 1.0 : 0.0;
+            value2 += random.nextInt(3) == 0 ? 2.0 : 0.0;
+        }
+        NumList expected = NumList.union(list1, list2);
+        NumList result = NumList.parallelUnion(list1, list2);
+        Assert.assertArrayEquals("The parallel union should have been the same as the union but it was not", expected.toArray(), result.toArray(), 0.0);
+        Assert.assertTrue("The result should be sorted", result.isSorted());
+        Assert.assertArrayEquals("The parallel union should not depend on the order of the lists", expected.toArray(), NumList.parallelUnion(list2, list1).toArray(), 0.0);
+
+        // NaN falls back to the sequential union
+        list2.add(Double.NaN);
+        Assert.assertArrayEquals("The parallel union should have been the same as the union but it was not",
+                                 NumList.union(list1, list2).toArray(), NumList.parallelUnion(list1, list2).toArray(), 0.0);
+    }
+
+    /**
+     * Unit tests for the spliterator method
+     */
+    @Test
+    public void testSpliterator() {
+        NumArrayList list1 = new NumArrayList();
+        for (int i = 0; i < 1000; i++) {
+            list1.add(i);
+        }
+
+        // the array is split in half with exact sizes
+        Spliterator.OfDouble right = list1.spliterator();
+        Assert.assertTrue("The spliterator should have been sized", right.hasCharacteristics(Spliterator.SUBSIZED));
+        Spliterator.OfDouble left = right.trySplit();
+        Assert.assertTrue("The first half should have 500 values", left.getExactSizeIfKnown() == 500);
+        Assert.assertTrue("The second half should have 500 values", right.getExactSizeIfKnown() == 500);
+
+        // streams only see the values in the list, not the rest of the internal array
+        Assert.assertEquals("The sum should have been 499500.0 but it was not", 499500.0, list1.parallelStream().sum(), 0.0);
+        list1.removeRange(10, 1000);
+        Assert.assertTrue("The stream should have 10 values", list1.stream().count() == 10);
+        Assert.assertEquals("The maximum should have been 9.0 but it was not", 9.0, list1.stream().max().getAsDouble(), 0.0);
+    }
+
+    /**
+     * Unit tests for the sum, min, max, mean, variance, and dot methods
+     */
+    @Test
+    public void testAggregates() {
+        // sizes that do and do not fill the unrolled loops evenly
+        for (int size = 1; size <= 9; size++) {
+            NumArrayList list1 = new NumArrayList();
+            NumList list2 = new NumLinkedList();
+            for (int i = 1; i <= size; i++) {
+                list1.add(i);
+                list2.add(2.0);
+            }
+            list1.reverse();
+
+            double mean = (size + 1) / 2.0;
+            Assert.assertEquals("The sum was not calculated correctly", size * mean, list1.sum(), 1e-9);
+            Assert.assertEquals("The minimum should have been 1.0 but it was not", 1.0, list1.min(), 0.0);
+            Assert.assertEquals("The maximum was not found correctly", size, list1.max(), 0.0);
+            Assert.assertEquals("The mean was not calculated correctly", mean, list1.mean(), 1e-9);
+            Assert.assertEquals("The variance was not calculated correctly", (size * size - 1) / 12.0, list1.variance(), 1e-9);
+            Assert.assertEquals("The dot product with a linked list was not calculated correctly", 2 * size * mean, list1.dot(list2), 1e-9);
+            Assert.assertEquals("The dot product with itself was not calculated correctly", list1.dot(createArrayList(list1.toArray())), list1.dot(list1), 0.0);
+        }
+
+        // NaN is returned by min and max
+        NumArrayList list1 = createArrayList(1.0, 2.0, 3.0, 4.0, Double.NaN, 0.0);
+        Assert.assertTrue("The minimum should have been NaN", Double.isNaN(list1.min()));
+        Assert.assertTrue("The maximum should have been NaN", Double.isNaN(list1.max()));
+
+        // empty lists and lists of different sizes
+        list1 = new NumArrayList(8);
+        Assert.assertEquals("The sum of an empty list should be 0.0", 0.0, list1.sum(), 0.0);
+        try {
+            list1.min();
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (NoSuchElementException e) {
+            // the method succeeded
+        }
+        try {
+            list1.variance();
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (NoSuchElementException e) {
+            // the method succeeded
+        }
+        try {
+            list1.dot(createArrayList(1.0));
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IllegalArgumentException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for the sort and parallelSort methods
+     */
+    @Test
+    public void testSort() {
+        NumArrayList list1 = createArrayList(3.0, Double.NaN, 1.0, 0.0, -0.0, 2.0);
+        list1.sort();
+        Assert.assertEquals("The list was not sorted correctly", "-0.0 0.0 1.0 2.0 3.0 NaN", list1.toString());
+        Assert.assertTrue("The list should be sorted", list1.isSorted());
+
+        // a large list is sorted by several threads, and only the values in the list are sorted
+        Random random = new Random(233);
+        NumArrayList list2 = new NumArrayList(300000);
+        for (int i = 0; i < 200000; i++) {
+            list2.add(random.nextDouble());
+        }
+        double[] expected = list2.toArray();
+        Arrays.sort(expected);
+        list2.parallelSort();
+        Assert.assertArrayEquals("The list was not sorted correctly in parallel", expected, list2.toArray(), 0.0);
+        Assert.assertTrue("The list should be sorted", list2.isSorted());
+        Assert.assertTrue("The capacity should not have changed", list2.capacity() == 300000);
+    }
+
+    /**
+     * Unit tests for the subList method and its Slice
+     */
+    @Test
+    public void testSubList() {
+        NumArrayList list1 = createArrayList(5.0, 1.0, 2.0, 3.0, 0.0);
+        NumArrayList.Slice slice = list1.subList(1, 4);
+        Assert.assertEquals("The slice should have been 1.0 2.0 3.0 but it was not", "1.0 2.0 3.0", slice.toString());
+        Assert.assertTrue("The slice should have 3 values", slice.size() == 3);
+        Assert.assertTrue("The slice should be sorted even though the list is not", slice.isSorted());
+        Assert.assertEquals("lookup did not return the right value", 2.0, slice.lookup(1), 0.0);
+        Assert.assertEquals("The sum of the slice should have been 6.0 but it was not", 6.0, slice.sum(), 0.0);
+        Assert.assertTrue("The slice should contain 3.0", slice.contains(3.0));
+        Assert.assertFalse("The slice should not contain 5.0", slice.contains(5.0));
+
+        // the buffer covers exactly the range and cannot be written to
+        DoubleBuffer buffer = slice.buffer();
+        Assert.assertTrue("The buffer should have 3 values", buffer.remaining() == 3);
+        Assert.assertEquals("The buffer should start at the first value of the slice", 1.0, buffer.get(0), 0.0);
+        Assert.assertTrue("The buffer should be read-only", buffer.isReadOnly());
+
+        // views of views and empty views
+        Assert.assertEquals("The view of the slice should have been 2.0 3.0 but it was not", "2.0 3.0", slice.subList(1, 3).toString());
+        Assert.assertEquals("An empty slice should have an empty String", "", list1.subList(2, 2).toString());
+        try {
+            list1.subList(3, 6);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+        try {
+            slice.lookup(3);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+        try {
+            slice.add(4.0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (UnsupportedOperationException e) {
+            // the method succeeded
+        }
+
+        // changing the list makes the slice fail fast
+        DoubleIterator i = slice.iterator();
+        i.next();
+        list1.add(6.0);
+        try {
+            i.next();
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (ConcurrentModificationException e) {
+            // the method succeeded
+        }
+        try {
+            slice.lookup(0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (ConcurrentModificationException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for the cursor, compared to a ListIterator over a java.util.ArrayList
+     */
+    @Test
+    public void testCursor() {
+        NumArrayList list1 = new NumArrayList();
+        List<Double> list2 = new ArrayList<Double>();
+        for (int i = 0; i < 100; i++) {
+            list1.add(i);
+            list2.add((double) i);
+        }
+
+        // random moves and edits, checking the list after every pass
+        Random random = new Random(18);
+        for (int pass = 0; pass < 20; pass++) {
+            int start = random.nextInt(list2.size() + 1);
+            DoubleCursor cursor1 = list1.cursor(start);
+            ListIterator<Double> cursor2 = list2.listIterator(start);
+            boolean canEdit = false;
+
+            for (int step = 0; step < 200; step++) {
+                int choice = random.nextInt(6);
+                if (choice == 0 && cursor2.hasNext()) {
+                    Assert.assertEquals("next did not return the right value", cursor2.next(), cursor1.next(), 0.0);
+                    canEdit = true;
+                }
+                else if (choice == 1 && cursor2.hasPrevious()) {
+                    Assert.assertEquals("previous did not return the right value", cursor2.previous(), cursor1.previous(), 0.0);
+                    canEdit = true;
+                }
+                else if (choice == 2 && canEdit) {
+                    double value = random.nextInt(1000);
+                    cursor1.set(value);
+                    cursor2.set(value);
+                }
+                else if (choice == 3 && canEdit) {
+                    cursor1.remove();
+                    cursor2.remove();
+                    canEdit = false;
+                }
+                else if (choice >= 4) {
+                    double value = random.nextInt(1000);
+                    cursor1.insertBefore(value);
+                    cursor2.add(value);
+                    canEdit = false;
+                }
+                Assert.assertTrue("The cursor should have been at " + cursor2.nextIndex(), cursor1.nextIndex() == cursor2.nextIndex());
+                Assert.assertTrue("hasNext should have matched", cursor1.hasNext() == cursor2.hasNext());
+            }
+
+            Assert.assertTrue("The size should have been " + list2.size() + " but it was not", list1.size() == list2.size());
+            for (int i = 0; i < list2.size(); i++) {
+                Assert.assertEquals("The list did not match after the edits", list2.get(i), list1.lookup(i), 0.0);
+            }
+        }
+    }
+
+    /**
+     * Unit tests for the gap of the cursor and how the cursor keeps track of sorting
+     */
+    @Test
+    public void testCursorEdits() {
+        NumArrayList list1 = createArrayList(1.0, 2.0, 3.0, 4.0, 5.0);
+
+        // insert a value after every value in one pass
+        DoubleCursor cursor = list1.cursor();
+        while (cursor.hasNext()) {
+            double value = cursor.next();
+            cursor.insertBefore(value + 0.5);
+        }
+        Assert.assertEquals("The values were not inserted correctly", "1.0 1.5 2.0 2.5 3.0 3.5 4.0 4.5 5.0 5.5", list1.toString());
+        Assert.assertTrue("The list should still be sorted", list1.isSorted());
+
+        // remove every other value walking backwards
+        cursor = list1.cursor(list1.size());
+        while (cursor.hasPrevious()) {
+            cursor.previous();
+            cursor.remove();
+            if (cursor.hasPrevious()) {
+                cursor.previous();
+            }
+        }
+        Assert.assertEquals("The values were not removed correctly", "1.0 2.0 3.0 4.0 5.0", list1.toString());
+        Assert.assertTrue("The capacity should not have shrunk", list1.capacity() >= 10);
+
+        cursor = list1.cursor(2);
+        cursor.next();
+        cursor.set(10.0);
+        Assert.assertFalse("The list should not be sorted", list1.isSorted());
+        cursor = list1.cursor(2);
+        cursor.next();
+        cursor.remove();
+        Assert.assertTrue("The list should be sorted after removing the value out of order", list1.isSorted());
+
+        // the cursor needs a value to act on, and notices changes made without it
+        try {
+            cursor.set(0.0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IllegalStateException e) {
+            // the method succeeded
+        }
+        list1.add(6.0);
+        try {
+            cursor.next();
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (ConcurrentModificationException e) {
+            // the method succeeded
+        }
+        try {
+            list1.cursor(7);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for the writeTo and readFrom methods
+     */
+    @Test
+    public void testBinaryFormat() throws IOException {
+        NumArrayList list1 = new NumArrayList();
+        Random random = new Random(20);
+        for (int i = 0; i < 20000; i++) {
+            list1.add(random.nextDouble());
+        }
+        list1.add(Double.NaN);
+        list1.add(-0.0);
+
+        // with and without a checksum
+        for (boolean checksum : new boolean[] {true, false}) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            list1.writeTo(Channels.newChannel(bytes), checksum);
+            Assert.assertTrue("The stream should have had a 16 byte header and 8 bytes per value", bytes.size() == 16 + list1.size() * 8 + (checksum ? 4 : 0));
+
+            NumArrayList list2 = new NumArrayList();
+            list2.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+            Assert.assertArrayEquals("The values were not read correctly", list1.toArray(), list2.toArray(), 0.0);
+            Assert.assertFalse("The list should not be sorted", list2.isSorted());
+        }
+
+        // reading adds to the end of a list, and keeps track of sorting
+        NumArrayList sorted = createArrayList(3.0, 4.0);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        sorted.writeTo(Channels.newChannel(bytes));
+        NumArrayList list3 = createArrayList(1.0, 2.0);
+        list3.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+        Assert.assertEquals("The values should have been added to the end", "1.0 2.0 3.0 4.0", list3.toString());
+        Assert.assertTrue("The list should be sorted", list3.isSorted());
+        list3.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+        Assert.assertFalse("The list should not be sorted", list3.isSorted());
+
+        // a changed byte or a cut off stream is caught, and nothing is added
+        byte[] corrupt = bytes.toByteArray();
+        corrupt[20] ^= 1;
+        try {
+            list3.readFrom(Channels.newChannel(new ByteArrayInputStream(corrupt)));
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IOException e) {
+            // the method succeeded
+        }
+        try {
+            list3.readFrom(Channels.newChannel(new ByteArrayInputStream(Arrays.copyOf(bytes.toByteArray(), 30))));
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (EOFException e) {
+            // the method succeeded
+        }
+        try {
+            list3.readFrom(Channels.newChannel(new ByteArrayInputStream(new byte[16])));
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IOException e) {
+            // the method succeeded
+        }
+        Assert.assertTrue("The size should still have been 6", list3.size() == 6);
+    }
+
+    /**
+     * Unit tests for opening a stream written without a checksum as a NumMappedList
+     */
+    @Test
+    public void testBinaryFormatMapped() throws IOException {
+        NumArrayList list1 = createArrayList(1.0, 2.0, 3.0);
+        Path file = Files.createTempFile("NumArrayListTester", ".numl");
+
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                list1.writeTo(channel, false);
+            }
+            try (NumMappedList list2 = new NumMappedList(file)) {
+                Assert.assertEquals("The mapped list should have the same values", "1.0 2.0 3.0", list2.toString());
+                Assert.assertTrue("The mapped list should be sorted", list2.isSorted());
+            }
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Unit tests for the readText and loadText methods
+     */
+    @Test
+    public void testReadText() throws IOException {
+        String text = "1.5, -2e3\t0.1\r\n-0.0 NaN Infinity,-Infinity\n\n 4.9E-324 ,1.7976931348623157E308";
+        NumArrayList list1 = createArrayList(-10.0);
+        list1.readText(Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII))));
+        Assert.assertEquals("The numbers were not read correctly",
+                            "-10.0 1.5 -2000.0 0.1 -0.0 NaN Infinity -Infinity 4.9E-324 1.7976931348623157E308", list1.toString());
+        Assert.assertFalse("The list should not be sorted", list1.isSorted());
+
+        // many numbers, so numbers are split between reads of the channel
+        Random random = new Random(21);
+        double[] values = new double[100000];
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i + random.nextDouble();
+            builder.append(values[i]).append(i % 10 == 9 ? "\n" : ",");
+        }
+        NumArrayList list2 = new NumArrayList();
+        list2.readText(Channels.newChannel(new ByteArrayInputStream(builder.toString().getBytes(StandardCharsets.US_ASCII))));
+        Assert.assertArrayEquals("The numbers were not read correctly", values, list2.toArray(), 0.0);
+        Assert.assertTrue("The list should be sorted", list2.isSorted());
+
+        // the capacity is set once from the length of a file
+        Path file = Files.createTempFile("NumArrayListTester", ".txt");
+        try {
+            Files.write(file, builder.toString().getBytes(StandardCharsets.US_ASCII));
+            NumArrayList list3 = NumArrayList.loadText(file);
+            Assert.assertTrue("The lists should be equal", list2.equals(list3));
+            Assert.assertTrue("The capacity should have been close to the size, but it was " + list3.capacity(), list3.capacity() < values.length * 1.5);
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+
+        // nothing is added when something is not a number
+        for (String bad : new String[] {"1.0 2.0 abc", "1.0 -", "1e", "1.0.0", "--1"}) {
+            try {
+                list1.readText(Channels.newChannel(new ByteArrayInputStream(bad.getBytes(StandardCharsets.US_ASCII))));
+                Assert.fail("The method should have thrown an exception for \"" + bad + "\"");
+            }
+            catch (IOException e) {
+                // the method succeeded
+            }
+        }
+        Assert.assertTrue("The size should still have been 10", list1.size() == 10);
+    }
+
+    /**
+     * Unit tests for keeping track of sortedness in both directions, compared to a scan of the values after every random change
+     */
+    @Test
+    public void testSortedness() {
+        NumArrayList list1 = new NumArrayList();
+        Random random = new Random(22);
+
+        for (int step = 0; step < 3000; step++) {
+            int choice = random.nextInt(12);
+            double value = random.nextInt(20) == 0 ? Double.NaN : random.nextInt(8);
+            int i = random.nextInt(list1.size() + 1);
+
+            if (choice <= 1) {
+                list1.add(value);
+            }
+            else if (choice == 2) {
+                list1.insert(i, value);
+            }
+            else if (choice <= 4) {
+                list1.remove(i);
+            }
+            else if (choice == 5) {
+                list1.insertAll(i, new double[] {value, value + random.nextInt(3) - 1, value + 1});
+            }
+            else if (choice == 6) {
+                list1.removeRange(i, i + random.nextInt(4));
+            }
+            else if (choice == 7) {
+                list1.reverse();
+            }
+            else if (choice == 8 && random.nextInt(4) == 0) {
+                list1.removeDuplicates();
+            }
+            else if (choice == 9 && random.nextInt(8) == 0) {
+                list1.sort();
+            }
+            else if (choice >= 10) {
+                DoubleCursor cursor = list1.cursor(i);
+                if (cursor.hasNext() && choice == 10) {
+                    cursor.next();
+                    cursor.set(value);
+                }
+                else if (cursor.hasPrevious() && random.nextBoolean()) {
+                    cursor.previous();
+                    cursor.remove();
+                }
+                else {
+                    cursor.insertBefore(value);
+                }
+            }
+
+            double[] values = list1.toArray();
+            boolean ascending = true;
+            boolean descending = true;
+            for (int j = 1; j < values.length; j++) {
+                ascending &= !(values[j] < values[j - 1]);
+                descending &= !(values[j - 1] < values[j]);
+            }
+
+            Assert.assertTrue("isSorted should have been " + ascending + " for " + list1, list1.isSorted() == ascending);
+            Assert.assertTrue("isSortedDescending should have been " + descending + " for " + list1, list1.isSortedDescending() == descending);
+
+            // keeps the list short enough to be sorted and unsorted often
+            if (list1.size() > 12) {
+                list1.removeRange(0, 6);
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,695 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * For storing slowly changing doubles, such as a time series of sensor readings, in compressed form
+ * Values are packed into blocks of a fixed number of values with the XOR encoding from Facebook's Gorilla paper
+ * Each value is XORed with the one before it, and only the bits that changed are written, so repeated and nearby values take a few bits instead of 64
+ * New values go into an uncompressed tail block, which is packed once it is full
+ * Every packed block starts at a known index, so lookup only has to decode one block
+ * The list is meant to be appended to; changes in the middle of the list decode and re-pack every block after the change
+ * O(1) time complexity for adding to the end, O(B) for access where B is the number of values in a block
+ * @author Joshua Shew
+ */
+public class NumCompressedList implements NumList {
+    /* Every block holds 2^blockShift values */
+    private static final int blockShift = 8;
+    private static final int blockLength = 1 << blockShift;
+    private static final int blockMask = blockLength - 1;
+
+    /* The most words a packed block can need: 64 bits for the first value, and at most 2 + 5 + 6 + 64 bits for each value after it */
+    private static final int maxBlockWords = (64 + (blockLength - 1) * 77 + 63) / 64;
+
+    /* The packed blocks, in order, each trimmed to the words it uses */
+    private long[][] blocks = new long[8][];
+
+    /* The smallest and largest value of each packed block, so contains can skip blocks */
+    private double[] blockMin = new double[8];
+    private double[] blockMax = new double[8];
+
+    /* Whether the list was sorted up to the end of each packed block, so a change in the middle does not rescan the blocks before it */
+    private boolean[] sortedThrough = new boolean[8];
+
+    /* The number of packed blocks */
+    private int blockCount = 0;
+
+    /* The values after the last packed block, which are not compressed yet */
+    private final double[] tail = new double[blockLength];
+
+    /* The number of values in the tail */
+    private int tailCount = 0;
+
+    /* Keeps track of whether the list is sorted */
+    private boolean sorted = true;
+
+    /* The last value in the list, for keeping track of whether the list is sorted */
+    private double last = 0.0;
+
+    /* Scratch space that blocks are packed into before they are trimmed */
+    private final long[] scratch = new long[maxBlockWords];
+
+    /**
+     * Creates a new empty NumCompressedList
+     */
+    public NumCompressedList() {
+    }
+
+    /**
+     * Getter method for the size of the list
+     * O(1)
+     * @return the number of values in the list
+     */
+    public int size() {
+        return (this.blockCount << blockShift) + this.tailCount;
+    }
+
+    /**
+     * Getter method for the capacity of the list
+     * The list can hold values up to the end of its tail block without packing another block
+     * O(1)
+     * @return the capacity of the list
+     */
+    public int capacity() {
+        return (this.blockCount + 1) << blockShift;
+    }
+
+    /**
+     * Getter method for the number of bytes the values of the list take up
+     * Counts the packed words and the whole tail block, but not the per-block index
+     * O(B) where B is the number of packed blocks
+     * @return the number of bytes used to store the values
+     */
+    public long compressedBytes() {
+        long words = 0;
+
+        for (int b = 0; b < this.blockCount; b++) {
+            words += this.blocks[b].length;
+        }
+
+        return (words + blockLength) * Long.BYTES;
+    }
+
+    /**
+     * Adds a number to the end of the list
+     * Packs the tail block once it is full
+     * O(1) amortized
+     * @param value the number to be added to the end of the list
+     */
+    public void add(double value) {
+        if (size() > 0 && value < this.last) {
+            this.sorted = false;
+        }
+        this.last = value;
+
+        this.tail[this.tailCount] = value;
+        this.tailCount++;
+
+        if (this.tailCount == blockLength) {
+            seal();
+        }
+    }
+
+    /**
+     * Packs the full tail block and adds it to the end of the packed blocks
+     * O(B) where B is the number of values in a block
+     */
+    private void seal() {
+        if (this.blockCount == this.blocks.length) {
+            int length = this.blocks.length * 2;
+            this.blocks = Arrays.copyOf(this.blocks, length);
+            this.blockMin = Arrays.copyOf(this.blockMin, length);
+            this.blockMax = Arrays.copyOf(this.blockMax, length);
+            this.sortedThrough = Arrays.copyOf(this.sortedThrough, length);
+        }
+
+        double min = this.tail[0];
+        double max = this.tail[0];
+        for (int i = 1; i < blockLength; i++) {
+            min = Math.min(min, this.tail[i]);
+            max = Math.max(max, this.tail[i]);
+        }
+
+        this.blocks[this.blockCount] = encode(this.tail, this.scratch);
+        this.blockMin[this.blockCount] = min;
+        this.blockMax[this.blockCount] = max;
+        this.sortedThrough[this.blockCount] = this.sorted;
+        this.blockCount++;
+        this.tailCount = 0;
+    }
+
+    /**
+     * Packs a full block of values with the Gorilla XOR encoding
+     * The first value is written as its 64 bits
+     * After that, a value equal to the one before it is written as a single 0 bit
+     * Otherwise the XOR with the value before it is written as 10 and its changed bits when they fit in the last window of changed bits,
+     * or as 11, the number of leading zeros (5 bits), the number of changed bits minus one (6 bits), and the changed bits
+     * O(B) where B is the number of values in a block
+     * @param values the values of the block
+     * @param scratch space to pack the block into, with room for the largest possible block
+     * @return the packed words, trimmed to the ones used
+     */
+    private static long[] encode(double[] values, long[] scratch) {
+        Arrays.fill(scratch, 0L);
+        BitWriter writer = new BitWriter(scratch);
+
+        long previous = Double.doubleToRawLongBits(values[0]);
+        writer.write(previous, 64);
+
+        int leading = -1; // the window of changed bits from the last value written with one, -1 before there is a window
+        int trailing = 0;
+
+        for (int i = 1; i < blockLength; i++) {
+            long bits = Double.doubleToRawLongBits(values[i]);
+            long xor = bits ^ previous;
+            previous = bits;
+
+            if (xor == 0) {
+                writer.write(0L, 1);
+                continue;
+            }
+
+            /* Only 5 bits are kept for the leading zeros, so more than 31 are written as 31 */
+            int newLeading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+            int newTrailing = Long.numberOfTrailingZeros(xor);
+
+            if (leading >= 0 && newLeading >= leading && newTrailing >= trailing) {
+                writer.write(0b10L, 2);
+                writer.write(xor >>> trailing, 64 - leading - trailing);
+            }
+            else {
+                int significant = 64 - newLeading - newTrailing;
+                writer.write(0b11L, 2);
+                writer.write(newLeading, 5);
+                writer.write(significant - 1, 6);
+                writer.write(xor >>> newTrailing, significant);
+
+                leading = newLeading;
+                trailing = newTrailing;
+            }
+        }
+
+        return Arrays.copyOf(scratch, writer.wordsUsed());
+    }
+
+    /**
+     * Adds a number at a specified position of the list
+     * All numbers after (and the number at) the specified position are shifted down the list
+     * If the list has i or fewer numbers, then the value is added in the same fashion as the add method
+     * O(N - i), since the blocks after the position are re-packed
+     * @param i the index to insert the new value at
+     * @param value the value to add to the list
+     * @throws IndexOutOfBoundsException when the index is negative
+     */
+    public void insert(int i, double value) {
+        insertAll(i, new double[] {value});
+    }
+
+    /**
+     * Adds all of the numbers in the array at a specified position of the list, in order
+     * All numbers after (and the number at) the specified position are shifted down the list
+     * If the list has i or fewer numbers, then the values are added in the same fashion as the addAll method
+     * O(N - i + K) where K is the number of values added, since the blocks after the position are re-packed once
+     * @param i the index to insert the first new value at
+     * @param values the values to add to the list
+     * @throws IndexOutOfBoundsException when the index is negative
+     */
+    public void insertAll(int i, double[] values) {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        else if (i >= size()) {
+            addAll(values);
+            return;
+        }
+
+        int block = i >>> blockShift;
+        double[] rest = truncate(block);
+        int offset = i - (block << blockShift);
+
+        for (int j = 0; j < offset; j++) {
+            add(rest[j]);
+        }
+        addAll(values);
+        for (int j = offset; j < rest.length; j++) {
+            add(rest[j]);
+        }
+    }
+
+    /**
+     * Removes the element at the specified position of the list
+     * All elements after the specified position are shifted up the list
+     * The size of the list is shortened by this method if there is a number at the specified position
+     * O(N - i), since the blocks after the position are re-packed
+     * @param i the index where the value should be removed
+     * @throws IndexOutOfBoundsException when the index is negative
+     */
+    public void remove(int i) {
+        removeRange(i, i + 1);
+    }
+
+    /**
+     * Removes the numbers from index start (inclusive) to index end (exclusive)
+     * All numbers after the range are shifted up the list
+     * Indexes at or past the size of the list are ignored, in the same fashion as the remove method
+     * O(N - start), since the blocks after the start are re-packed once
+     * @param start the index of the first number to remove
+     * @param end the index after the last number to remove
+     * @throws IndexOutOfBoundsException when start is negative or greater than end
+     */
+    public void removeRange(int start, int end) {
+        if (start < 0 || start > end) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        end = Math.min(end, size());
+        if (start >= end) {
+            return;
+        }
+
+        int block = start >>> blockShift;
+        double[] rest = truncate(block);
+        int offset = start - (block << blockShift);
+        int removed = end - start;
+
+        for (int j = 0; j < offset; j++) {
+            add(rest[j]);
+        }
+        for (int j = offset + removed; j < rest.length; j++) {
+            add(rest[j]);
+        }
+    }
+
+    /**
+     * Cuts the list off at the start of a block and returns the values that were cut off
+     * The sorted state is put back to what it was at the end of the block before
+     * O(N - i) where i is the index of the first value cut off
+     * @param block the index of the first block to cut off
+     * @return the values from the start of the block to the end of the list
+     */
+    private double[] truncate(int block) {
+        double[] rest = new double[size() - (block << blockShift)];
+
+        int j = 0;
+        for (int b = block; b < this.blockCount; b++) {
+            BlockDecoder decoder = new BlockDecoder(this.blocks[b]);
+            for (int k = 0; k < blockLength; k++) {
+                rest[j] = decoder.next();
+                j++;
+            }
+            this.blocks[b] = null;
+        }
+        System.arraycopy(this.tail, 0, rest, j, this.tailCount);
+
+        this.blockCount = block;
+        this.tailCount = 0;
+
+        if (block == 0) {
+            this.sorted = true;
+            this.last = 0.0;
+        }
+        else {
+            this.sorted = this.sortedThrough[block - 1];
+            this.last = decode(block - 1, blockMask);
+        }
+
+        return rest;
+    }
+
+    /**
+     * Decodes one value of a packed block
+     * O(B) where B is the number of values in a block
+     * @param block the index of the packed block
+     * @param offset the index of the value in the block
+     * @return the value
+     */
+    private double decode(int block, int offset) {
+        BlockDecoder decoder = new BlockDecoder(this.blocks[block]);
+
+        for (int k = 0; k < offset; k++) {
+            decoder.next();
+        }
+
+        return decoder.next();
+    }
+
+    /**
+     * Returns the i-th element of the list
+     * Only the block holding the value is decoded
+     * O(B) where B is the number of values in a block
+     * @param i the index of the list to get the value from
+     * @return the value stored at the specified index
+     * @throws IndexOutOfBoundsException when the input index is negative or greater than or equal to the size of the list
+     */
+    public double lookup(int i) throws IndexOutOfBoundsException {
+        if (i < 0 || i >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int block = i >>> blockShift;
+        if (block == this.blockCount) {
+            return this.tail[i & blockMask];
+        }
+
+        return decode(block, i & blockMask);
+    }
+
+    /**
+     * Checks whether the list contains the input value
+     * Packed blocks whose smallest and largest values do not surround the value are skipped without decoding them
+     * O(N)
+     * @param value the value to look for
+     * @return true if the value is in the list, false otherwise
+     */
+    public boolean contains(double value) {
+        for (int b = 0; b < this.blockCount; b++) {
+            if (value < this.blockMin[b] || value > this.blockMax[b]) {
+                continue;
+            }
+
+            BlockDecoder decoder = new BlockDecoder(this.blocks[b]);
+            for (int k = 0; k < blockLength; k++) {
+                if (decoder.next() == value) {
+                    return true;
+                }
+            }
+        }
+
+        for (int k = 0; k < this.tailCount; k++) {
+            if (this.tail[k] == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Copies the numbers in the list into a new array, in order
+     * O(N)
+     * @return an array with the numbers in the list
+     */
+    public double[] toArray() {
+        double[] result = new double[size()];
+
+        int j = 0;
+        for (int b = 0; b < this.blockCount; b++) {
+            BlockDecoder decoder = new BlockDecoder(this.blocks[b]);
+            for (int k = 0; k < blockLength; k++) {
+                result[j] = decoder.next();
+                j++;
+            }
+        }
+        System.arraycopy(this.tail, 0, result, j, this.tailCount);
+
+        return result;
+    }
+
+    /**
+     * Removes all duplicates in the list, keeping the first instance of each value
+     * O(N)
+     */
+    public void removeDuplicates() {
+        double[] values = truncate(0);
+        DoubleHashSet seen = new DoubleHashSet(values.length);
+
+        for (double value : values) {
+            if (seen.add(value)) {
+                add(value);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the list is sorted in increasing order or not
+     * O(1)
+     * @return true if the list is sorted, false otherwise
+     */
+    public boolean isSorted() {
+        return this.sorted;
+    }
+
+    /**
+     * Reverses the order of the values in the list
+     * Every block is re-packed
+     * O(N)
+     */
+    public void reverse() {
+        double[] values = truncate(0);
+
+        for (int j = values.length - 1; j >= 0; j--) {
+            add(values[j]);
+        }
+    }
+
+    /**
+     * Provides a String representation of this list
+     * For an empty list, an empty String is returned
+     * Numbers are separated by a space and no other characters are included
+     * O(N)
+     * @return a String representation of the list
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        DoubleIterator i = this.iterator();
+
+        while (i.hasNext()) {
+            result.append(i.next()).append(" ");
+        }
+
+        // Remove the last space
+        if (result.length() > 0) {
+            result.setLength(result.length() - 1);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns an iterator for the list that begins at the front of the list
+     * The iterator decodes the packed blocks as it goes, so a full scan decodes each block once
+     * O(1)
+     * @return a DoubleIterator for the list the method is called on
+     */
+    public DoubleIterator iterator() {
+        return new NumCompressedListIterator(this);
+    }
+
+    /**
+     * Writes bits into an array of words, starting from the most significant bit of the first word
+     * The words must start out as zeros
+     * @author Joshua Shew
+     */
+    private static class BitWriter {
+        /* The words the bits are written into */
+        private final long[] words;
+
+        /* The index of the next bit to write */
+        private int position = 0;
+
+        /**
+         * Constructor for a writer that starts at the first bit
+         * @param words the words to write into, all zeros
+         */
+        private BitWriter(long[] words) {
+            this.words = words;
+        }
+
+        /**
+         * Writes the low bits of a number, most significant first
+         * @param value the number holding the bits
+         * @param count the number of low bits to write, from 1 to 64
+         */
+        private void write(long value, int count) {
+            if (count < 64) {
+                value &= (1L << count) - 1;
+            }
+
+            int word = this.position >>> 6;
+            int free = 64 - (this.position & 63); // the bits left in the current word
+
+            if (count <= free) {
+                this.words[word] |= value << (free - count);
+            }
+            else {
+                this.words[word] |= value >>> (count - free);
+                this.words[word + 1] |= value << (64 - (count - free));
+            }
+
+            this.position += count;
+        }
+
+        /**
+         * Getter method for the number of words that hold written bits
+         * @return the number of words used
+         */
+        private int wordsUsed() {
+            return (this.position + 63) >>> 6;
+        }
+    }
+
+    /**
+     * Decodes the values of a packed block one after another
+     * Reverses the encoding of the encode method
+     * @author Joshua Shew
+     */
+    private static class BlockDecoder {
+        /* The packed words of the block */
+        private final long[] words;
+
+        /* The index of the next bit to read */
+        private int position = 0;
+
+        /* The bits of the last value decoded */
+        private long bits = 0L;
+
+        /* The window of changed bits from the last value that was written with one */
+        private int leading = 0;
+        private int trailing = 0;
+
+        /* Whether the first value has been decoded */
+        private boolean started = false;
+
+        /**
+         * Constructor for a decoder that starts at the first value of a block
+         * @param words the packed words of the block
+         */
+        private BlockDecoder(long[] words) {
+            this.words = words;
+        }
+
+        /**
+         * Reads the next bits as a number
+         * @param count the number of bits to read, from 1 to 64
+         * @return the bits, as the low bits of the number
+         */
+        private long read(int count) {
+            int word = this.position >>> 6;
+            int offset = this.position & 63;
+            int free = 64 - offset; // the bits left in the current word
+            long result;
+
+            if (count <= free) {
+                result = (this.words[word] << offset) >>> (64 - count);
+            }
+            else {
+                long high = (this.words[word] << offset) >>> offset;
+                result = (high << (count - free)) | (this.words[word + 1] >>> (64 - (count - free)));
+            }
+
+            this.position += count;
+            return result;
+        }
+
+        /**
+         * Decodes the next value of the block
+         * The caller keeps track of how many values the block has
+         * @return the value
+         */
+        private double next() {
+            if (!this.started) {
+                this.bits = read(64);
+                this.started = true;
+            }
+            else if (read(1) != 0) {
+                if (read(1) != 0) {
+                    this.leading = (int) read(5);
+                    int significant = (int) read(6) + 1;
+                    this.trailing = 64 - this.leading - significant;
+                }
+
+                this.bits ^= read(64 - this.leading - this.trailing) << this.trailing;
+            }
+
+            return Double.longBitsToDouble(this.bits);
+        }
+    }
+
+    /**
+     * Iterator for NumCompressedList
+     * Keeps one decoder for the block it is in, then reads the tail directly
+     * All methods are O(1)
+     * @author Joshua Shew
+     */
+    private static class NumCompressedListIterator implements DoubleIterator {
+        /* Stores a reference to the list the iterator is iterating over */
+        private final NumCompressedList list;
+
+        /* The decoder for the block holding the next value, null once the iterator reaches the tail */
+        private BlockDecoder decoder = null;
+
+        /* The next value, already decoded */
+        private double nextValue = 0.0;
+
+        /* The index of the next value */
+        private int index = 0;
+
+        /* The number of values the iterator goes through */
+        private final int size;
+
+        /**
+         * Constructor for an iterator that starts at the front of the list
+         * @param list the list to iterate over
+         */
+        public NumCompressedListIterator(NumCompressedList list) {
+            this.list = list;
+            this.size = list.size();
+            load();
+        }
+
+        /**
+         * Decodes the value at the iterator's index, starting a new decoder at the start of each packed block
+         */
+        private void load() {
+            if (this.index >= this.size) {
+                return;
+            }
+
+            int block = this.index >>> blockShift;
+            if (block < this.list.blockCount) {
+                if ((this.index & blockMask) == 0) {
+                    this.decoder = new BlockDecoder(this.list.blocks[block]);
+                }
+                this.nextValue = this.decoder.next();
+            }
+            else {
+                this.nextValue = this.list.tail[this.index & blockMask];
+            }
+        }
+
+        /**
+         * Checks whether there is another value ahead of the iterator in the list
+         * @return true if there is a value, false otherwise
+         */
+        public boolean hasNext() {
+            return this.index < this.size;
+        }
+
+        /**
+         * Moves the iterator forward one value and returns that value
+         * @return the value at iterator's current index
+         * @throws NoSuchElementException when there are no more values
+         */
+        public double next() {
+            double value = peek();
+
+            this.index++;
+            load();
+
+            return value;
+        }
+
+        /**
+         * Retrieves the value the iterator is current at without moving it forward
+         * @return the value at the iterator's current index
+         * @throws NoSuchElementException when there are no more values
+         */
+        public double peek() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return this.nextValue;
+        }
+    }
+}
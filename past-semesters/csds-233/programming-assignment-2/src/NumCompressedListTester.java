@@ -0,0 +1,167 @@
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NumCompressedListTester {
+    /**
+     * Unit tests for the add, lookup, toArray, and iterator methods, compared to a NumArrayList
+     */
+    @Test
+    public void testAdd() {
+        NumCompressedList list1 = new NumCompressedList();
+        NumArrayList list2 = new NumArrayList();
+        Assert.assertEquals("An empty list should have an empty String", "", list1.toString());
+        Assert.assertTrue("An empty list should be sorted", list1.isSorted());
+
+        // a slowly changing series that fills several blocks and part of the tail
+        Random random = new Random(17);
+        double value = 20.0;
+        for (int i = 0; i < 1000; i++) {
+            value += Math.round(random.nextGaussian() * 10) / 100.0;
+            list1.add(value);
+            list2.add(value);
+        }
+        Assert.assertTrue("The size should have been 1000 but it was not", list1.size() == 1000);
+        Assert.assertTrue("The capacity should hold every value", list1.capacity() >= 1000);
+        Assert.assertArrayEquals("The values were not stored correctly", list2.toArray(), list1.toArray(), 0.0);
+        Assert.assertTrue("The list should be equal to a NumArrayList with the same values", list1.equals(list2));
+
+        for (int i = 0; i < list2.size(); i++) {
+            Assert.assertEquals("lookup did not return the right value", list2.lookup(i), list1.lookup(i), 0.0);
+        }
+        try {
+            list1.lookup(1000);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+
+        Assert.assertTrue("The list should contain its last value", list1.contains(value));
+        Assert.assertTrue("The list should contain its first value", list1.contains(list2.lookup(0)));
+        Assert.assertFalse("The list should not contain 1000.0", list1.contains(1000.0));
+        Assert.assertEquals("The String was not made correctly", list2.toString(), list1.toString());
+    }
+
+    /**
+     * Unit tests for values whose bits change a lot from one to the next
+     */
+    @Test
+    public void testSpecialValues() {
+        NumCompressedList list = new NumCompressedList();
+        double[] special = {0.0, -0.0, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.MIN_VALUE, Double.MAX_VALUE, 1.0, 1.0};
+
+        Random random = new Random(233);
+        double[] values = new double[600];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i < special.length ? special[i] : Double.longBitsToDouble(random.nextLong());
+        }
+        list.addAll(values);
+
+        double[] result = list.toArray();
+        for (int i = 0; i < values.length; i++) {
+            Assert.assertEquals("The bits of value " + i + " should not have changed", Double.doubleToRawLongBits(values[i]), Double.doubleToRawLongBits(result[i]));
+        }
+        Assert.assertEquals("-0.0 should have kept its sign", "-0.0", Double.toString(list.lookup(1)));
+        Assert.assertTrue("NaN should have been kept", Double.isNaN(list.lookup(2)));
+    }
+
+    /**
+     * Unit tests for how much space slowly changing values take up
+     */
+    @Test
+    public void testCompression() {
+        NumCompressedList list = new NumCompressedList();
+
+        // a reading that stays the same for a while and then moves by a small step
+        double value = 50.0;
+        for (int i = 0; i < 100000; i++) {
+            if (i % 8 == 0) {
+                value += (i % 16 == 0) ? 0.5 : -0.25;
+            }
+            list.add(value);
+        }
+
+        long uncompressed = 100000L * Double.BYTES;
+        Assert.assertTrue("The values should have taken at most a fifth of the space, but took " + list.compressedBytes() + " bytes", list.compressedBytes() * 5 <= uncompressed);
+        Assert.assertEquals("The last value should not have changed", value, list.lookup(99999), 0.0);
+    }
+
+    /**
+     * Unit tests for the insert, insertAll, remove, and removeRange methods, compared to a NumArrayList
+     */
+    @Test
+    public void testEdits() {
+        NumCompressedList list1 = new NumCompressedList();
+        NumArrayList list2 = new NumArrayList();
+        for (int i = 0; i < 700; i++) {
+            list1.add(i);
+            list2.add(i);
+        }
+        Assert.assertTrue("The list should be sorted", list1.isSorted());
+
+        list1.insert(300, -1.0);
+        list2.insert(300, -1.0);
+        Assert.assertFalse("The list should not be sorted", list1.isSorted());
+        list1.insert(5000, 800.0);
+        list2.insert(5000, 800.0);
+        list1.insertAll(10, new double[] {0.5, 0.25});
+        list2.insertAll(10, new double[] {0.5, 0.25});
+        Assert.assertArrayEquals("The values were not inserted correctly", list2.toArray(), list1.toArray(), 0.0);
+
+        list1.remove(302);
+        list2.remove(302);
+        list1.remove(5000);
+        list2.remove(5000);
+        list1.removeRange(10, 12);
+        list2.removeRange(10, 12);
+        Assert.assertArrayEquals("The values were not removed correctly", list2.toArray(), list1.toArray(), 0.0);
+        Assert.assertTrue("The list should be sorted again", list1.isSorted());
+
+        list1.removeRange(250, 10000);
+        list2.removeRange(250, 10000);
+        Assert.assertArrayEquals("The range was not removed correctly", list2.toArray(), list1.toArray(), 0.0);
+        Assert.assertTrue("The size should have been 250 but it was not", list1.size() == 250);
+
+        try {
+            list1.insert(-1, 0.0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+        try {
+            list1.removeRange(5, 4);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for the reverse and removeDuplicates methods
+     */
+    @Test
+    public void testReorder() {
+        NumCompressedList list = new NumCompressedList();
+        for (int i = 0; i < 600; i++) {
+            list.add(i % 300);
+        }
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+
+        list.removeDuplicates();
+        Assert.assertTrue("The size should have been 300 but it was not", list.size() == 300);
+        Assert.assertTrue("The list should be sorted after removing the duplicates", list.isSorted());
+
+        list.reverse();
+        Assert.assertEquals("The first value should have been 299.0 but it was not", 299.0, list.lookup(0), 0.0);
+        Assert.assertEquals("The last value should have been 0.0 but it was not", 0.0, list.lookup(299), 0.0);
+        Assert.assertFalse("The list should not be sorted after reversing it", list.isSorted());
+
+        list.sort();
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+        Assert.assertEquals("The first value should have been 0.0 but it was not", 0.0, list.lookup(0), 0.0);
+    }
+}
\ No newline at end of file
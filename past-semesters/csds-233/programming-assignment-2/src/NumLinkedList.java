@@ -1,3 +1,5 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 
 /**
@@ -20,8 +22,17 @@ public class NumLinkedList implements NumList {
     /* The maximum capacity of the list */
     private final int capacity = Integer.MAX_VALUE;
 
-    /* Keeps track of whether or not the list is sorted */
-    private boolean sorted = true;
+    /* The number of adjacent pairs where the second value is less than the first, so the list is sorted when there are none */
+    private int descents = 0;
+
+    /* The number of adjacent pairs where the second value is greater than the first, so the list is sorted in decreasing order when there are none */
+    private int ascents = 0;
+
+    /* The number of adjacent pairs with NaN in them, so a list of two or more values holds NaN when there are any */
+    private int nanPairs = 0;
+
+    /* Counts the changes made to the list, so views of the list can tell when it changed under them */
+    private int modCount = 0;
 
     /**
      * Constructor for an empty linked list
@@ -30,7 +41,9 @@ public class NumLinkedList implements NumList {
         this.front = null;
         this.back = null;
         this.size = 0;
-        this.sorted = true;
+        this.descents = 0;
+        this.ascents = 0;
+        this.nanPairs = 0;
     }
 
     /**
@@ -79,6 +92,7 @@ public class NumLinkedList implements NumList {
      */
     private void incrementSize() {
         this.size++;
+        this.modCount++;
     }
 
     /**
@@ -86,6 +100,7 @@ public class NumLinkedList implements NumList {
      */
     private void decrementSize() {
         this.size--;
+        this.modCount++;
     }
 
     /**
@@ -98,11 +113,53 @@ public class NumLinkedList implements NumList {
     }
 
     /**
-     * Setter for the sorted field
-     * @param sorted whether or not the list is sorted
+     * Adds a pair of adjacent values to the descent, ascent, and NaN pair counts, or takes it away
+     * A pair of equal values, or a pair with NaN, is neither a descent nor an ascent
+     * O(1)
+     * @param first the first value of the pair
+     * @param second the value after it
+     * @param change 1 when the values become adjacent, -1 when they stop being adjacent
      */
-    private void setSorted(boolean sorted) {
-        this.sorted = sorted;
+    private void countPair(double first, double second, int change) {
+        if (second < first) {
+            this.descents += change;
+        }
+        else if (first < second) {
+            this.ascents += change;
+        }
+        else if (first != first || second != second) {
+            this.nanPairs += change;
+        }
+    }
+
+    /**
+     * Adds the pair of two nodes to the pair counts, or takes it away, if both nodes exist
+     * O(1)
+     * @param first the first node, or null
+     * @param second the node after it, or null
+     * @param change 1 when the nodes become adjacent, -1 when they stop being adjacent
+     */
+    private void countPair(LLNode first, LLNode second, int change) {
+        if (first != null && second != null) {
+            countPair(first.getValue(), second.getValue(), change);
+        }
+    }
+
+    /**
+     * Adds the pairs a value makes with the nodes on each side of it to the pair counts, or takes them away
+     * O(1)
+     * @param prev the node before the value, or null at the front of the list
+     * @param value the value
+     * @param next the node after the value, or null at the back of the list
+     * @param change 1 when the value is put between the nodes, -1 when it is taken out
+     */
+    private void countAround(LLNode prev, double value, LLNode next, int change) {
+        if (prev != null) {
+            countPair(prev.getValue(), value, change);
+        }
+        if (next != null) {
+            countPair(value, next.getValue(), change);
+        }
     }
 
     /**
@@ -117,8 +174,8 @@ public class NumLinkedList implements NumList {
             setBack(getFront());
         }
         else {
-            /* updates sorted based on the new value if the list is sorted, no update otherwise */
-            setSorted(isSorted() ? value >= getBack().getValue() : isSorted());
+            /* the new value makes one new pair with the old back */
+            countPair(getBack().getValue(), value, 1);
 
             /* adds the new node to the back & updates the next for the previous "back" node */
             setBack(new LLNode(value, getBack(), null));
@@ -138,25 +195,25 @@ public class NumLinkedList implements NumList {
      * @param value the value to add to the list
      */
     public void insert(int i, double value) {
-        /* cover cases when insert should behave like add */
+        /* cover cases when insert should behave like add, which counts the new node itself */
         if (i >= size()) {
             add(value);
+            return;
         }
         else if (i < 0) {
             throw new IndexOutOfBoundsException();
         }
         else if (i == 0) {
-            /* updates sorted based on the new value if the list is sorted, no update otherwise */
-            setSorted(isSorted() ? value <= getFront().getValue() : isSorted());
+            /* the new value makes one new pair with the old front */
+            countPair(value, getFront().getValue(), 1);
 
             setFront(new LLNode(value, null, getFront()));
             getFront().getNext().setPrev(getFront());
         }
         else if (i == size() - 1) {
-            /* updates sorted based on the new value if the list is sorted, no update otherwise */
-            setSorted(isSorted() ?
-                      getBack().getPrev().getValue() <= value && value <= getBack().getValue() :
-                      isSorted());
+            /* the new value splits the pair of its neighbors into a pair on each side of it */
+            countPair(getBack().getPrev(), getBack(), -1);
+            countAround(getBack().getPrev(), value, getBack(), 1);
 
             getBack().setPrev((new LLNode(value, getBack().getPrev(), getBack())));
             getBack().getPrev().getPrev().setNext(getBack().getPrev());
@@ -165,10 +222,9 @@ public class NumLinkedList implements NumList {
             /* finds the node directly before the insertion point */
             LLNode nodePtr = nodeLookup(i - 1);
 
-            /* updates sorted based on the new value if the list is sorted, no update otherwise */
-            setSorted(isSorted() ?
-                      nodePtr.getValue() <= value && value <= nodePtr.getNext().getValue() :
-                      isSorted());
+            /* the new value splits the pair of its neighbors into a pair on each side of it */
+            countPair(nodePtr, nodePtr.getNext(), -1);
+            countAround(nodePtr, value, nodePtr.getNext(), 1);
 
             nodePtr.setNext(new LLNode(value, nodePtr, nodePtr.getNext()));
             nodePtr.getNext().getNext().setPrev(nodePtr.getNext());
@@ -186,6 +242,10 @@ public class NumLinkedList implements NumList {
     public LLNode removeNode(LLNode node) {
         decrementSize();
 
+        /* The pairs on each side of the node are replaced by the pair of its neighbors */
+        countAround(node.getPrev(), node.getValue(), node.getNext(), -1);
+        countPair(node.getPrev(), node.getNext(), 1);
+
         /* When the node is the only node in the list */
         if (node.getPrev() == null && node.getNext() == null) {
             setFront(null);
@@ -231,27 +291,193 @@ public class NumLinkedList implements NumList {
             if (size == 1) {
                 setFront(null);
                 setBack(null);
+                this.descents = 0;
+                this.ascents = 0;
+                this.nanPairs = 0;
             }
             /* Removing the first element in the list */
             else if (i == 0) {
+                countPair(getFront(), getFront().getNext(), -1);
                 setFront(getFront().getNext());
                 getFront().setPrev(null);
             }
             /* Removing the last element in the list */
             else if (i == size() - 1) {
+                countPair(getBack().getPrev(), getBack(), -1);
                 setBack(getBack().getPrev());
                 getBack().setNext(null);
             }
             else {
                 LLNode nodePtr = nodeLookup(i - 1);
-                nodePtr.setNext(nodePtr.getNext().getNext());
+                LLNode removed = nodePtr.getNext();
+
+                /* The pairs on each side of the node are replaced by the pair of its neighbors */
+                countAround(nodePtr, removed.getValue(), removed.getNext(), -1);
+                countPair(nodePtr, removed.getNext(), 1);
+
+                nodePtr.setNext(removed.getNext());
+                nodePtr.getNext().setPrev(nodePtr);
             }
 
             decrementSize();
-            setSorted(checkIfSorted());
         }
     }
 
+    /**
+     * Adds all of the numbers in the array to the end of the list, in order
+     * The new nodes are spliced onto the back of the list once
+     * O(K) where K is the number of values added
+     * @param values the numbers to add to the end of the list
+     */
+    public void addAll(double[] values) {
+        spliceAfter(getBack(), values);
+    }
+
+    /**
+     * Adds all of the numbers in the array at a specified position of the list, in order
+     * The new nodes are spliced into the list once
+     * If the list has i or fewer numbers, then the values are added in the same fashion as the addAll method
+     * O(1) + O(K) for front or back
+     * O(N) + O(K) for random index
+     * @param i the index to insert the first new value at
+     * @param values the values to add to the list
+     * @throws IndexOutOfBoundsException when the index is negative
+     */
+    public void insertAll(int i, double[] values) {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        else if (i >= size()) {
+            addAll(values);
+        }
+        else {
+            spliceAfter(i == 0 ? null : nodeLookup(i - 1), values);
+        }
+    }
+
+    /**
+     * Links a chain of new nodes holding the values into the list right after the specified node
+     * The descent and ascent counts are updated once for the whole chain
+     * O(K) where K is the number of values
+     * @param before the node the chain goes after, or null to put the chain at the front of the list
+     * @param values the values to put in the chain
+     */
+    private void spliceAfter(LLNode before, double[] values) {
+        if (values.length == 0) {
+            return;
+        }
+
+        LLNode after = before == null ? getFront() : before.getNext();
+
+        /* the chain splits the pair at the splice point, adding its own pairs and one on each end */
+        countPair(before, after, -1);
+        if (before != null) {
+            countPair(before.getValue(), values[0], 1);
+        }
+        if (after != null) {
+            countPair(values[values.length - 1], after.getValue(), 1);
+        }
+        for (int j = 1; j < values.length; j++) {
+            countPair(values[j - 1], values[j], 1);
+        }
+
+        /* builds the chain off to the side */
+        LLNode chainFront = new LLNode(values[0], before, null);
+        LLNode chainBack = chainFront;
+        for (int j = 1; j < values.length; j++) {
+            chainBack.setNext(new LLNode(values[j], chainBack, null));
+            chainBack = chainBack.getNext();
+        }
+
+        /* splices the chain in between before and after */
+        if (before == null) {
+            setFront(chainFront);
+        }
+        else {
+            before.setNext(chainFront);
+        }
+
+        chainBack.setNext(after);
+        if (after == null) {
+            setBack(chainBack);
+        }
+        else {
+            after.setPrev(chainBack);
+        }
+
+        this.size += values.length;
+        this.modCount++;
+    }
+
+    /**
+     * Removes the numbers from index start (inclusive) to index end (exclusive)
+     * The removed nodes are unlinked from the list at once
+     * Indexes at or past the size of the list are ignored, in the same fashion as the remove method
+     * O(N)
+     * @param start the index of the first number to remove
+     * @param end the index after the last number to remove
+     * @throws IndexOutOfBoundsException when start is negative or greater than end
+     */
+    public void removeRange(int start, int end) {
+        if (start < 0 || start > end) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        end = Math.min(end, size());
+        if (start < end) {
+            /* finds the nodes on either side of the range */
+            LLNode first = nodeLookup(start);
+            LLNode last = first;
+            for (int j = start + 1; j < end; j++) {
+                last = last.getNext();
+            }
+
+            LLNode before = first.getPrev();
+            LLNode after = last.getNext();
+
+            /* The pairs touching the range are replaced by the pair of the nodes on each side of it */
+            countPair(before, first, -1);
+            for (LLNode nodePtr = first; nodePtr != after; nodePtr = nodePtr.getNext()) {
+                countPair(nodePtr, nodePtr.getNext(), -1);
+            }
+            countPair(before, after, 1);
+
+            if (before == null) {
+                setFront(after);
+            }
+            else {
+                before.setNext(after);
+            }
+
+            if (after == null) {
+                setBack(before);
+            }
+            else {
+                after.setPrev(before);
+            }
+
+            this.size -= end - start;
+            this.modCount++;
+        }
+    }
+
+    /**
+     * Copies the numbers in the list into a new array, in order
+     * O(N)
+     * @return an array with the numbers in the list
+     */
+    public double[] toArray() {
+        double[] result = new double[size()];
+
+        int j = 0;
+        for (LLNode nodePtr = getFront(); nodePtr != null; nodePtr = nodePtr.getNext()) {
+            result[j] = nodePtr.getValue();
+            j++;
+        }
+
+        return result;
+    }
+
     /**
      * Checks whether the list contains the input value
      * O(N)
@@ -309,6 +535,140 @@ public class NumLinkedList implements NumList {
         }
     }
 
+    /**
+     * Returns a read-only view of the numbers from index from (inclusive) to index to (exclusive)
+     * The view starts from the node at index from, so iterating over it does not walk the list from the front
+     * Any change to the list after the view is made is detected
+     * O(N) to find the first node
+     * @param from the index of the first number in the view
+     * @param to the index after the last number in the view
+     * @return a NumList view of the range
+     * @throws IndexOutOfBoundsException when from is negative, to is greater than the size, or from is greater than to
+     */
+    public NumList subList(int from, int to) throws IndexOutOfBoundsException {
+        NumListView.checkRange(from, to, size());
+        return new NumLinkedListView(this, from == to ? null : nodeLookup(from), to - from);
+    }
+
+    /**
+     * A read-only view of a range of a NumLinkedList
+     * @author Joshua Shew
+     */
+    private static final class NumLinkedListView extends NumListView {
+        /* The list the view looks at */
+        private final NumLinkedList list;
+
+        /* The node holding the first value in the view, or null for an empty view */
+        private final LLNode start;
+
+        /* The modCount of the list when the view was made */
+        private final int expectedModCount;
+
+        /**
+         * Constructor for a view
+         * @param list the list
+         * @param start the node holding the first value in the view
+         * @param size the number of values in the view
+         */
+        private NumLinkedListView(NumLinkedList list, LLNode start, int size) {
+            super(size);
+
+            this.list = list;
+            this.start = start;
+            this.expectedModCount = list.modCount;
+        }
+
+        void checkForComodification() throws ConcurrentModificationException {
+            if (this.list.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        double get(int i) {
+            LLNode nodePtr = this.start;
+            for (int j = 0; j < i; j++) {
+                nodePtr = nodePtr.getNext();
+            }
+
+            return nodePtr.getValue();
+        }
+
+        /**
+         * Returns an iterator that walks the nodes of the view
+         * O(1)
+         * @return a DoubleIterator for the view
+         */
+        public DoubleIterator iterator() {
+            checkForComodification();
+
+            return new NumLinkedListViewIterator(this);
+        }
+    }
+
+    /**
+     * Iterator for the view of a NumLinkedList, which walks the nodes of the view
+     * All methods are O(1)
+     * @author Joshua Shew
+     */
+    private static class NumLinkedListViewIterator implements DoubleIterator {
+        /* Stores a reference to the view the iterator is iterating over */
+        private final NumLinkedListView view;
+
+        /* The node holding the next value */
+        private LLNode nodePtr = null;
+
+        /* The number of values left */
+        private int remaining = 0;
+
+        /**
+         * Constructor for an iterator that starts at the front of the view
+         * @param view the view to iterate over
+         */
+        public NumLinkedListViewIterator(NumLinkedListView view) {
+            this.view = view;
+            this.nodePtr = view.start;
+            this.remaining = view.size();
+        }
+
+        /**
+         * Checks whether there is another value ahead of the iterator in the view
+         * @return true if there is a value, false otherwise
+         */
+        public boolean hasNext() {
+            return this.remaining > 0;
+        }
+
+        /**
+         * Moves the iterator forward one value and returns that value
+         * @return the value at iterator's current index
+         * @throws NoSuchElementException when there are no more values
+         * @throws ConcurrentModificationException when the list has changed since the view was made
+         */
+        public double next() {
+            double value = peek();
+
+            this.nodePtr = this.nodePtr.getNext();
+            this.remaining--;
+
+            return value;
+        }
+
+        /**
+         * Retrieves the value the iterator is current at without moving it forward
+         * @return the value at the iterator's current index
+         * @throws NoSuchElementException when there are no more values
+         * @throws ConcurrentModificationException when the list has changed since the view was made
+         */
+        public double peek() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            this.view.checkForComodification();
+            return this.nodePtr.getValue();
+        }
+    }
+
     /**
      * Returns the i-th element of the list
      * O(1) for front or back
@@ -327,27 +687,39 @@ public class NumLinkedList implements NumList {
 
     /**
      * Removes duplicates in this list while preserving the current order of the numbers
-     * O(N^2)
+     * Values are duplicates when they are equal with ==, and every NaN is a duplicate of the first NaN
+     * Duplicate nodes are unlinked in a single pass
+     * O(N) (expected O(N) for a list that is unsorted or holds NaN, which uses a hash set)
      */
     public void removeDuplicates() {
-        LLNode nodePtr1 = getFront();
-
-        /* nodePtr1 goes through the entire list */
-        while (nodePtr1 != null && nodePtr1.getNext() != null) {
-            LLNode nodePtr2 = nodePtr1.getNext();
-            /* nodePtr2 removes all elements right of nodePtr1 that are duplicates of nodePtr1 */
-            while (nodePtr2 != null) {
-                if (nodePtr2.getValue() == nodePtr1.getValue()) {
-                    nodePtr2 = removeNode(nodePtr2);
+        /* The duplicates of a sorted list with no NaN are next to each other, so each value is only compared to the one kept before it */
+        if (isSorted() && !hasNaN()) {
+            LLNode nodePtr = getFront();
+            while (nodePtr != null) {
+                LLNode nextSave = nodePtr.getNext();
+
+                if (nodePtr.getPrev() != null && nodePtr.getPrev().getValue() == nodePtr.getValue()) {
+                    removeNode(nodePtr);
                 }
 
-                nodePtr2 = nodePtr2.getNext();
+                nodePtr = nextSave;
             }
-
-            nodePtr1 = nodePtr1.getNext();
         }
+        /* Any other list remembers every value kept so far in a hash set */
+        else {
+            DoubleHashSet seen = new DoubleHashSet(size());
+
+            LLNode nodePtr = getFront();
+            while (nodePtr != null) {
+                LLNode nextSave = nodePtr.getNext();
 
-        setSorted(checkIfSorted());
+                if (!seen.add(nodePtr.getValue())) {
+                    removeNode(nodePtr);
+                }
+
+                nodePtr = nextSave;
+            }
+        }
     }
 
     /**
@@ -379,11 +751,29 @@ public class NumLinkedList implements NumList {
 
     /**
      * Returns whether the list is currently sorted in increasing order or not
-     * O(1)
+     * O(1), since every change keeps the count of descents up to date
      * @return true if the list is sorted, false otherwise
      */
     public boolean isSorted() {
-        return this.sorted;
+        return this.descents == 0;
+    }
+
+    /**
+     * Returns whether the list is currently sorted in decreasing order or not
+     * O(1), since every change keeps the count of ascents up to date
+     * @return true if the list is sorted in decreasing order, false otherwise
+     */
+    public boolean isSortedDescending() {
+        return this.ascents == 0;
+    }
+
+    /**
+     * Checks whether the list holds NaN anywhere
+     * O(1), since every change keeps the count of pairs with NaN up to date
+     * @return true if any of the numbers is NaN, false otherwise
+     */
+    public boolean hasNaN() {
+        return this.nanPairs > 0 || (size() == 1 && getFront().getValue() != getFront().getValue());
     }
 
     /**
@@ -407,7 +797,128 @@ public class NumLinkedList implements NumList {
             nodePtr = nextSave;
         }
 
-        setSorted(checkIfSorted());
+        /* Every descent becomes an ascent and every ascent becomes a descent */
+        int descents = this.descents;
+        this.descents = this.ascents;
+        this.ascents = descents;
+
+        this.modCount++;
+    }
+
+    /**
+     * Sorts the list with a bottom-up merge sort that relinks the existing nodes
+     * Runs of 1, 2, 4, ... nodes are merged in passes, so no nodes or arrays are allocated
+     * Equal numbers keep their order, and the order is that of Double.compare, so -0.0 comes before 0.0 and NaN comes last
+     * O(N log N)
+     */
+    public void sort() {
+        LLNode head = getFront();
+
+        /* Only the next references are kept up to date during the passes */
+        for (long width = 1; width < size(); width *= 2) {
+            LLNode remaining = head;
+            LLNode mergedTail = null;
+            head = null;
+
+            while (remaining != null) {
+                LLNode left = remaining;
+                LLNode right = cutAfter(left, width);
+                remaining = cutAfter(right, width);
+
+                /* Merges the two runs onto the end of the nodes merged so far in this pass */
+                while (left != null || right != null) {
+                    LLNode smaller;
+
+                    if (right == null || (left != null && Double.compare(left.getValue(), right.getValue()) <= 0)) {
+                        smaller = left;
+                        left = left.getNext();
+                    }
+                    else {
+                        smaller = right;
+                        right = right.getNext();
+                    }
+
+                    if (mergedTail == null) {
+                        head = smaller;
+                    }
+                    else {
+                        mergedTail.setNext(smaller);
+                    }
+                    mergedTail = smaller;
+                }
+            }
+
+            mergedTail.setNext(null);
+        }
+
+        /* Rebuilds the previous references and the back of the list */
+        LLNode prev = null;
+        for (LLNode nodePtr = head; nodePtr != null; nodePtr = nodePtr.getNext()) {
+            nodePtr.setPrev(prev);
+            prev = nodePtr;
+        }
+
+        setFront(head);
+        setBack(prev);
+        this.modCount++;
+        countSorted();
+    }
+
+    /**
+     * Splits a chain of nodes after the specified number of nodes
+     * Only the next references are used
+     * O(K) where K is the number of nodes skipped
+     * @param start the first node of the chain, or null
+     * @param count the number of nodes to keep in the first part
+     * @return the first node of the second part, or null if the chain has count or fewer nodes
+     */
+    private static LLNode cutAfter(LLNode start, long count) {
+        LLNode nodePtr = start;
+
+        for (long i = 1; i < count && nodePtr != null; i++) {
+            nodePtr = nodePtr.getNext();
+        }
+        if (nodePtr == null) {
+            return null;
+        }
+
+        LLNode rest = nodePtr.getNext();
+        nodePtr.setNext(null);
+        return rest;
+    }
+
+    /**
+     * Sorts the list by copying the numbers into an array, sorting it with Arrays.parallelSort, and writing them back into the nodes
+     * The nodes stay where they are, and only the array is allocated
+     * Uses the same order as sort
+     * O(N log N)
+     */
+    public void parallelSort() {
+        double[] values = toArray();
+        Arrays.parallelSort(values);
+
+        int i = 0;
+        for (LLNode nodePtr = getFront(); nodePtr != null; nodePtr = nodePtr.getNext()) {
+            nodePtr.setValue(values[i++]);
+        }
+
+        this.modCount++;
+        countSorted();
+    }
+
+    /**
+     * Sets the pair counts after the list is sorted
+     * A sorted list has no descents, and its ascents are wherever the value changes
+     * O(N)
+     */
+    private void countSorted() {
+        this.descents = 0;
+        this.ascents = 0;
+        this.nanPairs = 0;
+
+        for (LLNode nodePtr = getFront(); nodePtr != null && nodePtr.getNext() != null; nodePtr = nodePtr.getNext()) {
+            countPair(nodePtr, nodePtr.getNext(), 1);
+        }
     }
 
     /**
@@ -443,6 +954,220 @@ public class NumLinkedList implements NumList {
         return new NumLinkedListIterator(this);
     }
 
+    /**
+     * Returns a cursor that starts before the value at a specified position of the list
+     * The cursor holds on to the node it is at, so moving it and editing the list around it are O(1)
+     * Any change to the list that does not go through the cursor is detected
+     * O(N) to find the first node
+     * @param i the index of the value that next returns first, which may be the size of the list
+     * @return a DoubleCursor for the list
+     * @throws IndexOutOfBoundsException when the index is negative or greater than the size of the list
+     */
+    public DoubleCursor cursor(int i) throws IndexOutOfBoundsException {
+        if (i < 0 || i > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return new NumLinkedListCursor(this, i, i == size() ? null : nodeLookup(i));
+    }
+
+    /**
+     * Cursor for NumLinkedList
+     * All methods are O(1)
+     * @author Joshua Shew
+     */
+    private static class NumLinkedListCursor implements DoubleCursor {
+        /* Stores a reference to the list the cursor moves over */
+        private final NumLinkedList list;
+
+        /* The node that next returns, null at the back of the list */
+        private LLNode nextNode = null;
+
+        /* The index of nextNode */
+        private int index = 0;
+
+        /* The node last returned by next or previous, null when there is none */
+        private LLNode lastReturned = null;
+
+        /* The modCount of the list after the last change the cursor made */
+        private int expectedModCount = 0;
+
+        /**
+         * Constructor for a cursor
+         * @param list the list to move over
+         * @param index the index of the node that next returns first
+         * @param nextNode the node that next returns first, null at the back of the list
+         */
+        public NumLinkedListCursor(NumLinkedList list, int index, LLNode nextNode) {
+            this.list = list;
+            this.index = index;
+            this.nextNode = nextNode;
+            this.expectedModCount = list.modCount;
+        }
+
+        /**
+         * Checks whether the list has changed without going through the cursor
+         * @throws ConcurrentModificationException when the list has changed
+         */
+        private void checkForComodification() throws ConcurrentModificationException {
+            if (this.list.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        /**
+         * Checks whether there is a value ahead of the cursor in the list
+         * @return true if there is a value, false otherwise
+         */
+        public boolean hasNext() {
+            return this.nextNode != null;
+        }
+
+        /**
+         * Moves the cursor forward one value and returns that value
+         * @return the value after the cursor
+         * @throws NoSuchElementException when there are no more values
+         * @throws ConcurrentModificationException when the list has changed without going through the cursor
+         */
+        public double next() {
+            double value = peek();
+
+            this.lastReturned = this.nextNode;
+            this.nextNode = this.nextNode.getNext();
+            this.index++;
+
+            return value;
+        }
+
+        /**
+         * Retrieves the value after the cursor without moving it
+         * @return the value after the cursor
+         * @throws NoSuchElementException when there are no more values
+         * @throws ConcurrentModificationException when the list has changed without going through the cursor
+         */
+        public double peek() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return this.nextNode.getValue();
+        }
+
+        /**
+         * Checks whether there is a value behind the cursor in the list
+         * @return true if there is a value, false otherwise
+         */
+        public boolean hasPrevious() {
+            return this.index > 0;
+        }
+
+        /**
+         * Moves the cursor back one value and returns that value
+         * @return the value before the cursor
+         * @throws NoSuchElementException when the cursor is at the front of the list
+         * @throws ConcurrentModificationException when the list has changed without going through the cursor
+         */
+        public double previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            this.nextNode = this.nextNode == null ? this.list.getBack() : this.nextNode.getPrev();
+            this.lastReturned = this.nextNode;
+            this.index--;
+
+            return this.nextNode.getValue();
+        }
+
+        /**
+         * Getter method for the position of the cursor
+         * @return the index of the value that next would return
+         */
+        public int nextIndex() {
+            return this.index;
+        }
+
+        /**
+         * Replaces the value of the last node returned by next or previous
+         * @param value the new value
+         * @throws IllegalStateException when there is no value to replace
+         * @throws ConcurrentModificationException when the list has changed without going through the cursor
+         */
+        public void set(double value) {
+            checkForComodification();
+            if (this.lastReturned == null) {
+                throw new IllegalStateException("next or previous has to be called before set");
+            }
+
+            /* The pairs the node makes with its neighbors are counted again with the new value */
+            this.list.countAround(this.lastReturned.getPrev(), this.lastReturned.getValue(), this.lastReturned.getNext(), -1);
+            this.list.countAround(this.lastReturned.getPrev(), value, this.lastReturned.getNext(), 1);
+            this.lastReturned.setValue(value);
+
+            this.list.modCount++;
+            this.expectedModCount = this.list.modCount;
+        }
+
+        /**
+         * Adds a value where the cursor is by linking a new node in front of nextNode, leaving the cursor after it
+         * @param value the value to add
+         * @throws ConcurrentModificationException when the list has changed without going through the cursor
+         */
+        public void insertBefore(double value) {
+            checkForComodification();
+
+            LLNode prev = this.nextNode == null ? this.list.getBack() : this.nextNode.getPrev();
+            this.list.countPair(prev, this.nextNode, -1);
+            this.list.countAround(prev, value, this.nextNode, 1);
+
+            LLNode node = new LLNode(value, prev, this.nextNode);
+            if (prev == null) {
+                this.list.setFront(node);
+            }
+            else {
+                prev.setNext(node);
+            }
+            if (this.nextNode == null) {
+                this.list.setBack(node);
+            }
+            else {
+                this.nextNode.setPrev(node);
+            }
+
+            this.list.incrementSize();
+            this.index++;
+            this.lastReturned = null;
+            this.expectedModCount = this.list.modCount;
+        }
+
+        /**
+         * Unlinks the last node returned by next or previous
+         * @throws IllegalStateException when there is no value to remove
+         * @throws ConcurrentModificationException when the list has changed without going through the cursor
+         */
+        public void remove() {
+            checkForComodification();
+            if (this.lastReturned == null) {
+                throw new IllegalStateException("next or previous has to be called before remove");
+            }
+
+            /* After previous the removed node is nextNode, after next it is the node before the cursor */
+            if (this.lastReturned == this.nextNode) {
+                this.nextNode = this.nextNode.getNext();
+            }
+            else {
+                this.index--;
+            }
+
+            this.list.removeNode(this.lastReturned);
+
+            this.lastReturned = null;
+            this.expectedModCount = this.list.modCount;
+        }
+    }
+
     /**
      * LLNode represents a single node in a list of nodes connected to each other
      * All methods are O(1)
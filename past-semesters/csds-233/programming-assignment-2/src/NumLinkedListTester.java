@@ -1,7 +1,26 @@
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
 import org.junit.Assert;
 import org.junit.Test;
 
 public class NumLinkedListTester {
+    /**
+     * Creates a NumLinkedList with the specified double values
+     * Uses the empty constructor and the add method
+     */
+    private static NumLinkedList createLinkedList(double... values) {
+        NumLinkedList list = new NumLinkedList();
+        for (double value : values)
+            list.add(value);
+
+        return list;
+    }
+
     /**
      * Unit tests for the NumLinkedList constructors
      */
@@ -516,4 +535,376 @@ public class NumLinkedListTester {
         list1.add(4.0);
         Assert.assertEquals("The method did not return the correct string", "0.0 1.0 2.0 3.0 4.0", list1.toString());
     }
+
+    /**
+     * Unit tests for the addAll methods
+     */
+    @Test
+    public void testAddAll() {
+        // adding an empty array
+        NumLinkedList list1 = new NumLinkedList();
+        list1.addAll(new double[0]);
+        Assert.assertEquals("list1 should still be empty", "", list1.toString());
+
+        // adding to an empty list
+        list1.addAll(new double[] {0.0, 1.0, 2.0});
+        Assert.assertEquals("The values were not added correctly", "0.0 1.0 2.0", list1.toString());
+        Assert.assertTrue("list1 should be sorted", list1.isSorted());
+
+        // adding values that keep the list sorted
+        list1.addAll(new double[] {2.0, 3.0});
+        Assert.assertEquals("The values were not added correctly", "0.0 1.0 2.0 2.0 3.0", list1.toString());
+        Assert.assertTrue("list1 should be sorted", list1.isSorted());
+
+        // adding values that are smaller than the last value
+        list1.addAll(new double[] {1.0});
+        Assert.assertFalse("list1 should not be sorted", list1.isSorted());
+
+        // adding another list, including the list itself
+        list1 = NumLinkedListTester.createLinkedList(0.0, 1.0);
+        NumList list2 = new NumLinkedList();
+        list2.add(5.0);
+        list1.addAll(list2);
+        Assert.assertEquals("The values were not added correctly", "0.0 1.0 5.0", list1.toString());
+        list1.addAll(list1);
+        Assert.assertEquals("The values were not added correctly", "0.0 1.0 5.0 0.0 1.0 5.0", list1.toString());
+        Assert.assertFalse("list1 should not be sorted", list1.isSorted());
+    }
+
+    /**
+     * Unit tests for the insertAll method
+     */
+    @Test
+    public void testInsertAll() {
+        // negative index
+        NumLinkedList list1 = new NumLinkedList();
+        try {
+            list1.insertAll(-1, new double[] {0.0});
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+
+        // inserting past the size appends the values
+        list1.insertAll(3, new double[] {3.0, 4.0});
+        Assert.assertEquals("The values were not added correctly", "3.0 4.0", list1.toString());
+
+        // inserting at the front
+        list1.insertAll(0, new double[] {0.0, 1.0});
+        Assert.assertEquals("The values were not inserted correctly", "0.0 1.0 3.0 4.0", list1.toString());
+        Assert.assertTrue("list1 should be sorted", list1.isSorted());
+
+        // inserting in the middle
+        list1.insertAll(2, new double[] {2.0, 2.5});
+        Assert.assertEquals("The values were not inserted correctly", "0.0 1.0 2.0 2.5 3.0 4.0", list1.toString());
+        Assert.assertTrue("list1 should be sorted", list1.isSorted());
+
+        // inserting values out of order
+        list1.insertAll(1, new double[] {9.0});
+        Assert.assertEquals("The values were not inserted correctly", "0.0 9.0 1.0 2.0 2.5 3.0 4.0", list1.toString());
+        Assert.assertFalse("list1 should not be sorted", list1.isSorted());
+    }
+
+    /**
+     * Unit tests for the removeRange and toArray methods
+     */
+    @Test
+    public void testRemoveRange() {
+        // bad ranges
+        NumLinkedList list1 = NumLinkedListTester.createLinkedList(0.0, 1.0, 2.0, 3.0, 4.0);
+        try {
+            list1.removeRange(3, 2);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+
+        // removing from the middle
+        list1.removeRange(1, 3);
+        Assert.assertEquals("The values were not removed correctly", "0.0 3.0 4.0", list1.toString());
+
+        // the end of the range is cut off at the size
+        list1.removeRange(2, 10);
+        Assert.assertEquals("The values were not removed correctly", "0.0 3.0", list1.toString());
+
+        // removing the values that made the list unsorted
+        list1 = NumLinkedListTester.createLinkedList(0.0, 5.0, 4.0, 1.0, 2.0);
+        Assert.assertFalse("list1 should not be sorted", list1.isSorted());
+        list1.removeRange(1, 3);
+        Assert.assertTrue("list1 should be sorted", list1.isSorted());
+
+        // toArray copies the values in order
+        Assert.assertArrayEquals("The array did not hold the right values", new double[] {0.0, 1.0, 2.0}, list1.toArray(), 0.0);
+        Assert.assertArrayEquals("The array of an empty list should be empty", new double[0], new NumLinkedList().toArray(), 0.0);
+    }
+
+    /**
+     * Unit tests for the sort and parallelSort methods
+     */
+    @Test
+    public void testSort() {
+        // empty and single value lists
+        NumLinkedList list1 = createLinkedList();
+        list1.sort();
+        Assert.assertEquals("An empty list should stay empty", "", list1.toString());
+        list1 = createLinkedList(1.0);
+        list1.sort();
+        Assert.assertEquals("A list with one value should not change", "1.0", list1.toString());
+
+        // sizes that are and are not powers of 2
+        Random random = new Random(233);
+        for (int size = 2; size <= 40; size++) {
+            NumLinkedList list2 = new NumLinkedList();
+            for (int i = 0; i < size; i++) {
+                list2.add(random.nextInt(10));
+            }
+
+            double[] expected = list2.toArray();
+            Arrays.sort(expected);
+            list2.sort();
+            Assert.assertArrayEquals("The list was not sorted correctly", expected, list2.toArray(), 0.0);
+            Assert.assertTrue("The list should be sorted", list2.isSorted());
+
+            // the previous references should have been relinked too
+            list2.reverse();
+            Assert.assertEquals("The back of the list was not relinked correctly", expected[size - 1], list2.lookup(0), 0.0);
+            Assert.assertEquals("The front of the list was not relinked correctly", expected[0], list2.lookup(size - 1), 0.0);
+            list2.parallelSort();
+            Assert.assertArrayEquals("The list was not sorted correctly in parallel", expected, list2.toArray(), 0.0);
+            Assert.assertTrue("The list should be sorted", list2.isSorted());
+        }
+
+        // -0.0, 0.0, and NaN
+        list1 = createLinkedList(Double.NaN, 0.0, 1.0, -0.0, -1.0);
+        list1.sort();
+        Assert.assertEquals("The special values were not sorted correctly", "-1.0 -0.0 0.0 1.0 NaN", list1.toString());
+        list1.add(-2.0);
+        list1.remove(0);
+        list1.insert(0, 3.0);
+        list1.sort();
+        Assert.assertEquals("The list was not sorted correctly after editing it", "-2.0 -0.0 0.0 1.0 3.0 NaN", list1.toString());
+    }
+
+    /**
+     * Unit tests for the subList method
+     */
+    @Test
+    public void testSubList() {
+        NumLinkedList list1 = createLinkedList(5.0, 1.0, 2.0, 3.0, 0.0);
+        NumList view = list1.subList(1, 4);
+        Assert.assertEquals("The view should have been 1.0 2.0 3.0 but it was not", "1.0 2.0 3.0", view.toString());
+        Assert.assertTrue("The view should be sorted even though the list is not", view.isSorted());
+        Assert.assertEquals("lookup did not return the right value", 3.0, view.lookup(2), 0.0);
+        Assert.assertEquals("An empty view should have an empty String", "", list1.subList(5, 5).toString());
+
+        // the view is not a copy
+        Assert.assertTrue("The whole list should equal a view of the whole list", list1.subList(0, 5).equals(list1));
+
+        // changing the list makes the view fail fast
+        list1.reverse();
+        try {
+            view.iterator();
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (ConcurrentModificationException e) {
+            // the method succeeded
+        }
+        try {
+            list1.subList(-1, 2);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for the cursor, compared to a ListIterator over a java.util.LinkedList
+     */
+    @Test
+    public void testCursor() {
+        NumLinkedList list1 = new NumLinkedList();
+        List<Double> list2 = new LinkedList<Double>();
+        for (int i = 0; i < 100; i++) {
+            list1.add(i);
+            list2.add((double) i);
+        }
+
+        // random moves and edits, checking the list after every pass
+        Random random = new Random(18);
+        for (int pass = 0; pass < 20; pass++) {
+            int start = random.nextInt(list2.size() + 1);
+            DoubleCursor cursor1 = list1.cursor(start);
+            ListIterator<Double> cursor2 = list2.listIterator(start);
+            boolean canEdit = false;
+
+            for (int step = 0; step < 200; step++) {
+                int choice = random.nextInt(6);
+                if (choice == 0 && cursor2.hasNext()) {
+                    Assert.assertEquals("next did not return the right value", cursor2.next(), cursor1.next(), 0.0);
+                    canEdit = true;
+                }
+                else if (choice == 1 && cursor2.hasPrevious()) {
+                    Assert.assertEquals("previous did not return the right value", cursor2.previous(), cursor1.previous(), 0.0);
+                    canEdit = true;
+                }
+                else if (choice == 2 && canEdit) {
+                    double value = random.nextInt(1000);
+                    cursor1.set(value);
+                    cursor2.set(value);
+                }
+                else if (choice == 3 && canEdit) {
+                    cursor1.remove();
+                    cursor2.remove();
+                    canEdit = false;
+                }
+                else if (choice >= 4) {
+                    double value = random.nextInt(1000);
+                    cursor1.insertBefore(value);
+                    cursor2.add(value);
+                    canEdit = false;
+                }
+                Assert.assertTrue("The cursor should have been at " + cursor2.nextIndex(), cursor1.nextIndex() == cursor2.nextIndex());
+                Assert.assertTrue("hasNext should have matched", cursor1.hasNext() == cursor2.hasNext());
+            }
+
+            Assert.assertTrue("The size should have been " + list2.size() + " but it was not", list1.size() == list2.size());
+            for (int i = 0; i < list2.size(); i++) {
+                Assert.assertEquals("The list did not match after the edits", list2.get(i), list1.lookup(i), 0.0);
+            }
+        }
+    }
+
+    /**
+     * Unit tests for editing in one pass and how the cursor keeps track of sorting
+     */
+    @Test
+    public void testCursorEdits() {
+        NumLinkedList list1 = createLinkedList(1.0, 2.0, 3.0, 4.0, 5.0);
+
+        // insert a value after every value in one pass
+        DoubleCursor cursor = list1.cursor();
+        while (cursor.hasNext()) {
+            double value = cursor.next();
+            cursor.insertBefore(value + 0.5);
+        }
+        Assert.assertEquals("The values were not inserted correctly", "1.0 1.5 2.0 2.5 3.0 3.5 4.0 4.5 5.0 5.5", list1.toString());
+        Assert.assertTrue("The list should still be sorted", list1.isSorted());
+
+        // remove every other value walking backwards
+        cursor = list1.cursor(list1.size());
+        while (cursor.hasPrevious()) {
+            cursor.previous();
+            cursor.remove();
+            if (cursor.hasPrevious()) {
+                cursor.previous();
+            }
+        }
+        Assert.assertEquals("The values were not removed correctly", "1.0 2.0 3.0 4.0 5.0", list1.toString());
+
+        cursor = list1.cursor(2);
+        cursor.next();
+        cursor.set(10.0);
+        Assert.assertFalse("The list should not be sorted", list1.isSorted());
+        cursor = list1.cursor(2);
+        cursor.next();
+        cursor.remove();
+        Assert.assertTrue("The list should be sorted after removing the value out of order", list1.isSorted());
+
+        // the cursor needs a value to act on, and notices changes made without it
+        try {
+            cursor.set(0.0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IllegalStateException e) {
+            // the method succeeded
+        }
+        list1.add(6.0);
+        try {
+            cursor.next();
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (ConcurrentModificationException e) {
+            // the method succeeded
+        }
+        try {
+            list1.cursor(7);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for keeping track of sortedness in both directions, compared to a scan of the values after every random change
+     */
+    @Test
+    public void testSortedness() {
+        NumLinkedList list1 = new NumLinkedList();
+        Random random = new Random(22);
+
+        for (int step = 0; step < 3000; step++) {
+            int choice = random.nextInt(12);
+            double value = random.nextInt(20) == 0 ? Double.NaN : random.nextInt(8);
+            int i = random.nextInt(list1.size() + 1);
+
+            if (choice <= 1) {
+                list1.add(value);
+            }
+            else if (choice == 2) {
+                list1.insert(i, value);
+            }
+            else if (choice <= 4) {
+                list1.remove(i);
+            }
+            else if (choice == 5) {
+                list1.insertAll(i, new double[] {value, value + random.nextInt(3) - 1, value + 1});
+            }
+            else if (choice == 6) {
+                list1.removeRange(i, i + random.nextInt(4));
+            }
+            else if (choice == 7) {
+                list1.reverse();
+            }
+            else if (choice == 8 && random.nextInt(4) == 0) {
+                list1.removeDuplicates();
+            }
+            else if (choice == 9 && random.nextInt(8) == 0) {
+                list1.sort();
+            }
+            else if (choice >= 10) {
+                DoubleCursor cursor = list1.cursor(i);
+                if (cursor.hasNext() && choice == 10) {
+                    cursor.next();
+                    cursor.set(value);
+                }
+                else if (cursor.hasPrevious() && random.nextBoolean()) {
+                    cursor.previous();
+                    cursor.remove();
+                }
+                else {
+                    cursor.insertBefore(value);
+                }
+            }
+
+            double[] values = list1.toArray();
+            boolean ascending = true;
+            boolean descending = true;
+            for (int j = 1; j < values.length; j++) {
+                ascending &= !(values[j] < values[j - 1]);
+                descending &= !(values[j - 1] < values[j]);
+            }
+
+            Assert.assertTrue("isSorted should have been " + ascending + " for " + list1, list1.isSorted() == ascending);
+            Assert.assertTrue("isSortedDescending should have been " + descending + " for " + list1, list1.isSortedDescending() == descending);
+
+            // keeps the list short enough to be sorted and unsorted often
+            if (list1.size() > 12) {
+                list1.removeRange(0, 6);
+            }
+        }
+    }
 }
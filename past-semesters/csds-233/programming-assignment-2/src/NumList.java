@@ -1,3 +1,11 @@
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
 /**
  * An interface for a list that contains doubles
  * @author Joshua Shew
@@ -41,6 +49,114 @@ public interface NumList extends DoubleIterable {
      */
     public abstract void remove(int i);
 
+    /**
+     * Adds all of the numbers in the array to the end of the list, in order
+     * @param values the numbers to add to the end of the list
+     */
+    public default void addAll(double[] values) {
+        for (double value : values) {
+            add(value);
+        }
+    }
+
+    /**
+     * Adds all of the numbers in the other list to the end of this list, in order
+     * The other list may be this list
+     * @param otherList the list whose numbers are added to the end of this list
+     */
+    public default void addAll(NumList otherList) {
+        addAll(otherList.toArray());
+    }
+
+    /**
+     * Adds all of the numbers in the array at a specified position of the list, in order
+     * All numbers after (and the number at) the specified position are shifted down the list
+     * If the list has i or fewer numbers, then the values are added in the same fashion as the addAll method
+     * @param i the index to insert the first new value at
+     * @param values the values to add to the list
+     * @throws IndexOutOfBoundsException when the index is negative
+     */
+    public default void insertAll(int i, double[] values) {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        else if (i >= size()) {
+            addAll(values);
+        }
+        else {
+            for (int j = 0; j < values.length; j++) {
+                insert(i + j, values[j]);
+            }
+        }
+    }
+
+    /**
+     * Removes the numbers from index start (inclusive) to index end (exclusive)
+     * All numbers after the range are shifted up the list
+     * Indexes at or past the size of the list are ignored, in the same fashion as the remove method
+     * @param start the index of the first number to remove
+     * @param end the index after the last number to remove
+     * @throws IndexOutOfBoundsException when start is negative or greater than end
+     */
+    public default void removeRange(int start, int end) {
+        if (start < 0 || start > end) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int count = Math.min(end, size()) - start;
+        for (int j = 0; j < count; j++) {
+            remove(start);
+        }
+    }
+
+    /**
+     * Copies the numbers in the list into a new array, in order
+     * @return an array with the numbers in the list
+     */
+    public default double[] toArray() {
+        double[] result = new double[size()];
+
+        DoubleIterator i = this.iterator();
+        for (int j = 0; j < result.length; j++) {
+            result[j] = i.next();
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a read-only view of the numbers from index from (inclusive) to index to (exclusive)
+     * The view shares the list's storage instead of copying it
+     * By default the view reads values with lookup and only detects changes to the size of the list
+     * O(1)
+     * @param from the index of the first number in the view
+     * @param to the index after the last number in the view
+     * @return a NumList view of the range
+     * @throws IndexOutOfBoundsException when from is negative, to is greater than the size, or from is greater than to
+     */
+    public default NumList subList(int from, int to) throws IndexOutOfBoundsException {
+        return new NumListView.OfList(this, from, to);
+    }
+
+    /**
+     * Returns a cursor that starts at the front of the list
+     * @return a DoubleCursor for the list
+     */
+    public default DoubleCursor cursor() {
+        return cursor(0);
+    }
+
+    /**
+     * Returns a cursor that starts before the value at a specified position of the list
+     * By default every step and edit goes through lookup, insert, and remove
+     * @param i the index of the value that next returns first, which may be the size of the list
+     * @return a DoubleCursor for the list
+     * @throws IndexOutOfBoundsException when the index is negative or greater than the size of the list
+     */
+    public default DoubleCursor cursor(int i) throws IndexOutOfBoundsException {
+        return new NumListCursor(this, i);
+    }
+
     /**
      * Checks whether the list contains the input value
      * @param value the value is what the method is confirming is in the list
@@ -48,6 +164,260 @@ public interface NumList extends DoubleIterable {
      */
     public abstract boolean contains(double value);
 
+    /**
+     * Finds the first position of the input value in the list
+     * A sorted list with no NaN stops searching once it passes where the value would be
+     * @param value the value to search for
+     * @return the index of the first occurrence of the value, or -1 if the value is not in the list
+     */
+    public default int indexOf(double value) {
+        DoubleIterator i = this.iterator();
+        boolean ordered = isSorted() && !hasNaN();
+
+        for (int index = 0; i.hasNext(); index++) {
+            double element = i.next();
+
+            if (element == value) {
+                return index;
+            }
+            else if (ordered && element > value) {
+                return -1;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Counts the numbers in the list that are less than the input value
+     * For a sorted list this is the index the value would be inserted at to keep the list sorted
+     * @param value the value to compare against
+     * @return the number of elements less than the value
+     */
+    public default int rank(double value) {
+        DoubleIterator i = this.iterator();
+        boolean ordered = isSorted() && !hasNaN();
+        int count = 0;
+
+        while (i.hasNext()) {
+            double element = i.next();
+
+            if (element < value) {
+                count++;
+            }
+            else if (ordered) {
+                return count;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Finds the greatest number in the list that is less than or equal to the input value
+     * @param value the value to compare against
+     * @return the greatest element less than or equal to the value
+     * @throws NoSuchElementException when every element is greater than the value
+     */
+    public default double floor(double value) throws NoSuchElementException {
+        DoubleIterator i = this.iterator();
+        boolean ordered = isSorted() && !hasNaN();
+        boolean found = false;
+        double best = 0.0;
+
+        while (i.hasNext()) {
+            double element = i.next();
+
+            if (element <= value && (!found || element > best)) {
+                best = element;
+                found = true;
+            }
+            else if (ordered && element > value) {
+                break;
+            }
+        }
+
+        if (!found) {
+            throw new NoSuchElementException();
+        }
+
+        return best;
+    }
+
+    /**
+     * Finds the least number in the list that is greater than or equal to the input value
+     * @param value the value to compare against
+     * @return the least element greater than or equal to the value
+     * @throws NoSuchElementException when every element is less than the value
+     */
+    public default double ceiling(double value) throws NoSuchElementException {
+        DoubleIterator i = this.iterator();
+        boolean ordered = isSorted() && !hasNaN();
+        boolean found = false;
+        double best = 0.0;
+
+        while (i.hasNext()) {
+            double element = i.next();
+
+            if (element >= value && (!found || element < best)) {
+                best = element;
+                found = true;
+
+                /* The first match in a sorted list with no NaN is the least one */
+                if (ordered) {
+                    break;
+                }
+            }
+        }
+
+        if (!found) {
+            throw new NoSuchElementException();
+        }
+
+        return best;
+    }
+
+    /**
+     * Counts the numbers in the list between lo and hi (both inclusive)
+     * @param lo the lower end of the range
+     * @param hi the upper end of the range
+     * @return the number of elements in the range, 0 if lo is greater than hi
+     */
+    public default int countInRange(double lo, double hi) {
+        DoubleIterator i = this.iterator();
+        boolean ordered = isSorted() && !hasNaN();
+        int count = 0;
+
+        while (i.hasNext()) {
+            double element = i.next();
+
+            if (lo <= element && element <= hi) {
+                count++;
+            }
+            else if (ordered && element > hi) {
+                break;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Adds up all of the numbers in the list
+     * The sum of an empty list is 0.0
+     * O(N)
+     * @return the sum of the list
+     */
+    public default double sum() {
+        double sum = 0.0;
+
+        DoubleIterator i = iterator();
+        while (i.hasNext()) {
+            sum += i.next();
+        }
+
+        return sum;
+    }
+
+    /**
+     * Finds the smallest number in the list
+     * If the list holds NaN, the result is NaN
+     * O(N)
+     * @return the smallest number in the list
+     * @throws NoSuchElementException when the list is empty
+     */
+    public default double min() throws NoSuchElementException {
+        DoubleIterator i = iterator();
+        if (!i.hasNext()) {
+            throw new NoSuchElementException("The minimum of an empty list is undefined");
+        }
+
+        double min = i.next();
+        while (i.hasNext()) {
+            min = Math.min(min, i.next());
+        }
+
+        return min;
+    }
+
+    /**
+     * Finds the largest number in the list
+     * If the list holds NaN, the result is NaN
+     * O(N)
+     * @return the largest number in the list
+     * @throws NoSuchElementException when the list is empty
+     */
+    public default double max() throws NoSuchElementException {
+        DoubleIterator i = iterator();
+        if (!i.hasNext()) {
+            throw new NoSuchElementException("The maximum of an empty list is undefined");
+        }
+
+        double max = i.next();
+        while (i.hasNext()) {
+            max = Math.max(max, i.next());
+        }
+
+        return max;
+    }
+
+    /**
+     * Finds the average of the numbers in the list
+     * O(N)
+     * @return the mean of the list
+     * @throws NoSuchElementException when the list is empty
+     */
+    public default double mean() throws NoSuchElementException {
+        if (size() == 0) {
+            throw new NoSuchElementException("The mean of an empty list is undefined");
+        }
+
+        return sum() / size();
+    }
+
+    /**
+     * Finds the population variance of the numbers in the list
+     * Computes the mean first and then the squared distances from it, which avoids the cancellation of the one-pass formula
+     * O(N)
+     * @return the variance of the list
+     * @throws NoSuchElementException when the list is empty
+     */
+    public default double variance() throws NoSuchElementException {
+        double mean = mean();
+        double sumOfSquares = 0.0;
+
+        DoubleIterator i = iterator();
+        while (i.hasNext()) {
+            double distance = i.next() - mean;
+            sumOfSquares += distance * distance;
+        }
+
+        return sumOfSquares / size();
+    }
+
+    /**
+     * Finds the dot product of this list and another list of the same size
+     * O(N)
+     * @param otherList the other list
+     * @return the sum of the products of the numbers at each index
+     * @throws IllegalArgumentException when the lists have different sizes
+     */
+    public default double dot(NumList otherList) throws IllegalArgumentException {
+        if (size() != otherList.size()) {
+            throw new IllegalArgumentException("The lists have different sizes: " + size() + " and " + otherList.size());
+        }
+
+        double dot = 0.0;
+
+        DoubleIterator i1 = iterator();
+        DoubleIterator i2 = otherList.iterator();
+        while (i1.hasNext()) {
+            dot += i1.next() * i2.next();
+        }
+
+        return dot;
+    }
+
     /**
      * Returns the i-th element of the list
      * @param i the index of the list to get the value from
@@ -94,93 +464,264 @@ public interface NumList extends DoubleIterable {
      */
     public abstract boolean isSorted();
 
+    /**
+     * Returns whether the list is currently sorted in decreasing order or not
+     * Pairs with NaN are skipped, the same as for isSorted
+     * By default the list is checked with an iterator
+     * O(N)
+     * @return true if no value is less than the value after it, false otherwise
+     */
+    public default boolean isSortedDescending() {
+        DoubleIterator i = this.iterator();
+        if (!i.hasNext()) {
+            return true;
+        }
+
+        double prev = i.next();
+        while (i.hasNext()) {
+            double value = i.next();
+            if (prev < value) {
+                return false;
+            }
+            prev = value;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks whether the list holds NaN anywhere
+     * NaN is neither less than nor greater than any number, so a sorted list is only in order on each side of a NaN
+     * By default the whole list is scanned
+     * O(N)
+     * @return true if any of the numbers is NaN, false otherwise
+     */
+    public default boolean hasNaN() {
+        DoubleIterator i = this.iterator();
+
+        while (i.hasNext()) {
+            double value = i.next();
+
+            if (value != value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     /**
      * Reverses the order of the elements in the list
      */
     public abstract void reverse();
 
+    /**
+     * Sorts the list in increasing order
+     * Uses the order of Double.compare, so -0.0 comes before 0.0 and NaN comes last
+     * By default the numbers are copied into an array, sorted, and put back into the list
+     * O(N log N)
+     */
+    public default void sort() {
+        double[] values = toArray();
+        Arrays.sort(values);
+
+        removeRange(0, size());
+        addAll(values);
+    }
+
+    /**
+     * Sorts the list in increasing order, splitting the work between threads for large lists
+     * Uses the same order as sort
+     * By default the numbers are copied into an array, sorted with Arrays.parallelSort, and put back into the list
+     * O(N log N)
+     */
+    public default void parallelSort() {
+        double[] values = toArray();
+        Arrays.parallelSort(values);
+
+        removeRange(0, size());
+        addAll(values);
+    }
+
+    /**
+     * Writes the list to a channel in a compact binary format, with a checksum
+     * O(N)
+     * @param channel the channel to write to
+     * @throws IOException when the channel cannot be written to
+     */
+    public default void writeTo(WritableByteChannel channel) throws IOException {
+        writeTo(channel, true);
+    }
+
+    /**
+     * Writes the list to a channel in a compact binary format: a 16 byte header, the values as little-endian doubles, and an optional CRC32C
+     * The format is described in NumListIO
+     * O(N)
+     * @param channel the channel to write to
+     * @param checksum whether to write a checksum after the values
+     * @throws IOException when the channel cannot be written to
+     */
+    public default void writeTo(WritableByteChannel channel, boolean checksum) throws IOException {
+        NumListIO.write(toArray(), size(), isSorted(), channel, checksum);
+    }
+
+    /**
+     * Reads a list written by writeTo from a channel and adds its numbers to the end of this list, in order
+     * Nothing is added unless the whole list is read and its checksum, if it has one, matches
+     * O(N) where N is the number of values read
+     * @param channel the channel to read from
+     * @throws IOException when the channel cannot be read, the stream is not a list, or the checksum does not match
+     */
+    public default void readFrom(ReadableByteChannel channel) throws IOException {
+        addAll(NumListIO.read(channel));
+    }
+
+    /**
+     * Returns a spliterator over the list that knows the size of the list
+     * Lists without random access, such as NumLinkedList, are split by copying batches of values from the iterator
+     * The batches grow as the list is split further, so each thread gets enough values to be worth the copy
+     * @return a sized Spliterator.OfDouble over the list
+     */
+    public default Spliterator.OfDouble spliterator() {
+        return Spliterators.spliterator(primitiveIterator(), size(), Spliterator.ORDERED);
+    }
+
     /**
      * Creates a new list which has all elements in the input lists without any duplicate elements
      * If both lists are sorted, then the resulting list is also sorted
+     * Otherwise the elements keep the order they first appear in, list1 before list2
      * O(N) for sorted lists
-     * O(N^2) for unsorted lists
+     * Expected O(N) for unsorted lists
      * @param list1 the first list
      * @param list2 the second list
-     * @return a NumList (of true type NumLinkedList) with all the elements of the input lists without any duplicate elements
+     * @return a NumList (of true type NumArrayList) with all the elements of the input lists without any duplicate elements
      */
     public static NumList union(NumList list1, NumList list2) {
-        NumLinkedList newList = new NumLinkedList();
-
-        DoubleIterator i1 = list1.iterator();
-        DoubleIterator i2 = list2.iterator();
-
-        if (list1.isSorted() && list2.isSorted()) {
-            /* lastAdded keeps track of the last value added to the new list to prevent duplicate values */
-            /* This logic sets the value to something less than the first values in the two input lists */
-            double lastAdded = i1.hasNext() && i2.hasNext() ? 
-                               Math.min(i1.peek(), i2.peek()) - 1 :
-                               0;
-
-            /* Adds the values from each list in ascending order while skipping duplicates */
-            while (i1.hasNext() && i2.hasNext()) {
-                if (i1.peek() < i2.peek()) {
-                    /* Checks to make sure a duplicate value is not added */
-                    if (i1.peek() != lastAdded) {
-                        newList.add(i1.peek());
-                        lastAdded = i1.peek();
-                    }
-
-                    i1.next();
-                }
-                else {
-                    if (i2.peek() != lastAdded) {
-                        newList.add(i2.peek());
-                        lastAdded = i2.peek();
-                    }
+        return union(list1, list2, NumListSets.newResult(NumListSets.union, list1, list2));
+    }
 
-                    i2.next();
-                }
-            }
-            /* Add remaining values from list1 */
-            while (i1.hasNext()) {
-                if (i1.peek() != lastAdded) {
-                    newList.add(i1.peek());
-                    lastAdded = i1.peek();
-                }
+    /**
+     * Adds all elements in the input lists without any duplicate elements to the end of the result list
+     * Elements already in the result list are not considered duplicates
+     * O(N) for sorted lists
+     * Expected O(N) for unsorted lists
+     * @param list1 the first list
+     * @param list2 the second list
+     * @param result the list the union is added to, usually an empty list of the desired type
+     * @return the result list
+     */
+    public static NumList union(NumList list1, NumList list2, NumList result) {
+        return NumListSets.apply(NumListSets.union, list1, list2, result);
+    }
 
-                i1.next();
-            }
-            /* Add remaining values from list2 */
-            while (i2.hasNext()) {
-                if (i2.peek() != lastAdded) {
-                    newList.add(i2.peek());
-                    lastAdded = i2.peek();
-                }
+    /**
+     * Creates a new list which has all elements in any of the input lists without any duplicate elements
+     * If every list is sorted, they are merged together in one pass instead of two at a time, and the resulting list is also sorted
+     * Otherwise the elements keep the order they first appear in, going through the lists in order
+     * O(N log K) for sorted lists, where K is the number of lists
+     * Expected O(N) for unsorted lists
+     * @param lists the lists
+     * @return a NumList (of true type NumArrayList) with all the elements of the input lists without any duplicate elements
+     */
+    public static NumList unionAll(NumList... lists) {
+        return NumListSets.unionAll(lists);
+    }
 
-                i2.next();
-            }
+    /**
+     * Creates the same list as union, using several threads when both lists are large sorted NumArrayLists
+     * Other lists, and lists too small to be worth splitting, are unioned sequentially
+     * O(N / P) with P threads for large sorted NumArrayLists
+     * @param list1 the first list
+     * @param list2 the second list
+     * @return a NumList (of true type NumArrayList) with all the elements of the input lists without any duplicate elements
+     */
+    public static NumList parallelUnion(NumList list1, NumList list2) {
+        if (list1 instanceof NumArrayList && list2 instanceof NumArrayList) {
+            return NumArrayList.parallelUnion((NumArrayList) list1, (NumArrayList) list2);
         }
-        /* When one or both of the input lists is not sorted */
-        else {
-            /* Add all unique values from list1 */
-            while (i1.hasNext()) {
-                if (!newList.contains(i1.peek())) {
-                    newList.add(i1.peek());
-                }
 
-                i1.next();
-            }
-            /* Add all unique values from list2 */
-            while (i2.hasNext()) {
-                if (!newList.contains(i2.peek())) {
-                    newList.add(i2.peek());
-                }
+        return union(list1, list2);
+    }
 
-                i2.next();
-            }
-        }
+    /**
+     * Creates a new list which has the elements that are in both input lists without any duplicate elements
+     * If both lists are sorted, then the resulting list is also sorted
+     * Otherwise the elements keep the order they appear in list1
+     * O(N) for sorted lists
+     * Expected O(N) for unsorted lists
+     * @param list1 the first list
+     * @param list2 the second list
+     * @return a NumList (of true type NumArrayList) with the elements in both input lists
+     */
+    public static NumList intersection(NumList list1, NumList list2) {
+        return intersection(list1, list2, NumListSets.newResult(NumListSets.intersection, list1, list2));
+    }
+
+    /**
+     * Adds the elements that are in both input lists without any duplicate elements to the end of the result list
+     * O(N) for sorted lists
+     * Expected O(N) for unsorted lists
+     * @param list1 the first list
+     * @param list2 the second list
+     * @param result the list the intersection is added to, usually an empty list of the desired type
+     * @return the result list
+     */
+    public static NumList intersection(NumList list1, NumList list2, NumList result) {
+        return NumListSets.apply(NumListSets.intersection, list1, list2, result);
+    }
 
-        return newList;
+    /**
+     * Creates a new list which has the elements of list1 that are not in list2 without any duplicate elements
+     * If both lists are sorted, then the resulting list is also sorted
+     * Otherwise the elements keep the order they appear in list1
+     * O(N) for sorted lists
+     * Expected O(N) for unsorted lists
+     * @param list1 the list elements are taken from
+     * @param list2 the list of elements to leave out
+     * @return a NumList (of true type NumArrayList) with the elements of list1 that are not in list2
+     */
+    public static NumList difference(NumList list1, NumList list2) {
+        return difference(list1, list2, NumListSets.newResult(NumListSets.difference, list1, list2));
+    }
+
+    /**
+     * Adds the elements of list1 that are not in list2 without any duplicate elements to the end of the result list
+     * O(N) for sorted lists
+     * Expected O(N) for unsorted lists
+     * @param list1 the list elements are taken from
+     * @param list2 the list of elements to leave out
+     * @param result the list the difference is added to, usually an empty list of the desired type
+     * @return the result list
+     */
+    public static NumList difference(NumList list1, NumList list2, NumList result) {
+        return NumListSets.apply(NumListSets.difference, list1, list2, result);
+    }
+
+    /**
+     * Creates a new list which has the elements that are in exactly one of the input lists without any duplicate elements
+     * If both lists are sorted, then the resulting list is also sorted
+     * Otherwise the elements keep the order they first appear in, list1 before list2
+     * O(N) for sorted lists
+     * Expected O(N) for unsorted lists
+     * @param list1 the first list
+     * @param list2 the second list
+     * @return a NumList (of true type NumArrayList) with the elements in exactly one of the input lists
+     */
+    public static NumList symmetricDifference(NumList list1, NumList list2) {
+        return symmetricDifference(list1, list2, NumListSets.newResult(NumListSets.symmetricDifference, list1, list2));
+    }
+
+    /**
+     * Adds the elements that are in exactly one of the input lists without any duplicate elements to the end of the result list
+     * O(N) for sorted lists
+     * Expected O(N) for unsorted lists
+     * @param list1 the first list
+     * @param list2 the second list
+     * @param result the list the symmetric difference is added to, usually an empty list of the desired type
+     * @return the result list
+     */
+    public static NumList symmetricDifference(NumList list1, NumList list2, NumList result) {
+        return NumListSets.apply(NumListSets.symmetricDifference, list1, list2, result);
     }
 
     /**
@@ -0,0 +1,170 @@
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * The cursor NumList gives by default, which works through lookup, insert, and remove
+ * Each step costs whatever those methods cost for the list, so lists that can do better give their own cursor
+ * Since a general list does not count its changes, only changes to its size made by anything but the cursor are detected
+ * @author Joshua Shew
+ */
+final class NumListCursor implements DoubleCursor {
+    /* The list the cursor moves over */
+    private final NumList list;
+
+    /* The index of the value that next returns */
+    private int index;
+
+    /* The index of the last value returned by next or previous, -1 when there is none */
+    private int lastReturned = -1;
+
+    /* The size the list should have, unless something else changed it */
+    private int expectedSize;
+
+    /**
+     * Constructor for a cursor
+     * @param list the list to move over
+     * @param index the index of the value that next returns first
+     * @throws IndexOutOfBoundsException when the index is negative or greater than the size of the list
+     */
+    NumListCursor(NumList list, int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index > list.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        this.list = list;
+        this.index = index;
+        this.expectedSize = list.size();
+    }
+
+    /**
+     * Checks whether the size of the list has changed without going through the cursor
+     * @throws ConcurrentModificationException when the size has changed
+     */
+    private void checkForComodification() throws ConcurrentModificationException {
+        if (this.list.size() != this.expectedSize) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Checks whether there is a value ahead of the cursor in the list
+     * @return true if there is a value, false otherwise
+     */
+    public boolean hasNext() {
+        return this.index < this.expectedSize;
+    }
+
+    /**
+     * Moves the cursor forward one value and returns that value
+     * @return the value after the cursor
+     * @throws NoSuchElementException when there are no more values
+     * @throws ConcurrentModificationException when the size of the list changed without going through the cursor
+     */
+    public double next() {
+        double value = peek();
+
+        this.lastReturned = this.index;
+        this.index++;
+
+        return value;
+    }
+
+    /**
+     * Retrieves the value after the cursor without moving it
+     * @return the value after the cursor
+     * @throws NoSuchElementException when there are no more values
+     * @throws ConcurrentModificationException when the size of the list changed without going through the cursor
+     */
+    public double peek() {
+        checkForComodification();
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return this.list.lookup(this.index);
+    }
+
+    /**
+     * Checks whether there is a value behind the cursor in the list
+     * @return true if there is a value, false otherwise
+     */
+    public boolean hasPrevious() {
+        return this.index > 0;
+    }
+
+    /**
+     * Moves the cursor back one value and returns that value
+     * @return the value before the cursor
+     * @throws NoSuchElementException when the cursor is at the front of the list
+     * @throws ConcurrentModificationException when the size of the list changed without going through the cursor
+     */
+    public double previous() {
+        checkForComodification();
+        if (!hasPrevious()) {
+            throw new NoSuchElementException();
+        }
+
+        this.index--;
+        this.lastReturned = this.index;
+
+        return this.list.lookup(this.index);
+    }
+
+    /**
+     * Getter method for the position of the cursor
+     * @return the index of the value that next would return
+     */
+    public int nextIndex() {
+        return this.index;
+    }
+
+    /**
+     * Replaces the last value returned by next or previous
+     * @param value the new value
+     * @throws IllegalStateException when there is no value to replace
+     * @throws ConcurrentModificationException when the size of the list changed without going through the cursor
+     */
+    public void set(double value) {
+        checkForComodification();
+        if (this.lastReturned < 0) {
+            throw new IllegalStateException("next or previous has to be called before set");
+        }
+
+        /* NumList has no way to replace a value, so the old one is removed and the new one is inserted in its place */
+        this.list.remove(this.lastReturned);
+        this.list.insert(this.lastReturned, value);
+    }
+
+    /**
+     * Adds a value where the cursor is, leaving the cursor after it
+     * @param value the value to add
+     * @throws ConcurrentModificationException when the size of the list changed without going through the cursor
+     */
+    public void insertBefore(double value) {
+        checkForComodification();
+
+        this.list.insert(this.index, value);
+        this.index++;
+        this.expectedSize++;
+        this.lastReturned = -1;
+    }
+
+    /**
+     * Removes the last value returned by next or previous
+     * @throws IllegalStateException when there is no value to remove
+     * @throws ConcurrentModificationException when the size of the list changed without going through the cursor
+     */
+    public void remove() {
+        checkForComodification();
+        if (this.lastReturned < 0) {
+            throw new IllegalStateException("next or previous has to be called before remove");
+        }
+
+        this.list.remove(this.lastReturned);
+        if (this.lastReturned < this.index) {
+            this.index--;
+        }
+        this.expectedSize--;
+        this.lastReturned = -1;
+    }
+}
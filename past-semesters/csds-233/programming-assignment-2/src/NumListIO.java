@@ -0,0 +1,231 @@
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.CRC32C;
+
+/**
+ * Helpers for the binary format NumList.writeTo and NumList.readFrom use
+ * The format starts with the same 16 byte header as a NumMappedList file, followed by the values as little-endian doubles:
+ *     bytes 0-3: the magic number "NUML"
+ *     byte 4: the format version
+ *     byte 5: flags (bit 0 is set when the list is sorted, bit 1 is set when there is a checksum)
+ *     bytes 6-7: reserved
+ *     bytes 8-15: the number of values in the list
+ * When bit 1 is set, the values are followed by the CRC32C of the header and the values as a little-endian int
+ * A stream without a checksum can be opened as a NumMappedList file
+ * Values are moved between arrays and the channel in chunks through a ByteBuffer view, so there is no per-value work
+ * @author Joshua Shew
+ */
+final class NumListIO {
+    /* The flag bit that is set when the values are followed by a checksum */
+    static final byte checksumFlag = 2;
+
+    /* The number of bytes in the checksum after the values */
+    private static final int checksumBytes = 4;
+
+    /* The number of bytes moved through the buffer at a time */
+    private static final int chunkBytes = 1 << 16;
+
+    /**
+     * Not meant to be instantiated
+     */
+    private NumListIO() {
+    }
+
+    /**
+     * Writes the first values of an array to a channel in the binary format
+     * O(N)
+     * @param values the array holding the values
+     * @param size the number of values at the front of the array to write
+     * @param sorted whether those values are sorted
+     * @param channel the channel to write to
+     * @param checksum whether to write a checksum after the values
+     * @throws IOException when the channel cannot be written to
+     */
+    static void write(double[] values, int size, boolean sorted, WritableByteChannel channel, boolean checksum) throws IOException {
+        CRC32C crc = checksum ? new CRC32C() : null;
+
+        ByteBuffer header = ByteBuffer.allocate(NumMappedList.headerBytes).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(NumMappedList.magic);
+        header.put(NumMappedList.version);
+        header.put((byte) ((sorted ? NumMappedList.sortedFlag : 0) | (checksum ? checksumFlag : 0)));
+        header.putShort((short) 0);
+        header.putLong(size);
+        header.flip();
+        writeFully(channel, header, crc);
+
+        ByteBuffer chunk = ByteBuffer.allocate(Math.min(chunkBytes, Math.max(1, size) * Double.BYTES)).order(ByteOrder.LITTLE_ENDIAN);
+        int perChunk = chunk.capacity() / Double.BYTES;
+
+        for (int start = 0; start < size; start += perChunk) {
+            int count = Math.min(perChunk, size - start);
+
+            /* One bulk copy from the array into the bytes of the chunk */
+            chunk.clear();
+            chunk.asDoubleBuffer().put(values, start, count);
+            chunk.limit(count * Double.BYTES);
+            writeFully(channel, chunk, crc);
+        }
+
+        if (checksum) {
+            ByteBuffer trailer = ByteBuffer.allocate(checksumBytes).order(ByteOrder.LITTLE_ENDIAN);
+            trailer.putInt((int) crc.getValue());
+            trailer.flip();
+            writeFully(channel, trailer, null);
+        }
+    }
+
+    /**
+     * Reads a whole list from a channel in the binary format
+     * O(N)
+     * @param channel the channel to read from
+     * @return the values of the list
+     * @throws IOException when the channel cannot be read, the stream is not a list, or the checksum does not match
+     */
+    static double[] read(ReadableByteChannel channel) throws IOException {
+        Header header = readHeader(channel, Integer.MAX_VALUE - 8);
+        double[] values = new double[header.count];
+
+        readValues(channel, header, values, 0);
+        readChecksum(channel, header);
+
+        return values;
+    }
+
+    /**
+     * Reads and checks the header of a list
+     * O(1)
+     * @param channel the channel to read from
+     * @param maxCount the most values the caller has room for
+     * @return the header
+     * @throws IOException when the channel cannot be read, the stream is not a list, or it holds too many values
+     */
+    static Header readHeader(ReadableByteChannel channel, int maxCount) throws IOException {
+        Header header = new Header();
+
+        ByteBuffer buffer = ByteBuffer.allocate(NumMappedList.headerBytes).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, buffer);
+        buffer.flip();
+
+        if (buffer.getInt(0) != NumMappedList.magic || buffer.get(4) != NumMappedList.version) {
+            throw new IOException("The stream is not a NumList");
+        }
+
+        long count = buffer.getLong(8);
+        if (count < 0 || count > maxCount) {
+            throw new IOException("The stream holds " + count + " values, which do not fit in the list");
+        }
+
+        byte flags = buffer.get(5);
+        header.count = (int) count;
+        header.sorted = (flags & NumMappedList.sortedFlag) != 0;
+
+        if ((flags & checksumFlag) != 0) {
+            header.crc = new CRC32C();
+            header.crc.update(buffer);
+        }
+
+        return header;
+    }
+
+    /**
+     * Reads the values of a list into an array
+     * The values only belong to the list once readChecksum has checked them
+     * O(N)
+     * @param channel the channel to read from, just after the header
+     * @param header the header that was read
+     * @param array the array to read into, with room for every value after the offset
+     * @param offset the index of the array to put the first value at
+     * @throws IOException when the channel cannot be read or ends early
+     */
+    static void readValues(ReadableByteChannel channel, Header header, double[] array, int offset) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(Math.min(chunkBytes, Math.max(1, header.count) * Double.BYTES)).order(ByteOrder.LITTLE_ENDIAN);
+        int perChunk = chunk.capacity() / Double.BYTES;
+
+        for (int start = 0; start < header.count; start += perChunk) {
+            int count = Math.min(perChunk, header.count - start);
+
+            chunk.clear();
+            chunk.limit(count * Double.BYTES);
+            readFully(channel, chunk);
+            chunk.flip();
+
+            if (header.crc != null) {
+                header.crc.update(chunk.duplicate());
+            }
+
+            /* One bulk copy from the bytes of the chunk into the array */
+            chunk.asDoubleBuffer().get(array, offset + start, count);
+        }
+    }
+
+    /**
+     * Reads the checksum after the values, if there is one, and checks it against the header and values that were read
+     * O(1)
+     * @param channel the channel to read from, just after the values
+     * @param header the header that was read
+     * @throws IOException when the channel cannot be read or the checksum does not match
+     */
+    static void readChecksum(ReadableByteChannel channel, Header header) throws IOException {
+        if (header.crc == null) {
+            return;
+        }
+
+        ByteBuffer trailer = ByteBuffer.allocate(checksumBytes).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, trailer);
+
+        if (trailer.getInt(0) != (int) header.crc.getValue()) {
+            throw new IOException("The checksum of the stream does not match its values");
+        }
+    }
+
+    /**
+     * Writes every remaining byte of a buffer, adding them to a checksum first
+     * @param channel the channel to write to
+     * @param buffer the bytes to write
+     * @param crc the checksum to add the bytes to, or null
+     * @throws IOException when the channel cannot be written to
+     */
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer, CRC32C crc) throws IOException {
+        if (crc != null) {
+            crc.update(buffer.duplicate());
+        }
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Reads until a buffer is full
+     * @param channel the channel to read from
+     * @param buffer the buffer to fill
+     * @throws IOException when the channel cannot be read
+     * @throws EOFException when the channel ends before the buffer is full
+     */
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("The stream ended before the list did");
+            }
+        }
+    }
+
+    /**
+     * The header of a list being read, with the checksum of what has been read so far
+     * @author Joshua Shew
+     */
+    static final class Header {
+        /* The number of values in the list */
+        int count = 0;
+
+        /* Whether the values are sorted */
+        boolean sorted = false;
+
+        /* The checksum of what has been read so far, null when the stream has no checksum */
+        CRC32C crc = null;
+    }
+}
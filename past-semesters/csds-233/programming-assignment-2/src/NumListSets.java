@@ -0,0 +1,328 @@
+/**
+ * The set operations behind NumList.union, unionAll, intersection, difference, and symmetricDifference
+ * Every result holds each value at most once (every NaN counts as the same value)
+ * When both inputs are sorted and hold no NaN the result is built by merging them and is also sorted
+ * Otherwise the result is built with hash sets and keeps the order the values first appear in
+ * @author Joshua Shew
+ */
+final class NumListSets {
+    /* Which set operation to perform */
+    static final int union = 0;
+    static final int intersection = 1;
+    static final int difference = 2;
+    static final int symmetricDifference = 3;
+
+    /**
+     * Not meant to be instantiated
+     */
+    private NumListSets() {
+    }
+
+    /**
+     * Creates the list a result is written into when the caller does not provide one
+     * The array is sized for the largest possible result, so it never grows
+     * @param operation the set operation
+     * @param list1 the first list
+     * @param list2 the second list
+     * @return an empty NumArrayList
+     */
+    static NumArrayList newResult(int operation, NumList list1, NumList list2) {
+        switch (operation) {
+            case intersection:
+                return new NumArrayList(Math.min(list1.size(), list2.size()));
+            case difference:
+                return new NumArrayList(list1.size());
+            default:
+                return new NumArrayList(list1.size() + list2.size());
+        }
+    }
+
+    /**
+     * Adds the result of a set operation to the end of the result list
+     * O(N) for sorted lists
+     * Expected O(N) for unsorted lists
+     * @param operation the set operation
+     * @param list1 the first list
+     * @param list2 the second list
+     * @param result the list the result is added to
+     * @return the result list
+     */
+    static NumList apply(int operation, NumList list1, NumList list2, NumList result) {
+        if (list1.isSorted() && list2.isSorted() && !list1.hasNaN() && !list2.hasNaN()) {
+            merge(operation, list1, list2, result);
+        }
+        else {
+            hash(operation, list1, list2, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Performs a set operation on two sorted lists without NaN by walking them together
+     * O(N)
+     * @param operation the set operation
+     * @param list1 the first list
+     * @param list2 the second list
+     * @param result the list the result is added to
+     */
+    private static void merge(int operation, NumList list1, NumList list2, NumList result) {
+        DoubleIterator i1 = list1.iterator();
+        DoubleIterator i2 = list2.iterator();
+        Emitter out = new Emitter(result);
+
+        boolean keep1 = operation != intersection; // whether values only in list1 are kept
+        boolean keep2 = operation == union || operation == symmetricDifference; // whether values only in list2 are kept
+        boolean keepBoth = operation == union || operation == intersection; // whether values in both lists are kept
+
+        /* Values in both lists are skipped by difference and symmetricDifference, along with all of their copies */
+        boolean skipping = false;
+        double skipped = 0.0;
+
+        while (i1.hasNext() || i2.hasNext()) {
+            double value;
+            boolean keep;
+
+            if (!i2.hasNext() || (i1.hasNext() && i1.peek() < i2.peek())) {
+                value = i1.next();
+                keep = keep1;
+            }
+            else if (!i1.hasNext() || i2.peek() < i1.peek()) {
+                value = i2.next();
+                keep = keep2;
+            }
+            /* the next values of both lists are the same */
+            else {
+                value = i1.next();
+                i2.next();
+                keep = keepBoth;
+
+                skipping = !keepBoth;
+                skipped = value;
+            }
+
+            if (keep && !(skipping && same(value, skipped))) {
+                out.emitIfNew(value);
+            }
+        }
+    }
+
+    /**
+     * Performs a set operation on lists that are not both sorted or that hold NaN using hash sets
+     * Expected O(N)
+     * @param operation the set operation
+     * @param list1 the first list
+     * @param list2 the second list
+     * @param result the list the result is added to
+     */
+    private static void hash(int operation, NumList list1, NumList list2, NumList result) {
+        DoubleHashSet seen = new DoubleHashSet(operation == intersection ? Math.min(list1.size(), list2.size()) : list1.size() + list2.size());
+        DoubleHashSet values1 = operation == symmetricDifference ? valuesOf(list1) : null;
+        DoubleHashSet values2 = operation == union ? null : valuesOf(list2);
+
+        DoubleIterator i1 = list1.iterator();
+        while (i1.hasNext()) {
+            double value = i1.next();
+            boolean keep = operation == union ||
+                           (operation == intersection) == values2.contains(value);
+
+            if (keep && seen.add(value)) {
+                result.add(value);
+            }
+        }
+
+        if (operation == union || operation == symmetricDifference) {
+            DoubleIterator i2 = list2.iterator();
+            while (i2.hasNext()) {
+                double value = i2.next();
+                boolean keep = operation == union || !values1.contains(value);
+
+                if (keep && seen.add(value)) {
+                    result.add(value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a new list with all elements in the input lists without any duplicate elements
+     * When every list is sorted and holds no NaN they are merged together at once through a heap of their iterators
+     * O(N log K) for sorted lists, where K is the number of lists
+     * Expected O(N) for unsorted lists
+     * @param lists the lists
+     * @return a NumArrayList with the union of the lists
+     */
+    static NumList unionAll(NumList[] lists) {
+        int totalSize = 0;
+        boolean allSorted = true; // whether every list is sorted and holds no NaN
+
+        for (NumList list : lists) {
+            totalSize = Math.addExact(totalSize, list.size());
+            allSorted = allSorted && list.isSorted() && !list.hasNaN();
+        }
+
+        NumArrayList result = new NumArrayList(totalSize);
+
+        if (allSorted) {
+            mergeAll(lists, result);
+        }
+        else {
+            DoubleHashSet seen = new DoubleHashSet(totalSize);
+
+            for (NumList list : lists) {
+                DoubleIterator i = list.iterator();
+                while (i.hasNext()) {
+                    double value = i.next();
+
+                    if (seen.add(value)) {
+                        result.add(value);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Merges sorted lists using a binary min-heap of their iterators ordered by their next values
+     * O(N log K)
+     * @param lists the sorted lists, none of which hold NaN
+     * @param result the list the union is added to
+     */
+    private static void mergeAll(NumList[] lists, NumList result) {
+        DoubleIterator[] heap = new DoubleIterator[lists.length];
+        int heapSize = 0;
+
+        for (NumList list : lists) {
+            DoubleIterator i = list.iterator();
+
+            if (i.hasNext()) {
+                heap[heapSize++] = i;
+            }
+        }
+
+        /* Turns the array into a heap from the bottom up */
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(heap, heapSize, i);
+        }
+
+        Emitter out = new Emitter(result);
+
+        while (heapSize > 0) {
+            DoubleIterator smallest = heap[0];
+            out.emitIfNew(smallest.next());
+
+            /* An iterator is dropped from the heap once it runs out of values */
+            if (!smallest.hasNext()) {
+                heap[0] = heap[--heapSize];
+                heap[heapSize] = null;
+            }
+
+            siftDown(heap, heapSize, 0);
+        }
+    }
+
+    /**
+     * Moves an iterator down the heap until neither of its children has a smaller next value
+     * O(log K)
+     * @param heap the heap of iterators
+     * @param heapSize the number of iterators in the heap
+     * @param index the index of the iterator to move
+     */
+    private static void siftDown(DoubleIterator[] heap, int heapSize, int index) {
+        DoubleIterator moving = heap[index];
+
+        while (true) {
+            int child = 2 * index + 1;
+
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heap[child + 1].peek() < heap[child].peek()) {
+                child++;
+            }
+            if (!(heap[child].peek() < moving.peek())) {
+                break;
+            }
+
+            heap[index] = heap[child];
+            index = child;
+        }
+
+        heap[index] = moving;
+    }
+
+    /**
+     * Puts every value of a list into a hash set
+     * Expected O(N)
+     * @param list the list
+     * @return a set of the values in the list
+     */
+    private static DoubleHashSet valuesOf(NumList list) {
+        DoubleHashSet values = new DoubleHashSet(list.size());
+
+        DoubleIterator i = list.iterator();
+        while (i.hasNext()) {
+            values.add(i.next());
+        }
+
+        return values;
+    }
+
+    /**
+     * Checks whether two values are the same set element
+     * @param a a value
+     * @param b another value
+     * @return true if the values are equal with == or are both NaN
+     */
+    static boolean same(double a, double b) {
+        return a == b || (a != a && b != b);
+    }
+
+    /**
+     * Adds values from a sorted stream to a list, skipping values that repeat the one added before them
+     * A stray NaN in a sorted list is added once
+     * @author Joshua Shew
+     */
+    static class Emitter {
+        /* The list values are added to */
+        private final NumList result;
+
+        /* Whether a value that is not NaN has been added yet */
+        private boolean addedNumber = false;
+
+        /* The last value added that is not NaN */
+        private double lastAdded = 0.0;
+
+        /* Whether NaN has been added yet */
+        private boolean addedNaN = false;
+
+        /**
+         * Constructor for an emitter
+         * @param result the list values are added to
+         */
+        Emitter(NumList result) {
+            this.result = result;
+        }
+
+        /**
+         * Adds the value unless it is the same as the last value added
+         * O(1) plus the cost of adding to the result
+         * @param value the value to add
+         */
+        void emitIfNew(double value) {
+            if (value != value) {
+                if (!this.addedNaN) {
+                    this.addedNaN = true;
+                    this.result.add(value);
+                }
+            }
+            else if (!this.addedNumber || this.lastAdded != value) {
+                this.addedNumber = true;
+                this.lastAdded = value;
+                this.result.add(value);
+            }
+        }
+    }
+}
@@ -1,3 +1,12 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -349,4 +358,517 @@ public class NumListTester {
         list2.add(9.0);
         Assert.assertEquals("0.0 1.0 2.0 3.0 4.0 5.0 6.0 7.0 8.0 9.0", NumList.union(list1, list2).toString());
     }
+
+    /**
+     * Unit tests for the default bulk methods, using a list that does not override them
+     */
+    @Test
+    public void testBulkDefaults() {
+        NumList list1 = new NumUnrolledLinkedList();
+        list1.addAll(new double[] {0.0, 1.0, 4.0});
+        list1.insertAll(2, new double[] {2.0, 3.0});
+        Assert.assertEquals("The values were not inserted correctly", "0.0 1.0 2.0 3.0 4.0", list1.toString());
+        Assert.assertTrue("The list should be sorted", list1.isSorted());
+
+        list1.addAll(list1);
+        Assert.assertTrue("The list should have doubled in size", list1.size() == 10);
+
+        list1.removeRange(3, 8);
+        Assert.assertArrayEquals("The values were not removed correctly", new double[] {0.0, 1.0, 2.0, 3.0, 4.0}, list1.toArray(), 0.0);
+
+        try {
+            list1.removeRange(-1, 2);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for the default search methods, using a NumLinkedList
+     */
+    @Test
+    public void testSearchDefaults() {
+        // sorted list (the search stops early)
+        NumList list1 = new NumLinkedList();
+        list1.addAll(new double[] {1.0, 2.0, 2.0, 5.0, 7.0});
+        Assert.assertEquals("indexOf should find the first occurrence", 1, list1.indexOf(2.0));
+        Assert.assertEquals("indexOf should return -1 for a missing value", -1, list1.indexOf(3.0));
+        Assert.assertEquals("rank should count the smaller values", 3, list1.rank(3.0));
+        Assert.assertEquals("floor did not find the right value", 2.0, list1.floor(4.0), 0.0);
+        Assert.assertEquals("ceiling did not find the right value", 5.0, list1.ceiling(3.0), 0.0);
+        Assert.assertEquals("countInRange did not count the right values", 3, list1.countInRange(2.0, 5.0));
+
+        // unsorted list
+        list1 = new NumLinkedList();
+        list1.addAll(new double[] {7.0, 2.0, 5.0, 1.0, 2.0});
+        Assert.assertEquals("indexOf should find the first occurrence", 1, list1.indexOf(2.0));
+        Assert.assertEquals("rank should count the smaller values", 3, list1.rank(3.0));
+        Assert.assertEquals("floor did not find the right value", 2.0, list1.floor(4.0), 0.0);
+        Assert.assertEquals("ceiling did not find the right value", 5.0, list1.ceiling(3.0), 0.0);
+        Assert.assertEquals("countInRange did not count the right values", 3, list1.countInRange(2.0, 5.0));
+        try {
+            list1.ceiling(8.0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (NoSuchElementException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for the search methods of sorted lists that hold NaN
+     * Pairs with NaN do not make a list unsorted, so the values on each side of a NaN are not in order with each other
+     */
+    @Test
+    public void testSearchWithNaN() {
+        NumList[] lists = {new NumArrayList(), new NumLinkedList(), new ConcurrentNumArrayList(), new NumArrayDeque(), new NumUnrolledLinkedList(), new NumSkipList()};
+
+        for (NumList list : lists) {
+            String name = list.getClass().getName();
+            list.addAll(new double[] {4.0, 5.0, Double.NaN, 2.0});
+            Assert.assertTrue(name + " should be sorted", list.isSorted());
+            Assert.assertTrue(name + " should hold NaN", list.hasNaN());
+
+            Assert.assertTrue(name + " should contain the value after the NaN", list.contains(2.0));
+            Assert.assertFalse(name + " should never contain NaN", list.contains(Double.NaN));
+            Assert.assertEquals(name + " indexOf did not find the value after the NaN", 3, list.indexOf(2.0));
+            Assert.assertEquals(name + " rank should count the value after the NaN", 1, list.rank(3.0));
+            Assert.assertEquals(name + " floor did not find the right value", 2.0, list.floor(3.0), 0.0);
+            Assert.assertEquals(name + " ceiling did not find the right value", 2.0, list.ceiling(1.0), 0.0);
+            Assert.assertEquals(name + " countInRange did not count the right values", 1, list.countInRange(1.0, 3.0));
+
+            // removing the NaN leaves a list that is not sorted
+            list.remove(2);
+            Assert.assertFalse(name + " should not hold NaN", list.hasNaN());
+            Assert.assertFalse(name + " should not be sorted", list.isSorted());
+            Assert.assertEquals(name + " indexOf did not find the value", 2, list.indexOf(2.0));
+
+            // a NaN on its own
+            list.removeRange(0, list.size());
+            list.add(Double.NaN);
+            Assert.assertTrue(name + " should hold NaN", list.hasNaN());
+            Assert.assertEquals(name + " indexOf should never find NaN", -1, list.indexOf(Double.NaN));
+        }
+    }
+
+    /**
+     * Unit tests for removeDuplicates on large lists and special values (LL & AL)
+     */
+    @Test
+    public void testRemoveDuplicatesLinear() {
+        NumList[] lists = {new NumLinkedList(), new NumArrayList()};
+
+        for (NumList list : lists) {
+            // a large unsorted list, which would take far too long with a quadratic method
+            for (int i = 0; i < 200000; i++) {
+                list.add((i * 7919) % 1000);
+            }
+            list.removeDuplicates();
+            Assert.assertTrue("There should be 1000 distinct values", list.size() == 1000);
+            Assert.assertEquals("The first occurrences should be kept in order", 919.0, list.lookup(1), 0.0);
+
+            // 0.0 and -0.0 are duplicates and NaN is a duplicate of an earlier NaN (unsorted path)
+            list.removeRange(0, list.size());
+            list.addAll(new double[] {1.0, 0.0, Double.NaN, -0.0, 1.0, Double.NaN});
+            list.removeDuplicates();
+            Assert.assertEquals("The special values were not handled correctly", "1.0 0.0 NaN", list.toString());
+
+            // the same values in a sorted list use the adjacent path
+            list.removeRange(0, list.size());
+            list.addAll(new double[] {-0.0, 0.0, 1.0, 1.0, 2.0, 2.0, 2.0});
+            Assert.assertTrue("The list should be sorted", list.isSorted());
+            list.removeDuplicates();
+            Assert.assertEquals("The duplicates were not removed correctly", "-0.0 1.0 2.0", list.toString());
+            Assert.assertTrue("The list should still be sorted", list.isSorted());
+
+            // a sorted list with NaN in the middle can have duplicates that are not next to each other
+            list.removeRange(0, list.size());
+            list.addAll(new double[] {1.0, 2.0, Double.NaN, 1.0, Double.NaN});
+            Assert.assertTrue("The list should be sorted", list.isSorted());
+            list.removeDuplicates();
+            Assert.assertEquals("The duplicates on each side of NaN were not removed", "1.0 2.0 NaN", list.toString());
+        }
+    }
+
+    /**
+     * Unit tests for the intersection, difference, and symmetricDifference methods
+     */
+    @Test
+    public void testSetOperations() {
+        NumList[][] pairs = {
+            {new NumArrayList(), new NumArrayList()},
+            {new NumLinkedList(), new NumArrayList()},
+            {new NumArrayList(), new NumUnrolledLinkedList()}
+        };
+
+        for (NumList[] pair : pairs) {
+            NumList list1 = pair[0];
+            NumList list2 = pair[1];
+
+            // sorted lists use the merge path and give sorted results
+            list1.addAll(new double[] {1.0, 2.0, 2.0, 3.0, 5.0, 5.0});
+            list2.addAll(new double[] {2.0, 3.0, 3.0, 4.0, 6.0});
+            Assert.assertEquals("The intersection should have been 2.0 3.0 but it was not", "2.0 3.0", NumList.intersection(list1, list2).toString());
+            Assert.assertEquals("The difference should have been 1.0 5.0 but it was not", "1.0 5.0", NumList.difference(list1, list2).toString());
+            Assert.assertEquals("The difference should have been 4.0 6.0 but it was not", "4.0 6.0", NumList.difference(list2, list1).toString());
+            Assert.assertEquals("The symmetric difference should have been 1.0 4.0 5.0 6.0 but it was not",
+                                "1.0 4.0 5.0 6.0", NumList.symmetricDifference(list1, list2).toString());
+            Assert.assertEquals("The union should have been 1.0 2.0 3.0 4.0 5.0 6.0 but it was not",
+                                "1.0 2.0 3.0 4.0 5.0 6.0", NumList.union(list1, list2).toString());
+            Assert.assertTrue("The result should be sorted", NumList.symmetricDifference(list1, list2).isSorted());
+
+            // unsorted lists use the hash path and keep the order of first appearance
+            list1.reverse();
+            Assert.assertEquals("The intersection should have been 3.0 2.0 but it was not", "3.0 2.0", NumList.intersection(list1, list2).toString());
+            Assert.assertEquals("The difference should have been 5.0 1.0 but it was not", "5.0 1.0", NumList.difference(list1, list2).toString());
+            Assert.assertEquals("The symmetric difference should have been 5.0 1.0 4.0 6.0 but it was not",
+                                "5.0 1.0 4.0 6.0", NumList.symmetricDifference(list1, list2).toString());
+
+            // an empty list
+            NumList empty = new NumArrayList();
+            Assert.assertEquals("The intersection with an empty list should be empty", "", NumList.intersection(list1, empty).toString());
+            Assert.assertEquals("The difference with an empty list should have no duplicates", "5.0 3.0 2.0 1.0", NumList.difference(list1, empty).toString());
+            Assert.assertEquals("The difference from an empty list should be empty", "", NumList.difference(empty, list1).toString());
+        }
+
+        // a caller-chosen result list
+        NumList list1 = new NumArrayList();
+        NumList list2 = new NumArrayList();
+        list1.addAll(new double[] {1.0, 2.0, 3.0});
+        list2.addAll(new double[] {2.0});
+        NumList result = NumList.difference(list1, list2, new NumLinkedList());
+        Assert.assertTrue("The result should have been the list passed in", result instanceof NumLinkedList);
+        Assert.assertEquals("The difference should have been 1.0 3.0 but it was not", "1.0 3.0", result.toString());
+
+        // NaN and 0.0 in unsorted lists
+        list1 = new NumArrayList();
+        list2 = new NumArrayList();
+        list1.addAll(new double[] {2.0, 1.0, Double.NaN, -0.0, Double.NaN});
+        list2.addAll(new double[] {2.0, 0.0, Double.NaN});
+        Assert.assertEquals("Every NaN and both zeros should have matched", "1.0", NumList.symmetricDifference(list1, list2).toString());
+        Assert.assertEquals("Every NaN and both zeros should have matched", "2.0 NaN -0.0", NumList.intersection(list1, list2).toString());
+
+        // 0.0 and -0.0 in sorted lists
+        list1 = new NumArrayList();
+        list1.addAll(new double[] {-0.0, 0.0, 1.0});
+        list2 = new NumArrayList();
+        list2.addAll(new double[] {0.0});
+        Assert.assertEquals("Both zeros should have been left out", "1.0", NumList.difference(list1, list2).toString());
+    }
+
+    /**
+     * Unit tests for the set operations on sorted lists that hold NaN
+     * Pairs with NaN do not make a list unsorted, so these lists must not be merged
+     */
+    @Test
+    public void testSetOperationsWithNaN() {
+        NumList[][] pairs = {
+            {new NumArrayList(), new NumArrayList()},
+            {new NumLinkedList(), new NumArrayList()},
+            {new NumArrayList(), new NumUnrolledLinkedList()}
+        };
+
+        for (NumList[] pair : pairs) {
+            NumList list1 = pair[0];
+            NumList list2 = pair[1];
+
+            // a NaN on its own
+            list1.add(Double.NaN);
+            list2.add(5.0);
+            Assert.assertTrue("The list should be sorted", list1.isSorted());
+            Assert.assertEquals("The union should have kept both values", "NaN 5.0", NumList.union(list1, list2).toString());
+            Assert.assertEquals("The intersection should have been empty", "", NumList.intersection(list1, list2).toString());
+            Assert.assertEquals("The difference should have kept 5.0", "5.0", NumList.difference(list2, list1).toString());
+            Assert.assertEquals("The symmetric difference should have kept both values", "NaN 5.0", NumList.symmetricDifference(list1, list2).toString());
+
+            // values on each side of a NaN that are not in order with each other
+            list1.removeRange(0, list1.size());
+            list2.removeRange(0, list2.size());
+            list1.addAll(new double[] {1.0, Double.NaN, 0.0});
+            list2.add(0.0);
+            Assert.assertTrue("The list should be sorted", list1.isSorted());
+            Assert.assertEquals("The union should have held 0.0 once", "1.0 NaN 0.0", NumList.union(list1, list2).toString());
+            Assert.assertEquals("The intersection should have been 0.0", "0.0", NumList.intersection(list1, list2).toString());
+            Assert.assertEquals("The difference should have left out 0.0", "1.0 NaN", NumList.difference(list1, list2).toString());
+            Assert.assertEquals("The symmetric difference should have left out 0.0", "1.0 NaN", NumList.symmetricDifference(list1, list2).toString());
+        }
+    }
+
+    /**
+     * Unit tests for the unionAll method
+     */
+    @Test
+    public void testUnionAll() {
+        // no lists and empty lists
+        Assert.assertEquals("The union of no lists should be empty", "", NumList.unionAll().toString());
+        Assert.assertEquals("The union of empty lists should be empty", "", NumList.unionAll(new NumArrayList(), new NumLinkedList()).toString());
+
+        // sorted lists are merged into a sorted result
+        NumList list1 = new NumArrayList();
+        NumList list2 = new NumLinkedList();
+        NumList list3 = new NumUnrolledLinkedList();
+        list1.addAll(new double[] {1.0, 4.0, 4.0, 7.0});
+        list2.addAll(new double[] {0.0, 4.0, 8.0});
+        list3.addAll(new double[] {1.0, 2.0, 3.0, 9.0});
+        NumList result = NumList.unionAll(list1, new NumArrayList(), list2, list3);
+        Assert.assertEquals("The union should have been 0.0 1.0 2.0 3.0 4.0 7.0 8.0 9.0 but it was not",
+                            "0.0 1.0 2.0 3.0 4.0 7.0 8.0 9.0", result.toString());
+        Assert.assertTrue("The result should be sorted", result.isSorted());
+
+        // an unsorted list keeps the order of first appearance
+        list2.reverse();
+        Assert.assertEquals("The union should have been 1.0 4.0 7.0 8.0 0.0 2.0 3.0 9.0 but it was not",
+                            "1.0 4.0 7.0 8.0 0.0 2.0 3.0 9.0", NumList.unionAll(list1, list2, list3).toString());
+
+        // many sorted shards give the same result as chaining union
+        Random random = new Random(233);
+        NumList[] shards = new NumList[100];
+        NumList chained = new NumArrayList();
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new NumArrayList();
+            double value = random.nextInt(10);
+            for (int j = random.nextInt(20); j > 0; j--) {
+                shards[i].add(value);
+                value += random.nextInt(3);
+            }
+            chained = NumList.union(chained, shards[i]);
+        }
+        Assert.assertEquals("The union of the shards should have been the same as chaining union but it was not",
+                            chained.toString(), NumList.unionAll(shards).toString());
+
+        // a sorted list that holds NaN is not merged, since the values on each side of the NaN are not in order with each other
+        list1 = new NumArrayList();
+        list2 = new NumLinkedList();
+        list1.addAll(new double[] {1.0, Double.NaN, 0.0});
+        list2.add(0.0);
+        Assert.assertTrue("The list should be sorted", list1.isSorted());
+        Assert.assertEquals("The union should have held 0.0 once", "1.0 NaN 0.0", NumList.unionAll(list1, list2).toString());
+        list1 = new NumArrayList();
+        list1.add(Double.NaN);
+        list2 = new NumArrayList();
+        list2.add(5.0);
+        Assert.assertEquals("The union should have kept both values", "NaN 5.0", NumList.unionAll(list1, list2).toString());
+    }
+
+    /**
+     * Unit tests for the stream, parallelStream, and spliterator default methods
+     */
+    @Test
+    public void testStreams() {
+        NumList[] lists = {new NumLinkedList(), new NumUnrolledLinkedList(), new NumArrayList()};
+
+        for (NumList list : lists) {
+            Assert.assertTrue("An empty list should give an empty stream", list.stream().count() == 0);
+
+            for (int i = 1; i <= 5000; i++) {
+                list.add(i);
+            }
+
+            // the size is known even without random access
+            Assert.assertTrue("The spliterator should know the size of the list", list.spliterator().getExactSizeIfKnown() == 5000);
+
+            // the sequential and parallel streams see the same values in order
+            Assert.assertEquals("The sum should have been 12502500.0 but it was not", 12502500.0, list.parallelStream().sum(), 0.0);
+            Assert.assertArrayEquals("The parallel stream should have kept the order of the list", list.toArray(), list.parallelStream().toArray(), 0.0);
+            Assert.assertEquals("The first even value should have been 2.0 but it was not", 2.0, list.stream().filter(x -> x % 2 == 0).findFirst().getAsDouble(), 0.0);
+
+            // the primitive iterator throws when it runs out of values
+            PrimitiveIterator.OfDouble iterator = list.primitiveIterator();
+            for (int i = 0; i < 5000; i++) {
+                iterator.nextDouble();
+            }
+            try {
+                iterator.nextDouble();
+                Assert.fail("The method should have thrown an exception");
+            }
+            catch (NoSuchElementException e) {
+                // the method succeeded
+            }
+        }
+    }
+
+    /**
+     * Unit tests for the default sum, min, max, mean, variance, and dot methods
+     */
+    @Test
+    public void testAggregateDefaults() {
+        NumList list1 = new NumLinkedList();
+        NumList list2 = new NumUnrolledLinkedList();
+        list1.addAll(new double[] {2.0, 4.0, 4.0, 4.0, 5.0, 5.0, 7.0, 9.0});
+        list2.addAll(new double[] {1.0, 0.0, 1.0, 0.0, 1.0, 0.0, 1.0, 0.0});
+
+        Assert.assertEquals("The sum should have been 40.0 but it was not", 40.0, list1.sum(), 0.0);
+        Assert.assertEquals("The minimum should have been 2.0 but it was not", 2.0, list1.min(), 0.0);
+        Assert.assertEquals("The maximum should have been 9.0 but it was not", 9.0, list1.max(), 0.0);
+        Assert.assertEquals("The mean should have been 5.0 but it was not", 5.0, list1.mean(), 0.0);
+        Assert.assertEquals("The variance should have been 4.0 but it was not", 4.0, list1.variance(), 0.0);
+        Assert.assertEquals("The dot product should have been 18.0 but it was not", 18.0, list1.dot(list2), 0.0);
+        Assert.assertEquals("The dot product should not depend on the order of the lists", 18.0, list2.dot(list1), 0.0);
+
+        // the variance of values far from 0 does not lose precision
+        NumList list3 = new NumLinkedList();
+        list3.addAll(new double[] {1e9 + 4.0, 1e9 + 7.0, 1e9 + 13.0, 1e9 + 16.0});
+        Assert.assertEquals("The variance should have been 22.5 but it was not", 22.5, list3.variance(), 0.0);
+
+        // empty lists
+        NumList empty = new NumLinkedList();
+        Assert.assertEquals("The sum of an empty list should be 0.0", 0.0, empty.sum(), 0.0);
+        try {
+            empty.mean();
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (NoSuchElementException e) {
+            // the method succeeded
+        }
+        try {
+            empty.max();
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (NoSuchElementException e) {
+            // the method succeeded
+        }
+        try {
+            list1.dot(list3);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IllegalArgumentException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for the default sort and parallelSort methods
+     */
+    @Test
+    public void testSortDefaults() {
+        NumList list = new NumUnrolledLinkedList();
+        for (int i = 0; i < 500; i++) {
+            list.add((i * 37) % 500);
+        }
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+
+        list.sort();
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+        Assert.assertTrue("The size should not have changed", list.size() == 500);
+        for (int i = 0; i < 500; i++) {
+            Assert.assertEquals("The list was not sorted correctly", i, list.lookup(i), 0.0);
+        }
+
+        list.reverse();
+        list.parallelSort();
+        Assert.assertEquals("The list was not sorted correctly in parallel", 499.0, list.lookup(499), 0.0);
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+    }
+
+    /**
+     * Unit tests for the default subList method
+     */
+    @Test
+    public void testSubListDefault() {
+        NumList list = new NumUnrolledLinkedList();
+        for (int i = 0; i < 200; i++) {
+            list.add(i);
+        }
+
+        NumList view = list.subList(100, 150);
+        Assert.assertTrue("The view should have 50 values", view.size() == 50);
+        Assert.assertEquals("The first value should have been 100.0 but it was not", 100.0, view.lookup(0), 0.0);
+        Assert.assertEquals("The sum of the view was not calculated correctly", 6225.0, view.sum(), 0.0);
+        Assert.assertTrue("The view should be sorted", view.isSorted());
+
+        // only changes to the size are detected for lists that do not count their changes
+        list.remove(0);
+        try {
+            view.size();
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (ConcurrentModificationException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for the default cursor
+     */
+    @Test
+    public void testCursorDefault() {
+        NumList list = new NumUnrolledLinkedList();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        // double every even value and remove every odd value in one pass
+        DoubleCursor cursor = list.cursor();
+        while (cursor.hasNext()) {
+            double value = cursor.next();
+            if (value % 2 == 0) {
+                cursor.set(value * 2);
+            }
+            else {
+                cursor.remove();
+            }
+        }
+        Assert.assertEquals("The list was not edited correctly", "0.0 4.0 8.0 12.0 16.0", list.toString());
+
+        cursor = list.cursor(list.size());
+        Assert.assertEquals("previous should have returned the last value", 16.0, cursor.previous(), 0.0);
+        cursor.insertBefore(14.0);
+        Assert.assertEquals("previous should have returned the new value", 14.0, cursor.previous(), 0.0);
+        Assert.assertTrue("The cursor should have been at index 4", cursor.nextIndex() == 4);
+        Assert.assertEquals("The value was not inserted correctly", "0.0 4.0 8.0 12.0 14.0 16.0", list.toString());
+
+        // only changes to the size are detected for lists that do not count their changes
+        list.add(18.0);
+        try {
+            cursor.next();
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (ConcurrentModificationException e) {
+            // the method succeeded
+        }
+        try {
+            list.cursor().remove();
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IllegalStateException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for the default writeTo and readFrom methods
+     */
+    @Test
+    public void testBinaryFormatDefault() throws IOException {
+        NumList list1 = new NumLinkedList();
+        for (int i = 0; i < 10000; i++) {
+            list1.add(i);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        list1.writeTo(Channels.newChannel(bytes));
+
+        // any list can read what any other list wrote
+        NumList list2 = new NumUnrolledLinkedList();
+        list2.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+        Assert.assertTrue("The lists should be equal", list1.equals(list2));
+        Assert.assertTrue("The list should be sorted", list2.isSorted());
+
+        NumArrayList list3 = new NumArrayList();
+        list3.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+        Assert.assertTrue("The lists should be equal", list1.equals(list3));
+
+        byte[] corrupt = bytes.toByteArray();
+        corrupt[corrupt.length - 1] ^= 1;
+        try {
+            list2.readFrom(Channels.newChannel(new ByteArrayInputStream(corrupt)));
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IOException e) {
+            // the method succeeded
+        }
+        Assert.assertTrue("Nothing should have been added", list2.size() == 10000);
+    }
 }
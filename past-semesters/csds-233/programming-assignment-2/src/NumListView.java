@@ -0,0 +1,320 @@
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * A read-only window onto part of another list, made by subList
+ * The view shares the storage of the list it looks at, so making one does not copy any values
+ * If the list is changed after the view is made, the view throws ConcurrentModificationException the next time it is used
+ * Methods that would change the view throw UnsupportedOperationException
+ * @author Joshua Shew
+ */
+abstract class NumListView implements NumList {
+    /* The number of values in the view */
+    private final int size;
+
+    /* Whether sorted has been worked out yet, since it takes a pass over the view */
+    private boolean sortedKnown = false;
+
+    /* Whether the values in the view are sorted, once sortedKnown is true */
+    private boolean sorted = false;
+
+    /**
+     * Constructor for a view
+     * @param size the number of values in the view
+     */
+    NumListView(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Checks that a range is a valid window of a list
+     * @param from the index of the first value in the window (inclusive)
+     * @param to the index after the last value in the window (exclusive)
+     * @param size the size of the list
+     * @throws IndexOutOfBoundsException when from is negative, to is greater than the size, or from is greater than to
+     */
+    static void checkRange(int from, int to, int size) throws IndexOutOfBoundsException {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", size: " + size);
+        }
+    }
+
+    /**
+     * Checks whether the list the view looks at has changed since the view was made
+     * @throws ConcurrentModificationException when the list has changed
+     */
+    abstract void checkForComodification() throws ConcurrentModificationException;
+
+    /**
+     * Reads a value of the view without checking the index or the list
+     * @param i the index in the view, which must hold a value
+     * @return the value
+     */
+    abstract double get(int i);
+
+    /**
+     * Getter method for the size of the view
+     * O(1)
+     * @return the number of values in the view
+     * @throws ConcurrentModificationException when the list has changed since the view was made
+     */
+    public int size() {
+        checkForComodification();
+        return this.size;
+    }
+
+    /**
+     * Getter method for the capacity of the view, which is its size since a view cannot grow
+     * O(1)
+     * @return the capacity of the view
+     */
+    public int capacity() {
+        return size();
+    }
+
+    /**
+     * Returns the i-th element of the view
+     * The same time complexity as looking up the value in the list
+     * @param i the index of the view to get the value from
+     * @return the value stored at the specified index
+     * @throws IndexOutOfBoundsException when the input index is negative or greater than or equal to the size of the view
+     * @throws ConcurrentModificationException when the list has changed since the view was made
+     */
+    public double lookup(int i) throws IndexOutOfBoundsException {
+        checkForComodification();
+
+        if (i < 0 || i >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return get(i);
+    }
+
+    /**
+     * Checks whether the view contains the input value
+     * O(N)
+     * @param value the value to look for
+     * @return true if the value is in the view, false otherwise
+     */
+    public boolean contains(double value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns whether the view is sorted in increasing order or not
+     * O(N) the first time, O(1) after that
+     * @return true if the view is sorted, false otherwise
+     */
+    public boolean isSorted() {
+        checkForComodification();
+
+        if (!this.sortedKnown) {
+            this.sorted = true;
+
+            DoubleIterator i = iterator();
+            double previous = i.hasNext() ? i.next() : 0.0;
+            while (i.hasNext() && this.sorted) {
+                double value = i.next();
+                this.sorted = !(value < previous);
+                previous = value;
+            }
+
+            this.sortedKnown = true;
+        }
+
+        return this.sorted;
+    }
+
+    /**
+     * Not supported, since a view cannot be changed
+     * @param value unused
+     * @throws UnsupportedOperationException always
+     */
+    public void add(double value) {
+        throw new UnsupportedOperationException("A view of a list cannot be changed");
+    }
+
+    /**
+     * Not supported, since a view cannot be changed
+     * @param i unused
+     * @param value unused
+     * @throws UnsupportedOperationException always
+     */
+    public void insert(int i, double value) {
+        throw new UnsupportedOperationException("A view of a list cannot be changed");
+    }
+
+    /**
+     * Not supported, since a view cannot be changed
+     * @param i unused
+     * @throws UnsupportedOperationException always
+     */
+    public void remove(int i) {
+        throw new UnsupportedOperationException("A view of a list cannot be changed");
+    }
+
+    /**
+     * Not supported, since a view cannot be changed
+     * @throws UnsupportedOperationException always
+     */
+    public void removeDuplicates() {
+        throw new UnsupportedOperationException("A view of a list cannot be changed");
+    }
+
+    /**
+     * Not supported, since a view cannot be changed
+     * @throws UnsupportedOperationException always
+     */
+    public void reverse() {
+        throw new UnsupportedOperationException("A view of a list cannot be changed");
+    }
+
+    /**
+     * Not supported, since a view cannot be changed
+     * @throws UnsupportedOperationException always
+     */
+    public void sort() {
+        throw new UnsupportedOperationException("A view of a list cannot be changed");
+    }
+
+    /**
+     * Not supported, since a view cannot be changed
+     * @throws UnsupportedOperationException always
+     */
+    public void parallelSort() {
+        throw new UnsupportedOperationException("A view of a list cannot be changed");
+    }
+
+    /**
+     * Provides a String representation of this view
+     * For an empty view, an empty String is returned
+     * Numbers are separated by a space and no other characters are included
+     * O(N)
+     * @return a String representation of the view
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        DoubleIterator i = this.iterator();
+
+        while (i.hasNext()) {
+            result.append(i.next()).append(" ");
+        }
+
+        // Remove the last space
+        if (result.length() > 0) {
+            result.setLength(result.length() - 1);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns an iterator for the view that begins at the front of the view
+     * Views whose get method is not O(1) replace this with an iterator that walks the list
+     * O(1)
+     * @return a DoubleIterator for the view
+     */
+    public DoubleIterator iterator() {
+        checkForComodification();
+        return new NumListViewIterator(this);
+    }
+
+    /**
+     * A view of any NumList, which reads values with lookup
+     * Since a general list does not count its changes, only changes to its size are detected
+     * @author Joshua Shew
+     */
+    static final class OfList extends NumListView {
+        /* The list the view looks at */
+        private final NumList list;
+
+        /* The index in the list of the first value in the view */
+        private final int from;
+
+        /* The size of the list when the view was made */
+        private final int expectedListSize;
+
+        /**
+         * Constructor for a view of a list
+         * @param list the list
+         * @param from the index of the first value in the view (inclusive)
+         * @param to the index after the last value in the view (exclusive)
+         * @throws IndexOutOfBoundsException when the range is not inside the list
+         */
+        OfList(NumList list, int from, int to) throws IndexOutOfBoundsException {
+            super(to - from);
+            checkRange(from, to, list.size());
+
+            this.list = list;
+            this.from = from;
+            this.expectedListSize = list.size();
+        }
+
+        void checkForComodification() throws ConcurrentModificationException {
+            if (this.list.size() != this.expectedListSize) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        double get(int i) {
+            return this.list.lookup(this.from + i);
+        }
+    }
+
+    /**
+     * Iterator for NumListView, which reads values with get
+     * Checks for changes to the list before every value
+     * @author Joshua Shew
+     */
+    private static class NumListViewIterator implements DoubleIterator {
+        /* Stores a reference to the view the iterator is iterating over */
+        private final NumListView view;
+
+        /* The index of the next value */
+        private int index = 0;
+
+        /**
+         * Constructor for an iterator that starts at the front of the view
+         * @param view the view to iterate over
+         */
+        public NumListViewIterator(NumListView view) {
+            this.view = view;
+        }
+
+        /**
+         * Checks whether there is another value ahead of the iterator in the view
+         * @return true if there is a value, false otherwise
+         */
+        public boolean hasNext() {
+            return this.index < this.view.size;
+        }
+
+        /**
+         * Moves the iterator forward one value and returns that value
+         * @return the value at iterator's current index
+         * @throws NoSuchElementException when there are no more values
+         * @throws ConcurrentModificationException when the list has changed since the view was made
+         */
+        public double next() {
+            double value = peek();
+            this.index++;
+            return value;
+        }
+
+        /**
+         * Retrieves the value the iterator is current at without moving it forward
+         * @return the value at the iterator's current index
+         * @throws NoSuchElementException when there are no more values
+         * @throws ConcurrentModificationException when the list has changed since the view was made
+         */
+        public double peek() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            this.view.checkForComodification();
+            return this.view.get(this.index);
+        }
+    }
+}
@@ -0,0 +1,573 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+/**
+ * For storing doubles in a list that is kept in a file
+ * The file is memory-mapped, so opening an existing list only reads its header and values are
+ * loaded by the operating system the first time they are touched
+ * The file holds a 16 byte header followed by the values as little-endian doubles:
+ *     bytes 0-3: the magic number "NUML"
+ *     byte 4: the format version
+ *     byte 5: flags (bit 0 is set when the list is sorted)
+ *     bytes 6-7: reserved
+ *     bytes 8-15: the number of values in the list
+ * O(1) time complexity for access and for adding to the end (amortized)
+ * O(N) time complexity for inserting and deleting
+ * @author Joshua Shew
+ */
+public class NumMappedList implements NumList, AutoCloseable {
+    /* The magic number at the start of every file, which is written little-endian so the file starts with "NUML" in ASCII */
+    static final int magic = 0x4C4D554E;
+
+    /* The version of the file format */
+    static final byte version = 1;
+
+    /* The number of bytes before the first value */
+    static final int headerBytes = 16;
+
+    /* The flag bit that is set when the list is sorted */
+    static final byte sortedFlag = 1;
+
+    /* The position of the flags byte in the header */
+    private static final int flagsPosition = 5;
+
+    /* The position of the size in the header */
+    private static final int sizePosition = 8;
+
+    /* The capacity given to a new file */
+    private static final int initialCapacity = 16;
+
+    /* The largest capacity that fits in one mapping */
+    private static final int maxCapacity = (Integer.MAX_VALUE - headerBytes) / Double.BYTES;
+
+    /* The channel for the file backing the list */
+    private FileChannel channel = null;
+
+    /* The mapping of the whole file */
+    private MappedByteBuffer buffer = null;
+
+    /* size keeps track of how many elements are stored in the list */
+    private int size = 0;
+
+    /* Keeps track of whether the list is sorted or not */
+    private boolean sorted = true;
+
+    /**
+     * Opens the list stored in the specified file, or creates an empty list if the file does not exist or is empty
+     * Only the header is read, so opening is O(1) no matter how many values are stored
+     * @param file the file backing the list
+     * @throws IOException when the file cannot be opened or is not a list file
+     */
+    public NumMappedList(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+
+        try {
+            long fileSize = this.channel.size();
+
+            if (fileSize == 0) {
+                map(initialCapacity);
+                writeHeader();
+            }
+            else {
+                if (fileSize < headerBytes || fileSize > headerBytes + (long)maxCapacity * Double.BYTES) {
+                    throw new IOException("The file is not a NumMappedList file: " + file);
+                }
+
+                map((int)((fileSize - headerBytes) / Double.BYTES));
+                readHeader(file);
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            DirectBuffers.free(this.buffer);
+            this.buffer = null;
+            this.channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Getter for the mapping
+     * @return the mapping of the file
+     * @throws IllegalStateException when the list has been closed
+     */
+    private MappedByteBuffer getBuffer() {
+        if (this.buffer == null) {
+            throw new IllegalStateException("The list has been closed");
+        }
+
+        return this.buffer;
+    }
+
+    /**
+     * Maps the file with room for the specified number of values, growing the file if needed
+     * The previous mapping is released
+     * @param capacity the number of values the mapping should have room for
+     * @throws IOException when the file cannot be mapped
+     */
+    private void map(int capacity) throws IOException {
+        MappedByteBuffer old = this.buffer;
+
+        this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, headerBytes + (long)capacity * Double.BYTES);
+        this.buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        DirectBuffers.free(old);
+    }
+
+    /**
+     * Reads and checks the header of the file
+     * @param file the file, used in error messages
+     * @throws IOException when the header is not valid
+     */
+    private void readHeader(Path file) throws IOException {
+        MappedByteBuffer header = getBuffer();
+
+        if (header.getInt(0) != magic || header.get(4) != version) {
+            throw new IOException("The file is not a NumMappedList file: " + file);
+        }
+
+        long count = header.getLong(sizePosition);
+        if (count < 0 || count > capacity()) {
+            throw new IOException("The file is truncated: " + file);
+        }
+
+        this.size = (int)count;
+        this.sorted = (header.get(flagsPosition) & sortedFlag) != 0;
+    }
+
+    /**
+     * Writes the whole header of the file
+     */
+    private void writeHeader() {
+        getBuffer().putInt(0, magic);
+        getBuffer().put(4, version);
+        getBuffer().putShort(6, (short)0);
+        writeSize();
+        writeSorted();
+    }
+
+    /**
+     * Writes the size into the header of the file
+     */
+    private void writeSize() {
+        getBuffer().putLong(sizePosition, this.size);
+    }
+
+    /**
+     * Writes the sorted flag into the header of the file
+     */
+    private void writeSorted() {
+        getBuffer().put(flagsPosition, this.sorted ? sortedFlag : 0);
+    }
+
+    /**
+     * Getter method for the size of the list
+     * The size is the number of numbers currently in the list
+     * @return the size of the list
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Setter for the size, which is also written to the file
+     * @param size the new size
+     */
+    private void setSize(int size) {
+        this.size = size;
+        writeSize();
+    }
+
+    /**
+     * Getter method for the capacity of the list
+     * The capacity is the number of numbers the file can hold without being extended
+     * @return the capacity of the list
+     */
+    public int capacity() {
+        return (getBuffer().capacity() - headerBytes) / Double.BYTES;
+    }
+
+    /**
+     * Setter for the sorted field, which is also written to the file
+     * @param sorted whether or not the list is sorted
+     */
+    private void setSorted(boolean sorted) {
+        if (this.sorted != sorted) {
+            this.sorted = sorted;
+            writeSorted();
+        }
+    }
+
+    /**
+     * Returns the value stored at the specified index without checking the bounds
+     * O(1)
+     * @param i the index of the value
+     * @return the value stored at the index
+     */
+    private double get(int i) {
+        return getBuffer().getDouble(headerBytes + i * Double.BYTES);
+    }
+
+    /**
+     * Changes the value stored at the specified index in the list
+     * O(1)
+     * @param i the index to store the value at
+     * @param value the new value to store
+     */
+    private void set(int i, double value) {
+        getBuffer().putDouble(headerBytes + i * Double.BYTES, value);
+    }
+
+    /**
+     * Doubles the capacity of the list by extending the file and mapping it again
+     * O(1) apart from the work the operating system does to extend the file
+     */
+    private void increaseCapacity() {
+        if (capacity() == maxCapacity) {
+            throw new IllegalStateException("NumMappedList cannot hold more than " + maxCapacity + " values");
+        }
+
+        try {
+            map((int)Math.min(maxCapacity, Math.max(initialCapacity, capacity() * 2L)));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Adds a number of the end of the list
+     * The method extends the file if needed
+     * O(1) if capacity is greater than size
+     * O(1) plus the cost of extending the file otherwise
+     * @param value the number to be added to the end of the list
+     * @throws UncheckedIOException when the file cannot be extended
+     */
+    public void add(double value) {
+        if (size() == capacity()) {
+            increaseCapacity();
+        }
+
+        set(size(), value);
+
+        /* Updates the sorted field if the list becomes unsorted with the addition of the new value */
+        if (size() > 0 && (isSorted() && value < get(size() - 1))) {
+            setSorted(false);
+        }
+
+        setSize(size() + 1);
+    }
+
+    /**
+     * Adds a number at a specified position of the list
+     * All numbers after (and the number at) the specified position are shifted down the list
+     * If the list has i or fewer numbers, then the value is added in the same fashion as the add method
+     * O(N)
+     * @param i the index to insert the new value at
+     * @param value the value to add to the list
+     * @throws UncheckedIOException when the file cannot be extended
+     */
+    public void insert(int i, double value) {
+        /* If the insertion is beyond the current size, just append the value */
+        if (i >= size()) {
+            add(value);
+        }
+        else if (i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        else {
+            if (size() == capacity()) {
+                increaseCapacity();
+            }
+
+            /* Shifts elements over to provide space for the insertion */
+            for (int j = size(); j > i; j--) {
+                set(j, get(j - 1));
+            }
+
+            set(i, value);
+            setSize(size() + 1);
+
+            /* Check to see if the list remains sorted after insertion */
+            if (isSorted()) {
+                if ((i > 0 && get(i - 1) > value) || value > get(i + 1)) {
+                    setSorted(false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the number at the specified position of the list
+     * All numbers after the specified position are shifted up the list
+     * The size of the list is shortened by this method if there is a number at the specified position
+     * O(N)
+     * @param i the index where the value should be removed
+     */
+    public void remove(int i) {
+        if (0 <= i && i < size()) {
+            /* Shifts elements over until the element to be removed is covered up */
+            for (int j = i; j < size() - 1; j++) {
+                set(j, get(j + 1));
+            }
+
+            setSize(size() - 1);
+        }
+
+        setSorted(checkIfSorted());
+    }
+
+    /**
+     * Removes the numbers from index start (inclusive) to index end (exclusive)
+     * All numbers after the range are shifted up the list once
+     * Indexes at or past the size of the list are ignored, in the same fashion as the remove method
+     * O(K) where K is the number of values after the range, plus O(N) to check an unsorted list again
+     * So clearing the list, which the default sort does before putting the sorted values back, is O(1)
+     * @param start the index of the first number to remove
+     * @param end the index after the last number to remove
+     * @throws IndexOutOfBoundsException when start is negative or greater than end
+     */
+    public void removeRange(int start, int end) {
+        if (start < 0 || start > end) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        end = Math.min(end, size());
+        if (start < end) {
+            /* The values on each side of the range are the only new pair, so a sorted list only checks that pair */
+            boolean descends = start > 0 && end < size() && get(start - 1) > get(end);
+
+            /* Shifts the elements after the range over once */
+            for (int j = end; j < size(); j++) {
+                set(j - (end - start), get(j));
+            }
+
+            setSize(size() - (end - start));
+
+            if (isSorted()) {
+                setSorted(!descends);
+            }
+            else {
+                setSorted(checkIfSorted());
+            }
+        }
+    }
+
+    /**
+     * Checks whether the list contains the input value
+     * O(N)
+     * @param value the value is what the method is confirming is in the list
+     * @return true if the value is in the list, false otherwise
+     */
+    public boolean contains(double value) {
+        /* Linear search through the mapping, stopping at the size */
+        for (int i = 0; i < size(); i++) {
+            if (get(i) == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the i-th element of the list
+     * O(1)
+     * @param i the index of the list to get the value from
+     * @return the value stored at the specified index
+     * @throws IndexOutOfBoundsException when the input index is greater than or equal to the size of the list
+     */
+    public double lookup(int i) throws IndexOutOfBoundsException {
+        if (i >= size() || i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return get(i);
+    }
+
+    /**
+     * Removes duplicates in this list while preserving the current order of the numbers
+     * Values are duplicates when they are equal with ==, and every NaN is a duplicate of the first NaN
+     * Expected O(N), using a hash set of the values kept so far
+     */
+    public void removeDuplicates() {
+        DoubleHashSet seen = new DoubleHashSet(size());
+        int kept = 0; // the number of values kept so far, which are moved to the front of the list
+
+        for (int i = 0; i < size(); i++) {
+            double value = get(i);
+
+            if (seen.add(value)) {
+                set(kept, value);
+                kept++;
+            }
+        }
+
+        setSize(kept);
+        setSorted(checkIfSorted());
+    }
+
+    /**
+     * Checks whether the list is sorted linearly
+     * O(N)
+     * @return true if the list is sorted, false otherwise
+     */
+    private boolean checkIfSorted() {
+        /* Linear search for any elements in descending order */
+        for (int i = 0; i < size() - 1; i++) {
+            if (get(i) > get(i + 1)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns whether the list is currently sorted in increasing order or not
+     * O(1)
+     * @return true if the list is sorted, false otherwise
+     */
+    public boolean isSorted() {
+        return this.sorted;
+    }
+
+    /**
+     * Reverses the order of the elements in the list
+     * O(N)
+     */
+    public void reverse() {
+        /* Iterates through half of the list & swaps values with the other half */
+        for (int i = 0; i < size() / 2; i++) {
+            double save = get(i);
+            set(i, get(size() - i - 1));
+            set(size() - i - 1, save);
+        }
+
+        setSorted(checkIfSorted());
+    }
+
+    /**
+     * Writes any changes that are still in memory to the file
+     * Changes reach the file on their own eventually, this only waits for them
+     */
+    public void flush() {
+        getBuffer().force();
+    }
+
+    /**
+     * Writes any remaining changes, trims the file to the size of the list, and closes it
+     * The list cannot be used after it is closed
+     * @throws IOException when the file cannot be written
+     */
+    public void close() throws IOException {
+        if (this.buffer == null) {
+            return;
+        }
+
+        try {
+            flush();
+
+            DirectBuffers.free(this.buffer);
+            this.buffer = null;
+
+            this.channel.truncate(headerBytes + (long)size() * Double.BYTES);
+        }
+        finally {
+            this.buffer = null;
+            this.channel.close();
+        }
+    }
+
+    /**
+     * Provides a String representation of this list
+     * For an empty list, an empty String is returned
+     * Numbers are separated by a space and no other characters are included
+     * O(N)
+     * @return a String representation of the list
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        DoubleIterator i = this.iterator();
+
+        while (i.hasNext()) {
+            result.append(i.next()).append(" ");
+        }
+
+        // Remove the last space
+        if (result.length() > 0) {
+            result.setLength(result.length() - 1);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns an iterator for the list that begins at the front of the list
+     * O(1)
+     * @return a DoubleIterator for the list the method is called on
+     */
+    public DoubleIterator iterator() {
+        return new NumMappedListIterator(this);
+    }
+
+    /**
+     * Iterator for NumMappedList
+     * All methods are O(1)
+     * @author Joshua Shew
+     */
+    private static class NumMappedListIterator implements DoubleIterator {
+        /* Stores a reference to the list the iterator is iterating over */
+        private NumMappedList list = null;
+
+        /* Stores the current index of the iterator */
+        private int index = 0;
+
+        /**
+         * Constructor for an iterator for NumMappedList
+         * @param list the list to iterate over
+         */
+        public NumMappedListIterator(NumMappedList list) {
+            this.list = list;
+            this.index = 0;
+        }
+
+        /**
+         * Checks whether there is another value ahead of the iterator in the list
+         * @return true if there is a value, false otherwise
+         */
+        public boolean hasNext() {
+            return this.index < this.list.size();
+        }
+
+        /**
+         * Moves the iterator forward one value and returns that value
+         * @return the value at iterator's current index
+         */
+        public double next() {
+            double save = peek();
+            this.index++;
+
+            return save;
+        }
+
+        /**
+         * Retrieves the value the iterator is current at without moving it forward
+         * @return the value at the iterator's current index
+         */
+        public double peek() {
+            if (hasNext()) {
+                return this.list.get(this.index);
+            }
+            else {
+                throw new NoSuchElementException();
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NumMappedListTester {
+    /**
+     * Creates an empty temporary file that is deleted when the tests finish
+     */
+    private static Path createTempFile() throws IOException {
+        Path file = Files.createTempFile("NumMappedListTester", ".numl");
+        file.toFile().deleteOnExit();
+
+        return file;
+    }
+
+    /**
+     * Unit tests for creating a new list
+     */
+    @Test
+    public void testNumMappedList() throws IOException {
+        Path file = createTempFile();
+
+        try (NumMappedList list = new NumMappedList(file)) {
+            Assert.assertTrue("The new list should be empty", list.size() == 0);
+            Assert.assertTrue("The new list should have a capacity of 16", list.capacity() == 16);
+            Assert.assertTrue("The new list should be sorted", list.isSorted());
+        }
+
+        // the closed file only holds the header
+        Assert.assertTrue("The file should only hold the header", Files.size(file) == 16);
+        Assert.assertEquals("The file should start with the magic number", "NUML", new String(Files.readAllBytes(file), 0, 4, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Unit tests for adding values and opening the file again
+     */
+    @Test
+    public void testReopen() throws IOException {
+        Path file = createTempFile();
+
+        // adds enough values to extend the file several times
+        try (NumMappedList list = new NumMappedList(file)) {
+            for (int i = 0; i < 100; i++) {
+                list.add(i);
+            }
+            list.insert(0, 200.0);
+        }
+
+        Assert.assertTrue("The file should hold the header and 101 values", Files.size(file) == 16 + 101 * 8);
+
+        try (NumMappedList list = new NumMappedList(file)) {
+            Assert.assertTrue("The size should have been kept", list.size() == 101);
+            Assert.assertFalse("The sorted flag should have been kept", list.isSorted());
+            Assert.assertEquals("The first value was not kept", 200.0, list.lookup(0), 0.0);
+            Assert.assertEquals("The last value was not kept", 99.0, list.lookup(100), 0.0);
+
+            list.remove(0);
+            Assert.assertTrue("The list should be sorted after the removal", list.isSorted());
+        }
+
+        try (NumMappedList list = new NumMappedList(file)) {
+            Assert.assertTrue("The size should have been kept", list.size() == 100);
+            Assert.assertTrue("The sorted flag should have been kept", list.isSorted());
+            Assert.assertTrue("The list should contain the value", list.contains(50.0));
+        }
+    }
+
+    /**
+     * Unit tests for the other list operations
+     */
+    @Test
+    public void testOperations() throws IOException {
+        try (NumMappedList list = new NumMappedList(createTempFile())) {
+            list.add(0.0);
+            list.add(1.0);
+            list.add(2.0);
+            list.add(1.0);
+            list.add(2.0);
+            list.add(3.0);
+
+            list.removeDuplicates();
+            Assert.assertEquals("The duplicates were not removed correctly", "0.0 1.0 2.0 3.0", list.toString());
+            Assert.assertTrue("The list should be sorted", list.isSorted());
+
+            list.reverse();
+            Assert.assertEquals("The list was not reversed correctly", "3.0 2.0 1.0 0.0", list.toString());
+            Assert.assertFalse("The list should not be sorted", list.isSorted());
+
+            list.insert(2, 5.0);
+            Assert.assertEquals("The value was not inserted correctly", "3.0 2.0 5.0 1.0 0.0", list.toString());
+
+            list.removeRange(0, 2);
+            Assert.assertEquals("The range was not removed correctly", "5.0 1.0 0.0", list.toString());
+
+            list.sort();
+            Assert.assertEquals("The list was not sorted correctly", "0.0 1.0 5.0", list.toString());
+            Assert.assertTrue("The list should be sorted", list.isSorted());
+
+            try {
+                list.lookup(3);
+                Assert.fail("The method should have thrown an exception");
+            }
+            catch (IndexOutOfBoundsException e) {
+                // the method succeeded
+            }
+        }
+    }
+
+    /**
+     * Unit tests for opening a file that is not a list
+     */
+    @Test
+    public void testInvalidFile() throws IOException {
+        Path file = createTempFile();
+        Files.write(file, "not a list file at all".getBytes());
+
+        try {
+            new NumMappedList(file).close();
+            Assert.fail("The constructor should have thrown an exception");
+        }
+        catch (IOException e) {
+            // the constructor succeeded
+        }
+    }
+
+    /**
+     * Unit tests for using a list after it is closed
+     */
+    @Test
+    public void testClosed() throws IOException {
+        NumMappedList list = new NumMappedList(createTempFile());
+        list.add(1.0);
+        list.close();
+
+        try {
+            list.add(2.0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IllegalStateException e) {
+            // the method succeeded
+        }
+    }
+}
@@ -0,0 +1,463 @@
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+/**
+ * For storing doubles in a list whose values live outside of the Java heap
+ * The values are stored in direct buffers ("blocks") that double in size, so growing the list
+ * allocates one new block and never copies the values that are already stored
+ * The memory is released explicitly with close()
+ * O(1) time complexity for access and for adding to the end
+ * O(N) time complexity for inserting and deleting
+ * @author Joshua Shew
+ */
+public class NumOffHeapList implements NumList, AutoCloseable {
+    /* The first block holds 2^firstBlockShift values, every block after it holds twice as many as the one before */
+    private static final int firstBlockShift = 4;
+
+    /* The most blocks a list can have, which keeps every block under the 2 GB limit of a ByteBuffer */
+    private static final int maxBlocks = 24;
+
+    /* The number of bytes in a double */
+    private static final int doubleBytes = Double.BYTES;
+
+    /* blocks stores the direct buffers holding the values, only the first blockCount entries are allocated */
+    private ByteBuffer[] blocks = null;
+
+    /* blockCount keeps track of how many blocks have been allocated */
+    private int blockCount = 0;
+
+    /* size keeps track of how many elements are stored in the list */
+    private int size = 0;
+
+    /* Keeps track of whether the list is sorted or not */
+    private boolean sorted = true;
+
+    /**
+     * Creates a new NumOffHeapList with a capacity of 0
+     */
+    public NumOffHeapList() {
+        this.blocks = new ByteBuffer[maxBlocks];
+        this.blockCount = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Creates a new NumOffHeapList that can hold at least the specified number of values without allocating
+     * @param capacity the number of values to allocate room for
+     */
+    public NumOffHeapList(int capacity) {
+        this();
+
+        while (capacity() < capacity) {
+            allocateBlock();
+        }
+    }
+
+    /**
+     * Getter method for the size of the list
+     * The size is the number of numbers currently in the list
+     * @return the size of the list
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Getter method for the capacity of the list
+     * The capacity is the number of numbers the list can hold without allocating another block
+     * @return the capacity of the list
+     */
+    public int capacity() {
+        return blockStart(this.blockCount);
+    }
+
+    /**
+     * Setter for the sorted field
+     * @param sorted whether or not the list is sorted
+     */
+    private void setSorted(boolean sorted) {
+        this.sorted = sorted;
+    }
+
+    /**
+     * Returns the index of the block holding the value at the specified index
+     * O(1)
+     * @param i an index of the list
+     * @return the block index
+     */
+    private static int blockIndex(int i) {
+        return (31 - Integer.numberOfLeadingZeros(i + (1 << firstBlockShift))) - firstBlockShift;
+    }
+
+    /**
+     * Returns the list index of the first value stored in the specified block
+     * This is also the total number of values held by all of the blocks before it
+     * O(1)
+     * @param block the block index
+     * @return the list index of the first value in the block
+     */
+    private static int blockStart(int block) {
+        return ((1 << block) - 1) << firstBlockShift;
+    }
+
+    /**
+     * Returns the byte offset of the value at the specified index within its block
+     * O(1)
+     * @param i an index of the list
+     * @param block the block holding the index
+     * @return the byte offset within the block
+     */
+    private static int blockOffset(int i, int block) {
+        return (i - blockStart(block)) * doubleBytes;
+    }
+
+    /**
+     * Allocates the next block, doubling the capacity of the list
+     * O(N) in the size of the new block, which the JVM zeroes
+     * The values that are already stored are not copied
+     */
+    private void allocateBlock() {
+        if (this.blockCount == maxBlocks) {
+            throw new IllegalStateException("NumOffHeapList cannot hold more than " + capacity() + " values");
+        }
+
+        int blockLength = (1 << firstBlockShift) << this.blockCount;
+        this.blocks[this.blockCount] = DirectBuffers.allocate(blockLength * doubleBytes);
+        this.blockCount++;
+    }
+
+    /**
+     * Returns the value stored at the specified index without checking the bounds
+     * O(1)
+     * @param i the index of the value
+     * @return the value stored at the index
+     */
+    private double get(int i) {
+        int block = blockIndex(i);
+        return this.blocks[block].getDouble(blockOffset(i, block));
+    }
+
+    /**
+     * Changes the value stored at the specified index in the list
+     * O(1)
+     * @param i the index to store the value at
+     * @param value the new value to store
+     */
+    private void set(int i, double value) {
+        int block = blockIndex(i);
+        this.blocks[block].putDouble(blockOffset(i, block), value);
+    }
+
+    /**
+     * Adds a number of the end of the list
+     * The method allocates another block if needed
+     * O(1)
+     * @param value the number to be added to the end of the list
+     */
+    public void add(double value) {
+        if (size() == capacity()) {
+            allocateBlock();
+        }
+
+        set(size(), value);
+
+        this.size++;
+
+        /* Updates the sorted field if the list becomes unsorted with the addition of the new value */
+        if (size() > 1 && (isSorted() && value < get(size() - 2))) {
+            setSorted(false);
+        }
+    }
+
+    /**
+     * Adds a number at a specified position of the list
+     * All numbers after (and the number at) the specified position are shifted down the list
+     * If the list has i or fewer numbers, then the value is added in the same fashion as the add method
+     * O(N)
+     * @param i the index to insert the new value at
+     * @param value the value to add to the list
+     */
+    public void insert(int i, double value) {
+        /* If the insertion is beyond the current size, just append the value */
+        if (i >= size()) {
+            add(value);
+        }
+        else if (i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        else {
+            if (size() == capacity()) {
+                allocateBlock();
+            }
+
+            /* Shifts elements over to provide space for the insertion */
+            for (int j = size(); j > i; j--) {
+                set(j, get(j - 1));
+            }
+
+            set(i, value);
+            this.size++;
+
+            /* Check to see if the list remains sorted after insertion */
+            if (isSorted()) {
+                if ((i > 0 && get(i - 1) > value) || value > get(i + 1)) {
+                    setSorted(false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the number at the specified position of the list
+     * All numbers after the specified position are shifted up the list
+     * The size of the list is shortened by this method if there is a number at the specified position
+     * O(N)
+     * @param i the index where the value should be removed
+     */
+    public void remove(int i) {
+        if (0 <= i && i < size()) {
+            /* Shifts elements over until the element to be removed is covered up */
+            for (int j = i; j < size() - 1; j++) {
+                set(j, get(j + 1));
+            }
+
+            this.size--;
+        }
+
+        setSorted(checkIfSorted());
+    }
+
+    /**
+     * Removes the numbers from index start (inclusive) to index end (exclusive)
+     * All numbers after the range are shifted up the list once
+     * Indexes at or past the size of the list are ignored, in the same fashion as the remove method
+     * O(K) where K is the number of values after the range, plus O(N) to check an unsorted list again
+     * So clearing the list, which the default sort does before putting the sorted values back, is O(1)
+     * @param start the index of the first number to remove
+     * @param end the index after the last number to remove
+     * @throws IndexOutOfBoundsException when start is negative or greater than end
+     */
+    public void removeRange(int start, int end) {
+        if (start < 0 || start > end) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        end = Math.min(end, size());
+        if (start < end) {
+            /* The values on each side of the range are the only new pair, so a sorted list only checks that pair */
+            boolean descends = start > 0 && end < size() && get(start - 1) > get(end);
+
+            /* Shifts the elements after the range over once */
+            for (int j = end; j < size(); j++) {
+                set(j - (end - start), get(j));
+            }
+
+            this.size -= end - start;
+
+            if (isSorted()) {
+                setSorted(!descends);
+            }
+            else {
+                setSorted(checkIfSorted());
+            }
+        }
+    }
+
+    /**
+     * Checks whether the list contains the input value
+     * O(N)
+     * @param value the value is what the method is confirming is in the list
+     * @return true if the value is in the list, false otherwise
+     */
+    public boolean contains(double value) {
+        /* Linear search through the blocks, stopping at the size */
+        for (int i = 0; i < size(); i++) {
+            if (get(i) == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the i-th element of the list
+     * O(1)
+     * @param i the index of the list to get the value from
+     * @return the value stored at the specified index
+     * @throws IndexOutOfBoundsException when the input index is greater than or equal to the size of the list
+     */
+    public double lookup(int i) throws IndexOutOfBoundsException {
+        if (i >= size() || i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return get(i);
+    }
+
+    /**
+     * Removes duplicates in this list while preserving the current order of the numbers
+     * Values are duplicates when they are equal with ==, and every NaN is a duplicate of the first NaN
+     * Expected O(N), using a hash set of the values kept so far
+     */
+    public void removeDuplicates() {
+        DoubleHashSet seen = new DoubleHashSet(size());
+        int kept = 0; // the number of values kept so far, which are moved to the front of the list
+
+        for (int i = 0; i < size(); i++) {
+            double value = get(i);
+
+            if (seen.add(value)) {
+                set(kept, value);
+                kept++;
+            }
+        }
+
+        this.size = kept;
+
+        setSorted(checkIfSorted());
+    }
+
+    /**
+     * Checks whether the list is sorted linearly
+     * O(N)
+     * @return true if the list is sorted, false otherwise
+     */
+    private boolean checkIfSorted() {
+        /* Linear search for any elements in descending order */
+        for (int i = 0; i < size() - 1; i++) {
+            if (get(i) > get(i + 1)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns whether the list is currently sorted in increasing order or not
+     * O(1)
+     * @return true if the list is sorted, false otherwise
+     */
+    public boolean isSorted() {
+        return this.sorted;
+    }
+
+    /**
+     * Reverses the order of the elements in the list
+     * O(N)
+     */
+    public void reverse() {
+        /* Iterates through half of the list & swaps values with the other half */
+        for (int i = 0; i < size() / 2; i++) {
+            double save = get(i);
+            set(i, get(size() - i - 1));
+            set(size() - i - 1, save);
+        }
+
+        setSorted(checkIfSorted());
+    }
+
+    /**
+     * Releases the off-heap memory held by the list
+     * The list is empty with a capacity of 0 afterwards, and it allocates new memory if values are added again
+     * O(B) where B is the number of blocks
+     */
+    public void close() {
+        for (int i = 0; i < this.blockCount; i++) {
+            DirectBuffers.free(this.blocks[i]);
+            this.blocks[i] = null;
+        }
+
+        this.blockCount = 0;
+        this.size = 0;
+        setSorted(true);
+    }
+
+    /**
+     * Provides a String representation of this list
+     * For an empty list, an empty String is returned
+     * Numbers are separated by a space and no other characters are included
+     * O(N)
+     * @return a String representation of the list
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        DoubleIterator i = this.iterator();
+
+        while (i.hasNext()) {
+            result.append(i.next()).append(" ");
+        }
+
+        // Remove the last space
+        if (result.length() > 0) {
+            result.setLength(result.length() - 1);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns an iterator for the list that begins at the front of the list
+     * O(1)
+     * @return a DoubleIterator for the list the method is called on
+     */
+    public DoubleIterator iterator() {
+        return new NumOffHeapListIterator(this);
+    }
+
+    /**
+     * Iterator for NumOffHeapList
+     * All methods are O(1)
+     * @author Joshua Shew
+     */
+    private static class NumOffHeapListIterator implements DoubleIterator {
+        /* Stores a reference to the list the iterator is iterating over */
+        private NumOffHeapList list = null;
+
+        /* Stores the current index of the iterator */
+        private int index = 0;
+
+        /**
+         * Constructor for an iterator for NumOffHeapList
+         * @param list the list to iterate over
+         */
+        public NumOffHeapListIterator(NumOffHeapList list) {
+            this.list = list;
+            this.index = 0;
+        }
+
+        /**
+         * Checks whether there is another value ahead of the iterator in the list
+         * @return true if there is a value, false otherwise
+         */
+        public boolean hasNext() {
+            return this.index < this.list.size();
+        }
+
+        /**
+         * Moves the iterator forward one value and returns that value
+         * @return the value at iterator's current index
+         */
+        public double next() {
+            double save = peek();
+            this.index++;
+
+            return save;
+        }
+
+        /**
+         * Retrieves the value the iterator is current at without moving it forward
+         * @return the value at the iterator's current index
+         */
+        public double peek() {
+            if (hasNext()) {
+                return this.list.get(this.index);
+            }
+            else {
+                throw new NoSuchElementException();
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NumOffHeapListTester {
+    /**
+     * Creates a NumOffHeapList with the specified double values
+     * Uses the empty constructor and the add method
+     */
+    private static NumOffHeapList createOffHeapList(double... values) {
+        NumOffHeapList list = new NumOffHeapList();
+        for (double value : values)
+            list.add(value);
+
+        return list;
+    }
+
+    /**
+     * Unit tests for the NumOffHeapList constructors and capacity
+     */
+    @Test
+    public void testNumOffHeapList() {
+        // constructor with no parameters
+        NumOffHeapList list1 = new NumOffHeapList();
+        Assert.assertTrue("list1 size should have been 0 but it was not", list1.size() == 0);
+        Assert.assertTrue("list1 capacity should have been 0 but it was not", list1.capacity() == 0);
+
+        // the first block holds 16 values
+        list1.add(1.0);
+        Assert.assertTrue("list1 capacity should have been 16 but it was not", list1.capacity() == 16);
+
+        // constructor with a capacity rounds up to whole blocks (16 + 32)
+        NumOffHeapList list2 = new NumOffHeapList(20);
+        Assert.assertTrue("list2 size should have been 0 but it was not", list2.size() == 0);
+        Assert.assertTrue("list2 capacity should have been 48 but it was not", list2.capacity() == 48);
+    }
+
+    /**
+     * Unit tests for the add and lookup methods across several blocks
+     */
+    @Test
+    public void testAddAndLookup() {
+        NumOffHeapList list = new NumOffHeapList();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        Assert.assertTrue("The size of the list should be 1000", list.size() == 1000);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals("The value was not stored correctly", i, list.lookup(i), 0.0);
+        }
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+
+        // lookup past the size should throw an exception
+        try {
+            list.lookup(1000);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for the insert and remove methods
+     */
+    @Test
+    public void testInsertAndRemove() {
+        NumOffHeapList list = createOffHeapList(0.0, 2.0, 3.0);
+
+        list.insert(1, 1.0);
+        Assert.assertEquals("The value was not inserted correctly", "0.0 1.0 2.0 3.0", list.toString());
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+
+        list.insert(0, 5.0);
+        Assert.assertEquals("The value was not inserted correctly", "5.0 0.0 1.0 2.0 3.0", list.toString());
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+
+        list.remove(0);
+        Assert.assertEquals("The value was not removed correctly", "0.0 1.0 2.0 3.0", list.toString());
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+
+        // inserting past the size appends the value
+        list.insert(10, 4.0);
+        Assert.assertEquals("The value was not appended correctly", "0.0 1.0 2.0 3.0 4.0", list.toString());
+
+        // inserts that move values across a block boundary
+        list = new NumOffHeapList();
+        for (int i = 0; i < 16; i++) {
+            list.add(i + 1);
+        }
+        list.insert(0, 0.0);
+        Assert.assertTrue("The size of the list should be 17", list.size() == 17);
+        Assert.assertEquals("The last value should have moved into the second block", 16.0, list.lookup(16), 0.0);
+
+        // negative index
+        try {
+            list.insert(-1, 0.0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for the contains, removeDuplicates, and reverse methods
+     */
+    @Test
+    public void testContainsRemoveDuplicatesAndReverse() {
+        // values past the size are not found, even though the capacity is larger
+        NumOffHeapList list = createOffHeapList(1.0, 2.0);
+        Assert.assertFalse("The method should not find a value past the size", list.contains(0.0));
+        Assert.assertTrue("The method should find the value", list.contains(2.0));
+
+        list = createOffHeapList(0.0, 1.0, 2.0, 1.0, 2.0, 3.0);
+        list.removeDuplicates();
+        Assert.assertEquals("The duplicates were not removed correctly", "0.0 1.0 2.0 3.0", list.toString());
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+
+        list.reverse();
+        Assert.assertEquals("The list was not reversed correctly", "3.0 2.0 1.0 0.0", list.toString());
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+    }
+
+    /**
+     * Unit tests for the removeRange and sort methods
+     */
+    @Test
+    public void testRemoveRangeAndSort() {
+        NumOffHeapList list = createOffHeapList(0.0, 5.0, 1.0, 2.0, 3.0);
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+
+        // removing the value out of order shifts the rest over once
+        list.removeRange(1, 2);
+        Assert.assertEquals("The range was not removed correctly", "0.0 1.0 2.0 3.0", list.toString());
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+
+        // joining the values on each side of a NaN can make a descent
+        list = createOffHeapList(5.0, Double.NaN, 4.0);
+        Assert.assertTrue("Pairs with NaN should not make the list unsorted", list.isSorted());
+        list.removeRange(1, 2);
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+
+        // the range is cut off at the size
+        list.removeRange(1, 10);
+        Assert.assertEquals("The end of the list was not removed correctly", "5.0", list.toString());
+
+        // sort clears the list with removeRange, so a large list is sorted quickly
+        list = new NumOffHeapList();
+        for (int i = 0; i < 100000; i++) {
+            list.add((i * 7919) % 100000);
+        }
+        list.sort();
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+        Assert.assertEquals("The list was not sorted correctly", 99999.0, list.lookup(99999), 0.0);
+        list.close();
+    }
+
+    /**
+     * Unit tests for the close method
+     */
+    @Test
+    public void testClose() {
+        NumOffHeapList list = createOffHeapList(1.0, 2.0, 3.0);
+        list.close();
+        Assert.assertTrue("The list should be empty after closing", list.size() == 0);
+        Assert.assertTrue("The capacity should be 0 after closing", list.capacity() == 0);
+
+        // the list can be used again after it is closed
+        list.add(4.0);
+        Assert.assertEquals("The value was not added correctly", "4.0", list.toString());
+
+        // a list equals another list implementation with the same values
+        NumList other = new NumArrayList();
+        other.add(4.0);
+        Assert.assertTrue("The lists should be equal", list.equals(other));
+        list.close();
+    }
+}
@@ -0,0 +1,559 @@
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * For storing doubles in a list that is edited by index often
+ * The values are kept in an indexable skip list: a linked list with extra levels of links that skip over nodes
+ * Every link stores its span, the number of positions it moves forward, so a search adds up spans to find an index
+ * Each node gets a random number of levels, half as many nodes on each level as the one below it
+ * O(log N) expected time complexity for access, insertion, and deletion at any index
+ * @author Joshua Shew
+ */
+public class NumSkipList implements NumList {
+    /* The most levels a node can have, enough for any int number of values */
+    private static final int maxLevel = 32;
+
+    /* The node before the first value, which has every level */
+    private final SkipNode head = new SkipNode(0.0, maxLevel);
+
+    /* The number of levels in use */
+    private int level = 1;
+
+    /* Keeps track of how many values are in the list */
+    private int size = 0;
+
+    /* The maximum capacity of the list */
+    private final int capacity = Integer.MAX_VALUE;
+
+    /* The number of adjacent pairs where the second value is less than the first, so the list is sorted when there are none */
+    private int descents = 0;
+
+    /* The number of adjacent pairs where the second value is greater than the first, so the list is sorted in decreasing order when there are none */
+    private int ascents = 0;
+
+    /* The number of adjacent pairs with NaN in them, so a list of two or more values holds NaN when there are any */
+    private int nanPairs = 0;
+
+    /* For choosing the levels of new nodes */
+    private final Random random = new Random();
+
+    /**
+     * Constructor for an empty skip list
+     */
+    public NumSkipList() {
+    }
+
+    /**
+     * Getter method for the size of the list
+     * O(1)
+     * @return the number of values in the list
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Getter method for the capacity of the list
+     * The capacity is the number of numbers the list can hold without resizing
+     * @return the capacity of the list
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Adds a pair of adjacent values to the descent, ascent, and NaN pair counts, or takes it away
+     * A pair of equal values, or a pair with NaN, is neither a descent nor an ascent
+     * O(1)
+     * @param first the first value of the pair
+     * @param second the value after it
+     * @param change 1 when the values become adjacent, -1 when they stop being adjacent
+     */
+    private void countPair(double first, double second, int change) {
+        if (second < first) {
+            this.descents += change;
+        }
+        else if (first < second) {
+            this.ascents += change;
+        }
+        else if (first != first || second != second) {
+            this.nanPairs += change;
+        }
+    }
+
+    /**
+     * Picks the number of levels for a new node, where each extra level has half the chance of the one before it
+     * O(1)
+     * @return the number of levels, from 1 to maxLevel
+     */
+    private int randomLevel() {
+        return 1 + Integer.numberOfTrailingZeros(this.random.nextInt() | (1 << (maxLevel - 1)));
+    }
+
+    /**
+     * Finds, on every level, the last node whose position is at or before a position
+     * The head is at position 0 and the values are at positions 1 to size
+     * O(log N) expected
+     * @param position the position to search for
+     * @param update filled with the last node at or before the position on each level
+     * @param rank filled with the position of each of those nodes
+     */
+    private void findBefore(int position, SkipNode[] update, int[] rank) {
+        SkipNode nodePtr = this.head;
+        int pos = 0;
+
+        for (int l = maxLevel - 1; l >= 0; l--) {
+            if (l < this.level) {
+                while (nodePtr.next[l] != null && pos + nodePtr.span[l] <= position) {
+                    pos += nodePtr.span[l];
+                    nodePtr = nodePtr.next[l];
+                }
+            }
+
+            update[l] = nodePtr;
+            rank[l] = pos;
+        }
+    }
+
+    /**
+     * Finds the node at a position
+     * O(log N) expected
+     * @param position the position of the node, from 1 to size
+     * @return the node
+     */
+    private SkipNode nodeAt(int position) {
+        SkipNode nodePtr = this.head;
+        int pos = 0;
+
+        for (int l = this.level - 1; l >= 0; l--) {
+            while (nodePtr.next[l] != null && pos + nodePtr.span[l] <= position) {
+                pos += nodePtr.span[l];
+                nodePtr = nodePtr.next[l];
+            }
+        }
+
+        return nodePtr;
+    }
+
+    /**
+     * Adds a number of the end of the list
+     * O(log N) expected
+     * @param value the number to be added to the end of the list
+     */
+    public void add(double value) {
+        appendAll(new double[] {value}, 1);
+    }
+
+    /**
+     * Adds all of the numbers in the array to the end of the list, in order
+     * The end of the list is found once, and each new node is linked after the last node on each of its levels
+     * O(K + log N) expected where K is the number of values added
+     * @param values the numbers to add to the end of the list
+     */
+    public void addAll(double[] values) {
+        appendAll(values, values.length);
+    }
+
+    /**
+     * Adds the first numbers of an array to the end of the list, in order
+     * O(K + log N) expected where K is the number of values added
+     * @param values the array holding the numbers
+     * @param count the number of values at the front of the array to add
+     */
+    private void appendAll(double[] values, int count) {
+        SkipNode[] update = new SkipNode[maxLevel];
+        int[] rank = new int[maxLevel];
+        findBefore(this.size, update, rank);
+
+        for (int j = 0; j < count; j++) {
+            double value = values[j];
+
+            /* The new value makes one new pair with the last value */
+            if (this.size > 0) {
+                countPair(update[0].value, value, 1);
+            }
+
+            int nodeLevel = randomLevel();
+            if (nodeLevel > this.level) {
+                for (int l = this.level; l < nodeLevel; l++) {
+                    this.head.span[l] = this.size;
+                }
+                this.level = nodeLevel;
+            }
+
+            SkipNode node = new SkipNode(value, nodeLevel);
+            int position = this.size + 1;
+
+            for (int l = 0; l < nodeLevel; l++) {
+                update[l].next[l] = node;
+                update[l].span[l] = position - rank[l];
+                update[l] = node;
+                rank[l] = position;
+            }
+
+            /* The links that go past the new node to the end now span one more position */
+            for (int l = nodeLevel; l < this.level; l++) {
+                update[l].span[l]++;
+            }
+
+            this.size++;
+        }
+    }
+
+    /**
+     * Adds a number at a specified position of the list
+     * All numbers after (and the number at) the specified position are shifted down the list
+     * If the list has i or fewer numbers, then the value is added in the same fashion as the add method
+     * O(log N) expected
+     * @param i the index to insert the new value at
+     * @param value the value to add to the list
+     * @throws IndexOutOfBoundsException when the index is negative
+     */
+    public void insert(int i, double value) {
+        if (i >= size()) {
+            add(value);
+            return;
+        }
+        else if (i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        SkipNode[] update = new SkipNode[maxLevel];
+        int[] rank = new int[maxLevel];
+        findBefore(i, update, rank);
+
+        /* The value splits the pair of its neighbors into a pair on each side of it */
+        SkipNode before = update[0];
+        SkipNode after = before.next[0];
+        if (before != this.head) {
+            countPair(before.value, after.value, -1);
+            countPair(before.value, value, 1);
+        }
+        countPair(value, after.value, 1);
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > this.level) {
+            for (int l = this.level; l < nodeLevel; l++) {
+                this.head.span[l] = this.size;
+            }
+            this.level = nodeLevel;
+        }
+
+        SkipNode node = new SkipNode(value, nodeLevel);
+
+        /* rank[0] is i, so the new node is at position i + 1 */
+        for (int l = 0; l < nodeLevel; l++) {
+            node.next[l] = update[l].next[l];
+            update[l].next[l] = node;
+
+            node.span[l] = update[l].span[l] - (rank[0] - rank[l]);
+            update[l].span[l] = rank[0] - rank[l] + 1;
+        }
+
+        /* The links that pass over the new node span one more position */
+        for (int l = nodeLevel; l < this.level; l++) {
+            update[l].span[l]++;
+        }
+
+        this.size++;
+    }
+
+    /**
+     * Removes the number at the specified position of the list
+     * All numbers after the specified position are shifted up the list
+     * The size of the list is shortened by this method if there is a number at the specified position
+     * O(log N) expected
+     * @param i the index where the value should be removed
+     */
+    public void remove(int i) {
+        if (i < 0 || i >= size()) {
+            return;
+        }
+
+        SkipNode[] update = new SkipNode[maxLevel];
+        int[] rank = new int[maxLevel];
+        findBefore(i, update, rank);
+        SkipNode before = update[0];
+        SkipNode node = before.next[0];
+        SkipNode after = node.next[0];
+
+        /* The pairs on each side of the value are replaced by the pair of its neighbors */
+        if (before != this.head) {
+            countPair(before.value, node.value, -1);
+        }
+        if (after != null) {
+            countPair(node.value, after.value, -1);
+            if (before != this.head) {
+                countPair(before.value, after.value, 1);
+            }
+        }
+
+        for (int l = 0; l < this.level; l++) {
+            if (update[l].next[l] == node) {
+                update[l].span[l] += node.span[l] - 1;
+                update[l].next[l] = node.next[l];
+            }
+            else {
+                update[l].span[l]--;
+            }
+        }
+
+        while (this.level > 1 && this.head.next[this.level - 1] == null) {
+            this.level--;
+        }
+
+        this.size--;
+    }
+
+    /**
+     * Removes every value from the list
+     * O(1)
+     */
+    private void clear() {
+        for (int l = 0; l < maxLevel; l++) {
+            this.head.next[l] = null;
+            this.head.span[l] = 0;
+        }
+
+        this.level = 1;
+        this.size = 0;
+        this.descents = 0;
+        this.ascents = 0;
+        this.nanPairs = 0;
+    }
+
+    /**
+     * Returns the i-th element of the list
+     * O(log N) expected
+     * @param i the index of the list to get the value from
+     * @return the value stored at the specified index
+     * @throws IndexOutOfBoundsException when the input index is negative or greater than or equal to the size of the list
+     */
+    public double lookup(int i) throws IndexOutOfBoundsException {
+        if (i < 0 || i >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return nodeAt(i + 1).value;
+    }
+
+    /**
+     * Checks whether the list contains the input value
+     * O(log N) expected if the list is sorted and holds no NaN, O(N) otherwise
+     * @param value the value to look for
+     * @return true if the value is in the list, false otherwise
+     */
+    public boolean contains(double value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Finds the index of the first instance of a value in the list
+     * A sorted list with no NaN is searched by value from the top level down, the same way an ordered skip list is
+     * O(log N) expected if the list is sorted and holds no NaN, O(N) otherwise
+     * @param value the value to look for
+     * @return the index of the value, or -1 if the value is not in the list
+     */
+    public int indexOf(double value) {
+        if (isSorted() && !hasNaN()) {
+            SkipNode nodePtr = this.head;
+            int pos = 0;
+
+            for (int l = this.level - 1; l >= 0; l--) {
+                while (nodePtr.next[l] != null && nodePtr.next[l].value < value) {
+                    pos += nodePtr.span[l];
+                    nodePtr = nodePtr.next[l];
+                }
+            }
+
+            SkipNode candidate = nodePtr.next[0];
+            return candidate != null && candidate.value == value ? pos : -1;
+        }
+
+        int index = 0;
+        for (SkipNode nodePtr = this.head.next[0]; nodePtr != null; nodePtr = nodePtr.next[0]) {
+            if (nodePtr.value == value) {
+                return index;
+            }
+            index++;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Removes all duplicates in the list, keeping the first instance of each value
+     * The list is rebuilt from the values that are kept
+     * O(N) expected
+     */
+    public void removeDuplicates() {
+        double[] kept = new double[size()];
+        int count = 0;
+        DoubleHashSet seen = new DoubleHashSet(size());
+
+        for (SkipNode nodePtr = this.head.next[0]; nodePtr != null; nodePtr = nodePtr.next[0]) {
+            if (seen.add(nodePtr.value)) {
+                kept[count] = nodePtr.value;
+                count++;
+            }
+        }
+
+        clear();
+        appendAll(kept, count);
+    }
+
+    /**
+     * Returns whether the list is currently sorted in increasing order or not
+     * O(1), since every change keeps the count of descents up to date
+     * @return true if the list is sorted, false otherwise
+     */
+    public boolean isSorted() {
+        return this.descents == 0;
+    }
+
+    /**
+     * Returns whether the list is currently sorted in decreasing order or not
+     * O(1), since every change keeps the count of ascents up to date
+     * @return true if the list is sorted in decreasing order, false otherwise
+     */
+    public boolean isSortedDescending() {
+        return this.ascents == 0;
+    }
+
+    /**
+     * Checks whether the list holds NaN anywhere
+     * O(1), since every change keeps the count of pairs with NaN up to date
+     * @return true if any of the numbers is NaN, false otherwise
+     */
+    public boolean hasNaN() {
+        return this.nanPairs > 0 || (this.size == 1 && this.head.next[0].value != this.head.next[0].value);
+    }
+
+    /**
+     * Reverses the order of the elements in the list
+     * The list is rebuilt from its values in reverse order
+     * O(N) expected
+     */
+    public void reverse() {
+        double[] values = toArray();
+
+        for (int j = 0; j < values.length / 2; j++) {
+            double save = values[j];
+            values[j] = values[values.length - j - 1];
+            values[values.length - j - 1] = save;
+        }
+
+        clear();
+        appendAll(values, values.length);
+    }
+
+    /**
+     * Provides a String representation of this list
+     * For an empty list, an empty String is returned
+     * Numbers are separated by a space and no other characters are included
+     * O(N)
+     * @return a String representation of the list
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        DoubleIterator i = this.iterator();
+
+        while (i.hasNext()) {
+            result.append(i.next()).append(" ");
+        }
+
+        // Remove the last space
+        if (result.length() > 0) {
+            result.setLength(result.length() - 1);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns an iterator for the list that begins at the front of the list
+     * O(1)
+     * @return a DoubleIterator for the list the method is called on
+     */
+    public DoubleIterator iterator() {
+        return new NumSkipListIterator(this.head.next[0]);
+    }
+
+    /**
+     * A node of the skip list, with a link and a span for each of its levels
+     * @author Joshua Shew
+     */
+    private static class SkipNode {
+        /* Stores the value in the node */
+        private double value = 0.0;
+
+        /* The next node on each level, null at the end of the level */
+        private final SkipNode[] next;
+
+        /* The number of positions each link moves forward, or the number of positions left in the list for a link to null */
+        private final int[] span;
+
+        /**
+         * Constructor for a node that is not linked to anything yet
+         * @param value the value to store in the node
+         * @param level the number of levels the node has
+         */
+        private SkipNode(double value, int level) {
+            this.value = value;
+            this.next = new SkipNode[level];
+            this.span = new int[level];
+        }
+    }
+
+    /**
+     * Iterator for NumSkipList, which follows the links on the bottom level
+     * All methods are O(1)
+     * @author Joshua Shew
+     */
+    private static class NumSkipListIterator implements DoubleIterator {
+        /* Stores a reference to the current position of the iterator */
+        private SkipNode nodePtr = null;
+
+        /**
+         * Constructor for an iterator that starts at a node
+         * @param first the first node, null for an empty list
+         */
+        public NumSkipListIterator(SkipNode first) {
+            this.nodePtr = first;
+        }
+
+        /**
+         * Checks whether there is another value ahead of the iterator in the list
+         * @return true if there is a value, false otherwise
+         */
+        public boolean hasNext() {
+            return this.nodePtr != null;
+        }
+
+        /**
+         * Moves the iterator forward one value and returns that value
+         * @return the value at iterator's current index
+         * @throws NoSuchElementException when there are no more values
+         */
+        public double next() {
+            double value = peek();
+            this.nodePtr = this.nodePtr.next[0];
+
+            return value;
+        }
+
+        /**
+         * Retrieves the value the iterator is current at without moving it forward
+         * @return the value at the iterator's current index
+         * @throws NoSuchElementException when there are no more values
+         */
+        public double peek() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return this.nodePtr.value;
+        }
+    }
+}
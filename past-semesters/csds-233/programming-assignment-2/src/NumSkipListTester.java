@@ -0,0 +1,161 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NumSkipListTester {
+    /**
+     * Unit tests for the add, insert, remove, and lookup methods, compared to a java.util.ArrayList
+     */
+    @Test
+    public void testEdits() {
+        NumSkipList list1 = new NumSkipList();
+        List<Double> list2 = new ArrayList<Double>();
+        Assert.assertEquals("An empty list should have an empty String", "", list1.toString());
+
+        Random random = new Random(19);
+        for (int step = 0; step < 5000; step++) {
+            int choice = random.nextInt(4);
+            double value = random.nextInt(1000);
+
+            if (choice == 0) {
+                list1.add(value);
+                list2.add(value);
+            }
+            else if (choice == 1 || list2.isEmpty()) {
+                int i = random.nextInt(list2.size() + 1);
+                list1.insert(i, value);
+                list2.add(i, value);
+            }
+            else if (choice == 2) {
+                int i = random.nextInt(list2.size());
+                list1.remove(i);
+                list2.remove(i);
+            }
+            else {
+                int i = random.nextInt(list2.size());
+                Assert.assertEquals("lookup did not return the right value", list2.get(i), list1.lookup(i), 0.0);
+            }
+        }
+
+        Assert.assertTrue("The size should have been " + list2.size() + " but it was not", list1.size() == list2.size());
+        DoubleIterator iterator = list1.iterator();
+        for (int i = 0; i < list2.size(); i++) {
+            Assert.assertEquals("lookup did not return the right value", list2.get(i), list1.lookup(i), 0.0);
+            Assert.assertEquals("The iterator did not return the right value", list2.get(i), iterator.next(), 0.0);
+        }
+        Assert.assertFalse("The iterator should have stopped at the end of the list", iterator.hasNext());
+
+        // indexes past the end are ignored or appended, negative indexes are not
+        int size = list1.size();
+        list1.remove(size);
+        list1.insert(size + 10, -1.0);
+        Assert.assertEquals("The value should have been added to the end", -1.0, list1.lookup(size), 0.0);
+        try {
+            list1.lookup(size + 1);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+        try {
+            list1.insert(-1, 0.0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for keeping track of sorting and searching a sorted list
+     */
+    @Test
+    public void testSorted() {
+        NumSkipList list = new NumSkipList();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i * 2);
+        }
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+        Assert.assertTrue("The index of 500.0 should have been 250", list.indexOf(500.0) == 250);
+        Assert.assertTrue("The list should not contain 501.0", list.indexOf(501.0) == -1);
+        Assert.assertTrue("The list should not contain 5000.0", list.indexOf(5000.0) == -1);
+
+        // duplicates are found at their first index
+        list.insert(251, 500.0);
+        Assert.assertTrue("The list should still be sorted", list.isSorted());
+        Assert.assertTrue("The index of 500.0 should have been 250", list.indexOf(500.0) == 250);
+
+        list.insert(10, 5000.0);
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+        Assert.assertTrue("The index of 5000.0 should have been 10", list.indexOf(5000.0) == 10);
+        list.remove(10);
+        Assert.assertTrue("The list should be sorted after removing the value out of order", list.isSorted());
+
+        list.removeDuplicates();
+        Assert.assertTrue("The size should have been 1000 but it was not", list.size() == 1000);
+        Assert.assertTrue("The list should contain 1998.0", list.contains(1998.0));
+
+        list.reverse();
+        Assert.assertFalse("The list should not be sorted after reversing it", list.isSorted());
+        Assert.assertEquals("The first value should have been 1998.0 but it was not", 1998.0, list.lookup(0), 0.0);
+        Assert.assertTrue("The index of 0.0 should have been 999", list.indexOf(0.0) == 999);
+
+        list.sort();
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+        Assert.assertEquals("The last value should have been 1998.0 but it was not", 1998.0, list.lookup(999), 0.0);
+    }
+
+    /**
+     * Unit tests for removing a NaN that sits between values out of order
+     */
+    @Test
+    public void testRemoveNaN() {
+        NumSkipList list = new NumSkipList();
+        list.addAll(new double[] {5.0, Double.NaN, 4.0});
+        Assert.assertTrue("Pairs with NaN should not make the list unsorted", list.isSorted());
+        Assert.assertTrue("The list should contain 4.0", list.contains(4.0));
+
+        list.remove(1);
+        Assert.assertFalse("The list should not be sorted once 5.0 and 4.0 are next to each other", list.isSorted());
+        Assert.assertTrue("The list should contain 4.0", list.contains(4.0));
+        Assert.assertTrue("The index of 4.0 should have been 1", list.indexOf(4.0) == 1);
+    }
+
+    /**
+     * Unit tests that compare the sorted flags to a NumArrayList after random edits
+     */
+    @Test
+    public void testRandomSortedness() {
+        Random random = new Random(19);
+        NumSkipList list = new NumSkipList();
+        NumArrayList expected = new NumArrayList();
+
+        for (int step = 0; step < 3000; step++) {
+            int index = random.nextInt(expected.size() + 1);
+            double value = random.nextInt(20) == 0 ? Double.NaN : random.nextInt(8);
+
+            if (random.nextInt(3) == 0) {
+                list.remove(index);
+                expected.remove(index);
+            }
+            else {
+                list.insert(index, value);
+                expected.insert(index, value);
+            }
+
+            Assert.assertTrue("The sorted flags should match", list.isSorted() == expected.isSorted());
+            Assert.assertTrue("The descending flags should match", list.isSortedDescending() == expected.isSortedDescending());
+            Assert.assertTrue("The NaN flags should match", list.hasNaN() == expected.hasNaN());
+            Assert.assertTrue("The indexes should match", list.indexOf(value) == expected.indexOf(value));
+
+            // keeps the list short enough to be sorted and unsorted often
+            if (expected.size() > 12) {
+                list.remove(0);
+                expected.remove(0);
+            }
+        }
+    }
+}
\ No newline at end of file
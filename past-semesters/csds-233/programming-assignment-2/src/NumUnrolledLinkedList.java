@@ -0,0 +1,600 @@
+import java.util.NoSuchElementException;
+
+/**
+ * For storing doubles in a linked list where every node holds a small block of values
+ * Storing many values per node saves the memory of a node per value, and scanning a block is
+ * friendlier to the cache than following a pointer for every value
+ * O(N / B) time complexity for random access, where B is the number of values a block holds
+ * O(1) time complexity for insertion or removal from either end
+ * O(N / B) time complexity for random insertion and deletion
+ * @author Joshua Shew
+ */
+public class NumUnrolledLinkedList implements NumList {
+    /* The number of values a block can hold */
+    private static final int blockCapacity = 64;
+
+    /* Stores a reference to the first node in the list */
+    private Block front = null;
+
+    /* Stores a reference to the last node in the list */
+    private Block back = null;
+
+    /* Keeps track of how many elements are in the list */
+    private int size = 0;
+
+    /* The maximum capacity of the list */
+    private final int capacity = Integer.MAX_VALUE;
+
+    /* The number of adjacent pairs where the second value is less than the first, so the list is sorted when there are none */
+    private int descents = 0;
+
+    /* The number of adjacent pairs where the second value is greater than the first, so the list is sorted in decreasing order when there are none */
+    private int ascents = 0;
+
+    /* The number of adjacent pairs with NaN in them, so a list of two or more values holds NaN when there are any */
+    private int nanPairs = 0;
+
+    /**
+     * Constructor for an empty unrolled linked list
+     */
+    public NumUnrolledLinkedList() {
+        this.front = null;
+        this.back = null;
+        this.size = 0;
+        this.descents = 0;
+        this.ascents = 0;
+        this.nanPairs = 0;
+    }
+
+    /**
+     * Getter method for the size of the list
+     * The size is the number of numbers currently in the list
+     * @return the size of the list
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Getter method for the capacity of the list
+     * The capacity is the number of numbers the list can hold without resizing
+     * @return the capacity of the list
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Adds a pair of adjacent values to the descent, ascent, and NaN pair counts, or takes it away
+     * A pair of equal values, or a pair with NaN, is neither a descent nor an ascent
+     * O(1)
+     * @param first the first value of the pair
+     * @param second the value after it
+     * @param change 1 when the values become adjacent, -1 when they stop being adjacent
+     */
+    private void countPair(double first, double second, int change) {
+        if (second < first) {
+            this.descents += change;
+        }
+        else if (first < second) {
+            this.ascents += change;
+        }
+        else if (first != first || second != second) {
+            this.nanPairs += change;
+        }
+    }
+
+    /**
+     * Adds a new empty block after the specified block, or at the front of the list if it is null
+     * O(1)
+     * @param before the block the new block goes after
+     * @return the new block
+     */
+    private Block linkBlockAfter(Block before) {
+        Block block = new Block();
+
+        block.prev = before;
+        block.next = before == null ? this.front : before.next;
+
+        if (block.prev == null) {
+            this.front = block;
+        }
+        else {
+            block.prev.next = block;
+        }
+
+        if (block.next == null) {
+            this.back = block;
+        }
+        else {
+            block.next.prev = block;
+        }
+
+        return block;
+    }
+
+    /**
+     * Removes an empty block from the list
+     * O(1)
+     * @param block the block to remove
+     */
+    private void unlinkBlock(Block block) {
+        if (block.prev == null) {
+            this.front = block.next;
+        }
+        else {
+            block.prev.next = block.next;
+        }
+
+        if (block.next == null) {
+            this.back = block.prev;
+        }
+        else {
+            block.next.prev = block.prev;
+        }
+    }
+
+    /**
+     * Finds the block holding the value at the specified index
+     * Walks from whichever end of the list is closer
+     * O(N / B)
+     * @param index the index of the list, which must be less than the size
+     * @return the block and the offset of the index within that block
+     */
+    private Position position(int index) {
+        if (index < size() / 2) {
+            Block block = this.front;
+            int start = 0;
+
+            /* advance from the front while the index is past the current block */
+            while (index >= start + block.count) {
+                start += block.count;
+                block = block.next;
+            }
+
+            return new Position(block, index - start);
+        }
+        else {
+            Block block = this.back;
+            int start = size() - block.count;
+
+            /* go backward while the index is before the current block */
+            while (index < start) {
+                block = block.prev;
+                start -= block.count;
+            }
+
+            return new Position(block, index - start);
+        }
+    }
+
+    /**
+     * Adds a number of the end of the list
+     * O(1)
+     * @param value the number to be added to the end of the list
+     */
+    public void add(double value) {
+        /* The new value makes one new pair with the value before it */
+        if (size() > 0) {
+            countPair(this.back.values[this.back.count - 1], value, 1);
+        }
+
+        if (this.back == null || this.back.count == blockCapacity) {
+            linkBlockAfter(this.back);
+        }
+
+        this.back.values[this.back.count] = value;
+        this.back.count++;
+
+        this.size++;
+    }
+
+    /**
+     * Adds a number at a specified position of the list
+     * All numbers after (and the number at) the specified position are shifted down the list
+     * If the list has i or fewer numbers, then the value is added in the same fashion as the add method
+     * O(1) for front or back
+     * O(N / B) for random index
+     * @param i the index to insert the new value at
+     * @param value the value to add to the list
+     */
+    public void insert(int i, double value) {
+        /* cover cases when insert should behave like add */
+        if (i >= size()) {
+            add(value);
+            return;
+        }
+        else if (i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        Position position = position(i);
+        Block block = position.block;
+        int offset = position.offset;
+
+        /* The value splits the pair of its neighbors into a pair on each side of it */
+        double after = block.values[offset];
+        if (i > 0) {
+            double before = valueBefore(block, offset);
+            countPair(before, after, -1);
+            countPair(before, value, 1);
+        }
+        countPair(value, after, 1);
+
+        if (block.count == blockCapacity) {
+            /* a new value at the front of a full block goes at the end of the block before it when there is room */
+            if (offset == 0 && block.prev != null && block.prev.count < blockCapacity) {
+                block = block.prev;
+                offset = block.count;
+            }
+            /* a new value at the front of the list gets a new block so the full block is not shifted */
+            else if (offset == 0) {
+                block = linkBlockAfter(block.prev);
+            }
+            /* otherwise the full block is split in half */
+            else {
+                Block upper = linkBlockAfter(block);
+                int half = blockCapacity / 2;
+
+                System.arraycopy(block.values, half, upper.values, 0, blockCapacity - half);
+                upper.count = blockCapacity - half;
+                block.count = half;
+
+                if (offset > half) {
+                    block = upper;
+                    offset -= half;
+                }
+            }
+        }
+
+        System.arraycopy(block.values, offset, block.values, offset + 1, block.count - offset);
+        block.values[offset] = value;
+        block.count++;
+
+        this.size++;
+    }
+
+    /**
+     * Returns the value right before the specified offset, which may be in the block before
+     * O(1)
+     * @param block a block of the list
+     * @param offset an offset within the block that is not the first value of the list
+     * @return the value before the offset
+     */
+    private static double valueBefore(Block block, int offset) {
+        if (offset > 0) {
+            return block.values[offset - 1];
+        }
+        else {
+            return block.prev.values[block.prev.count - 1];
+        }
+    }
+
+    /**
+     * Returns the value right after the specified offset, which may be in the block after
+     * O(1)
+     * @param block a block of the list
+     * @param offset an offset within the block that is not the last value of the list
+     * @return the value after the offset
+     */
+    private static double valueAfter(Block block, int offset) {
+        if (offset < block.count - 1) {
+            return block.values[offset + 1];
+        }
+        else {
+            return block.next.values[0];
+        }
+    }
+
+    /**
+     * Removes the number at the specified position of the list
+     * All numbers after the specified position are shifted up the list
+     * The size of the list is shortened by this method if there is a number at the specified position
+     * O(1) for front or back
+     * O(N / B) for random index
+     * @param i the index where the value should be removed
+     */
+    public void remove(int i) {
+        if (0 <= i && i < size()) {
+            Position position = position(i);
+            Block block = position.block;
+            double removed = block.values[position.offset];
+
+            /* The pairs on each side of the value are replaced by the pair of its neighbors */
+            if (i > 0) {
+                countPair(valueBefore(block, position.offset), removed, -1);
+            }
+            if (i < size() - 1) {
+                countPair(removed, valueAfter(block, position.offset), -1);
+                if (i > 0) {
+                    countPair(valueBefore(block, position.offset), valueAfter(block, position.offset), 1);
+                }
+            }
+
+            System.arraycopy(block.values, position.offset + 1, block.values, position.offset, block.count - position.offset - 1);
+            block.count--;
+
+            /* empty blocks are removed, and a block less than half full takes in the block after it when they fit together */
+            if (block.count == 0) {
+                unlinkBlock(block);
+            }
+            else if (block.count < blockCapacity / 2 && block.next != null && block.count + block.next.count <= blockCapacity) {
+                Block next = block.next;
+
+                System.arraycopy(next.values, 0, block.values, block.count, next.count);
+                block.count += next.count;
+                unlinkBlock(next);
+            }
+
+            this.size--;
+        }
+    }
+
+    /**
+     * Checks whether the list contains the input value
+     * O(N)
+     * @param value the value is what the method is confirming is in the list
+     * @return true if the value is in the list, false otherwise
+     */
+    public boolean contains(double value) {
+        /* Linear search through each block */
+        for (Block block = this.front; block != null; block = block.next) {
+            double[] values = block.values;
+
+            for (int j = 0; j < block.count; j++) {
+                if (values[j] == value) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the i-th element of the list
+     * O(1) for front or back
+     * O(N / B) for random index
+     * @param i the index of the list to get the value from
+     * @return the value stored at the specified index
+     * @throws IndexOutOfBoundsException when the input index is greater than or equal to the size of the list
+     */
+    public double lookup(int i) throws IndexOutOfBoundsException {
+        if (i >= size() || i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        Position position = position(i);
+        return position.block.values[position.offset];
+    }
+
+    /**
+     * Removes duplicates in this list while preserving the current order of the numbers
+     * Values are duplicates when they are equal with ==, and every NaN is a duplicate of the first NaN
+     * The remaining values are packed into full blocks
+     * Expected O(N), using a hash set of the values kept so far
+     */
+    public void removeDuplicates() {
+        DoubleHashSet seen = new DoubleHashSet(size());
+        double[] kept = new double[size()];
+        int keptCount = 0;
+
+        for (Block block = this.front; block != null; block = block.next) {
+            for (int j = 0; j < block.count; j++) {
+                double value = block.values[j];
+
+                if (seen.add(value)) {
+                    kept[keptCount] = value;
+                    keptCount++;
+                }
+            }
+        }
+
+        /* Rebuilds the list from the kept values */
+        this.front = null;
+        this.back = null;
+        this.size = 0;
+        this.descents = 0;
+        this.ascents = 0;
+        this.nanPairs = 0;
+
+        for (int k = 0; k < keptCount; k++) {
+            add(kept[k]);
+        }
+    }
+
+    /**
+     * Returns whether the list is currently sorted in increasing order or not
+     * O(1), since every change keeps the count of descents up to date
+     * @return true if the list is sorted, false otherwise
+     */
+    public boolean isSorted() {
+        return this.descents == 0;
+    }
+
+    /**
+     * Returns whether the list is currently sorted in decreasing order or not
+     * O(1), since every change keeps the count of ascents up to date
+     * @return true if the list is sorted in decreasing order, false otherwise
+     */
+    public boolean isSortedDescending() {
+        return this.ascents == 0;
+    }
+
+    /**
+     * Checks whether the list holds NaN anywhere
+     * O(1), since every change keeps the count of pairs with NaN up to date
+     * @return true if any of the numbers is NaN, false otherwise
+     */
+    public boolean hasNaN() {
+        return this.nanPairs > 0 || (size() == 1 && this.front.values[0] != this.front.values[0]);
+    }
+
+    /**
+     * Reverses the order of the elements in the list
+     * Reverses the order of the blocks and the values within each block
+     * O(N)
+     */
+    public void reverse() {
+        Block frontSave = this.front;
+
+        this.front = this.back;
+        this.back = frontSave;
+
+        Block block = frontSave;
+        /* Goes through and swaps next and previous for every block, reversing its values along the way */
+        while (block != null) {
+            Block nextSave = block.next;
+
+            block.next = block.prev;
+            block.prev = nextSave;
+
+            for (int j = 0; j < block.count / 2; j++) {
+                double save = block.values[j];
+                block.values[j] = block.values[block.count - j - 1];
+                block.values[block.count - j - 1] = save;
+            }
+
+            block = nextSave;
+        }
+
+        /* Every descent becomes an ascent and every ascent becomes a descent */
+        int descents = this.descents;
+        this.descents = this.ascents;
+        this.ascents = descents;
+    }
+
+    /**
+     * Provides a String representation of this list
+     * For an empty list, an empty String is returned
+     * Numbers are separated by a space and no other characters are included
+     * O(N)
+     * @return a String representation of the list
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        DoubleIterator i = this.iterator();
+
+        while (i.hasNext()) {
+            result.append(i.next()).append(" ");
+        }
+
+        // Remove the last space
+        if (result.length() > 0) {
+            result.setLength(result.length() - 1);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns an iterator for the list that begins at the front of the list
+     * O(1)
+     * @return a DoubleIterator for the list the method is called on
+     */
+    public DoubleIterator iterator() {
+        return new NumUnrolledLinkedListIterator(this);
+    }
+
+    /**
+     * Block is a node of the list that holds up to blockCapacity values
+     * The values of a block are always packed at the start of its array
+     * @author Joshua Shew
+     */
+    private static class Block {
+        /* Stores the values in the block */
+        private final double[] values = new double[blockCapacity];
+
+        /* Stores how many values are in the block */
+        private int count = 0;
+
+        /* Stores a reference to the next block in the list */
+        private Block next = null;
+
+        /* Stores a reference to the previous block in the list */
+        private Block prev = null;
+    }
+
+    /**
+     * Position is a block together with an offset within that block
+     * @author Joshua Shew
+     */
+    private static class Position {
+        /* The block */
+        private final Block block;
+
+        /* The offset within the block */
+        private final int offset;
+
+        /**
+         * Constructor for a position
+         * @param block the block
+         * @param offset the offset within the block
+         */
+        public Position(Block block, int offset) {
+            this.block = block;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * Iterator for NumUnrolledLinkedList
+     * All methods are O(1)
+     * @author Joshua Shew
+     */
+    private static class NumUnrolledLinkedListIterator implements DoubleIterator {
+        /* Stores a reference to the block the iterator is in */
+        private Block block = null;
+
+        /* Stores the offset of the iterator within the block */
+        private int offset = 0;
+
+        /**
+         * Constructor for an iterator for NumUnrolledLinkedList
+         * @param list the list to iterate over
+         */
+        public NumUnrolledLinkedListIterator(NumUnrolledLinkedList list) {
+            this.block = list.front;
+            this.offset = 0;
+        }
+
+        /**
+         * Checks whether there is another value ahead of the iterator in the list
+         * @return true if there is a value, false otherwise
+         */
+        public boolean hasNext() {
+            return this.block != null;
+        }
+
+        /**
+         * Moves the iterator forward one value and returns that value
+         * @return the value at iterator's current index
+         */
+        public double next() {
+            double save = peek();
+
+            /* moves to the next block after the last value of this one */
+            this.offset++;
+            if (this.offset == this.block.count) {
+                this.block = this.block.next;
+                this.offset = 0;
+            }
+
+            return save;
+        }
+
+        /**
+         * Retrieves the value the iterator is current at without moving it forward
+         * @return the value at the iterator's current index
+         */
+        public double peek() {
+            if (hasNext()) {
+                return this.block.values[this.offset];
+            }
+            else {
+                throw new NoSuchElementException();
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NumUnrolledLinkedListTester {
+    /**
+     * Creates a NumUnrolledLinkedList with the specified double values
+     * Uses the empty constructor and the add method
+     */
+    private static NumUnrolledLinkedList createUnrolledList(double... values) {
+        NumUnrolledLinkedList list = new NumUnrolledLinkedList();
+        for (double value : values)
+            list.add(value);
+
+        return list;
+    }
+
+    /**
+     * Unit tests for the NumUnrolledLinkedList constructor
+     */
+    @Test
+    public void testNumUnrolledLinkedList() {
+        NumList list1 = new NumUnrolledLinkedList();
+        Assert.assertTrue("list1 size should have been 0 but it was not", list1.size() == 0);
+        Assert.assertEquals("list1 was not empty when it should have been", "", list1.toString());
+        Assert.assertTrue("list1 should be sorted", list1.isSorted());
+    }
+
+    /**
+     * Unit tests for the add, insert, and lookup methods
+     */
+    @Test
+    public void testAddInsertAndLookup() {
+        // values spread over several blocks
+        NumUnrolledLinkedList list = new NumUnrolledLinkedList();
+        for (int i = 0; i < 200; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < 200; i++) {
+            Assert.assertEquals("The value was not stored correctly", i, list.lookup(i), 0.0);
+        }
+
+        // inserting into the middle of a full block
+        list.insert(100, 99.5);
+        Assert.assertEquals("The value was not inserted correctly", 99.5, list.lookup(100), 0.0);
+        Assert.assertEquals("The values after the insertion should have shifted", 100.0, list.lookup(101), 0.0);
+        Assert.assertTrue("The list should still be sorted", list.isSorted());
+
+        // inserting at the front of a full list
+        list.insert(0, -1.0);
+        Assert.assertEquals("The value was not inserted at the front", -1.0, list.lookup(0), 0.0);
+        Assert.assertTrue("The size of the list should be 202", list.size() == 202);
+
+        // inserting out of order
+        list.insert(5, 1000.0);
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+
+        // negative index
+        try {
+            list.insert(-1, 0.0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+
+        // index past the size
+        try {
+            list.lookup(list.size());
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+    }
+
+    /**
+     * Unit tests for the remove method
+     */
+    @Test
+    public void testRemove() {
+        NumUnrolledLinkedList list = createUnrolledList(3.0, 0.0, 1.0, 2.0);
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+
+        list.remove(0);
+        Assert.assertEquals("The value was not removed correctly", "0.0 1.0 2.0", list.toString());
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+
+        list.remove(5);
+        Assert.assertEquals("Removing past the size should do nothing", "0.0 1.0 2.0", list.toString());
+
+        list.remove(2);
+        list.remove(1);
+        list.remove(0);
+        Assert.assertTrue("The list should be empty", list.size() == 0);
+        Assert.assertEquals("The list should be empty", "", list.toString());
+
+        // the list is usable after it becomes empty
+        list.add(4.0);
+        Assert.assertEquals("The value was not added correctly", "4.0", list.toString());
+
+        // values out of order at the edge of a block
+        NumUnrolledLinkedList longList = new NumUnrolledLinkedList();
+        for (int i = 0; i < 300; i++) {
+            longList.add(i);
+        }
+        longList.insert(64, -1.0);
+        Assert.assertFalse("The list should not be sorted", longList.isSorted());
+        longList.remove(64);
+        Assert.assertTrue("The list should be sorted again", longList.isSorted());
+
+        // draining the list from the front
+        while (longList.size() > 1) {
+            longList.remove(0);
+            Assert.assertTrue("The list should stay sorted", longList.isSorted());
+        }
+    }
+
+    /**
+     * Unit tests for the contains, removeDuplicates, and reverse methods
+     */
+    @Test
+    public void testContainsRemoveDuplicatesAndReverse() {
+        NumUnrolledLinkedList list = createUnrolledList(0.0, 1.0, 2.0, 1.0, 2.0, 3.0);
+        Assert.assertTrue("The method should find the value", list.contains(3.0));
+        Assert.assertFalse("The method should not find the value", list.contains(4.0));
+
+        list.removeDuplicates();
+        Assert.assertEquals("The duplicates were not removed correctly", "0.0 1.0 2.0 3.0", list.toString());
+        Assert.assertTrue("The list should be sorted", list.isSorted());
+
+        list.reverse();
+        Assert.assertEquals("The list was not reversed correctly", "3.0 2.0 1.0 0.0", list.toString());
+        Assert.assertFalse("The list should not be sorted", list.isSorted());
+    }
+
+    /**
+     * Unit tests that compare random edits against a NumArrayList
+     */
+    @Test
+    public void testRandomEdits() {
+        Random random = new Random(233);
+        NumUnrolledLinkedList list = new NumUnrolledLinkedList();
+        NumArrayList expected = new NumArrayList();
+
+        for (int step = 0; step < 5000; step++) {
+            int index = random.nextInt(expected.size() + 1);
+            double value = random.nextInt(50) == 0 ? Double.NaN : random.nextInt(50);
+            int choice = random.nextInt(30);
+
+            if (choice < 10) {
+                list.remove(index);
+                expected.remove(index);
+            }
+            else if (choice == 10) {
+                list.reverse();
+                expected.reverse();
+            }
+            else {
+                list.insert(index, value);
+                expected.insert(index, value);
+            }
+
+            Assert.assertTrue("The sizes should match", list.size() == expected.size());
+            Assert.assertTrue("The sorted flags should match", list.isSorted() == expected.isSorted());
+            Assert.assertTrue("The descending flags should match", list.isSortedDescending() == expected.isSortedDescending());
+
+            // keeps the list a few blocks long
+            if (expected.size() > 200) {
+                list.remove(0);
+                expected.remove(0);
+            }
+        }
+
+        // compared as strings since NaN is never equal to itself
+        Assert.assertEquals("The lists should be equal", expected.toString(), list.toString());
+        list.reverse();
+        expected.reverse();
+        Assert.assertEquals("The reversed lists should be equal", expected.toString(), list.toString());
+    }
+}
@@ -0,0 +1,748 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * For storing doubles in a list that never changes once it is made
+ * Changing the list with appended, inserted, or removed returns a new list and leaves the old one as it was
+ * The new list shares every part of the tree that did not change with the old one, so keeping old versions is cheap
+ * The values are stored in a relaxed radix balanced tree: leaves hold up to 32 values and branches hold up to 32 children
+ * Every branch keeps the running sizes of its children, so nodes do not need to be full to be searched
+ * The methods of NumList that would change the list throw UnsupportedOperationException
+ * Since the list never changes, it can be read from many threads without locking
+ * O(log32 N) time complexity for access
+ * O(log32 N) time and space complexity for appending, inserting, and removing
+ * @author Joshua Shew
+ */
+public final class PersistentNumList implements NumList {
+    /* The most values in a leaf and the most children of a branch */
+    private static final int branchFactor = 32;
+
+    /* The root of the tree, which is null for an empty list */
+    private final Node root;
+
+    /**
+     * Creates a new empty PersistentNumList
+     */
+    public PersistentNumList() {
+        this.root = null;
+    }
+
+    /**
+     * Creates a PersistentNumList with the specified tree
+     * @param root the root of the tree, or null for an empty list
+     */
+    private PersistentNumList(Node root) {
+        /* A branch with one child is replaced by the child, so the tree is no taller than it needs to be */
+        while (root instanceof Branch && ((Branch) root).children.length == 1) {
+            root = ((Branch) root).children[0];
+        }
+
+        this.root = root;
+    }
+
+    /**
+     * Getter method for the size of the list
+     * O(1)
+     * @return the number of values in the list
+     */
+    public int size() {
+        return this.root == null ? 0 : this.root.size;
+    }
+
+    /**
+     * Getter method for the capacity of the list
+     * The list never grows, so the capacity is the size
+     * O(1)
+     * @return the capacity of the list
+     */
+    public int capacity() {
+        return size();
+    }
+
+    /**
+     * Returns a new list with a number added to the end
+     * Only the nodes on the path to the last leaf are copied
+     * O(log32 N)
+     * @param value the number to add
+     * @return the new list
+     */
+    public PersistentNumList appended(double value) {
+        if (this.root == null) {
+            return new PersistentNumList(new Leaf(new double[] {value}));
+        }
+
+        return new PersistentNumList(root(appendTo(this.root, value)));
+    }
+
+    /**
+     * Returns a new list with a number added at a specified position
+     * If the list has i or fewer numbers, then the number is added to the end in the same fashion as appended
+     * Only the nodes on the path to the leaf holding the position are copied, and full nodes are split in half
+     * O(log32 N)
+     * @param i the index to insert the new value at
+     * @param value the value to add
+     * @return the new list
+     * @throws IndexOutOfBoundsException when the index is negative
+     */
+    public PersistentNumList inserted(int i, double value) {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (i >= size()) {
+            return appended(value);
+        }
+
+        return new PersistentNumList(root(insertAt(this.root, i, value)));
+    }
+
+    /**
+     * Returns a new list with the number at the specified position removed
+     * If there is no number at the specified position, the same list is returned
+     * Only the nodes on the path to the leaf holding the position are copied, and empty nodes are dropped
+     * O(log32 N)
+     * @param i the index of the number to remove
+     * @return the new list
+     * @throws IndexOutOfBoundsException when the index is negative
+     */
+    public PersistentNumList removed(int i) {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (i >= size()) {
+            return this;
+        }
+
+        return new PersistentNumList(removeAt(this.root, i));
+    }
+
+    /**
+     * Turns the result of changing the root into a root, adding a level to the tree if the old root was split
+     * @param nodes the new root, or the two halves of the old root
+     * @return the new root
+     */
+    private static Node root(Node[] nodes) {
+        return nodes.length == 1 ? nodes[0] : new Branch(nodes);
+    }
+
+    /**
+     * Adds a value to the end of a subtree
+     * O(log32 N)
+     * @param node the root of the subtree
+     * @param value the value to add
+     * @return the new subtree, or the old subtree followed by a new sibling of the same height when the old one was full
+     */
+    private static Node[] appendTo(Node node, double value) {
+        if (node instanceof Leaf) {
+            double[] values = ((Leaf) node).values;
+
+            if (values.length < branchFactor) {
+                double[] newValues = Arrays.copyOf(values, values.length + 1);
+                newValues[values.length] = value;
+                return new Node[] {new Leaf(newValues)};
+            }
+
+            return new Node[] {node, new Leaf(new double[] {value})};
+        }
+
+        Node[] children = ((Branch) node).children;
+        Node[] result = appendTo(children[children.length - 1], value);
+
+        if (result.length == 1) {
+            Node[] newChildren = children.clone();
+            newChildren[children.length - 1] = result[0];
+            return new Node[] {new Branch(newChildren)};
+        }
+        if (children.length < branchFactor) {
+            Node[] newChildren = Arrays.copyOf(children, children.length + 1);
+            newChildren[children.length - 1] = result[0];
+            newChildren[children.length] = result[1];
+            return new Node[] {new Branch(newChildren)};
+        }
+
+        return new Node[] {node, new Branch(new Node[] {result[1]})};
+    }
+
+    /**
+     * Inserts a value into a subtree
+     * O(log32 N)
+     * @param node the root of the subtree
+     * @param i the index in the subtree to insert at, which must hold a value
+     * @param value the value to insert
+     * @return the new subtree, or its two halves when it had to be split
+     */
+    private static Node[] insertAt(Node node, int i, double value) {
+        if (node instanceof Leaf) {
+            double[] values = ((Leaf) node).values;
+            double[] newValues = new double[values.length + 1];
+            System.arraycopy(values, 0, newValues, 0, i);
+            newValues[i] = value;
+            System.arraycopy(values, i, newValues, i + 1, values.length - i);
+
+            if (newValues.length <= branchFactor) {
+                return new Node[] {new Leaf(newValues)};
+            }
+
+            int half = newValues.length / 2;
+            return new Node[] {new Leaf(Arrays.copyOfRange(newValues, 0, half)),
+                               new Leaf(Arrays.copyOfRange(newValues, half, newValues.length))};
+        }
+
+        Branch branch = (Branch) node;
+        int k = branch.childIndex(i);
+        Node[] result = insertAt(branch.children[k], i - branch.childStart(k), value);
+
+        Node[] newChildren = new Node[branch.children.length + result.length - 1];
+        System.arraycopy(branch.children, 0, newChildren, 0, k);
+        System.arraycopy(result, 0, newChildren, k, result.length);
+        System.arraycopy(branch.children, k + 1, newChildren, k + result.length, branch.children.length - k - 1);
+
+        if (newChildren.length <= branchFactor) {
+            return new Node[] {new Branch(newChildren)};
+        }
+
+        int half = newChildren.length / 2;
+        return new Node[] {new Branch(Arrays.copyOfRange(newChildren, 0, half)),
+                           new Branch(Arrays.copyOfRange(newChildren, half, newChildren.length))};
+    }
+
+    /**
+     * Removes a value from a subtree
+     * O(log32 N)
+     * @param node the root of the subtree
+     * @param i the index in the subtree of the value to remove
+     * @return the new subtree, or null when it has no values left
+     */
+    private static Node removeAt(Node node, int i) {
+        if (node instanceof Leaf) {
+            double[] values = ((Leaf) node).values;
+
+            if (values.length == 1) {
+                return null;
+            }
+
+            double[] newValues = new double[values.length - 1];
+            System.arraycopy(values, 0, newValues, 0, i);
+            System.arraycopy(values, i + 1, newValues, i, values.length - i - 1);
+            return new Leaf(newValues);
+        }
+
+        Branch branch = (Branch) node;
+        int k = branch.childIndex(i);
+        Node child = removeAt(branch.children[k], i - branch.childStart(k));
+
+        if (child != null) {
+            Node[] newChildren = branch.children.clone();
+            newChildren[k] = child;
+            return new Branch(newChildren);
+        }
+        if (branch.children.length == 1) {
+            return null;
+        }
+
+        Node[] newChildren = new Node[branch.children.length - 1];
+        System.arraycopy(branch.children, 0, newChildren, 0, k);
+        System.arraycopy(branch.children, k + 1, newChildren, k, branch.children.length - k - 1);
+        return new Branch(newChildren);
+    }
+
+    /**
+     * Finds the leaf holding the value at an index
+     * O(log32 N)
+     * @param i the index, which must hold a value
+     * @param leafIndex an array whose first entry is set to the index of the value within the leaf
+     * @return the leaf
+     */
+    private Leaf leafFor(int i, int[] leafIndex) {
+        Node node = this.root;
+
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            int k = branch.childIndex(i);
+            i -= branch.childStart(k);
+            node = branch.children[k];
+        }
+
+        leafIndex[0] = i;
+        return (Leaf) node;
+    }
+
+    /**
+     * Returns the i-th element of the list
+     * O(log32 N)
+     * @param i the index of the list to get the value from
+     * @return the value stored at the specified index
+     * @throws IndexOutOfBoundsException when the input index is greater than or equal to the size of the list
+     */
+    public double lookup(int i) throws IndexOutOfBoundsException {
+        if (i < 0 || i >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int[] leafIndex = new int[1];
+        return leafFor(i, leafIndex).values[leafIndex[0]];
+    }
+
+    /**
+     * Checks whether the list contains the input value
+     * O(N)
+     * @param value the value to look for
+     * @return true if the value is in the list, false otherwise
+     */
+    public boolean contains(double value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * Returns whether the list is sorted in increasing order or not
+     * Every node keeps track of whether its own values are sorted
+     * O(1)
+     * @return true if the list is sorted, false otherwise
+     */
+    public boolean isSorted() {
+        return this.root == null || this.root.sorted;
+    }
+
+    /**
+     * Not supported, since the list cannot change; use appended instead
+     * @param value unused
+     * @throws UnsupportedOperationException always
+     */
+    public void add(double value) {
+        throw new UnsupportedOperationException("A PersistentNumList cannot change, use appended instead");
+    }
+
+    /**
+     * Not supported, since the list cannot change; use inserted instead
+     * @param i unused
+     * @param value unused
+     * @throws UnsupportedOperationException always
+     */
+    public void insert(int i, double value) {
+        throw new UnsupportedOperationException("A PersistentNumList cannot change, use inserted instead");
+    }
+
+    /**
+     * Not supported, since the list cannot change; use removed instead
+     * @param i unused
+     * @throws UnsupportedOperationException always
+     */
+    public void remove(int i) {
+        throw new UnsupportedOperationException("A PersistentNumList cannot change, use removed instead");
+    }
+
+    /**
+     * Not supported, since the list cannot change; use a Builder instead
+     * @param values unused
+     * @throws UnsupportedOperationException always
+     */
+    public void addAll(double[] values) {
+        throw new UnsupportedOperationException("A PersistentNumList cannot change, use a Builder instead");
+    }
+
+    /**
+     * Not supported, since the list cannot change
+     * @param i unused
+     * @param values unused
+     * @throws UnsupportedOperationException always
+     */
+    public void insertAll(int i, double[] values) {
+        throw new UnsupportedOperationException("A PersistentNumList cannot change");
+    }
+
+    /**
+     * Not supported, since the list cannot change
+     * @param start unused
+     * @param end unused
+     * @throws UnsupportedOperationException always
+     */
+    public void removeRange(int start, int end) {
+        throw new UnsupportedOperationException("A PersistentNumList cannot change");
+    }
+
+    /**
+     * Not supported, since the list cannot change
+     * @throws UnsupportedOperationException always
+     */
+    public void removeDuplicates() {
+        throw new UnsupportedOperationException("A PersistentNumList cannot change");
+    }
+
+    /**
+     * Not supported, since the list cannot change
+     * @throws UnsupportedOperationException always
+     */
+    public void reverse() {
+        throw new UnsupportedOperationException("A PersistentNumList cannot change");
+    }
+
+    /**
+     * Not supported, since the list cannot change
+     * @throws UnsupportedOperationException always
+     */
+    public void sort() {
+        throw new UnsupportedOperationException("A PersistentNumList cannot change");
+    }
+
+    /**
+     * Not supported, since the list cannot change
+     * @throws UnsupportedOperationException always
+     */
+    public void parallelSort() {
+        throw new UnsupportedOperationException("A PersistentNumList cannot change");
+    }
+
+    /**
+     * Provides a String representation of this list
+     * For an empty list, an empty String is returned
+     * Numbers are separated by a space and no other characters are included
+     * O(N)
+     * @return a String representation of the list
+     */
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        DoubleIterator i = this.iterator();
+
+        while (i.hasNext()) {
+            result.append(i.next()).append(" ");
+        }
+
+        // Remove the last space
+        if (result.length() > 0) {
+            result.setLength(result.length() - 1);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns an iterator for the list that begins at the front of the list
+     * O(1)
+     * @return a DoubleIterator for the list the method is called on
+     */
+    public DoubleIterator iterator() {
+        return new PersistentNumListIterator(this);
+    }
+
+    /**
+     * A node of the tree, which knows its size and whether its values are sorted
+     * @author Joshua Shew
+     */
+    private abstract static class Node {
+        /* The number of values in the subtree */
+        final int size;
+
+        /* The first and last values in the subtree */
+        final double first;
+        final double last;
+
+        /* Whether the values in the subtree are sorted */
+        final boolean sorted;
+
+        /**
+         * Constructor for a node
+         * @param size the number of values in the subtree
+         * @param first the first value in the subtree
+         * @param last the last value in the subtree
+         * @param sorted whether the values in the subtree are sorted
+         */
+        Node(int size, double first, double last, boolean sorted) {
+            this.size = size;
+            this.first = first;
+            this.last = last;
+            this.sorted = sorted;
+        }
+    }
+
+    /**
+     * A node holding up to 32 values
+     * @author Joshua Shew
+     */
+    private static final class Leaf extends Node {
+        /* The values in the leaf, which are never changed after the leaf is made */
+        final double[] values;
+
+        /**
+         * Constructor for a leaf
+         * O(K) where K is the number of values
+         * @param values the values, which must not be empty and must not be changed afterwards
+         */
+        Leaf(double[] values) {
+            super(values.length, values[0], values[values.length - 1], isSorted(values));
+            this.values = values;
+        }
+
+        /**
+         * Checks whether the values are sorted, in the same way the other lists track it as values are added
+         * @param values the values
+         * @return true if no value is less than the value before it
+         */
+        private static boolean isSorted(double[] values) {
+            for (int i = 1; i < values.length; i++) {
+                if (values[i] < values[i - 1]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * A node holding up to 32 children of the same height
+     * @author Joshua Shew
+     */
+    private static final class Branch extends Node {
+        /* The children of the branch, which are never changed after the branch is made */
+        final Node[] children;
+
+        /* The number of values in each child and the children before it */
+        final int[] sizes;
+
+        /**
+         * Constructor for a branch
+         * O(K) where K is the number of children
+         * @param children the children, which must not be empty and must not be changed afterwards
+         */
+        Branch(Node[] children) {
+            this(children, runningSizes(children));
+        }
+
+        /**
+         * Constructor for a branch with its running sizes already counted
+         * @param children the children
+         * @param sizes the running sizes of the children
+         */
+        private Branch(Node[] children, int[] sizes) {
+            super(sizes[sizes.length - 1], children[0].first, children[children.length - 1].last, isSorted(children));
+            this.children = children;
+            this.sizes = sizes;
+        }
+
+        /**
+         * Adds up the sizes of the children
+         * @param children the children
+         * @return the running sizes of the children
+         */
+        private static int[] runningSizes(Node[] children) {
+            int[] sizes = new int[children.length];
+            int total = 0;
+
+            for (int k = 0; k < children.length; k++) {
+                total += children[k].size;
+                sizes[k] = total;
+            }
+
+            return sizes;
+        }
+
+        /**
+         * Checks whether the values in the children are sorted, using what each child knows about itself
+         * @param children the children
+         * @return true if every child is sorted and no child starts with a value less than the last value of the child before it
+         */
+        private static boolean isSorted(Node[] children) {
+            for (int k = 0; k < children.length; k++) {
+                if (!children[k].sorted || (k > 0 && children[k].first < children[k - 1].last)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Finds the child holding the value at an index using a binary search of the running sizes
+         * O(log 32)
+         * @param i the index in the branch
+         * @return the index of the child
+         */
+        int childIndex(int i) {
+            int lo = 0;
+            int hi = this.sizes.length - 1;
+
+            while (lo < hi) {
+                int middle = (lo + hi) >>> 1;
+
+                if (this.sizes[middle] <= i) {
+                    lo = middle + 1;
+                }
+                else {
+                    hi = middle;
+                }
+            }
+
+            return lo;
+        }
+
+        /**
+         * Finds the index in the branch of the first value of a child
+         * @param k the index of the child
+         * @return the number of values in the children before it
+         */
+        int childStart(int k) {
+            return k == 0 ? 0 : this.sizes[k - 1];
+        }
+    }
+
+    /**
+     * For building a PersistentNumList from many values at once
+     * Values are collected in an array and the tree is built from the bottom up with full nodes
+     * @author Joshua Shew
+     */
+    public static final class Builder {
+        /* The values added so far */
+        private double[] values = new double[branchFactor];
+
+        /* The number of values added so far */
+        private int size = 0;
+
+        /**
+         * Creates an empty builder
+         */
+        public Builder() {
+        }
+
+        /**
+         * Adds a number to the end of the list being built
+         * O(1) amortized
+         * @param value the number to add
+         * @return this builder
+         */
+        public Builder add(double value) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.values.length * 2);
+            }
+
+            this.values[this.size++] = value;
+            return this;
+        }
+
+        /**
+         * Adds all of the numbers in the array to the end of the list being built, in order
+         * O(K) amortized where K is the number of values added
+         * @param values the numbers to add
+         * @return this builder
+         */
+        public Builder addAll(double[] values) {
+            if (this.size + values.length > this.values.length) {
+                this.values = Arrays.copyOf(this.values, Math.max(this.size + values.length, this.values.length * 2));
+            }
+
+            System.arraycopy(values, 0, this.values, this.size, values.length);
+            this.size += values.length;
+            return this;
+        }
+
+        /**
+         * Adds all of the numbers in a list to the end of the list being built, in order
+         * O(K) amortized where K is the number of values added
+         * @param list the list of numbers to add
+         * @return this builder
+         */
+        public Builder addAll(NumList list) {
+            return addAll(list.toArray());
+        }
+
+        /**
+         * Builds the list, filling every node but the last one on each level
+         * The builder can keep being used, and the lists it already built do not change
+         * O(N)
+         * @return a PersistentNumList with the values added so far
+         */
+        public PersistentNumList build() {
+            if (this.size == 0) {
+                return new PersistentNumList();
+            }
+
+            Node[] level = new Node[(this.size + branchFactor - 1) / branchFactor];
+            for (int k = 0; k < level.length; k++) {
+                int start = k * branchFactor;
+                level[k] = new Leaf(Arrays.copyOfRange(this.values, start, Math.min(start + branchFactor, this.size)));
+            }
+
+            /* Groups each level into branches until one node is left */
+            while (level.length > 1) {
+                Node[] parents = new Node[(level.length + branchFactor - 1) / branchFactor];
+
+                for (int k = 0; k < parents.length; k++) {
+                    int start = k * branchFactor;
+                    parents[k] = new Branch(Arrays.copyOfRange(level, start, Math.min(start + branchFactor, level.length)));
+                }
+
+                level = parents;
+            }
+
+            return new PersistentNumList(level[0]);
+        }
+    }
+
+    /**
+     * Iterator for PersistentNumList
+     * Finds each leaf from the root once, so next is O(1) amortized
+     * @author Joshua Shew
+     */
+    private static class PersistentNumListIterator implements DoubleIterator {
+        /* Stores a reference to the list the iterator is iterating over */
+        private final PersistentNumList list;
+
+        /* The leaf holding the next value, or null before the first leaf is found */
+        private Leaf leaf = null;
+
+        /* The index of the next value in the leaf */
+        private int leafIndex = 0;
+
+        /* The index of the next value in the list */
+        private int index = 0;
+
+        /**
+         * Constructor for an iterator that starts at the front of the list
+         * @param list the list to iterate over
+         */
+        public PersistentNumListIterator(PersistentNumList list) {
+            this.list = list;
+        }
+
+        /**
+         * Checks whether there is another value ahead of the iterator in the list
+         * @return true if there is a value, false otherwise
+         */
+        public boolean hasNext() {
+            return this.index < this.list.size();
+        }
+
+        /**
+         * Moves the iterator forward one value and returns that value
+         * @return the value at iterator's current index
+         * @throws NoSuchElementException when there are no more values
+         */
+        public double next() {
+            double value = peek();
+
+            this.index++;
+            this.leafIndex++;
+
+            return value;
+        }
+
+        /**
+         * Retrieves the value the iterator is current at without moving it forward
+         * @return the value at the iterator's current index
+         * @throws NoSuchElementException when there are no more values
+         */
+        public double peek() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            /* Moves to the next leaf once the current one runs out */
+            if (this.leaf == null || this.leafIndex == this.leaf.values.length) {
+                int[] leafIndex = new int[1];
+                this.leaf = this.list.leafFor(this.index, leafIndex);
+                this.leafIndex = leafIndex[0];
+            }
+
+            return this.leaf.values[this.leafIndex];
+        }
+    }
+}
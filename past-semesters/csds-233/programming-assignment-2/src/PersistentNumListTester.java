@@ -0,0 +1,140 @@
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PersistentNumListTester {
+    /**
+     * Unit tests for the appended, inserted, and removed methods keeping old versions unchanged
+     */
+    @Test
+    public void testVersions() {
+        PersistentNumList empty = new PersistentNumList();
+        PersistentNumList list1 = empty.appended(1.0).appended(3.0);
+        PersistentNumList list2 = list1.inserted(1, 2.0);
+        PersistentNumList list3 = list2.removed(0);
+
+        Assert.assertEquals("The empty list should not have changed", "", empty.toString());
+        Assert.assertEquals("The first version should not have changed", "1.0 3.0", list1.toString());
+        Assert.assertEquals("The value was not inserted correctly", "1.0 2.0 3.0", list2.toString());
+        Assert.assertEquals("The value was not removed correctly", "2.0 3.0", list3.toString());
+        Assert.assertTrue("Every version should be sorted", list1.isSorted() && list2.isSorted() && list3.isSorted());
+
+        // inserting past the end appends, and removing past the end does nothing
+        Assert.assertEquals("The value should have been appended", "1.0 3.0 0.0", list1.inserted(10, 0.0).toString());
+        Assert.assertFalse("The list should not be sorted", list1.inserted(10, 0.0).isSorted());
+        Assert.assertTrue("Removing past the end should have returned the same list", list1.removed(2) == list1);
+        try {
+            list1.inserted(-1, 0.0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+        try {
+            list1.lookup(2);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // the method succeeded
+        }
+
+        // the methods that would change the list are not supported
+        try {
+            list1.add(4.0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (UnsupportedOperationException e) {
+            // the method succeeded
+        }
+        try {
+            list1.remove(0);
+            Assert.fail("The method should have thrown an exception");
+        }
+        catch (UnsupportedOperationException e) {
+            // the method succeeded
+        }
+        Assert.assertEquals("The list should not have changed", "1.0 3.0", list1.toString());
+    }
+
+    /**
+     * Unit tests that make random changes and compare every version to a NumArrayList
+     */
+    @Test
+    public void testRandomVersions() {
+        Random random = new Random(233);
+        PersistentNumList list = new PersistentNumList();
+        NumArrayList expected = new NumArrayList();
+
+        PersistentNumList saved = null;
+        String savedString = null;
+
+        for (int step = 0; step < 20000; step++) {
+            int choice = random.nextInt(10);
+            double value = random.nextInt(1000);
+
+            if (choice < 5 || expected.size() == 0) {
+                list = list.appended(value);
+                expected.add(value);
+            }
+            else if (choice < 8) {
+                int i = random.nextInt(expected.size());
+                list = list.inserted(i, value);
+                expected.insert(i, value);
+            }
+            else {
+                int i = random.nextInt(expected.size());
+                list = list.removed(i);
+                expected.remove(i);
+            }
+
+            if (step == 5000) {
+                saved = list;
+                savedString = list.toString();
+            }
+            if (step % 1000 == 0) {
+                Assert.assertArrayEquals("The list did not match the NumArrayList", expected.toArray(), list.toArray(), 0.0);
+            }
+        }
+
+        Assert.assertTrue("The size should have been " + expected.size() + " but it was not", list.size() == expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals("lookup did not return the right value", expected.lookup(i), list.lookup(i), 0.0);
+        }
+        Assert.assertEquals("A saved version should not have changed", savedString, saved.toString());
+    }
+
+    /**
+     * Unit tests for the Builder
+     */
+    @Test
+    public void testBuilder() {
+        Assert.assertEquals("An empty builder should build an empty list", "", new PersistentNumList.Builder().build().toString());
+
+        PersistentNumList.Builder builder = new PersistentNumList.Builder();
+        for (int i = 0; i < 40000; i++) {
+            builder.add(i);
+        }
+        PersistentNumList list1 = builder.build();
+        Assert.assertTrue("The size should have been 40000 but it was not", list1.size() == 40000);
+        Assert.assertTrue("The list should be sorted", list1.isSorted());
+        Assert.assertEquals("lookup did not return the right value", 12345.0, list1.lookup(12345), 0.0);
+
+        // lists already built do not change when the builder is used again
+        builder.addAll(new double[] {0.0, 1.0});
+        PersistentNumList list2 = builder.build();
+        Assert.assertTrue("The first list should not have changed", list1.size() == 40000);
+        Assert.assertTrue("The second list should have 40002 values", list2.size() == 40002);
+        Assert.assertFalse("The second list should not be sorted", list2.isSorted());
+
+        // removing the values that broke the order makes the list sorted again
+        Assert.assertTrue("The list should be sorted after removing 0.0 and 1.0", list2.removed(40000).removed(40000).isSorted());
+
+        // the full nodes of a built list can still be changed
+        PersistentNumList list3 = list1.inserted(0, -1.0).appended(40000.0);
+        Assert.assertEquals("The first value should have been -1.0 but it was not", -1.0, list3.lookup(0), 0.0);
+        Assert.assertEquals("The last value should have been 40000.0 but it was not", 40000.0, list3.lookup(40001), 0.0);
+        Assert.assertTrue("The list should be sorted", list3.isSorted());
+        Assert.assertEquals("The sum was not calculated correctly", 39999.0 * 20000.0 - 1.0 + 40000.0, list3.sum(), 0.0);
+    }
+}
\ No newline at end of file
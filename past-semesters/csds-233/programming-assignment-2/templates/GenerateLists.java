@@ -0,0 +1,153 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Generates the int, long, and float lists in src from the templates in this folder, so every type stays in sync
+ * Run from the folder that holds src and templates: java templates/GenerateLists.java
+ * With --check nothing is written, and the program exits with an error if a generated file is missing or out of date
+ * A template names its type with $Type$ (Int), $type$ (int), $Boxed$ (Integer), and $bits$ (the type the hash set stores)
+ * Lines between "// #if floating" or "// #if !floating", "// #else", and "// #endif" are only kept for the types that match
+ * @author Joshua Shew
+ */
+public class GenerateLists {
+    /* The templates, each named with Type in place of the type */
+    private static final String[] templates = {
+        "TypeIterator.java.template",
+        "TypeList.java.template",
+        "TypeArrayList.java.template",
+        "TypeLinkedList.java.template",
+        "TypeHashSet.java.template",
+        "TypeArrayListTester.java.template",
+        "TypeLinkedListTester.java.template",
+        "TypeHashSetTester.java.template"
+    };
+
+    /* For each generated type: $Type$, $type$, $Boxed$, $bits$, and whether it is a floating point type */
+    private static final String[][] types = {
+        {"Int", "int", "Integer", "int", "false"},
+        {"Long", "long", "Long", "long", "false"},
+        {"Float", "float", "Float", "int", "true"}
+    };
+
+    /**
+     * Not meant to be instantiated
+     */
+    private GenerateLists() {
+    }
+
+    /**
+     * Generates every template for every type
+     * @param args "--check" to only compare the generated files with what is in src
+     * @throws IOException when a template cannot be read or a file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        boolean check = args.length > 0 && args[0].equals("--check");
+        Path templateFolder = Paths.get("templates");
+        Path sourceFolder = Paths.get("src");
+        int stale = 0;
+
+        for (String template : templates) {
+            String text = new String(Files.readAllBytes(templateFolder.resolve(template)), StandardCharsets.UTF_8);
+
+            for (String[] type : types) {
+                String name = template.replace("Type", type[0]).replace(".template", "");
+                String generated = generate(template, text, type);
+                Path file = sourceFolder.resolve(name);
+
+                if (check) {
+                    if (!Files.exists(file) || !new String(Files.readAllBytes(file), StandardCharsets.UTF_8).equals(generated)) {
+                        System.out.println(name + " is out of date");
+                        stale++;
+                    }
+                }
+                else {
+                    Files.write(file, generated.getBytes(StandardCharsets.UTF_8));
+                    System.out.println("Wrote " + file);
+                }
+            }
+        }
+
+        if (stale > 0) {
+            System.out.println("Run java templates/GenerateLists.java to regenerate them");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Generates the source of one type from a template
+     * O(L) where L is the length of the template
+     * @param template the name of the template
+     * @param text the text of the template
+     * @param type the names of the type, in the order of the types table
+     * @return the generated source
+     * @throws IllegalArgumentException when the conditional lines of the template do not match up
+     */
+    static String generate(String template, String text, String[] type) throws IllegalArgumentException {
+        boolean floating = Boolean.parseBoolean(type[4]);
+        StringBuilder result = new StringBuilder();
+
+        result.append("/* Generated by templates/GenerateLists.java from templates/").append(template)
+              .append(", so edit the template and run the generator instead of editing this file */\n");
+
+        boolean inBlock = false; // whether the line is between #if and #endif
+        boolean keeping = true; // whether the lines of the current branch are kept
+
+        for (String line : text.split("\n", -1)) {
+            String directive = line.trim();
+
+            if (directive.startsWith("// #if ")) {
+                if (inBlock) {
+                    throw new IllegalArgumentException(template + " nests an #if, which is not supported");
+                }
+
+                String condition = directive.substring("// #if ".length()).trim();
+                inBlock = true;
+                keeping = condition.equals("floating") ? floating : condition.equals("!floating") ? !floating : fail(template, condition);
+            }
+            else if (directive.equals("// #else")) {
+                if (!inBlock) {
+                    throw new IllegalArgumentException(template + " has an #else outside of an #if");
+                }
+
+                keeping = !keeping;
+            }
+            else if (directive.equals("// #endif")) {
+                if (!inBlock) {
+                    throw new IllegalArgumentException(template + " has an #endif outside of an #if");
+                }
+
+                inBlock = false;
+                keeping = true;
+            }
+            else if (keeping) {
+                result.append(line.replace("$Type$", type[0])
+                                  .replace("$type$", type[1])
+                                  .replace("$Boxed$", type[2])
+                                  .replace("$bits$", type[3]))
+                      .append('\n');
+            }
+        }
+
+        if (inBlock) {
+            throw new IllegalArgumentException(template + " has an #if without an #endif");
+        }
+
+        /* The split leaves one extra line break for the end of the template */
+        result.setLength(result.length() - 1);
+        return result.toString();
+    }
+
+    /**
+     * Reports a condition the generator does not know
+     * @param template the name of the template
+     * @param condition the condition
+     * @return never returns
+     * @throws IllegalArgumentException always
+     */
+    private static boolean fail(String template, String condition) throws IllegalArgumentException {
+        throw new IllegalArgumentException(template + " uses the unknown condition " + condition);
+    }
+}